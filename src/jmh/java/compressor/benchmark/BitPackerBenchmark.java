@@ -0,0 +1,71 @@
+package compressor.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of compress, decompress, single and bulk lookups and range decode for every strategy.
+ * Run with: mvn -Pjmh test-compile exec:exec -Djmh.args="BitPackerBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BitPackerBenchmark {
+
+    @Benchmark
+    public int[] compress(PackedState state, ElementCounter counter) {
+        counter.elements += state.size;
+        return state.packer.compress(state.original, "benchmark", state.valueLabel);
+    }
+
+    @Benchmark
+    public int[] decompress(PackedState state, ElementCounter counter) {
+        counter.elements += state.size;
+        return state.packer.decompress(state.packed, "benchmark", state.valueLabel);
+    }
+
+    @Benchmark
+    public int get(PackedState state, ElementCounter counter) {
+        counter.elements++;
+        return state.packer.get(state.nextIndex(), state.packed, "benchmark", state.valueLabel);
+    }
+
+    @Benchmark
+    public int readerGet(PackedState state, ElementCounter counter) {
+        counter.elements++;
+        return state.reader.get(state.nextIndex());
+    }
+
+    @Benchmark
+    public void getLoop(PackedState state, ElementCounter counter, Blackhole blackhole) {
+        counter.elements += PackedState.BATCH_SIZE;
+        for (int index : state.indices) {
+            blackhole.consume(state.packer.get(index, state.packed, "benchmark", state.valueLabel));
+        }
+    }
+
+    @Benchmark
+    public int[] getAll(PackedState state, ElementCounter counter) {
+        counter.elements += PackedState.BATCH_SIZE;
+        state.packer.getAll(state.indices, state.packed, state.out, "benchmark", state.valueLabel);
+        return state.out;
+    }
+
+    @Benchmark
+    public int[] decompressRange(PackedState state, ElementCounter counter) {
+        int to = Math.min(state.size, state.rangeStart + PackedState.BATCH_SIZE);
+        counter.elements += to - state.rangeStart;
+        state.packer.decompressRange(state.packed, state.rangeStart, to, state.out, 0, "benchmark", state.valueLabel);
+        return state.out;
+    }
+}
@@ -0,0 +1,70 @@
+package compressor.benchmark;
+
+import compressor.DataGenerator;
+import compressor.logger.LoggerFactory;
+import compressor.models.BitPacker;
+import compressor.models.BitPackerFactory;
+import compressor.models.PackedReader;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * Benchmark input shared by all benchmark methods: one packer, one generated array and its packed form.
+ * The values come from the same distributions as the unit tests (see DataGenerator).
+ * Performance logging is disabled and the logger is set to NONE, so only the packing itself is measured.
+ */
+@State(Scope.Benchmark)
+public class PackedState {
+
+    /** Number of indices / elements read by one getAll and one decompressRange call. */
+    public static final int BATCH_SIZE = 1024;
+
+    @Param({"nonspanning", "spanning", "overflow", "spanning-simd", "for", "delta", "pfor", "auto"})
+    public String type;
+
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"small_v", "medium_large_v", "mixed_v", "small_large_mix"})
+    public String valueLabel;
+
+    public BitPacker packer;
+    public int[] original;
+    public int[] packed;
+    public PackedReader reader;
+    public int[] indices;
+    public int[] out;
+    public int rangeStart;
+
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        packer = BitPackerFactory.createBitPacker(type, null, LoggerFactory.createLogger("NONE"));
+        original = DataGenerator.generateArray(random, size, valueLabel);
+        packed = packer.compress(original, "benchmark", valueLabel);
+        reader = packer.open(packed);
+
+        indices = new int[BATCH_SIZE];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = random.nextInt(size);
+        }
+        out = new int[Math.max(size, BATCH_SIZE)];
+        rangeStart = random.nextInt(Math.max(1, size - BATCH_SIZE));
+    }
+
+    /**
+     * Returns the next of the prepared random indices, so consecutive single lookups hit different words.
+     * @return A valid index of the packed array.
+     */
+    public int nextIndex() {
+        cursor = (cursor + 1) & (BATCH_SIZE - 1);
+        return indices[cursor];
+    }
+}
@@ -0,0 +1,77 @@
+package compressor.benchmark;
+
+import compressor.DataGenerator;
+import compressor.logger.LoggerFactory;
+import compressor.models.BitPackerFactory;
+import compressor.services.ParallelBP;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Speedup curve of the parallel strategy: compress and decompress of a large array with 1 to 32 threads.
+ * Run with: mvn -Pjmh test-compile exec:exec -Djmh.args="ParallelBenchmark"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelBenchmark {
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    public int threads;
+
+    @Param({"for", "spanning", "pfor"})
+    public String inner;
+
+    @Param({"20000000"})
+    public int size;
+
+    private ForkJoinPool pool;
+    private ParallelBP packer;
+    private int[] original;
+    private int[] packed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pool = new ForkJoinPool(threads);
+        packer = new ParallelBP(null, LoggerFactory.createLogger("NONE"),
+                BitPackerFactory.createBitPacker(inner, null, LoggerFactory.createLogger("NONE")),
+                ParallelBP.DEFAULT_SEGMENT_SIZE, pool);
+        original = DataGenerator.generateArray(new Random(42), size, "mixed_v");
+        packed = packer.compress(original, "benchmark", "mixed_v");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int[] compress(ElementCounter counter) {
+        counter.elements += size;
+        return packer.compress(original, "benchmark", "mixed_v");
+    }
+
+    @Benchmark
+    public int[] decompress(ElementCounter counter) {
+        counter.elements += size;
+        return packer.decompress(packed, "benchmark", "mixed_v");
+    }
+}
@@ -1,6 +1,7 @@
 package compressor;
 
 import compressor.services.APIController;
+import compressor.services.CompressionServer;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -10,10 +11,18 @@ import java.util.List;
 public class Main {
     public static void main(String[] args) {
 
+        // Server mode: packers and packed arrays stay resident until the process is stopped
+        if (args.length > 0 && args[0].equals("serve")) {
+            serve(Arrays.asList(args).subList(1, args.length));
+            return;
+        }
+
         // 1. Check for minimum required arguments (4, as determined by APIController)
         if (args.length < 4) {
             // Updated usage message to reflect expected arguments
             System.err.println("Usage: java Main <type> <method> <sourceFile> <destinationFile> [optional_flags...]");
+            System.err.println("       java Main <type> batch-compress|batch-decompress <manifest|directory|glob> <destinationDirectory> [--threads <n>] [optional_flags...]");
+            System.err.println("       java Main serve [--port <port>] [--threads <n>] [--max-body <bytes>] [--logging <level>] [--performance <file>]");
             return;
         }
 
@@ -40,5 +49,19 @@ public class Main {
             System.err.println("UNEXPECTED ERROR: " + e.getClass().getName() + ": " + e.getMessage());
         }
     }
+
+    /** Runs the HTTP server until the JVM is stopped (e.g., Ctrl+C). */
+    private static void serve(List<String> flags) {
+        try {
+            CompressionServer server = CompressionServer.fromArgs(flags);
+            Runtime.getRuntime().addShutdownHook(new Thread(server::close, "server-shutdown"));
+            server.start();
+            System.out.println("Serving on http://127.0.0.1:" + server.getPort() + "/ (Ctrl+C to stop)");
+        } catch (IllegalArgumentException e) {
+            System.err.println("CONFIGURATION ERROR: " + e.getMessage());
+        } catch (IOException e) {
+            System.err.println("I/O ERROR: Failed to start the server: " + e.getMessage());
+        }
+    }
 }
 
@@ -0,0 +1,161 @@
+package compressor.logger;
+
+/**
+ * Logger that hands the messages to a background thread through a bounded ring buffer, so the
+ * delegate (e.g., a {@link ConsoleLogger}) never writes on the caller's thread.
+ * <p>
+ * When the buffer is full new messages are dropped instead of blocking the caller, the writer
+ * reports the number of dropped messages as a warning. The buffer is drained when the logger is
+ * closed, at the latest by a shutdown hook when the JVM exits.
+ */
+public class AsyncLogger implements Logger, AutoCloseable {
+
+    /** Default number of messages the ring buffer holds. */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    private final Logger delegate;
+    private final Thread writer;
+    private final Thread shutdownHook;
+
+    // Ring buffer, guarded by this: count messages starting at head
+    private final LogLevel[] levels;
+    private final String[] messages;
+    private int head;
+    private int count;
+    private int writing; // Messages taken by the writer but not yet written
+    private long dropped;
+    private boolean closed;
+
+    /**
+     * Creates the logger and starts its writer thread.
+     * @param delegate The logger the messages are written to, also decides which levels are enabled.
+     * @param capacity The number of messages the ring buffer holds.
+     */
+    public AsyncLogger(Logger delegate, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.delegate = delegate;
+        this.levels = new LogLevel[capacity];
+        this.messages = new String[capacity];
+        this.writer = new Thread(this::drain, "async-logger");
+        this.writer.setDaemon(true);
+        this.writer.start();
+        this.shutdownHook = new Thread(this::close, "async-logger-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * Queues a message if its level is enabled, it is dropped if the buffer is full.
+     * After {@link #close()} the message is written on the caller's thread.
+     * @param level The severity/detail level of the message.
+     * @param message The content of the log message.
+     */
+    @Override
+    public void log(LogLevel level, String message) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        synchronized (this) {
+            if (!closed) {
+                if (count == levels.length) {
+                    dropped++;
+                    return;
+                }
+                int tail = (head + count) % levels.length;
+                levels[tail] = level;
+                messages[tail] = message;
+                if (count++ == 0) {
+                    notifyAll();
+                }
+                return;
+            }
+        }
+        delegate.log(level, message);
+    }
+
+    @Override
+    public boolean isEnabled(LogLevel level) {
+        return delegate.isEnabled(level);
+    }
+
+    /**
+     * Waits until all queued messages are written.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public synchronized void flush() throws InterruptedException {
+        while ((count > 0 || writing > 0 || dropped > 0) && writer.isAlive()) {
+            wait();
+        }
+    }
+
+    /**
+     * Writes the queued messages and stops the writer thread, later messages are written directly.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            notifyAll();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (Thread.currentThread() != shutdownHook) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException e) {
+                // The JVM is already shutting down
+            }
+        }
+    }
+
+    /** Writer loop: takes all queued messages at once and writes them outside of the lock. */
+    private void drain() {
+        LogLevel[] batchLevels = new LogLevel[levels.length];
+        String[] batchMessages = new String[levels.length];
+        while (true) {
+            int n;
+            long lost;
+            synchronized (this) {
+                writing = 0;
+                notifyAll();
+                while (count == 0 && dropped == 0 && !closed) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        closed = true;
+                    }
+                }
+                if (count == 0 && dropped == 0) {
+                    return;
+                }
+                n = count;
+                for (int i = 0; i < n; i++) {
+                    int slot = (head + i) % levels.length;
+                    batchLevels[i] = levels[slot];
+                    batchMessages[i] = messages[slot];
+                    levels[slot] = null;
+                    messages[slot] = null;
+                }
+                head = (head + n) % levels.length;
+                count = 0;
+                lost = dropped;
+                dropped = 0;
+                writing = lost > 0 ? n + 1 : n;
+            }
+            for (int i = 0; i < n; i++) {
+                delegate.log(batchLevels[i], batchMessages[i]);
+                batchMessages[i] = null;
+            }
+            if (lost > 0) {
+                delegate.log(LogLevel.WARNING, lost + " log messages were dropped, the log buffer was full.");
+            }
+        }
+    }
+}
@@ -21,9 +21,18 @@ public class ConsoleLogger implements Logger {
      */
     @Override
     public void log(LogLevel msglevel, String message) {
-        // Check if the message's level is active (level number <= configured level number)
-        if (msglevel.getLevel() <= level.getLevel()) {
+        if (isEnabled(msglevel)) {
             System.out.printf("[%s] %s\n", msglevel.name(), message);
         }
     }
+
+    /**
+     * Checks if the message's level is active (level number <= configured level number).
+     * @param msglevel The severity of the message.
+     * @return True if messages of this level are printed.
+     */
+    @Override
+    public boolean isEnabled(LogLevel msglevel) {
+        return msglevel.getLevel() <= level.getLevel();
+    }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package compressor.logger;
 
+import java.util.function.Supplier;
+
 public interface Logger {
     /**
      * Writes a log message if the message's level meets the configured threshold.
@@ -7,4 +9,35 @@ public interface Logger {
      * @param message The content of the log message.
      */
     void log(LogLevel level, String message);
-}
\ No newline at end of file
+
+    /**
+     * Checks if messages of a level are written, so callers can skip building them.
+     * @param level The severity/detail level of the message.
+     * @return True if a message of this level would be written.
+     */
+    boolean isEnabled(LogLevel level);
+
+    /**
+     * Writes a log message that is only built if the level is enabled.
+     * Use it on hot paths instead of concatenating the message up front.
+     * @param level The severity/detail level of the message.
+     * @param message The supplier of the log message content.
+     */
+    default void log(LogLevel level, Supplier<String> message) {
+        if (isEnabled(level)) {
+            log(level, message.get());
+        }
+    }
+
+    /**
+     * Writes a log message from a format string (see {@link String#format}), formatted only if the level is enabled.
+     * @param level The severity/detail level of the message.
+     * @param format The format string of the message.
+     * @param args The arguments referenced by the format string.
+     */
+    default void log(LogLevel level, String format, Object... args) {
+        if (isEnabled(level)) {
+            log(level, String.format(format, args));
+        }
+    }
+}
@@ -6,7 +6,8 @@ public class LoggerFactory {
      * Creates and returns a Logger instance based on the user-provided level string.
      * This method embodies the simple Factory Method pattern.
      * * @param argLevel The string value from the command-line argument (e.g., "INFO", "DEBUG").
-     * @return The configured ConsoleLogger instance. Defaults to LogLevel.WARNING if input is invalid or null.
+     * @return The configured ConsoleLogger instance, behind an {@link AsyncLogger} unless logging is off.
+     * Defaults to LogLevel.WARNING if input is invalid or null.
      */
     public static Logger createLogger(String argLevel) {
 
@@ -22,7 +23,12 @@ public class LoggerFactory {
             }
         }
 
-        // Return the concrete logger implementation configured with the determined level
-        return new ConsoleLogger(desiredLevel);
+        // Return the concrete logger implementation configured with the determined level,
+        // the console is written by a background thread so the callers never wait for it
+        ConsoleLogger console = new ConsoleLogger(desiredLevel);
+        if (desiredLevel == LogLevel.NONE) {
+            return console;
+        }
+        return new AsyncLogger(console, AsyncLogger.DEFAULT_CAPACITY);
     }
 }
\ No newline at end of file
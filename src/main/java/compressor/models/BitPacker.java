@@ -1,5 +1,6 @@
 package compressor.models;
 
+import java.nio.IntBuffer;
 
 public interface BitPacker {
 
@@ -31,21 +32,116 @@ public interface BitPacker {
      */
     int get(int index, int[] array, String sizeLabel, String valueLabel);
 
+    /**
+     * Gets the strategy of this packer, as stored in binary containers and streams.
+     * * @return The strategy of the packer.
+     */
+    PackerType getType();
+
+    /**
+     * Decodes the header of a packed array once and returns a reader for repeated lookups.
+     * The reader keeps a reference to the packed array, it does not copy it.
+     * * @param packed The packed array returned by {@link #compress(int[], String, String)}.
+     * @return A reusable reader on the packed array.
+     */
+    default PackedReader open(int[] packed) {
+        return open(IntBuffer.wrap(packed));
+    }
+
+    /**
+     * Decodes the header of packed words held in a buffer, e.g. a memory mapped file.
+     * The reader starts at the current position of the buffer and reads the words in place.
+     * * @param packed The packed words, the buffer position is the first word.
+     * @return A reusable reader on the packed words.
+     */
+    PackedReader open(IntBuffer packed);
+
+    /**
+     * Extracts the values at several indices of the packed array in one call.
+     * The header is decoded only once for all indices.
+     * * @param indices The indices of the integers to retrieve (sorted or unsorted).
+     * @param packed The packed array containing the data.
+     * @param out The buffer receiving the values, out[i] is the value at indices[i].
+     * @param sizeLabel A custom label for the performance Logging "arraysize".
+     * @param valueLabel A custom label for the performance Logging "valuesize".
+     */
+    void getAll(int[] indices, int[] packed, int[] out, String sizeLabel, String valueLabel);
+
+    /**
+     * Extracts the values at several indices of the packed array in one call, with the default labels.
+     * * @param indices The indices of the integers to retrieve (sorted or unsorted).
+     * @param packed The packed array containing the data.
+     * @param out The buffer receiving the values, out[i] is the value at indices[i].
+     */
+    default void getAll(int[] indices, int[] packed, int[] out) {
+        getAll(indices, packed, out, "custom", "custom");
+    }
+
+    /**
+     * Decompresses only the elements [from, to) of the packed array.
+     * * @param packed The packed array containing the data.
+     * @param from The first index to decompress (inclusive).
+     * @param to The last index to decompress (exclusive).
+     * @param out The buffer receiving the values.
+     * @param outOffset The position in the buffer where the value at index from is written.
+     * @param sizeLabel A custom label for the performance Logging "arraysize".
+     * @param valueLabel A custom label for the performance Logging "valuesize".
+     */
+    void decompressRange(int[] packed, int from, int to, int[] out, int outOffset, String sizeLabel, String valueLabel);
+
+    /**
+     * Decompresses only the elements [from, to) of the packed array, with the default labels.
+     * * @param packed The packed array containing the data.
+     * @param from The first index to decompress (inclusive).
+     * @param to The last index to decompress (exclusive).
+     * @param out The buffer receiving the values.
+     * @param outOffset The position in the buffer where the value at index from is written.
+     */
+    default void decompressRange(int[] packed, int from, int to, int[] out, int outOffset) {
+        decompressRange(packed, from, to, out, outOffset, "custom", "custom");
+    }
+
     /**
      * Calculates the number of bits needed to represent the largest element in the array,
      * then multiplies that by the array's length (based on original logic).
+     * The product is a long, it exceeds 2^31 bits from about 67M elements on.
      * * @param array Array of Integers.
      * @return The total bit capacity calculated.
      */
-    default int get_number_of_bits_needed(int[] array) {
+    default long get_number_of_bits_needed(int[] array) {
         int bits_needed = 0;
         for (int j : array) {
             // Find the maximum number of bits needed for any single integer
             bits_needed = Math.max(bits_needed, 32 - Integer.numberOfLeadingZeros(j));
         }
         // Apply the multiplication based on the original logic
-        bits_needed = bits_needed * array.length;
-        return bits_needed;
+        return (long) bits_needed * array.length;
+    }
+
+    /**
+     * Checks that a packed array of the given number of integers can be allocated.
+     * * @param words The number of integers of the packed array.
+     * @return The number of integers as an int.
+     * @throws IllegalArgumentException If the packed array would exceed the maximum Java array length.
+     */
+    static int checkPackedSize(long words) {
+        if (words > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Packed array of " + words + " integers exceeds the maximum array length, use OffHeapPackedArray.");
+        }
+        return (int) words;
+    }
+
+    /**
+     * Checks that a packed array holds the integers its header announces, before anything is allocated from the header.
+     * * @param words The number of integers of the packed array.
+     * @param size The number of elements stored in the header.
+     * @param required The number of integers the header implies.
+     * @throws IllegalArgumentException If the size is negative or the packed array is too short.
+     */
+    static void checkPackedLength(int words, long size, long required) {
+        if (size < 0 || required > words) {
+            throw new IllegalArgumentException("Packed array of " + words + " integers is too short or corrupt for " + size + " elements.");
+        }
     }
 
     /**
@@ -1,8 +1,17 @@
 package compressor.models;
 import compressor.logger.Logger;
 import compressor.services.SpanningBP;
+import compressor.services.SpanningSimdBP;
 import compressor.services.NonSpanningBP;
 import compressor.services.OverflowBP;
+import compressor.services.FrameOfReferenceBP;
+import compressor.services.PatchedFrameOfReferenceBP;
+import compressor.services.AutoBP;
+import compressor.services.ParallelBP;
+import compressor.services.DeltaBP;
+import compressor.services.LongNonSpanningBP;
+import compressor.services.LongOverflowBP;
+import compressor.services.LongSpanningBP;
 
 import java.io.File;
 
@@ -10,7 +19,10 @@ public class BitPackerFactory {
 
     /**
      * Creates and returns a concrete BitPacker implementation based on the specified type.
-     * * @param type The desired compression strategy type (e.g., "spanning", "overflow").
+     * Delta transforms are written "delta" (stride 1) or "delta4" (stride 4), optionally followed
+     * by the inner strategy (e.g., "delta:spanning"), the inner strategy defaults to "for".
+     * The parallel strategy is written the same way (e.g., "parallel:delta"), it runs on the common fork-join pool.
+     * * @param type The desired compression strategy type (e.g., "spanning", "overflow", "delta4:for").
      * @param json_file The File path for performance logging or configuration (can be null).
      * @param logger The Logger instance (injected dependency).
      * @return The configured BitPacker instance.
@@ -18,10 +30,29 @@ public class BitPackerFactory {
      */
     public static BitPacker createBitPacker(String type, File json_file, Logger logger) {
 
+        // Delta transform in front of another packer
+        String[] parts = type.toLowerCase().split(":", 2);
+        if (parts[0].equals("delta") || parts[0].equals("delta4")) {
+            BitPacker inner = createBitPacker(parts.length > 1 ? parts[1] : "for", null, logger);
+            return new DeltaBP(json_file, logger, inner, parts[0].equals("delta4") ? 4 : 1);
+        }
+        // Segments packed in parallel by another packer
+        if (parts[0].equals("parallel")) {
+            return new ParallelBP(json_file, logger, createBitPacker(parts.length > 1 ? parts[1] : "for", null, logger));
+        }
+
         BitPacker packer = switch (type.toLowerCase()) {
             case "spanning" -> new SpanningBP(json_file, logger);
+            // Vertical layout on the Vector API, falls back to scalar code without jdk.incubator.vector
+            case "spanning-simd" -> new SpanningSimdBP(json_file, logger);
             case "nonspanning" -> new NonSpanningBP(json_file, logger);
             case "overflow" -> new OverflowBP(json_file, logger);
+            // Blocks of 128 values, each with its own minimum and bit width
+            case "for" -> new FrameOfReferenceBP(json_file, logger);
+            // Like for, with the values that do not fit the block width stored as exceptions
+            case "pfor" -> new PatchedFrameOfReferenceBP(json_file, logger);
+            // Predicts the size of every strategy and compresses with the best one
+            case "auto" -> new AutoBP(json_file, logger);
 
             // Fallback: Throw an exception for unknown types (better than returning null)
             default -> throw new IllegalArgumentException("Unknown BitPacker type: " + type);
@@ -29,4 +60,21 @@ public class BitPackerFactory {
 
         return packer;
     }
+
+    /**
+     * Creates and returns a concrete LongBitPacker implementation for 64 bit values.
+     * * @param type The desired compression strategy type ("spanning", "nonspanning" or "overflow").
+     * @param json_file The File path for performance logging or configuration (can be null).
+     * @param logger The Logger instance (injected dependency).
+     * @return The configured LongBitPacker instance.
+     * @throws IllegalArgumentException If the provided type is unknown.
+     */
+    public static LongBitPacker createLongBitPacker(String type, File json_file, Logger logger) {
+        return switch (type.toLowerCase()) {
+            case "spanning" -> new LongSpanningBP(json_file, logger);
+            case "nonspanning" -> new LongNonSpanningBP(json_file, logger);
+            case "overflow" -> new LongOverflowBP(json_file, logger);
+            default -> throw new IllegalArgumentException("Unknown LongBitPacker type: " + type);
+        };
+    }
 }
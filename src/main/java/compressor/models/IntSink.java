@@ -0,0 +1,21 @@
+package compressor.models;
+
+import java.io.IOException;
+
+public interface IntSink {
+
+    /**
+     * Writes integers to the output.
+     * @param values The buffer holding the integers.
+     * @param offset The position in the buffer of the first integer.
+     * @param length The number of integers to write.
+     * @throws IOException If the output cannot be written.
+     */
+    void write(int[] values, int offset, int length) throws IOException;
+
+    /**
+     * Writes all buffered integers to the underlying output.
+     * @throws IOException If the output cannot be written.
+     */
+    void flush() throws IOException;
+}
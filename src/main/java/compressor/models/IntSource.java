@@ -0,0 +1,16 @@
+package compressor.models;
+
+import java.io.IOException;
+
+public interface IntSource {
+
+    /**
+     * Reads the next integers of the input into a buffer.
+     * @param dest The buffer receiving the integers.
+     * @param offset The position in the buffer of the first integer.
+     * @param length The maximum number of integers to read.
+     * @return The number of integers read, or -1 if the input is exhausted.
+     * @throws IOException If the input cannot be read or is malformed.
+     */
+    int read(int[] dest, int offset, int length) throws IOException;
+}
@@ -0,0 +1,83 @@
+package compressor.models;
+
+/**
+ * Counterpart of {@link BitPacker} for 64 bit values (e.g., IDs or nanosecond timestamps).
+ * The values are packed into long words with chunk sizes from 1 to 64 bits.
+ * <p>
+ * Every packed array starts with a header word holding the chunk size (bits 0-6) and the
+ * number of elements (bits 32-63), so the length does not have to be derived from unused bits.
+ */
+public interface LongBitPacker {
+
+    /** Mask of the chunk size in the header word. */
+    long WIDTH_MASK = 0x7F;
+    /** Position of the number of elements in the header word. */
+    int SIZE_SHIFT = 32;
+
+    /**
+     * Compresses the input array of longs.
+     * * @param array The array of longs to compress.
+     * @param sizeLabel A custom label for the performance Logging "arraysize".
+     * @param valueLabel A custom label for the performance Logging "valuesize".
+     * @return The resulting compressed array.
+     */
+    long[] compress(long[] array, String sizeLabel, String valueLabel);
+
+    /**
+     * Decompresses the input array of longs.
+     * * @param array The compressed array of longs.
+     * @param sizeLabel A custom label for the performance Logging "arraysize".
+     * @param valueLabel A custom label for the performance Logging "valuesize".
+     * @return The resulting decompressed array.
+     */
+    long[] decompress(long[] array, String sizeLabel, String valueLabel);
+
+    /**
+     * Extracts a single long value at a specific index from the packed array.
+     * * @param index The index of the long to retrieve.
+     * @param array The packed array containing the data.
+     * @param sizeLabel A custom label for the performance Logging "arraysize".
+     * @param valueLabel A custom label for the performance Logging "valuesize".
+     * @return The long value at the specified index.
+     * @throws IndexOutOfBoundsException If the index is negative or not smaller than the number of elements.
+     */
+    long get(int index, long[] array, String sizeLabel, String valueLabel);
+
+    /**
+     * Gets the strategy of this packer.
+     * * @return The strategy of the packer.
+     */
+    PackerType getType();
+
+    /**
+     * Gets the number of elements of a packed array from its header.
+     * * @param packed The packed array.
+     * @return The decompressed length.
+     */
+    default int size(long[] packed) {
+        return packed.length == 0 ? 0 : (int) (packed[0] >>> SIZE_SHIFT);
+    }
+
+    /**
+     * Calculates the number of bits needed to represent the largest element in the array.
+     * Negative values need all 64 bits, 0 needs 1 bit.
+     * * @param array Array of longs.
+     * @return The chunk size needed (1 to 64).
+     */
+    default int get_bits_needed(long[] array) {
+        long all_bits = 0;
+        for (long value : array) {
+            all_bits |= value;
+        }
+        return Math.max(1, 64 - Long.numberOfLeadingZeros(all_bits));
+    }
+
+    /**
+     * Gets the mask of the lowest bits of a chunk.
+     * * @param chunkSize The chunk size (1 to 64).
+     * @return The mask with the lowest chunkSize bits set.
+     */
+    static long mask(int chunkSize) {
+        return chunkSize == 64 ? -1L : (1L << chunkSize) - 1;
+    }
+}
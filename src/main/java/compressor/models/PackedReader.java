@@ -0,0 +1,87 @@
+package compressor.models;
+
+import java.util.Objects;
+
+/**
+ * Read-only view on a packed array whose header has already been decoded.
+ * Instances are created through {@link BitPacker#open(int[])} and can be reused
+ * for any number of lookups on the same packed array.
+ */
+public interface PackedReader {
+
+    /**
+     * Returns the number of logical (decompressed) elements in the packed array.
+     * @return The decompressed length.
+     */
+    int size();
+
+    /**
+     * Extracts a single integer value at a specific index of the packed array.
+     * @param index The index of the integer to retrieve.
+     * @return The integer value at the specified index.
+     * @throws IndexOutOfBoundsException If the index is negative or not smaller than {@link #size()}.
+     */
+    int get(int index);
+
+    /**
+     * Decompresses only the elements [from, to) of the packed array into a caller supplied buffer.
+     * The reader seeks directly to the first element and streams the slice word by word.
+     * @param from The first index to decompress (inclusive).
+     * @param to The last index to decompress (exclusive).
+     * @param out The buffer receiving the values.
+     * @param outOffset The position in the buffer where the value at index from is written.
+     * @throws IndexOutOfBoundsException If the range is not within [0, size()] or does not fit into the buffer.
+     */
+    void decompressRange(int from, int to, int[] out, int outOffset);
+
+    /**
+     * Number of elements per bucket used by {@link #getAll(int[], int[])} to group unsorted indices.
+     * 2^16 elements keep the packed words of one bucket within the L2 cache for every chunk size.
+     */
+    int BUCKET_SHIFT = 16;
+
+    /**
+     * Extracts the values at several indices in one call and writes them into a caller supplied buffer.
+     * Sorted indices are read in one sequential pass. Unsorted indices are first grouped into buckets
+     * of neighbouring elements (counting sort), so the packed words are accessed almost sequentially.
+     * @param indices The indices of the integers to retrieve.
+     * @param out The buffer receiving the values, out[i] is the value at indices[i].
+     * @throws IllegalArgumentException If the buffer is smaller than the number of indices.
+     * @throws IndexOutOfBoundsException If an index is negative or not smaller than {@link #size()}.
+     */
+    default void getAll(int[] indices, int[] out) {
+        if (out.length < indices.length) {
+            throw new IllegalArgumentException("Output buffer too small: " + out.length + " < " + indices.length);
+        }
+        int size = size();
+
+        boolean sorted = true;
+        for (int i = 1; i < indices.length && sorted; i++) {
+            sorted = indices[i - 1] <= indices[i];
+        }
+        if (sorted || size <= (1 << BUCKET_SHIFT)) {
+            for (int i = 0; i < indices.length; i++) {
+                out[i] = get(indices[i]);
+            }
+            return;
+        }
+
+        // Counting sort of the index positions by bucket
+        int[] bucketStart = new int[((size - 1) >>> BUCKET_SHIFT) + 2];
+        for (int index : indices) {
+            Objects.checkIndex(index, size);
+            bucketStart[(index >>> BUCKET_SHIFT) + 1]++;
+        }
+        for (int b = 1; b < bucketStart.length; b++) {
+            bucketStart[b] += bucketStart[b - 1];
+        }
+        int[] order = new int[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            order[bucketStart[indices[i] >>> BUCKET_SHIFT]++] = i;
+        }
+
+        for (int position : order) {
+            out[position] = get(indices[position]);
+        }
+    }
+}
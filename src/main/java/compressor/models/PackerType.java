@@ -0,0 +1,99 @@
+package compressor.models;
+
+public enum PackerType {
+    /**
+     * Non spanning strategy, chunks never cross an integer boundary.
+     */
+    NONSPANNING(1, "nonspanning"),
+    /**
+     * Spanning strategy, chunks may cross an integer boundary.
+     */
+    SPANNING(2, "spanning"),
+    /**
+     * Overflow strategy, large values are stored in a separate overflow area.
+     */
+    OVERFLOW(3, "overflow"),
+    /**
+     * Spanning strategy in the vertical 8 lane layout of the Vector API backend.
+     */
+    SPANNING_SIMD(4, "spanning-simd"),
+    /**
+     * Frame of reference strategy, blocks of 128 values with their own minimum and bit width.
+     */
+    FRAME_OF_REFERENCE(5, "for"),
+    /**
+     * Delta transform with zigzag mapping in front of another strategy, stored in its header.
+     */
+    DELTA(6, "delta"),
+    /**
+     * Patched frame of reference strategy, blocks of 128 values with a list of exceptions per block.
+     */
+    PATCHED_FRAME_OF_REFERENCE(7, "pfor"),
+    /**
+     * Adaptive strategy, the strategy selected for the array is stored in its header.
+     */
+    AUTO(8, "auto"),
+    /**
+     * Segments packed in parallel by another strategy, stored in its header.
+     */
+    PARALLEL(9, "parallel");
+
+    private final int id;
+    private final String name;
+
+    /**
+     * Constructor for the PackerType enum.
+     * @param id The strategy id stored in binary containers.
+     * @param name The name used on the command line and in the BitPackerFactory.
+     */
+    private PackerType(int id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    /**
+     * Gets the strategy id stored in binary containers. Ids are never reused.
+     * @return The strategy id.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Gets the name of the strategy as accepted by the BitPackerFactory.
+     * @return The strategy name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Looks up a strategy by its id.
+     * @param id The strategy id.
+     * @return The matching PackerType.
+     * @throws IllegalArgumentException If no strategy has this id.
+     */
+    public static PackerType fromId(int id) {
+        for (PackerType type : values()) {
+            if (type.id == id) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown BitPacker id: " + id);
+    }
+
+    /**
+     * Looks up a strategy by its (case-insensitive) name.
+     * @param name The strategy name (e.g., "spanning", "overflow").
+     * @return The matching PackerType.
+     * @throws IllegalArgumentException If no strategy has this name.
+     */
+    public static PackerType fromName(String name) {
+        for (PackerType type : values()) {
+            if (type.name.equalsIgnoreCase(name)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown BitPacker type: " + name);
+    }
+}
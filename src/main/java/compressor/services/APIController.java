@@ -4,18 +4,17 @@ import compressor.logger.Logger;
 import compressor.logger.LoggerFactory;
 import compressor.models.BitPacker;
 import compressor.models.BitPackerFactory;
+import compressor.models.PackedReader;
 import compressor.logger.LogLevel;
+import compressor.timetaking.MetricsRegistry;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
-import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Pattern;
-import java.io.BufferedWriter;
-import java.io.FileWriter;
-import java.util.Arrays;
 
 public class APIController {
 
@@ -27,11 +26,16 @@ public class APIController {
     private Integer getIndex = null; // Index requested for 'get' method
     private String loggingTypeArgument = null; // Value passed after the --logging flag
     private File performanceLogFile = null; // File path passed after the --performancelogging flag
+    private File metricsFile = null; // File path passed after the --metrics flag
+    private int blockSize = StreamingCompressor.DEFAULT_BLOCK_SIZE; // Value passed after the --blocksize flag
+    private int threads = Runtime.getRuntime().availableProcessors(); // Value passed after the --threads flag
     private BitPacker bitPacker;
     private Logger logger; // The logger instance
 
-    // Pattern to split text by any whitespace
-    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+    // Destination files with this extension are written as binary containers
+    public static final String CONTAINER_EXTENSION = ".bpk";
+    // Time between two appends of the metrics snapshots
+    private static final long METRICS_FLUSH_MILLIS = 10_000;
 
     public APIController(ArrayList<String> args) {
 
@@ -83,6 +87,38 @@ public class APIController {
                 this.performanceLogFile = new File(args.get(currentArgIndex + 1));
                 currentArgIndex += 2; // Skip both the flag and its value
 
+            } else if (currentArg.equals("--metrics")) {
+                // Process the file receiving the aggregated timings
+                if (currentArgIndex + 1 >= args.size() || args.get(currentArgIndex + 1).startsWith("--")) {
+                    throw new IllegalArgumentException("The flag '--metrics' requires a file path as the next argument.");
+                }
+                this.metricsFile = new File(args.get(currentArgIndex + 1));
+                currentArgIndex += 2; // Skip both the flag and its value
+
+            } else if (currentArg.equals("--blocksize")) {
+                // Process the block size used by the streaming methods
+                if (currentArgIndex + 1 >= args.size() || args.get(currentArgIndex + 1).startsWith("--")) {
+                    throw new IllegalArgumentException("The flag '--blocksize' requires a number of elements as the next argument.");
+                }
+                try {
+                    this.blockSize = Integer.parseInt(args.get(currentArgIndex + 1));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("The block size must be a valid integer: " + args.get(currentArgIndex + 1));
+                }
+                currentArgIndex += 2; // Skip both the flag and its value
+
+            } else if (currentArg.equals("--threads")) {
+                // Process the number of packing threads of the batch methods
+                if (currentArgIndex + 1 >= args.size() || args.get(currentArgIndex + 1).startsWith("--")) {
+                    throw new IllegalArgumentException("The flag '--threads' requires a number of threads as the next argument.");
+                }
+                try {
+                    this.threads = Integer.parseInt(args.get(currentArgIndex + 1));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("The number of threads must be a valid integer: " + args.get(currentArgIndex + 1));
+                }
+                currentArgIndex += 2; // Skip both the flag and its value
+
             } else {
                 // Warn about or ignore unknown arguments
                 System.err.println("WARNING: Unknown or misplaced argument ignored: " + currentArg);
@@ -96,6 +132,11 @@ public class APIController {
         );
         this.logger.log(LogLevel.INFO, "APIController initialization started.");
 
+        // The packers time their calls for the metrics, also without --performance
+        if (this.metricsFile != null) {
+            MetricsRegistry.global().enableRecording();
+        }
+
         try {
             // Inject the Logger into the BitPacker Factory
             this.bitPacker = BitPackerFactory.createBitPacker(this.compressionType, this.performanceLogFile, this.logger);
@@ -110,11 +151,45 @@ public class APIController {
 
     // --- Core Execution Method ---
     public void run() throws IOException {
+        if (this.metricsFile == null) {
+            runOperation();
+            return;
+        }
+        // The timings are aggregated in memory and appended periodically and after the operation
+        MetricsRegistry metrics = MetricsRegistry.global();
+        metrics.startFlushing(this.metricsFile, METRICS_FLUSH_MILLIS);
+        try {
+            runOperation();
+        } finally {
+            metrics.close();
+        }
+    }
+
+    /** Runs the requested method once. */
+    private void runOperation() throws IOException {
         int[] resultData = null;
         int getResult = -1;
 
         this.logger.log(LogLevel.INFO, "Starting execution of method: " + this.method.toUpperCase());
 
+        // Streaming methods never hold the whole input in memory
+        if (this.method.toLowerCase().startsWith("stream-")) {
+            runStreaming();
+            return;
+        }
+
+        // Batch methods process every listed file in this JVM
+        if (this.method.toLowerCase().startsWith("batch-")) {
+            runBatch();
+            return;
+        }
+
+        // Binary containers are mapped and read in place instead of being parsed as text
+        if (PackedContainer.isContainer(sourceFile)) {
+            runOnContainer();
+            return;
+        }
+
         int[] sourceData = extractIntArray(sourceFile);
 
         switch (this.method.toLowerCase()) {
@@ -149,45 +224,159 @@ public class APIController {
         }
 
         // Write the final result data to the destination file
+        if (this.method.equalsIgnoreCase("compress") && destinationFile.getName().endsWith(CONTAINER_EXTENSION)) {
+            PackedContainer.write(destinationFile, bitPacker.getType(), sourceData.length, resultData);
+        } else {
+            writeIntArray(resultData, destinationFile);
+        }
+        this.logger.log(LogLevel.INFO, "Operation finished. Result written to " + destinationFile.getName());
+    }
+
+    /** Runs stream-compress or stream-decompress block by block between the source and destination files. */
+    private void runStreaming() throws IOException {
+        StreamingCompressor streaming = new StreamingCompressor(this.bitPacker, this.blockSize, this.logger);
+        long count;
+        switch (this.method.toLowerCase()) {
+            case "stream-compress":
+                count = streaming.compress(sourceFile, destinationFile);
+                this.logger.log(LogLevel.INFO, "Streaming compression finished for " + count + " items.");
+                break;
+
+            case "stream-decompress":
+                count = streaming.decompress(sourceFile, destinationFile);
+                this.logger.log(LogLevel.INFO, "Streaming decompression finished for " + count + " items.");
+                break;
+
+            default:
+                this.logger.log(LogLevel.WARNING, "Unknown method encountered: " + this.method);
+                throw new IllegalArgumentException("Unknown method: " + this.method);
+        }
+        this.logger.log(LogLevel.INFO, "Operation finished. Result written to " + destinationFile.getName());
+    }
+
+    /** Runs batch-compress or batch-decompress on every file listed by the source into the destination directory. */
+    private void runBatch() throws IOException {
+        boolean compress;
+        switch (this.method.toLowerCase()) {
+            case "batch-compress":
+                compress = true;
+                break;
+
+            case "batch-decompress":
+                compress = false;
+                break;
+
+            default:
+                this.logger.log(LogLevel.WARNING, "Unknown method encountered: " + this.method);
+                throw new IllegalArgumentException("Unknown method: " + this.method);
+        }
+
+        BatchProcessor batch = new BatchProcessor(this.bitPacker, this.threads, this.performanceLogFile, this.logger);
+        List<BatchProcessor.Job> jobs = BatchProcessor.listJobs(sourceFile.getPath(), destinationFile, compress);
+        Files.createDirectories(destinationFile.toPath());
+        this.logger.log(LogLevel.INFO, "Batch of " + jobs.size() + " files on " + this.threads + " threads.");
+
+        BatchProcessor.Summary summary = compress ? batch.compress(jobs) : batch.decompress(jobs);
+        System.out.println(summary);
+        if (!summary.getFailed().isEmpty()) {
+            for (String failure : summary.getFailed()) {
+                System.err.println("FAILED: " + failure);
+            }
+            throw new IllegalStateException(summary.getFailed().size() + " of " + jobs.size() + " files failed.");
+        }
+        this.logger.log(LogLevel.INFO, "Operation finished. Results written to " + destinationFile.getName());
+    }
+
+    /** Runs decompress or get directly on the memory mapped words of a binary container. */
+    private void runOnContainer() throws IOException {
+        PackedContainer container = PackedContainer.map(sourceFile);
+        this.logger.log(LogLevel.DEBUG, "Mapped binary container of type " + container.getType().getName()
+                + " with " + container.getElementCount() + " elements.");
+
+        // The strategy stored in the container decides how the words are read
+        BitPacker packer = this.bitPacker;
+        if (container.getType() != packer.getType()) {
+            this.logger.log(LogLevel.WARNING, "Container was packed with " + container.getType().getName()
+                    + ", ignoring type " + this.compressionType + ".");
+            packer = BitPackerFactory.createBitPacker(container.getType().getName(), this.performanceLogFile, this.logger);
+        }
+        PackedReader reader = packer.open(container.getWords());
+
+        int[] resultData;
+        switch (this.method.toLowerCase()) {
+            case "decompress":
+                resultData = new int[reader.size()];
+                reader.decompressRange(0, reader.size(), resultData, 0);
+                this.logger.log(LogLevel.INFO, "Decompression finished.");
+                break;
+
+            case "get":
+                if (this.getIndex == null) {
+                    this.logger.log(LogLevel.WARNING, "Get index was not set.");
+                    throw new IllegalStateException("Get index was not properly set during initialization.");
+                }
+                int getResult = -1;
+                if (this.getIndex < 0 || this.getIndex >= reader.size()) {
+                    this.logger.log(LogLevel.WARNING, "Index " + this.getIndex + " is out of bounds (Max: " + (reader.size() - 1) + ")");
+                    System.err.println("index out of bounds");
+                } else {
+                    getResult = reader.get(this.getIndex);
+                }
+                this.logger.log(LogLevel.INFO, "Get operation finished. Value: " + getResult);
+                resultData = new int[]{getResult};
+                break;
+
+            case "compress":
+                this.logger.log(LogLevel.WARNING, "Source file is already a packed container.");
+                throw new IllegalArgumentException("Cannot compress a packed container: " + sourceFile.getName());
+
+            default:
+                this.logger.log(LogLevel.WARNING, "Unknown method encountered: " + this.method);
+                throw new IllegalArgumentException("Unknown method: " + this.method);
+        }
+
         writeIntArray(resultData, destinationFile);
         this.logger.log(LogLevel.INFO, "Operation finished. Result written to " + destinationFile.getName());
     }
 
     // --- Utility Methods ---
 
-    /** Extracts an array of integers from a source file (whitespace separated). */
+    /** Extracts an array of integers from a source file (whitespace separated), parsed directly from the mapped bytes. */
     public static int[] extractIntArray(File sourceFile) throws IOException, NumberFormatException {
 
         System.out.println("Reading integers from file: " + sourceFile.getAbsolutePath());
+        return readIntArray(sourceFile);
+    }
 
-        String content = Files.readString(Paths.get(sourceFile.getPath()));
-
-        if (content.trim().isEmpty()) {
-            return new int[0];
+    /** Extracts an array of integers from a source file like {@link #extractIntArray}, without printing. */
+    static int[] readIntArray(File sourceFile) throws IOException, NumberFormatException {
+        try (FileChannel channel = FileChannel.open(sourceFile.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            // Files too large to be mapped at once are read through the channel
+            TextIntSource source = size <= Integer.MAX_VALUE
+                    ? new TextIntSource(channel.map(FileChannel.MapMode.READ_ONLY, 0, size))
+                    : new TextIntSource(channel);
+            // Guess about 8 bytes per number, the array grows if needed
+            return source.readAll((int) Math.min(size / 8, Integer.MAX_VALUE - 8));
         }
-
-        String[] numberStrings = WHITESPACE_PATTERN.split(content.trim());
-
-        // Use Streams to filter empty strings and convert valid ones to integers
-        return Arrays.stream(numberStrings)
-                .filter(s -> !s.trim().isEmpty())
-                .mapToInt(Integer::parseInt)
-                .toArray();
     }
 
     /** Writes an array of integers to a destination file, with each integer on a new line. */
     public static void writeIntArray(int[] dataArray, File destinationFile) throws IOException {
 
         System.out.println("Writing " + dataArray.length + " integers to file: " + destinationFile.getAbsolutePath());
+        writeInts(dataArray, destinationFile);
+        System.out.println("✅ Successfully wrote integer array to file.");
+    }
 
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(destinationFile))) {
-
-            for (int value : dataArray) {
-                writer.write(String.valueOf(value));
-                writer.newLine(); // Write a newline character for separation
-            }
+    /** Writes an array of integers to a destination file like {@link #writeIntArray}, without printing. */
+    static void writeInts(int[] dataArray, File destinationFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(destinationFile.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
 
-            System.out.println("✅ Successfully wrote integer array to file.");
+            TextIntSink sink = new TextIntSink(channel);
+            sink.write(dataArray, 0, dataArray.length);
+            sink.flush();
 
         } catch (IOException e) {
             throw new IOException("Failed to write array to file: " + destinationFile.getAbsolutePath(), e);
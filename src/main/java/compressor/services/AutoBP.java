@@ -0,0 +1,341 @@
+package compressor.services;
+
+import compressor.logger.Logger;
+import compressor.models.BitPacker;
+import compressor.models.BitPackerFactory;
+import compressor.models.PackedReader;
+import compressor.models.PackerType;
+import compressor.timetaking.PerformanceTimer;
+import compressor.logger.LogLevel;
+import org.javatuples.Triplet;
+
+import java.io.File;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Adaptive strategy: predicts the compressed size of every strategy from statistics gathered in
+ * one pass over the array, then compresses once with the strategy of the best score.
+ * <p>
+ * The score is the predicted size weighted by the relative decompression time of the strategy,
+ * so a slower strategy is only chosen if it is clearly smaller.
+ * <p>
+ * Layout: id of the selected strategy (1 integer), followed by the array of that strategy.
+ */
+public class AutoBP implements BitPacker {
+
+    /** Number of integers used by the metadata: the id of the selected strategy. */
+    static final int HEADER_SIZE = 1;
+
+    // Weight of the decompression time in the score: a strategy twice as slow must be 10% smaller
+    private static final double DECODE_WEIGHT = 0.1;
+
+    // Candidates in order of preference on equal scores, with their decompression time relative to spanning
+    // (measured on 1M values of 5, 12 and 20 bits)
+    private static final PackerType[] CANDIDATES = {
+            PackerType.SPANNING, PackerType.NONSPANNING, PackerType.FRAME_OF_REFERENCE,
+            PackerType.PATCHED_FRAME_OF_REFERENCE, PackerType.DELTA, PackerType.OVERFLOW};
+    private static final double[] DECODE_COSTS = {1.0, 4.0, 1.15, 1.2, 2.0, 4.5};
+
+    public PerformanceTimer timer = null;
+    private Logger logger;
+    private final Map<PackerType, BitPacker> packers = new EnumMap<>(PackerType.class); // Filled once in the constructor, read-only afterwards
+
+    /**
+     * Constructor for the Auto Bit Packer (BP).
+     * Initializes the logger and conditionally sets up the performance timer.
+     * @param filePath File path for performance logging (null if not needed).
+     * @param log The Logger instance (Dependency Injection).
+     */
+    public AutoBP(File filePath, Logger log) {
+        this.logger = log;
+        // Initialization of timer
+        if (PerformanceTimer.isTimed(filePath)) {
+            this.timer = new PerformanceTimer(filePath, "Auto");
+            this.logger.log(LogLevel.INFO, "PerformanceTimer initialized for AutoBP.");
+        } else {
+            this.logger.log(LogLevel.DEBUG, "PerformanceTimer disabled (no filePath and no metrics).");
+        }
+        // The candidates are created up front, so concurrent calls only ever read the map
+        for (PackerType type : CANDIDATES) {
+            this.packers.put(type, BitPackerFactory.createBitPacker(type.getName(), null, this.logger));
+        }
+    }
+
+    /** Gets the packer of a strategy, a new one for strategies that are no candidates. */
+    private BitPacker packerFor(PackerType type) {
+        BitPacker packer = packers.get(type);
+        return packer != null ? packer : BitPackerFactory.createBitPacker(type.getName(), null, this.logger);
+    }
+
+    @Override
+    public PackerType getType() {
+        return PackerType.AUTO;
+    }
+
+    /**
+     * Predicts the compressed size of every strategy able to store the array.
+     * @param array The array of integers.
+     * @return The number of integers of the compressed array per strategy, without the header of this packer.
+     */
+    public Map<PackerType, Long> estimateSizes(int[] array) {
+        Map<PackerType, Long> sizes = new EnumMap<>(PackerType.class);
+        int length = array.length;
+        if (length == 0) {
+            return sizes;
+        }
+
+        int blocks = FrameOfReferenceBP.blockCount(length);
+        int[] value_distribution = new int[32];
+        int[] block_distribution = new int[33];
+        int all_bits = 0;
+        long for_bits = 10;
+        long pfor_bits = 10;
+        long pfor_exception_words = 0;
+        long delta_bits = 10;
+        int previous = array[0];
+
+        for (int b = 0; b < blocks; b++) {
+            int start = b << FrameOfReferenceBP.BLOCK_SHIFT;
+            int end = Math.min(length, start + FrameOfReferenceBP.BLOCK_SIZE);
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            int delta_min = Integer.MAX_VALUE;
+            int delta_max = Integer.MIN_VALUE;
+            for (int i = start; i < end; i++) {
+                int value = array[i];
+                // Global distribution of the bits needed, as used by the overflow strategy
+                all_bits |= value;
+                value_distribution[Math.max(1, 32 - Integer.numberOfLeadingZeros(value)) - 1]++;
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+                int delta = DeltaBP.zigzag(value - previous);
+                delta_min = Math.min(delta_min, delta);
+                delta_max = Math.max(delta_max, delta);
+                previous = value;
+            }
+            // The block is still in the cache for the distribution above its minimum
+            Arrays.fill(block_distribution, 0);
+            for (int i = start; i < end; i++) {
+                block_distribution[32 - Integer.numberOfLeadingZeros(array[i] - min)]++;
+            }
+            int pfor_width = PatchedFrameOfReferenceBP.bestWidth(block_distribution, end - start);
+            pfor_bits += (long) pfor_width * (end - start);
+            pfor_exception_words += PatchedFrameOfReferenceBP.exceptionWords(PatchedFrameOfReferenceBP.exceptionCount(block_distribution, pfor_width));
+            for_bits += (long) (64 - Long.numberOfLeadingZeros((long) max - min)) * (end - start);
+            delta_bits += (long) (64 - Long.numberOfLeadingZeros((long) delta_max - delta_min)) * (end - start);
+        }
+
+        long for_size = FrameOfReferenceBP.HEADER_SIZE + (long) FrameOfReferenceBP.DIRECTORY_ENTRY_SIZE * blocks + (for_bits + 31) / 32;
+        sizes.put(PackerType.FRAME_OF_REFERENCE, for_size);
+        sizes.put(PackerType.PATCHED_FRAME_OF_REFERENCE, PatchedFrameOfReferenceBP.HEADER_SIZE
+                + (long) PatchedFrameOfReferenceBP.DIRECTORY_ENTRY_SIZE * blocks + (pfor_bits + 31) / 32 + pfor_exception_words);
+        // Delta with stride 1: one checkpoint per block, the differences packed by the for strategy
+        sizes.put(PackerType.DELTA, DeltaBP.HEADER_SIZE + (long) blocks + FrameOfReferenceBP.HEADER_SIZE
+                + (long) FrameOfReferenceBP.DIRECTORY_ENTRY_SIZE * blocks + (delta_bits + 31) / 32);
+
+        // The header of the other strategies stores chunk sizes up to 31
+        int chunk_size = Math.max(1, 32 - Integer.numberOfLeadingZeros(all_bits));
+        if (chunk_size < 32) {
+            sizes.put(PackerType.SPANNING, (10 + (long) chunk_size * length + 31) / 32);
+            int chunks_per_integer = 32 / chunk_size;
+            int chunks_for_metadata = (10 + chunk_size - 1) / chunk_size;
+            sizes.put(PackerType.NONSPANNING, ((long) length + chunks_for_metadata + chunks_per_integer - 1) / chunks_per_integer);
+        }
+        Triplet<Integer, Long, Integer> triplet = OverflowBP.get_ideal_chunksize(value_distribution, length);
+        if (triplet.getValue0() > 0 && triplet.getValue0() < 32) {
+            sizes.put(PackerType.OVERFLOW, triplet.getValue1() / 32);
+        }
+        return sizes;
+    }
+
+    /**
+     * Selects the strategy with the best score for the array.
+     * @param array The array of integers.
+     * @return The selected strategy.
+     */
+    public PackerType select(int[] array) {
+        Map<PackerType, Long> sizes = estimateSizes(array);
+        PackerType best = PackerType.FRAME_OF_REFERENCE;
+        double best_score = Double.MAX_VALUE;
+        for (int i = 0; i < CANDIDATES.length; i++) {
+            Long size = sizes.get(CANDIDATES[i]);
+            if (size != null) {
+                double score = size * (1 + DECODE_WEIGHT * (DECODE_COSTS[i] - 1));
+                if (score < best_score) {
+                    best_score = score;
+                    best = CANDIDATES[i];
+                }
+            }
+        }
+        this.logger.log(LogLevel.DEBUG, "Predicted sizes: %s, selected %s.", sizes, best.getName());
+        return best;
+    }
+
+    // --- Core BitPacker Interface Methods ---
+
+    /**
+     * Compresses an array of integers with the strategy selected for it and stores its id in the header.
+     */
+    @Override
+    public int[] compress(int[] array, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, "Starting compress operation.");
+
+        if (array.length == 0) return new int[0];
+
+        PackerType type = select(array);
+
+        // Take time of the selection
+        if (timer != null) timer.stop("Select");
+        this.logger.log(LogLevel.INFO, () -> "Selected strategy: " + type.getName());
+
+        int[] packed = packerFor(type).compress(array, sizeLabel, valueLabel);
+        int[] result = new int[BitPacker.checkPackedSize((long) HEADER_SIZE + packed.length)];
+        result[0] = type.getId();
+        System.arraycopy(packed, 0, result, HEADER_SIZE, packed.length);
+
+        // Stop of timetaking of writing on the compressed array
+        if (timer != null) {
+            timer.stop("Compressing");
+            timer.saveToJson("Compress", array.length, result.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "Compression completed. Input size: " + array.length + ", Result size: " + result.length);
+
+        return result;
+    }
+
+    /**
+     * Decompresses the array with the strategy stored in the header.
+     */
+    @Override
+    public int[] decompress(int[] array, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, "Starting decompress operation.");
+
+        if (array.length == 0) return new int[0];
+
+        PackedReader reader = open(IntBuffer.wrap(array));
+        int[] result = new int[reader.size()];
+
+        // Stop of Setup time taking
+        if (timer != null) timer.stop("Setup");
+        this.logger.log(LogLevel.DEBUG, () -> "Decompression setup complete. Expected result size: " + result.length);
+
+        reader.decompressRange(0, result.length, result, 0);
+
+        // Stop of timetaking of writing on the decompressed array
+        if (timer != null) {
+            timer.stop("Decompressing");
+            timer.saveToJson("Decompress", result.length, array.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "Decompression finished. Result size: " + result.length);
+
+        return result;
+    }
+
+    /**
+     * Retrieves a single integer value at a specific logical index from the compressed array.
+     */
+    @Override
+    public int get(int index, int[] array, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, () -> "Starting get operation for index: " + index);
+
+        PackedReader reader = open(IntBuffer.wrap(array));
+
+        // Test if the index is out of bounds
+        if (index < 0 || index >= reader.size()) {
+            this.logger.log(LogLevel.WARNING, () -> "Index " + index + " is out of bounds.");
+            System.err.println("index out of bounds");
+            return -1;
+        }
+        int result = reader.get(index);
+
+        // Stop timetaking
+        if (timer != null) {
+            timer.stop("get");
+            timer.saveToJson("get", reader.size(), array.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "Get operation successful. Retrieved value: " + result);
+
+        return result;
+    }
+
+    /**
+     * Decodes the metadata of the compressed array once and returns a reader
+     * that can be reused for any number of lookups. The array of the selected strategy is read in place.
+     */
+    @Override
+    public PackedReader open(IntBuffer array) {
+        IntBuffer words = array.slice();
+        if (words.limit() == 0) {
+            return packerFor(PackerType.FRAME_OF_REFERENCE).open(words);
+        }
+        // The strategy stored in the header decides how the array is read
+        PackerType type = PackerType.fromId(words.get(0));
+        PackedReader reader = packerFor(type).open(words.slice(HEADER_SIZE, words.limit() - HEADER_SIZE));
+        this.logger.log(LogLevel.DEBUG, () -> "Opened packed array of strategy " + type.getName() + " with " + reader.size() + " elements.");
+        return reader;
+    }
+
+    /**
+     * Retrieves the values at several logical indices in one call.
+     * The metadata is decoded once, the values are written into the caller supplied output array.
+     */
+    @Override
+    public void getAll(int[] indices, int[] array, int[] out, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, () -> "Starting getAll operation for " + indices.length + " indices.");
+
+        PackedReader reader = open(IntBuffer.wrap(array));
+
+        // Stop of Setup time taking
+        if (timer != null) timer.stop("Setup");
+
+        reader.getAll(indices, out);
+
+        // Stop timetaking
+        if (timer != null) {
+            timer.stop("getAll");
+            timer.saveToJson("getAll", reader.size(), array.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "GetAll operation successful. Retrieved values: " + indices.length);
+    }
+
+    /**
+     * Decompresses only the logical indices [from, to) of the compressed array
+     * into the caller supplied output array, starting at outOffset.
+     */
+    @Override
+    public void decompressRange(int[] array, int from, int to, int[] out, int outOffset, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, () -> "Starting decompressRange operation for [" + from + ", " + to + ").");
+
+        PackedReader reader = open(IntBuffer.wrap(array));
+
+        // Stop of Setup time taking
+        if (timer != null) timer.stop("Setup");
+
+        reader.decompressRange(from, to, out, outOffset);
+
+        // Stop of timetaking
+        if (timer != null) {
+            timer.stop("DecompressingRange");
+            timer.saveToJson("DecompressRange", to - from, array.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "DecompressRange finished. Result size: " + (to - from));
+    }
+}
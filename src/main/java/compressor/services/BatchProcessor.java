@@ -0,0 +1,411 @@
+package compressor.services;
+
+import compressor.logger.LogLevel;
+import compressor.logger.Logger;
+import compressor.models.BitPacker;
+import compressor.models.BitPackerFactory;
+import compressor.models.PackedReader;
+import compressor.models.PackerType;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compresses or decompresses many files in one JVM.
+ * <p>
+ * Every file passes through three stages with their own worker threads: reading (and parsing), packing
+ * and writing, so the packing of one file overlaps the I/O of the others. At most
+ * {@value #IN_FLIGHT_PER_THREAD} files per packing thread are between the stages at any time, which
+ * bounds the memory. Compressed files are written as binary containers ({@link PackedContainer}),
+ * they keep the strategy and the element count, so they are decompressed without further arguments.
+ * <p>
+ * The files are given by a directory (all its files), a glob in the file name part of a path
+ * (e.g., "shards/*.txt") or a manifest listing one source file per line, optionally followed by a
+ * tab and the destination file. Blank lines and lines starting with "#" are skipped.
+ */
+public class BatchProcessor {
+
+    public static final String COMPRESSED_EXTENSION = APIController.CONTAINER_EXTENSION;
+    public static final String DECOMPRESSED_EXTENSION = ".txt";
+
+    // Files read ahead of or waiting behind each packing thread
+    private static final int IN_FLIGHT_PER_THREAD = 2;
+
+    private final BitPacker bitPacker;
+    private final int threads;
+    private final File performanceFile;
+    private final Logger logger;
+
+    // Packers of containers written with another strategy than bitPacker
+    private final Map<PackerType, BitPacker> containerPackers = new ConcurrentHashMap<>();
+
+    /** A source file and the file its result is written to. */
+    public static final class Job {
+        private final File source;
+        private final File destination;
+
+        public Job(File source, File destination) {
+            this.source = source;
+            this.destination = destination;
+        }
+
+        public File getSource() {
+            return source;
+        }
+
+        public File getDestination() {
+            return destination;
+        }
+    }
+
+    /** The state of one file passed from stage to stage. */
+    private static final class Item {
+        private final Job job;
+        private final Summary summary;
+        private int[] values; // Decompressed integers
+        private int[] words; // Packed words read from a text file or produced by the packer
+        private PackedContainer container; // Mapped container being decompressed
+
+        private Item(Job job, Summary summary) {
+            this.job = job;
+            this.summary = summary;
+        }
+    }
+
+    /**
+     * Creates a batch processor.
+     * @param bitPacker The packer of all files, decompression of containers uses their own strategy.
+     * @param threads The number of packing threads, reading and writing get as many each.
+     * @param performanceFile The file for performance logging of the packers (null if not needed).
+     * @param logger The logger.
+     */
+    public BatchProcessor(BitPacker bitPacker, int threads, File performanceFile, Logger logger) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("The number of threads must be positive: " + threads);
+        }
+        this.bitPacker = bitPacker;
+        this.threads = threads;
+        this.performanceFile = performanceFile;
+        this.logger = logger;
+    }
+
+    // --- Listing the Files ---
+
+    /**
+     * Lists the files of a batch and where their results are written.
+     * @param sources A directory, a glob in the file name (e.g., "shards/*.txt") or a manifest file.
+     * @param destinationDirectory The directory of the results whose destination is not given in the manifest.
+     * @param compress true to name the results with ".bpk", false to name them with ".txt".
+     * @return The jobs, sorted by source file for directories and globs, in manifest order otherwise.
+     * @throws IOException If the directory or the manifest cannot be read.
+     * @throws IllegalArgumentException If no file is found or two files would be written to the same destination.
+     */
+    public static List<Job> listJobs(String sources, File destinationDirectory, boolean compress) throws IOException {
+        String extension = compress ? COMPRESSED_EXTENSION : DECOMPRESSED_EXTENSION;
+        List<Job> jobs = new ArrayList<>();
+
+        int separator = sources.lastIndexOf(File.separatorChar);
+        String fileName = sources.substring(separator + 1);
+        File sourceFile = new File(sources);
+        if (fileName.matches(".*[*?\\[{].*")) {
+            // Glob, only the file name part may contain wildcards
+            Path directory = Path.of(separator < 0 ? "." : sources.substring(0, separator + 1));
+            PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + fileName);
+            for (Path path : listFiles(directory)) {
+                if (matcher.matches(path.getFileName())) {
+                    jobs.add(new Job(path.toFile(), new File(destinationDirectory, renamed(path.toFile(), extension))));
+                }
+            }
+        } else if (sourceFile.isDirectory()) {
+            for (Path path : listFiles(sourceFile.toPath())) {
+                jobs.add(new Job(path.toFile(), new File(destinationDirectory, renamed(path.toFile(), extension))));
+            }
+        } else {
+            for (String line : Files.readAllLines(sourceFile.toPath())) {
+                String entry = line.strip();
+                if (entry.isEmpty() || entry.startsWith("#")) {
+                    continue;
+                }
+                int tab = entry.indexOf('\t');
+                File source = new File(tab < 0 ? entry : entry.substring(0, tab).strip());
+                File destination = tab < 0
+                        ? new File(destinationDirectory, renamed(source, extension))
+                        : destinationOf(entry.substring(tab + 1).strip(), destinationDirectory);
+                jobs.add(new Job(source, destination));
+            }
+        }
+
+        if (jobs.isEmpty()) {
+            throw new IllegalArgumentException("No files found for the batch: " + sources);
+        }
+        // E.g., "a.txt" and "a.bin" would both be compressed to "a.bpk"
+        Map<Path, File> destinations = new HashMap<>();
+        for (Job job : jobs) {
+            File previous = destinations.put(job.getDestination().toPath().toAbsolutePath().normalize(), job.getSource());
+            if (previous != null) {
+                throw new IllegalArgumentException("The files " + previous + " and " + job.getSource()
+                        + " would both be written to " + job.getDestination());
+            }
+        }
+        return jobs;
+    }
+
+    private static List<Path> listFiles(Path directory) throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, Files::isRegularFile)) {
+            stream.forEach(files::add);
+        }
+        Collections.sort(files);
+        return files;
+    }
+
+    /** The file name with its extension replaced. */
+    private static String renamed(File source, String extension) {
+        String name = source.getName();
+        int dot = name.lastIndexOf('.');
+        return (dot > 0 ? name.substring(0, dot) : name) + extension;
+    }
+
+    /** Relative destinations of a manifest are resolved against the destination directory. */
+    private static File destinationOf(String path, File destinationDirectory) {
+        File destination = new File(path);
+        return destination.isAbsolute() ? destination : new File(destinationDirectory, path);
+    }
+
+    // --- Processing ---
+
+    /**
+     * Compresses every source (text, or raw little endian integers if it ends with ".bin") to a binary container.
+     * @param jobs The files to compress.
+     * @return The summary, with the files that failed.
+     */
+    public Summary compress(List<Job> jobs) {
+        return run("compress", jobs, this::readValues, this::pack, this::writeContainer);
+    }
+
+    /**
+     * Decompresses every source (a binary container, or packed words as text) to a text file.
+     * @param jobs The files to decompress.
+     * @return The summary, with the files that failed.
+     */
+    public Summary decompress(List<Job> jobs) {
+        return run("decompress", jobs, this::readPacked, this::unpack, this::writeValues);
+    }
+
+    /** One stage of the pipeline, working on the item in place. */
+    @FunctionalInterface
+    private interface Stage {
+        void apply(Item item) throws IOException;
+    }
+
+    private Summary run(String operation, List<Job> jobs, Stage read, Stage pack, Stage write) {
+        ExecutorService readers = pool("batch-reader-");
+        ExecutorService packers = pool("batch-packer-");
+        ExecutorService writers = pool("batch-writer-");
+
+        Summary summary = new Summary(operation, jobs.size());
+        int maxInFlight = IN_FLIGHT_PER_THREAD * threads;
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long start = System.nanoTime();
+        try {
+            for (Job job : jobs) {
+                inFlight.acquire();
+                Item item = new Item(job, summary);
+                CompletableFuture.runAsync(() -> stage(read, item), readers)
+                        .thenRunAsync(() -> stage(pack, item), packers)
+                        .thenRunAsync(() -> stage(write, item), writers)
+                        .whenComplete((ignored, error) -> {
+                            if (error != null) {
+                                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                                summary.failed.add(job.getSource() + ": " + cause.getMessage());
+                                this.logger.log(LogLevel.WARNING, () -> "Batch " + operation + " failed for " + job.getSource() + ": " + cause);
+                            } else {
+                                this.logger.log(LogLevel.DEBUG, () -> "Batch " + operation + " wrote " + job.getDestination());
+                            }
+                            // The arrays of the item are no longer referenced once the next file is admitted
+                            item.values = null;
+                            item.words = null;
+                            item.container = null;
+                            inFlight.release();
+                        });
+            }
+            // All permits are back once the last file is written
+            inFlight.acquire(maxInFlight);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the batch to finish.", e);
+        } finally {
+            readers.shutdownNow();
+            packers.shutdownNow();
+            writers.shutdownNow();
+        }
+        summary.elapsedNanos = System.nanoTime() - start;
+        this.logger.log(LogLevel.INFO, summary::toString);
+        return summary;
+    }
+
+    private static void stage(Stage stage, Item item) {
+        try {
+            stage.apply(item);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ExecutorService pool(String namePrefix) {
+        AtomicInteger workers = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + workers.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // --- Stages of compress ---
+
+    private void readValues(Item item) throws IOException {
+        File source = item.job.getSource();
+        item.values = source.getName().endsWith(".bin") ? readBinary(source) : APIController.readIntArray(source);
+        item.summary.bytesRead.add(source.length());
+    }
+
+    private void pack(Item item) {
+        item.words = bitPacker.compress(item.values, "batch", "batch");
+    }
+
+    private void writeContainer(Item item) throws IOException {
+        File destination = item.job.getDestination();
+        PackedContainer.write(destination, bitPacker.getType(), item.values.length, item.words);
+        item.summary.record(item.values.length, destination.length());
+    }
+
+    // --- Stages of decompress ---
+
+    private void readPacked(Item item) throws IOException {
+        File source = item.job.getSource();
+        if (PackedContainer.isContainer(source)) {
+            item.container = PackedContainer.map(source);
+        } else {
+            item.words = APIController.readIntArray(source);
+        }
+        item.summary.bytesRead.add(source.length());
+    }
+
+    private void unpack(Item item) {
+        if (item.container == null) {
+            item.values = bitPacker.decompress(item.words, "batch", "batch");
+            return;
+        }
+        PackerType type = item.container.getType();
+        BitPacker packer = type == bitPacker.getType() ? bitPacker
+                : containerPackers.computeIfAbsent(type, t -> BitPackerFactory.createBitPacker(t.getName(), performanceFile, logger));
+        PackedReader reader = packer.open(item.container.getWords());
+        item.values = new int[reader.size()];
+        reader.decompressRange(0, reader.size(), item.values, 0);
+    }
+
+    private void writeValues(Item item) throws IOException {
+        File destination = item.job.getDestination();
+        APIController.writeInts(item.values, destination);
+        item.summary.record(item.values.length, destination.length());
+    }
+
+    // --- Utility Methods ---
+
+    /** Reads a whole file of raw little endian 32 bit integers. */
+    private static int[] readBinary(File source) throws IOException {
+        try (FileChannel channel = FileChannel.open(source.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size % 4 != 0) {
+                throw new IOException("Binary file length is not a multiple of 4 bytes: " + source.getAbsolutePath());
+            }
+            if (size / 4 > Integer.MAX_VALUE - 8) {
+                throw new IOException("Binary file too large for an int array, use stream-compress: " + source.getAbsolutePath());
+            }
+            int[] values = new int[(int) (size / 4)];
+            channel.map(FileChannel.MapMode.READ_ONLY, 0, size).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(values);
+            return values;
+        }
+    }
+
+    /** Totals and throughput of a finished batch. */
+    public static final class Summary {
+        private final String operation;
+        private final int files;
+        private final Queue<String> failed = new ConcurrentLinkedQueue<>();
+        private final LongAdder elements = new LongAdder();
+        private final LongAdder bytesRead = new LongAdder();
+        private final LongAdder bytesWritten = new LongAdder();
+        private long elapsedNanos;
+
+        private Summary(String operation, int files) {
+            this.operation = operation;
+            this.files = files;
+        }
+
+        private void record(long elementCount, long written) {
+            elements.add(elementCount);
+            bytesWritten.add(written);
+        }
+
+        public int getFiles() {
+            return files;
+        }
+
+        /**
+         * Gets the files that could not be processed.
+         * @return One "file: reason" entry per failed file.
+         */
+        public List<String> getFailed() {
+            return new ArrayList<>(failed);
+        }
+
+        public long getElements() {
+            return elements.sum();
+        }
+
+        public long getBytesRead() {
+            return bytesRead.sum();
+        }
+
+        public long getBytesWritten() {
+            return bytesWritten.sum();
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            double seconds = Math.max(elapsedNanos, 1) / 1e9;
+            return String.format("Batch %s: %d files (%d failed), %d integers in %.2f s: %.1f files/s, %.2f M integers/s, read %.1f MB/s, written %.1f MB/s",
+                    operation, files, failed.size(), getElements(), seconds, (files - failed.size()) / seconds,
+                    getElements() / seconds / 1e6, getBytesRead() / seconds / 1e6, getBytesWritten() / seconds / 1e6);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package compressor.services;
+
+import compressor.models.IntSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Reads raw little endian 32 bit integers from a channel through a reusable direct buffer.
+ */
+public class BinaryIntSource implements IntSource {
+
+    // Size of the direct read buffer in bytes (multiple of 4)
+    private static final int BUFFER_BYTES = 1 << 16;
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+    private boolean exhausted = false;
+
+    /**
+     * Creates a source reading little endian integers from a channel.
+     * @param channel The channel providing the integers.
+     */
+    public BinaryIntSource(ReadableByteChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        this.buffer.flip(); // Start empty
+    }
+
+    @Override
+    public int read(int[] dest, int offset, int length) throws IOException {
+        int count = 0;
+        while (count < length) {
+            if (buffer.remaining() < 4 && !refill()) {
+                break;
+            }
+            int n = Math.min(length - count, buffer.remaining() / 4);
+            buffer.asIntBuffer().get(dest, offset + count, n);
+            buffer.position(buffer.position() + n * 4);
+            count += n;
+        }
+        return count == 0 && exhausted ? -1 : count;
+    }
+
+    /** Reads more bytes, keeping an incomplete integer at the start of the buffer. */
+    private boolean refill() throws IOException {
+        if (exhausted) {
+            return false;
+        }
+        buffer.compact();
+        int read;
+        do {
+            read = channel.read(buffer);
+        } while (read == 0);
+        buffer.flip();
+        if (read < 0) {
+            exhausted = true;
+            if (buffer.hasRemaining()) {
+                throw new IOException("Binary input ends with an incomplete integer (" + buffer.remaining() + " bytes)");
+            }
+            return false;
+        }
+        return buffer.remaining() >= 4 || refill();
+    }
+}
@@ -0,0 +1,432 @@
+package compressor.services;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import compressor.logger.LogLevel;
+import compressor.logger.Logger;
+import compressor.logger.LoggerFactory;
+import compressor.models.BitPacker;
+import compressor.models.BitPackerFactory;
+import compressor.models.PackedReader;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Long-running HTTP server on the loopback interface, so many small requests share one warm JVM.
+ * <p>
+ * The packers and the stored packed arrays stay resident between requests. Integer arrays in request
+ * and response bodies are binary, little-endian 32 bit integers (like the .bin inputs of stream-compress).
+ * Type is a packer type as on the command line (e.g., "spanning", "delta:for").
+ * <pre>
+ * POST   /compress/{type}            values -> packed words
+ * POST   /decompress/{type}          packed words -> values
+ * PUT    /arrays/{name}?type={type}  values (or packed words with &amp;packed=true) -> stores the packed array
+ * GET    /arrays/{name}              -> {"name":..,"type":..,"size":..,"words":..}
+ * DELETE /arrays/{name}              -> removes the packed array
+ * GET    /arrays/{name}/get?index=i  -> the value at index i
+ * POST   /arrays/{name}/get          indices -> values (bulk get)
+ * GET    /arrays/{name}/range?from=a&amp;to=b -> the values [a, b)
+ * </pre>
+ * Requests are handled by a fixed pool of worker threads. Errors are answered with 400 (bad
+ * request, index out of bounds, packed words whose header does not fit the body), 404 (unknown array or path),
+ * 405 (wrong method) or 413 (body larger than the maximum body size) and a text message.
+ */
+public class CompressionServer implements AutoCloseable {
+
+    public static final int DEFAULT_PORT = 8080;
+    /** Default maximum size of a request body in bytes (16M integers). */
+    public static final int DEFAULT_MAX_BODY = 64 << 20;
+
+    // Initial buffer size of a body without Content-Length (chunked)
+    private static final int CHUNKED_BUFFER_BYTES = 1 << 16;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final int maxBody;
+    private final File performanceFile;
+    private final Logger logger;
+
+    // Resident packers by type and packed arrays by name
+    private final Map<String, BitPacker> packers = new ConcurrentHashMap<>();
+    private final Map<String, StoredArray> arrays = new ConcurrentHashMap<>();
+
+    /** A packed array kept in memory with its decoded header. */
+    private static final class StoredArray {
+        private final String type;
+        private final int[] packed;
+        private final PackedReader reader;
+
+        private StoredArray(String type, int[] packed, PackedReader reader) {
+            this.type = type;
+            this.packed = packed;
+            this.reader = reader;
+        }
+    }
+
+    /**
+     * Binds the server to a port of the loopback interface, requests are only accepted after {@link #start()}.
+     * @param port The port (0 picks a free one, see {@link #getPort()}).
+     * @param threads The number of worker threads handling the requests.
+     * @param maxBody The maximum size of a request body in bytes, larger bodies are answered with 413.
+     * @param performanceFile The file for performance logging of the packers (null if not needed).
+     * @param logger The logger.
+     * @throws IOException If the port cannot be bound.
+     */
+    public CompressionServer(int port, int threads, int maxBody, File performanceFile, Logger logger) throws IOException {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("The number of threads must be positive: " + threads);
+        }
+        if (maxBody <= 0) {
+            throw new IllegalArgumentException("The maximum body size must be positive: " + maxBody);
+        }
+        this.maxBody = maxBody;
+        this.performanceFile = performanceFile;
+        this.logger = logger;
+        // Without TCP_NODELAY the headers and the body of small responses are delayed by ~40 ms each (Nagle + delayed ACK)
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        AtomicInteger workers = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> new Thread(runnable, "server-worker-" + workers.incrementAndGet()));
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+    }
+
+    /**
+     * Creates a server from the command line flags following "serve".
+     * @param args The flags (--port, --threads, --max-body, --logging, --performance).
+     * @return The bound server.
+     * @throws IOException If the port cannot be bound.
+     * @throws IllegalArgumentException If a flag is missing its value or the value is invalid.
+     */
+    public static CompressionServer fromArgs(List<String> args) throws IOException {
+        int port = DEFAULT_PORT;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int maxBody = DEFAULT_MAX_BODY;
+        String logging = "NONE";
+        File performance = null;
+        for (int i = 0; i < args.size(); i += 2) {
+            String flag = args.get(i);
+            if (i + 1 >= args.size() || args.get(i + 1).startsWith("--")) {
+                throw new IllegalArgumentException("The flag '" + flag + "' requires a value as the next argument.");
+            }
+            String value = args.get(i + 1);
+            switch (flag) {
+                case "--port" -> port = parseInt(flag, value);
+                case "--threads" -> threads = parseInt(flag, value);
+                case "--max-body" -> maxBody = parseInt(flag, value);
+                case "--logging" -> logging = value;
+                case "--performance" -> performance = new File(value);
+                default -> throw new IllegalArgumentException("Unknown argument for serve: " + flag);
+            }
+        }
+        return new CompressionServer(port, threads, maxBody, performance, LoggerFactory.createLogger(logging));
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+        this.logger.log(LogLevel.INFO, () -> "Server listening on http://" + server.getAddress().getHostString() + ":" + getPort() + "/");
+    }
+
+    /**
+     * Gets the port the server is bound to.
+     * @return The port.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops accepting requests, waits up to a second for running exchanges and stops the workers.
+     */
+    @Override
+    public void close() {
+        server.stop(1);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        this.logger.log(LogLevel.INFO, "Server stopped.");
+    }
+
+    // --- Request Handling ---
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            route(exchange);
+        } catch (NotFoundException e) {
+            sendText(exchange, 404, e.getMessage());
+        } catch (MethodNotAllowedException e) {
+            sendText(exchange, 405, e.getMessage());
+        } catch (PayloadTooLargeException e) {
+            sendText(exchange, 413, e.getMessage());
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | IllegalStateException e) {
+            sendText(exchange, 400, e.getMessage());
+        } catch (RuntimeException e) {
+            this.logger.log(LogLevel.WARNING, () -> "Request " + exchange.getRequestURI() + " failed: " + e);
+            sendText(exchange, 500, e.getClass().getName() + ": " + e.getMessage());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void route(HttpExchange exchange) throws IOException {
+        URI uri = exchange.getRequestURI();
+        String method = exchange.getRequestMethod();
+        String[] path = uri.getPath().replaceAll("^/+|/+$", "").split("/");
+        Map<String, String> query = parseQuery(uri.getRawQuery());
+        this.logger.log(LogLevel.DEBUG, () -> method + " " + uri);
+
+        if (path.length == 2 && path[0].equals("compress")) {
+            requireMethod(method, "POST");
+            sendInts(exchange, packer(path[1]).compress(readInts(exchange), "custom", "custom"));
+        } else if (path.length == 2 && path[0].equals("decompress")) {
+            requireMethod(method, "POST");
+            BitPacker packer = packer(path[1]);
+            int[] packed = readInts(exchange);
+            // Opening a reader checks the header against the body before the result is allocated
+            packer.open(packed);
+            sendInts(exchange, packer.decompress(packed, "custom", "custom"));
+        } else if (path.length == 2 && path[0].equals("arrays")) {
+            handleArray(exchange, method, path[1], query);
+        } else if (path.length == 3 && path[0].equals("arrays")) {
+            StoredArray array = stored(path[1]);
+            switch (path[2]) {
+                case "get" -> {
+                    if (method.equals("GET")) {
+                        sendInts(exchange, new int[]{array.reader.get(requireInt(query, "index"))});
+                    } else {
+                        requireMethod(method, "POST");
+                        int[] indices = readInts(exchange);
+                        int[] values = new int[indices.length];
+                        array.reader.getAll(indices, values);
+                        sendInts(exchange, values);
+                    }
+                }
+                case "range" -> {
+                    requireMethod(method, "GET");
+                    int from = requireInt(query, "from");
+                    int to = requireInt(query, "to");
+                    if (from < 0 || to < from || to > array.reader.size()) {
+                        throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of bounds for size " + array.reader.size());
+                    }
+                    int[] values = new int[to - from];
+                    array.reader.decompressRange(from, to, values, 0);
+                    sendInts(exchange, values);
+                }
+                default -> throw new NotFoundException("Unknown path: " + uri.getPath());
+            }
+        } else {
+            throw new NotFoundException("Unknown path: " + uri.getPath());
+        }
+    }
+
+    private void handleArray(HttpExchange exchange, String method, String name, Map<String, String> query) throws IOException {
+        switch (method) {
+            case "PUT" -> {
+                String type = query.get("type");
+                if (type == null) {
+                    throw new IllegalArgumentException("Missing query parameter: type");
+                }
+                BitPacker packer = packer(type);
+                int[] body = readInts(exchange);
+                int[] packed = Boolean.parseBoolean(query.get("packed")) ? body : packer.compress(body, "custom", "custom");
+                StoredArray array = new StoredArray(type, packed, packer.open(packed));
+                arrays.put(name, array);
+                this.logger.log(LogLevel.INFO, () -> "Stored array " + name + " with " + array.reader.size() + " elements in " + packed.length + " words.");
+                sendInfo(exchange, name, array);
+            }
+            case "GET" -> sendInfo(exchange, name, stored(name));
+            case "DELETE" -> {
+                if (arrays.remove(name) == null) {
+                    throw new NotFoundException("Unknown array: " + name);
+                }
+                sendText(exchange, 200, "Deleted " + name);
+            }
+            default -> throw new MethodNotAllowedException("Method " + method + " not allowed, use PUT, GET or DELETE");
+        }
+    }
+
+    private BitPacker packer(String type) {
+        return packers.computeIfAbsent(type.toLowerCase(), spec -> BitPackerFactory.createBitPacker(spec, performanceFile, logger));
+    }
+
+    private StoredArray stored(String name) {
+        StoredArray array = arrays.get(name);
+        if (array == null) {
+            throw new NotFoundException("Unknown array: " + name);
+        }
+        return array;
+    }
+
+    // --- Helper Methods ---
+
+    private int[] readInts(HttpExchange exchange) throws IOException {
+        ByteBuffer body = readBody(exchange);
+        if (body.remaining() % 4 != 0) {
+            throw new IllegalArgumentException("Body of " + body.remaining() + " bytes is not a sequence of 32 bit integers");
+        }
+        IntBuffer ints = body.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        int[] values = new int[ints.remaining()];
+        ints.get(values);
+        return values;
+    }
+
+    /** Reads the request body, a body larger than maxBody is rejected before it is buffered. */
+    private ByteBuffer readBody(HttpExchange exchange) throws IOException {
+        InputStream in = exchange.getRequestBody();
+        String contentLength = exchange.getRequestHeaders().getFirst("Content-Length");
+        if (contentLength != null) {
+            long length;
+            try {
+                length = Long.parseLong(contentLength.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid Content-Length: " + contentLength);
+            }
+            if (length > maxBody) {
+                throw new PayloadTooLargeException("Body of " + length + " bytes exceeds the maximum of " + maxBody + " bytes");
+            }
+            return ByteBuffer.wrap(in.readNBytes((int) length));
+        }
+        // Chunked body of unknown length, the buffer grows up to maxBody
+        byte[] buffer = new byte[Math.min(maxBody, CHUNKED_BUFFER_BYTES)];
+        int length = 0;
+        while (true) {
+            if (length == buffer.length) {
+                if (length == maxBody) {
+                    if (in.read() < 0) {
+                        break;
+                    }
+                    throw new PayloadTooLargeException("Body exceeds the maximum of " + maxBody + " bytes");
+                }
+                buffer = Arrays.copyOf(buffer, (int) Math.min(maxBody, 2L * length));
+            }
+            int read = in.read(buffer, length, buffer.length - length);
+            if (read < 0) {
+                break;
+            }
+            length += read;
+        }
+        return ByteBuffer.wrap(buffer, 0, length);
+    }
+
+    private static void sendInts(HttpExchange exchange, int[] values) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(4 * values.length).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.asIntBuffer().put(values);
+        exchange.getResponseHeaders().set("Content-Type", "application/octet-stream");
+        send(exchange, 200, bytes.array());
+    }
+
+    private static void sendInfo(HttpExchange exchange, String name, StoredArray array) throws IOException {
+        String json = String.format("{\"name\":\"%s\",\"type\":\"%s\",\"size\":%d,\"words\":%d}",
+                name.replace("\\", "\\\\").replace("\"", "\\\""), array.type, array.reader.size(), array.packed.length);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        send(exchange, 200, json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void sendText(HttpExchange exchange, int status, String message) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        send(exchange, status, (message + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        // A request body left unread (e.g., an error before it was parsed) makes the server drop the
+        // connection after the response, and a client reusing it gets no answer to its next request.
+        // A body that is too large is not read to its end, the connection is dropped instead.
+        if (status != 413) {
+            exchange.getRequestBody().transferTo(OutputStream.nullOutputStream());
+        }
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery != null) {
+            for (String pair : rawQuery.split("&")) {
+                int equals = pair.indexOf('=');
+                String key = URLDecoder.decode(equals < 0 ? pair : pair.substring(0, equals), StandardCharsets.UTF_8);
+                String value = equals < 0 ? "" : URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8);
+                query.put(key, value);
+            }
+        }
+        return query;
+    }
+
+    private static int requireInt(Map<String, String> query, String key) {
+        String value = query.get(key);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing query parameter: " + key);
+        }
+        return parseInt(key, value);
+    }
+
+    private static int parseInt(String name, String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("The value of " + name + " must be a valid integer: " + value);
+        }
+    }
+
+    private static void requireMethod(String method, String expected) {
+        if (!method.equals(expected)) {
+            throw new MethodNotAllowedException("Method " + method + " not allowed, use " + expected);
+        }
+    }
+
+    /** Answered with 404. */
+    private static final class NotFoundException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private NotFoundException(String message) {
+            super(message);
+        }
+    }
+
+    /** Answered with 405. */
+    private static final class MethodNotAllowedException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private MethodNotAllowedException(String message) {
+            super(message);
+        }
+    }
+
+    /** Answered with 413. */
+    private static final class PayloadTooLargeException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private PayloadTooLargeException(String message) {
+            super(message);
+        }
+    }
+}
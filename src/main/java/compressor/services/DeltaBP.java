@@ -0,0 +1,279 @@
+package compressor.services;
+
+import compressor.logger.Logger;
+import compressor.models.BitPacker;
+import compressor.models.BitPackerFactory;
+import compressor.models.PackedReader;
+import compressor.models.PackerType;
+import compressor.timetaking.PerformanceTimer;
+import compressor.logger.LogLevel;
+
+import java.io.File;
+import java.nio.IntBuffer;
+
+/**
+ * Delta transform in front of another packer, for sorted or slowly changing sequences.
+ * <p>
+ * Every value is replaced by its difference to the value stride positions before it (stride 1,
+ * or stride 4 for the differential variant whose prefix sum runs on 4 independent lanes).
+ * The differences are zigzag mapped, so small negative differences stay small, and packed by
+ * the inner packer. Every 128 values a checkpoint stores the absolute values the prefix sum
+ * starts from, so a lookup sums at most 128 differences.
+ * <p>
+ * Layout: number of elements, stride (bits 0-7) and inner strategy id (bits 8-15),
+ * the checkpoints (stride integers per 128 values), followed by the array of the inner packer.
+ */
+public class DeltaBP implements BitPacker {
+
+    /** Number of values between two checkpoints. */
+    static final int CHECKPOINT_INTERVAL = 128;
+
+    /** Number of integers used by the metadata: number of elements, stride and inner strategy. */
+    static final int HEADER_SIZE = 2;
+
+    public PerformanceTimer timer = null;
+    private Logger logger;
+    private final BitPacker inner;
+    private final int stride;
+
+    /**
+     * Constructor for the Delta Bit Packer (BP).
+     * Initializes the logger and conditionally sets up the performance timer.
+     * @param filePath File path for performance logging (null if not needed).
+     * @param log The Logger instance (Dependency Injection).
+     * @param inner The packer of the zigzag mapped differences.
+     * @param stride The distance of the value a difference is taken to: 1, or 4 for the differential variant.
+     */
+    public DeltaBP(File filePath, Logger log, BitPacker inner, int stride) {
+        if (stride != 1 && stride != 4) {
+            throw new IllegalArgumentException("Delta stride must be 1 or 4: " + stride);
+        }
+        this.logger = log;
+        this.inner = inner;
+        this.stride = stride;
+        // Initialization of timer
+        if (PerformanceTimer.isTimed(filePath)) {
+            this.timer = new PerformanceTimer(filePath, "Delta");
+            this.logger.log(LogLevel.INFO, "PerformanceTimer initialized for DeltaBP.");
+        } else {
+            this.logger.log(LogLevel.DEBUG, "PerformanceTimer disabled (no filePath and no metrics).");
+        }
+    }
+
+    /** Maps signed differences to unsigned values: 0, -1, 1, -2, 2 ... become 0, 1, 2, 3, 4 ... */
+    static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    /** Inverse of {@link #zigzag(int)}. */
+    static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    @Override
+    public PackerType getType() {
+        return PackerType.DELTA;
+    }
+
+    // --- Core BitPacker Interface Methods ---
+
+    /**
+     * Compresses an array of integers by packing the zigzag mapped differences with the inner packer.
+     */
+    @Override
+    public int[] compress(int[] array, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, "Starting compress operation.");
+
+        if (array.length == 0) return new int[0];
+
+        // Differences to the value stride positions before, the first values are stored in the first checkpoint
+        int[] deltas = new int[array.length];
+        for (int i = 0; i < array.length; i++) {
+            deltas[i] = zigzag(array[i] - (i >= stride ? array[i - stride] : array[i]));
+        }
+
+        // Checkpoint c holds the values before index c * CHECKPOINT_INTERVAL, one per lane (the first values for c = 0)
+        int checkpoints = (array.length + CHECKPOINT_INTERVAL - 1) / CHECKPOINT_INTERVAL;
+
+        // Take time of the setup phase
+        if (timer != null) timer.stop("Setup");
+        this.logger.log(LogLevel.DEBUG, () -> "Delta setup complete. Stride: " + stride + ", Checkpoints: " + checkpoints);
+
+        int[] packed = inner.compress(deltas, sizeLabel, valueLabel);
+
+        int inner_start = HEADER_SIZE + checkpoints * stride;
+        int[] result = new int[BitPacker.checkPackedSize((long) inner_start + packed.length)];
+        result[0] = array.length;
+        result[1] = stride | inner.getType().getId() << 8;
+        for (int c = 0; c < checkpoints; c++) {
+            for (int lane = 0; lane < stride; lane++) {
+                int index = c * CHECKPOINT_INTERVAL - stride + lane;
+                if (index >= 0) {
+                    result[HEADER_SIZE + c * stride + lane] = array[index];
+                } else if (lane < array.length) {
+                    result[HEADER_SIZE + c * stride + lane] = array[lane];
+                }
+            }
+        }
+        System.arraycopy(packed, 0, result, inner_start, packed.length);
+
+        // Stop of timetaking of writing on the compressed array
+        if (timer != null) {
+            timer.stop("Compressing");
+            timer.saveToJson("Compress", array.length, result.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "Compression completed. Input size: " + array.length + ", Result size: " + result.length);
+
+        return result;
+    }
+
+    /**
+     * Decompresses the differences with the inner packer and adds them up again.
+     */
+    @Override
+    public int[] decompress(int[] array, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, "Starting decompress operation.");
+
+        if (array.length == 0) return new int[0];
+
+        PackedReader reader = open(IntBuffer.wrap(array));
+        int[] result = new int[reader.size()];
+
+        // Stop of Setup time taking
+        if (timer != null) timer.stop("Setup");
+        this.logger.log(LogLevel.DEBUG, () -> "Decompression setup complete. Expected result size: " + result.length);
+
+        reader.decompressRange(0, result.length, result, 0);
+
+        // Stop of timetaking of writing on the decompressed array
+        if (timer != null) {
+            timer.stop("Decompressing");
+            timer.saveToJson("Decompress", result.length, array.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "Decompression finished. Result size: " + result.length);
+
+        return result;
+    }
+
+    /**
+     * Retrieves a single integer value at a specific logical index from the compressed array.
+     * At most 128 differences after the nearest checkpoint are added up.
+     */
+    @Override
+    public int get(int index, int[] array, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, () -> "Starting get operation for index: " + index);
+
+        PackedReader reader = open(IntBuffer.wrap(array));
+
+        // Test if the index is out of bounds
+        if (index < 0 || index >= reader.size()) {
+            this.logger.log(LogLevel.WARNING, () -> "Index " + index + " is out of bounds.");
+            System.err.println("index out of bounds");
+            return -1;
+        }
+        int result = reader.get(index);
+
+        // Stop timetaking
+        if (timer != null) {
+            timer.stop("get");
+            timer.saveToJson("get", reader.size(), array.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "Get operation successful. Retrieved value: " + result);
+
+        return result;
+    }
+
+    /**
+     * Decodes the metadata of the compressed array once and returns a reader
+     * that can be reused for any number of lookups. The inner array is read in place.
+     */
+    @Override
+    public PackedReader open(IntBuffer array) {
+        IntBuffer words = array.slice();
+        if (words.limit() == 0) {
+            return new DeltaReader(words, 1, null);
+        }
+        int size = words.get(0);
+        int packed_stride = words.get(1) & 0xFF;
+        PackerType inner_type = PackerType.fromId(words.get(1) >>> 8 & 0xFF);
+
+        // The strategy stored in the header decides how the differences are read
+        BitPacker inner_packer = inner_type == inner.getType() ? inner : BitPackerFactory.createBitPacker(inner_type.getName(), null, this.logger);
+        if (packed_stride <= 0) {
+            throw new IllegalArgumentException("Invalid stride in packed array: " + packed_stride);
+        }
+        // The checkpoints have to fit, and the inner array has to hold a difference per element
+        long checkpoints = ((long) size + CHECKPOINT_INTERVAL - 1) / CHECKPOINT_INTERVAL * packed_stride;
+        BitPacker.checkPackedLength(words.limit(), size, HEADER_SIZE + checkpoints);
+        int inner_start = HEADER_SIZE + (int) checkpoints;
+        PackedReader inner_reader = inner_packer.open(words.slice(inner_start, words.limit() - inner_start));
+        if (inner_reader.size() < size) {
+            throw new IllegalArgumentException("Packed array holds " + inner_reader.size() + " differences for " + size + " elements.");
+        }
+
+        PackedReader reader = new DeltaReader(words, packed_stride, inner_reader);
+        this.logger.log(LogLevel.DEBUG, () -> "Opened packed array with " + reader.size() + " elements.");
+        return reader;
+    }
+
+    /**
+     * Retrieves the values at several logical indices in one call.
+     * The metadata is decoded once, the values are written into the caller supplied output array.
+     */
+    @Override
+    public void getAll(int[] indices, int[] array, int[] out, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, () -> "Starting getAll operation for " + indices.length + " indices.");
+
+        PackedReader reader = open(IntBuffer.wrap(array));
+
+        // Stop of Setup time taking
+        if (timer != null) timer.stop("Setup");
+
+        reader.getAll(indices, out);
+
+        // Stop timetaking
+        if (timer != null) {
+            timer.stop("getAll");
+            timer.saveToJson("getAll", reader.size(), array.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "GetAll operation successful. Retrieved values: " + indices.length);
+    }
+
+    /**
+     * Decompresses only the logical indices [from, to) of the compressed array
+     * into the caller supplied output array, starting at outOffset.
+     */
+    @Override
+    public void decompressRange(int[] array, int from, int to, int[] out, int outOffset, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, () -> "Starting decompressRange operation for [" + from + ", " + to + ").");
+
+        PackedReader reader = open(IntBuffer.wrap(array));
+
+        // Stop of Setup time taking
+        if (timer != null) timer.stop("Setup");
+
+        reader.decompressRange(from, to, out, outOffset);
+
+        // Stop of timetaking
+        if (timer != null) {
+            timer.stop("DecompressingRange");
+            timer.saveToJson("DecompressRange", to - from, array.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "DecompressRange finished. Result size: " + (to - from));
+    }
+}
@@ -0,0 +1,107 @@
+package compressor.services;
+
+import compressor.models.PackedReader;
+
+import java.nio.IntBuffer;
+import java.util.Objects;
+
+/**
+ * Reader on an array packed by {@link DeltaBP}. The differences are read through the reader of
+ * the inner packer and added up from the nearest checkpoint.
+ */
+final class DeltaReader implements PackedReader {
+
+    private final IntBuffer words;
+    private final int size;
+    private final int stride;
+    private final PackedReader inner;
+
+    DeltaReader(IntBuffer words, int stride, PackedReader inner) {
+        this.words = words;
+        this.size = words.limit() == 0 ? 0 : words.get(0);
+        this.stride = stride;
+        this.inner = inner;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int get(int index) {
+        Objects.checkIndex(index, size);
+        int start = index - index % DeltaBP.CHECKPOINT_INTERVAL;
+        int lane = (index - start) % stride;
+        // Only the differences of the lane of the index are added
+        int value = checkpoint(start, lane);
+        for (int i = start + lane; i <= index; i += stride) {
+            value += DeltaBP.unzigzag(inner.get(i));
+        }
+        return value;
+    }
+
+    /** Gets the value stride - lane positions before the checkpoint at start. */
+    private int checkpoint(int start, int lane) {
+        return words.get(DeltaBP.HEADER_SIZE + start / DeltaBP.CHECKPOINT_INTERVAL * stride + lane);
+    }
+
+    @Override
+    public void decompressRange(int from, int to, int[] out, int outOffset) {
+        Objects.checkFromToIndex(from, to, size);
+        Objects.checkFromIndexSize(outOffset, to - from, out.length);
+
+        int[] scratch = null;
+        for (int start = from - from % DeltaBP.CHECKPOINT_INTERVAL; start < to; start += DeltaBP.CHECKPOINT_INTERVAL) {
+            int end = Math.min(start + DeltaBP.CHECKPOINT_INTERVAL, to);
+            if (start >= from) {
+                // The differences are decoded and summed up in place
+                inner.decompressRange(start, end, out, outOffset + start - from);
+                prefixSum(start, out, outOffset + start - from, end - start);
+            } else {
+                // The range starts inside the first interval, the values before from are dropped
+                if (scratch == null) {
+                    scratch = new int[DeltaBP.CHECKPOINT_INTERVAL];
+                }
+                inner.decompressRange(start, end, scratch, 0);
+                prefixSum(start, scratch, 0, end - start);
+                System.arraycopy(scratch, from - start, out, outOffset, end - from);
+            }
+        }
+    }
+
+    /** Replaces the zigzag mapped differences after the checkpoint at start by the values. */
+    private void prefixSum(int start, int[] buffer, int pos, int length) {
+        if (stride == 1) {
+            int value = checkpoint(start, 0);
+            for (int i = pos; i < pos + length; i++) {
+                value += DeltaBP.unzigzag(buffer[i]);
+                buffer[i] = value;
+            }
+            return;
+        }
+        // Stride 4: four independent sums, without a dependency from one value to the next
+        int v0 = checkpoint(start, 0);
+        int v1 = checkpoint(start, 1);
+        int v2 = checkpoint(start, 2);
+        int v3 = checkpoint(start, 3);
+        int i = pos;
+        for (; i + 3 < pos + length; i += 4) {
+            buffer[i] = v0 += DeltaBP.unzigzag(buffer[i]);
+            buffer[i + 1] = v1 += DeltaBP.unzigzag(buffer[i + 1]);
+            buffer[i + 2] = v2 += DeltaBP.unzigzag(buffer[i + 2]);
+            buffer[i + 3] = v3 += DeltaBP.unzigzag(buffer[i + 3]);
+        }
+        // The last 0 to 3 values continue the first lanes
+        int end = pos + length;
+        if (i < end) {
+            buffer[i] = v0 + DeltaBP.unzigzag(buffer[i]);
+        }
+        if (++i < end) {
+            buffer[i] = v1 + DeltaBP.unzigzag(buffer[i]);
+        }
+        if (++i < end) {
+            buffer[i] = v2 + DeltaBP.unzigzag(buffer[i]);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package compressor.services;
+
+import java.nio.IntBuffer;
+
+/**
+ * Bit-level Elias gamma and Elias delta codes for variable-length header fields.
+ * <p>
+ * Bits are addressed like in the packed arrays: bit p is bit (p % 32) of integer (p / 32).
+ * A gamma code of a value with k + 1 significant bits is k zero bits followed by the k + 1 value
+ * bits, most significant first. A delta code is the gamma code of the number of significant bits
+ * followed by the value bits without the leading one, most significant first.
+ * <p>
+ * Codes are at most 61 bits long, so every code is written and read with one 64 bit window.
+ * Writing ORs the code into the destination, the bits must be zero before. No objects are created.
+ */
+public final class EliasCodec {
+
+    private EliasCodec() {
+    }
+
+    /**
+     * Gets the length of the Elias gamma code of a value.
+     * @param value The value to encode (at least 1).
+     * @return The number of bits of the code (1 to 61).
+     */
+    public static int gammaLength(int value) {
+        checkPositive(value);
+        return 2 * (31 - Integer.numberOfLeadingZeros(value)) + 1;
+    }
+
+    /**
+     * Writes the Elias gamma code of a value.
+     * @param words The destination array.
+     * @param bit The bit position of the first bit of the code.
+     * @param value The value to encode (at least 1).
+     * @return The bit position after the code.
+     */
+    public static long writeGamma(int[] words, long bit, int value) {
+        checkPositive(value);
+        int k = 31 - Integer.numberOfLeadingZeros(value);
+        // The reversed value bits follow the k zero bits, so the most significant bit is written first
+        long code = (long) (Integer.reverse(value) >>> (31 - k)) << k;
+        writeBits(words, bit, code, 2 * k + 1);
+        return bit + 2 * k + 1;
+    }
+
+    /**
+     * Reads an Elias gamma code, its length is {@link #gammaLength(int)} of the returned value.
+     * @param words The array holding the code.
+     * @param bit The bit position of the first bit of the code.
+     * @return The decoded value.
+     */
+    public static int readGamma(int[] words, long bit) {
+        return decodeGamma(peek(words, bit));
+    }
+
+    /**
+     * Reads an Elias gamma code from a buffer, its length is {@link #gammaLength(int)} of the returned value.
+     * @param words The buffer holding the code, indices are absolute.
+     * @param bit The bit position of the first bit of the code.
+     * @return The decoded value.
+     */
+    public static int readGamma(IntBuffer words, long bit) {
+        return decodeGamma(peek(words, bit));
+    }
+
+    /**
+     * Gets the length of the Elias delta code of a value.
+     * @param value The value to encode (at least 1).
+     * @return The number of bits of the code (1 to 42).
+     */
+    public static int deltaLength(int value) {
+        checkPositive(value);
+        int length = 32 - Integer.numberOfLeadingZeros(value);
+        return gammaLength(length) + length - 1;
+    }
+
+    /**
+     * Writes the Elias delta code of a value.
+     * @param words The destination array.
+     * @param bit The bit position of the first bit of the code.
+     * @param value The value to encode (at least 1).
+     * @return The bit position after the code.
+     */
+    public static long writeDelta(int[] words, long bit, int value) {
+        checkPositive(value);
+        int length = 32 - Integer.numberOfLeadingZeros(value);
+        long next = writeGamma(words, bit, length);
+        if (length > 1) {
+            // The value bits without the leading one, most significant first
+            writeBits(words, next, Integer.reverse(value) >>> (33 - length), length - 1);
+        }
+        return next + length - 1;
+    }
+
+    /**
+     * Reads an Elias delta code, its length is {@link #deltaLength(int)} of the returned value.
+     * @param words The array holding the code.
+     * @param bit The bit position of the first bit of the code.
+     * @return The decoded value.
+     */
+    public static int readDelta(int[] words, long bit) {
+        return decodeDelta(peek(words, bit));
+    }
+
+    /**
+     * Reads an Elias delta code from a buffer, its length is {@link #deltaLength(int)} of the returned value.
+     * @param words The buffer holding the code, indices are absolute.
+     * @param bit The bit position of the first bit of the code.
+     * @return The decoded value.
+     */
+    public static int readDelta(IntBuffer words, long bit) {
+        return decodeDelta(peek(words, bit));
+    }
+
+    private static void checkPositive(int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException("Elias codes are for positive integers: " + value);
+        }
+    }
+
+    /** Decodes a gamma code held in the lowest bits of a window. */
+    private static int decodeGamma(long window) {
+        int k = Long.numberOfTrailingZeros(window);
+        if (k > 30) {
+            throw new IllegalArgumentException("Invalid Elias gamma code.");
+        }
+        return (int) (Long.reverse(window >>> k) >>> (63 - k));
+    }
+
+    /** Decodes a delta code held in the lowest bits of a window. */
+    private static int decodeDelta(long window) {
+        int length = decodeGamma(window);
+        if (length > 31) {
+            throw new IllegalArgumentException("Invalid Elias delta code.");
+        }
+        int rest = length - 1;
+        if (rest == 0) {
+            return 1;
+        }
+        long bits = window >>> gammaLength(length);
+        return (1 << rest) | (int) (Long.reverse(bits) >>> (64 - rest));
+    }
+
+    /** ORs the lowest length bits of a code (at most 61) into the words from a bit position on. */
+    private static void writeBits(int[] words, long bit, long code, int length) {
+        int word = (int) (bit >>> 5);
+        int shift = (int) bit & 31;
+        words[word] |= (int) (code << shift);
+        int written = 32 - shift;
+        while (written < length) {
+            words[++word] |= (int) (code >>> written);
+            written += 32;
+        }
+    }
+
+    /** Reads the 64 bits starting at a bit position, bits behind the end of the array are zero. */
+    private static long peek(int[] words, long bit) {
+        int word = (int) (bit >>> 5);
+        int shift = (int) bit & 31;
+        long window = 0;
+        for (int i = 0; i < 2 && word + i < words.length; i++) {
+            window |= (words[word + i] & 0xFFFFFFFFL) << (32 * i);
+        }
+        // The lowest bits of the third integer fill the top of the window
+        return (window >>> shift) | (shift == 0 || word + 2 >= words.length ? 0 : (words[word + 2] & 0xFFFFFFFFL) << (64 - shift));
+    }
+
+    /** Reads the 64 bits starting at a bit position of a buffer, bits behind its limit are zero. */
+    private static long peek(IntBuffer words, long bit) {
+        int word = (int) (bit >>> 5);
+        int shift = (int) bit & 31;
+        long window = 0;
+        for (int i = 0; i < 2 && word + i < words.limit(); i++) {
+            window |= (words.get(word + i) & 0xFFFFFFFFL) << (32 * i);
+        }
+        return (window >>> shift) | (shift == 0 || word + 2 >= words.limit() ? 0 : (words.get(word + 2) & 0xFFFFFFFFL) << (64 - shift));
+    }
+}
@@ -0,0 +1,291 @@
+package compressor.services;
+
+import compressor.logger.Logger;
+import compressor.models.BitPacker;
+import compressor.models.PackedReader;
+import compressor.models.PackerType;
+import compressor.timetaking.PerformanceTimer;
+import compressor.logger.LogLevel;
+
+import java.io.File;
+import java.nio.IntBuffer;
+
+/**
+ * Frame of reference strategy: the array is split into blocks of 128 values and every block
+ * stores its values relative to its own minimum, with the bit width of its own range.
+ * <p>
+ * Layout: number of elements (1 integer), a directory of 2 integers per block (minimum, then
+ * offset and bit width), followed by the data. The data is one spanning bit stream starting at
+ * bit 10 of its first integer, so every full block starts at bit 10 of an integer like in
+ * {@link SpanningBP} and is packed by the same unrolled kernels.
+ */
+public class FrameOfReferenceBP implements BitPacker {
+
+    /** Number of values per block. */
+    static final int BLOCK_SIZE = 128;
+    static final int BLOCK_SHIFT = 7;
+
+    /** Number of integers used by the metadata: number of elements. */
+    static final int HEADER_SIZE = 1;
+    /** Number of integers per block in the directory: minimum and descriptor. */
+    static final int DIRECTORY_ENTRY_SIZE = 2;
+
+    // Descriptor: bit width (bits 0-5), sum of the widths of the previous blocks (bits 6-31).
+    // A full block of width w takes 4 * w integers, so the sum gives the position of the block.
+    static final int WIDTH_MASK = 0x3F;
+    static final int OFFSET_SHIFT = 6;
+    private static final long MAX_OFFSET = 1L << (32 - OFFSET_SHIFT);
+
+    public PerformanceTimer timer = null;
+    private Logger logger;
+
+    /**
+     * Constructor for the Frame of Reference Bit Packer (BP).
+     * Initializes the logger and conditionally sets up the performance timer.
+     * @param filePath File path for performance logging (null if not needed).
+     * @param log The Logger instance (Dependency Injection).
+     */
+    public FrameOfReferenceBP(File filePath, Logger log) {
+        this.logger = log;
+        // Initialization of timer
+        if (PerformanceTimer.isTimed(filePath)) {
+            this.timer = new PerformanceTimer(filePath, "FrameOfReference");
+            this.logger.log(LogLevel.INFO, "PerformanceTimer initialized for FrameOfReferenceBP.");
+        } else {
+            this.logger.log(LogLevel.DEBUG, "PerformanceTimer disabled (no filePath and no metrics).");
+        }
+    }
+
+    /**
+     * Gets the number of blocks of an array.
+     * @param size The number of elements.
+     * @return The number of blocks, the last one may be partial.
+     */
+    static int blockCount(int size) {
+        return (int) (((long) size + BLOCK_SIZE - 1) >>> BLOCK_SHIFT);
+    }
+
+    @Override
+    public PackerType getType() {
+        return PackerType.FRAME_OF_REFERENCE;
+    }
+
+    // --- Core BitPacker Interface Methods ---
+
+    /**
+     * Compresses an array of integers block by block, each block with its own minimum and bit width.
+     * Negative values are supported, a block only needs the bits of its range (maximum - minimum).
+     */
+    @Override
+    public int[] compress(int[] array, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, "Starting compress operation.");
+
+        if (array.length == 0) return new int[0];
+
+        // Minimum and bit width of every block
+        int blocks = blockCount(array.length);
+        int[] mins = new int[blocks];
+        int[] widths = new int[blocks];
+        long data_bits = 10;
+        long width_sum = 0;
+        for (int b = 0; b < blocks; b++) {
+            int start = b << BLOCK_SHIFT;
+            int end = Math.min(array.length, start + BLOCK_SIZE);
+            int min = array[start];
+            int max = array[start];
+            for (int i = start + 1; i < end; i++) {
+                min = Math.min(min, array[i]);
+                max = Math.max(max, array[i]);
+            }
+            mins[b] = min;
+            widths[b] = 64 - Long.numberOfLeadingZeros((long) max - min);
+            data_bits += (long) widths[b] * (end - start);
+            width_sum += widths[b];
+        }
+
+        // Take time of the bit-needed function
+        if (timer != null) timer.stop("BitNeeded");
+
+        int data_start = HEADER_SIZE + DIRECTORY_ENTRY_SIZE * blocks;
+        long new_array_size = data_start + (data_bits + 31) / 32;
+        if (width_sum >= MAX_OFFSET || new_array_size > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Array too large for the frame of reference layout: " + array.length + " elements.");
+        }
+        int[] result = new int[(int) new_array_size];
+        result[0] = array.length;
+
+        // Take time of the setup phase
+        if (timer != null) timer.stop("Setup");
+        this.logger.log(LogLevel.DEBUG, () -> "Compression setup complete. Blocks: " + blocks + ", New size: " + new_array_size);
+
+        int[] deltas = new int[BLOCK_SIZE];
+        int offset = 0;
+        for (int b = 0; b < blocks; b++) {
+            int start = b << BLOCK_SHIFT;
+            int count = Math.min(array.length - start, BLOCK_SIZE);
+            int width = widths[b];
+
+            int entry = HEADER_SIZE + DIRECTORY_ENTRY_SIZE * b;
+            result[entry] = mins[b];
+            result[entry + 1] = offset << OFFSET_SHIFT | width;
+
+            if (width > 0) {
+                for (int i = 0; i < count; i++) {
+                    deltas[i] = array[start + i] - mins[b];
+                }
+                if (count == BLOCK_SIZE) {
+                    // Full blocks are written by the unrolled routine of the width
+                    SpanningKernels.pack(width, deltas, 0, result, data_start + (offset << 2), BLOCK_SIZE / SpanningKernels.BLOCK_SIZE);
+                } else {
+                    // The last partial block is written value by value
+                    long bit = 10 + ((long) offset << 7);
+                    for (int i = 0; i < count; i++, bit += width) {
+                        int word = data_start + (int) (bit >>> 5);
+                        int shift = (int) bit & 31;
+                        result[word] |= deltas[i] << shift;
+                        if (shift + width > 32) {
+                            result[word + 1] |= deltas[i] >>> (32 - shift);
+                        }
+                    }
+                }
+            }
+            offset += width;
+        }
+
+        // Stop of timetaking of writing on the compressed array
+        if (timer != null) {
+            timer.stop("Compressing");
+            timer.saveToJson("Compress", array.length, result.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "Compression completed. Input size: " + array.length + ", Result size: " + result.length);
+
+        return result;
+    }
+
+    /**
+     * Decompresses the blocked layout back into the original integer array.
+     */
+    @Override
+    public int[] decompress(int[] array, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, "Starting decompress operation.");
+
+        if (array.length == 0) return new int[0];
+
+        FrameOfReferenceReader reader = new FrameOfReferenceReader(IntBuffer.wrap(array));
+        int[] result = new int[reader.size()];
+
+        // Stop of Setup time taking
+        if (timer != null) timer.stop("Setup");
+        this.logger.log(LogLevel.DEBUG, () -> "Decompression setup complete. Expected result size: " + result.length);
+
+        reader.decompressRange(0, result.length, result, 0);
+
+        // Stop of timetaking of writing on the decompressed array
+        if (timer != null) {
+            timer.stop("Decompressing");
+            timer.saveToJson("Decompress", result.length, array.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "Decompression finished. Result size: " + result.length);
+
+        return result;
+    }
+
+    /**
+     * Retrieves a single integer value at a specific logical index from the compressed array.
+     */
+    @Override
+    public int get(int index, int[] array, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, () -> "Starting get operation for index: " + index);
+
+        FrameOfReferenceReader reader = new FrameOfReferenceReader(IntBuffer.wrap(array));
+
+        // Test if the index is out of bounds
+        if (index < 0 || index >= reader.size()) {
+            this.logger.log(LogLevel.WARNING, () -> "Index " + index + " is out of bounds.");
+            System.err.println("index out of bounds");
+            return -1;
+        }
+        int result = reader.get(index);
+
+        // Stop timetaking
+        if (timer != null) {
+            timer.stop("get");
+            timer.saveToJson("get", reader.size(), array.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "Get operation successful. Retrieved value: " + result);
+
+        return result;
+    }
+
+    /**
+     * Decodes the metadata of the compressed array once and returns a reader
+     * that can be reused for any number of lookups.
+     */
+    @Override
+    public PackedReader open(IntBuffer array) {
+        PackedReader reader = new FrameOfReferenceReader(array);
+        this.logger.log(LogLevel.DEBUG, () -> "Opened packed array with " + reader.size() + " elements.");
+        return reader;
+    }
+
+    /**
+     * Retrieves the values at several logical indices in one call.
+     * The metadata is decoded once, the values are written into the caller supplied output array.
+     */
+    @Override
+    public void getAll(int[] indices, int[] array, int[] out, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, () -> "Starting getAll operation for " + indices.length + " indices.");
+
+        PackedReader reader = new FrameOfReferenceReader(IntBuffer.wrap(array));
+
+        // Stop of Setup time taking
+        if (timer != null) timer.stop("Setup");
+
+        reader.getAll(indices, out);
+
+        // Stop timetaking
+        if (timer != null) {
+            timer.stop("getAll");
+            timer.saveToJson("getAll", reader.size(), array.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "GetAll operation successful. Retrieved values: " + indices.length);
+    }
+
+    /**
+     * Decompresses only the logical indices [from, to) of the compressed array
+     * into the caller supplied output array, starting at outOffset.
+     */
+    @Override
+    public void decompressRange(int[] array, int from, int to, int[] out, int outOffset, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, () -> "Starting decompressRange operation for [" + from + ", " + to + ").");
+
+        PackedReader reader = new FrameOfReferenceReader(IntBuffer.wrap(array));
+
+        // Stop of Setup time taking
+        if (timer != null) timer.stop("Setup");
+
+        reader.decompressRange(from, to, out, outOffset);
+
+        // Stop of timetaking
+        if (timer != null) {
+            timer.stop("DecompressingRange");
+            timer.saveToJson("DecompressRange", to - from, array.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "DecompressRange finished. Result size: " + (to - from));
+    }
+}
@@ -0,0 +1,103 @@
+package compressor.services;
+
+import compressor.models.BitPacker;
+import compressor.models.PackedReader;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Reader on an array packed by {@link FrameOfReferenceBP}. The directory gives the minimum,
+ * bit width and position of every block, so a lookup reads three integers of the packed array.
+ */
+final class FrameOfReferenceReader implements PackedReader {
+
+    private final IntBuffer words;
+    private final int size;
+    private final int blocks;
+    private final int dataStart;
+
+    FrameOfReferenceReader(IntBuffer packed) {
+        this.words = packed.slice();
+        this.size = words.limit() == 0 ? 0 : words.get(0);
+        this.blocks = FrameOfReferenceBP.blockCount(size);
+        // The directory has to fit before its length is used as an offset
+        BitPacker.checkPackedLength(words.limit(), size, size == 0 ? 0 : FrameOfReferenceBP.HEADER_SIZE + (long) FrameOfReferenceBP.DIRECTORY_ENTRY_SIZE * blocks);
+        this.dataStart = FrameOfReferenceBP.HEADER_SIZE + FrameOfReferenceBP.DIRECTORY_ENTRY_SIZE * blocks;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int get(int index) {
+        Objects.checkIndex(index, size);
+        int entry = FrameOfReferenceBP.HEADER_SIZE + FrameOfReferenceBP.DIRECTORY_ENTRY_SIZE * (index >>> FrameOfReferenceBP.BLOCK_SHIFT);
+        int min = words.get(entry);
+        int descriptor = words.get(entry + 1);
+        int width = descriptor & FrameOfReferenceBP.WIDTH_MASK;
+        if (width == 0) {
+            return min;
+        }
+        // Bit position of the value in the stream starting at bit 10 of the first data integer
+        long bit = 10 + ((long) (descriptor >>> FrameOfReferenceBP.OFFSET_SHIFT) << 7)
+                + (long) (index & (FrameOfReferenceBP.BLOCK_SIZE - 1)) * width;
+        int word = dataStart + (int) (bit >>> 5);
+        int shift = (int) bit & 31;
+        long value = (words.get(word) & 0xFFFFFFFFL) >>> shift;
+        if (shift + width > 32) {
+            value |= (words.get(word + 1) & 0xFFFFFFFFL) << (32 - shift);
+        }
+        return min + (int) (value & ((1L << width) - 1));
+    }
+
+    @Override
+    public void decompressRange(int from, int to, int[] out, int outOffset) {
+        Objects.checkFromToIndex(from, to, size);
+        Objects.checkFromIndexSize(outOffset, to - from, out.length);
+
+        // Full blocks inside an array backed range are unpacked by the spanning kernels
+        int firstBlock = (from + FrameOfReferenceBP.BLOCK_SIZE - 1) >>> FrameOfReferenceBP.BLOCK_SHIFT;
+        int lastBlock = to >>> FrameOfReferenceBP.BLOCK_SHIFT;
+        if (firstBlock >= lastBlock || !words.hasArray()) {
+            for (int i = from; i < to; i++) {
+                out[outOffset + i - from] = get(i);
+            }
+            return;
+        }
+        int blockStart = firstBlock << FrameOfReferenceBP.BLOCK_SHIFT;
+        int blockEnd = lastBlock << FrameOfReferenceBP.BLOCK_SHIFT;
+        for (int i = from; i < blockStart; i++) {
+            out[outOffset + i - from] = get(i);
+        }
+        for (int block = firstBlock; block < lastBlock; block++) {
+            unpackBlock(block, out, outOffset + (block << FrameOfReferenceBP.BLOCK_SHIFT) - from);
+        }
+        for (int i = blockEnd; i < to; i++) {
+            out[outOffset + i - from] = get(i);
+        }
+    }
+
+    /** Unpacks a full block of the array backed buffer and adds its minimum. */
+    private void unpackBlock(int block, int[] out, int outPos) {
+        int entry = FrameOfReferenceBP.HEADER_SIZE + FrameOfReferenceBP.DIRECTORY_ENTRY_SIZE * block;
+        int min = words.get(entry);
+        int descriptor = words.get(entry + 1);
+        int width = descriptor & FrameOfReferenceBP.WIDTH_MASK;
+        if (width == 0) {
+            Arrays.fill(out, outPos, outPos + FrameOfReferenceBP.BLOCK_SIZE, min);
+            return;
+        }
+        SpanningKernels.unpack(width, words.array(),
+                words.arrayOffset() + dataStart + ((descriptor >>> FrameOfReferenceBP.OFFSET_SHIFT) << 2),
+                out, outPos, FrameOfReferenceBP.BLOCK_SIZE / SpanningKernels.BLOCK_SIZE);
+        if (min != 0) {
+            for (int i = outPos; i < outPos + FrameOfReferenceBP.BLOCK_SIZE; i++) {
+                out[i] += min;
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package compressor.services;
+
+import compressor.logger.Logger;
+import compressor.models.BitPacker;
+import compressor.models.LongBitPacker;
+import compressor.models.PackerType;
+import compressor.timetaking.PerformanceTimer;
+import compressor.logger.LogLevel;
+
+import java.io.File;
+import java.util.Objects;
+
+/**
+ * Non-spanning strategy on long words: every word holds (64 / chunk size) values and no value
+ * crosses a word boundary, the remaining bits of a word stay unused. Value i is in word
+ * (i / values per word) after the header word.
+ */
+public class LongNonSpanningBP implements LongBitPacker {
+
+    /** Number of long words used by the metadata: chunk size and number of elements. */
+    static final int HEADER_SIZE = 1;
+
+    public PerformanceTimer timer = null;
+    private Logger logger;
+
+    /**
+     * Constructor for the Long Non-Spanning Bit Packer (BP).
+     * Initializes the logger and conditionally sets up the performance timer.
+     * @param filePath File path for performance logging (null if not needed).
+     * @param log The Logger instance (Dependency Injection).
+     */
+    public LongNonSpanningBP(File filePath, Logger log) {
+        this.logger = log;
+        // Initialization of timer
+        if (PerformanceTimer.isTimed(filePath)) {
+            this.timer = new PerformanceTimer(filePath, "LongNonSpanning");
+            this.logger.log(LogLevel.INFO, "PerformanceTimer initialized for LongNonSpanningBP.");
+        } else {
+            this.logger.log(LogLevel.DEBUG, "PerformanceTimer disabled (no filePath and no metrics).");
+        }
+    }
+
+    @Override
+    public PackerType getType() {
+        return PackerType.NONSPANNING;
+    }
+
+    // --- Core LongBitPacker Interface Methods ---
+
+    /**
+     * Compresses an array of longs with one chunk size for all values, each value stays within one word.
+     */
+    @Override
+    public long[] compress(long[] array, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, "Starting compress operation.");
+
+        if (array.length == 0) return new long[0];
+
+        int chunk_size = get_bits_needed(array);
+
+        // Take time of the bit-needed function
+        if (timer != null) timer.stop("BitNeeded");
+
+        int chunks_per_word = 64 / chunk_size;
+        long[] result = new long[BitPacker.checkPackedSize(HEADER_SIZE + ((long) array.length + chunks_per_word - 1) / chunks_per_word)];
+        result[0] = chunk_size | (long) array.length << SIZE_SHIFT;
+
+        // Take time of the setup phase
+        if (timer != null) timer.stop("Setup");
+        this.logger.log(LogLevel.DEBUG, () -> "Setup complete. Chunk size: " + chunk_size + ", new array size: " + result.length);
+
+        int array_cursor = 0;
+        for (int i = HEADER_SIZE; i < result.length; i++) {
+            long word = 0;
+            int end = Math.min(array.length, array_cursor + chunks_per_word);
+            for (int shift = 0; array_cursor < end; array_cursor++, shift += chunk_size) {
+                word |= array[array_cursor] << shift;
+            }
+            result[i] = word;
+        }
+
+        // Stop of timetaking of writing on the compressed array
+        if (timer != null) {
+            timer.stop("Compressing");
+            timer.saveToJson("Compress", array.length, result.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "Compression completed. Input size: " + array.length + ", Result size: " + result.length);
+
+        return result;
+    }
+
+    /**
+     * Decompresses a non-spanning packed array of longs.
+     */
+    @Override
+    public long[] decompress(long[] array, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, "Starting decompress operation.");
+
+        if (array.length == 0) return new long[0];
+
+        int chunk_size = (int) (array[0] & WIDTH_MASK);
+        int chunks_per_word = 64 / chunk_size;
+        long mask = LongBitPacker.mask(chunk_size);
+        long[] result = new long[size(array)];
+
+        // Stop of Setup time taking
+        if (timer != null) timer.stop("Setup");
+        this.logger.log(LogLevel.DEBUG, () -> "Decompression setup complete. Expected result size: " + result.length);
+
+        int result_cursor = 0;
+        for (int i = HEADER_SIZE; i < array.length; i++) {
+            long word = array[i];
+            int end = Math.min(result.length, result_cursor + chunks_per_word);
+            for (int shift = 0; result_cursor < end; result_cursor++, shift += chunk_size) {
+                result[result_cursor] = (word >>> shift) & mask;
+            }
+        }
+
+        // Stop of timetaking of writing on the decompressed array
+        if (timer != null) {
+            timer.stop("Decompressing");
+            timer.saveToJson("Decompress", result.length, array.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "Decompression finished. Result size: " + result.length);
+
+        return result;
+    }
+
+    /**
+     * Retrieves a single long directly from the packed array with one word read.
+     */
+    @Override
+    public long get(int index, long[] array, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, () -> "Starting get operation for index: " + index);
+
+        Objects.checkIndex(index, size(array));
+        int chunk_size = (int) (array[0] & WIDTH_MASK);
+        int chunks_per_word = 64 / chunk_size;
+        long result = (array[HEADER_SIZE + index / chunks_per_word] >>> ((index % chunks_per_word) * chunk_size))
+                & LongBitPacker.mask(chunk_size);
+
+        // Stop timetaking
+        if (timer != null) {
+            timer.stop("get");
+            timer.saveToJson("get", size(array), array.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "Get operation successful. Retrieved value: " + result);
+
+        return result;
+    }
+}
@@ -0,0 +1,218 @@
+package compressor.services;
+
+import compressor.logger.Logger;
+import compressor.models.BitPacker;
+import compressor.models.LongBitPacker;
+import compressor.models.PackerType;
+import compressor.timetaking.PerformanceTimer;
+import compressor.logger.LogLevel;
+
+import java.io.File;
+import java.util.Objects;
+
+/**
+ * Overflow strategy on long words: every value takes a field of (chunk size + 1) bits whose
+ * lowest bit is the overflow marker. Values wider than the chunk size are stored as full words in
+ * an overflow area after the data, their field holds the index into that area.
+ * <p>
+ * Layout: header word (chunk size and number of elements), number of overflow values (1 word),
+ * the fields packed like {@link LongSpanningBP}, then the overflow area in index order.
+ * Fields are at most 64 bits, so the chunk size is 1 to 63 and 64 bit values always overflow.
+ */
+public class LongOverflowBP implements LongBitPacker {
+
+    /** Number of long words used by the metadata: chunk size and number of elements, overflow count. */
+    static final int HEADER_SIZE = 2;
+    private static final int MAX_CHUNK_SIZE = 63;
+
+    public PerformanceTimer timer = null;
+    private Logger logger;
+
+    /**
+     * Constructor for the Long Overflow Bit Packer (BP).
+     * Initializes the logger and conditionally sets up the performance timer.
+     * @param filePath File path for performance logging (null if not needed).
+     * @param log The Logger instance (Dependency Injection).
+     */
+    public LongOverflowBP(File filePath, Logger log) {
+        this.logger = log;
+        // Initialization of timer
+        if (PerformanceTimer.isTimed(filePath)) {
+            this.timer = new PerformanceTimer(filePath, "LongOverflow");
+            this.logger.log(LogLevel.INFO, "PerformanceTimer initialized for LongOverflowBP.");
+        } else {
+            this.logger.log(LogLevel.DEBUG, "PerformanceTimer disabled (no filePath and no metrics).");
+        }
+    }
+
+    @Override
+    public PackerType getType() {
+        return PackerType.OVERFLOW;
+    }
+
+    // --- Core LongBitPacker Interface Methods ---
+
+    /**
+     * Compresses an array of longs using the Overflow strategy, the input array is only read.
+     */
+    @Override
+    public long[] compress(long[] array, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, "Starting compress operation.");
+
+        if (array.length == 0) return new long[0];
+
+        int chunk_size = get_ideal_chunksize(array);
+        long field_mask = LongBitPacker.mask(chunk_size);
+
+        // Take time of the IdealChunkSize calculation
+        if (timer != null) timer.stop("IdealChunkSize");
+        this.logger.log(LogLevel.DEBUG, () -> "Ideal chunk size determined: " + chunk_size);
+
+        int overflow_size = 0;
+        for (long value : array) {
+            if ((value & ~field_mask) != 0) overflow_size++;
+        }
+        int field_size = chunk_size + 1;
+        long data_words = ((long) field_size * array.length + 63) >>> 6;
+        int overflow_start = BitPacker.checkPackedSize(HEADER_SIZE + data_words);
+        long[] result = new long[BitPacker.checkPackedSize((long) overflow_start + overflow_size)];
+        result[0] = chunk_size | (long) array.length << SIZE_SHIFT;
+        result[1] = overflow_size;
+
+        // Take time of the setup phase
+        if (timer != null) timer.stop("Setup");
+        this.logger.log(LogLevel.DEBUG, () -> "Setup complete. New array size: " + result.length);
+
+        // Same accumulator as the spanning packer, the field is built from the marker and the value or index
+        int out = HEADER_SIZE;
+        long acc = 0;
+        int fill = 0;
+        int overflow_counter = 0;
+        for (long value : array) {
+            long field;
+            if ((value & ~field_mask) != 0) {
+                result[overflow_start + overflow_counter] = value;
+                field = (long) overflow_counter << 1 | 1;
+                overflow_counter++;
+            } else {
+                field = value << 1;
+            }
+            acc |= field << fill;
+            fill += field_size;
+            if (fill >= 64) {
+                result[out++] = acc;
+                fill -= 64;
+                acc = fill == 0 ? 0 : field >>> (field_size - fill);
+            }
+        }
+        if (fill > 0) {
+            result[out] = acc;
+        }
+
+        // Stop of timetaking of writing on the compressed array
+        if (timer != null) {
+            timer.stop("Compressing");
+            timer.saveToJson("Compress", array.length, result.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "Compression completed. Input size: " + array.length + ", Result size: " + result.length);
+
+        return result;
+    }
+
+    /**
+     * Decompresses an overflow packed array of longs.
+     */
+    @Override
+    public long[] decompress(long[] array, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, "Starting decompress operation.");
+
+        if (array.length == 0) return new long[0];
+
+        int field_size = (int) (array[0] & WIDTH_MASK) + 1;
+        int overflow_start = array.length - (int) array[1];
+        long[] result = new long[size(array)];
+
+        // Stop of Setup time taking
+        if (timer != null) timer.stop("Setup");
+        this.logger.log(LogLevel.DEBUG, () -> "Decompression setup complete. Expected result size: " + result.length);
+
+        // The fields are unpacked in one pass, then the markers are resolved in place
+        LongSpanningBP.unpack(array, HEADER_SIZE, field_size, result, result.length);
+        for (int i = 0; i < result.length; i++) {
+            long field = result[i];
+            result[i] = (field & 1) == 0 ? field >>> 1 : array[overflow_start + (int) (field >>> 1)];
+        }
+
+        // Stop of timetaking of writing on the decompressed array
+        if (timer != null) {
+            timer.stop("Decompressing");
+            timer.saveToJson("Decompress", result.length, array.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "Decompression finished. Result size: " + result.length);
+
+        return result;
+    }
+
+    /**
+     * Retrieves a single long, with one more word read when the value is in the overflow area.
+     */
+    @Override
+    public long get(int index, long[] array, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, () -> "Starting get operation for index: " + index);
+
+        Objects.checkIndex(index, size(array));
+        int field_size = (int) (array[0] & WIDTH_MASK) + 1;
+        long field = LongSpanningBP.readChunk(array, HEADER_SIZE, (long) field_size * index, field_size);
+        long result = (field & 1) == 0 ? field >>> 1 : array[array.length - (int) array[1] + (int) (field >>> 1)];
+
+        // Stop timetaking
+        if (timer != null) {
+            timer.stop("get");
+            timer.saveToJson("get", size(array), array.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "Get operation successful. Retrieved value: " + result);
+
+        return result;
+    }
+
+    // --- Helper Methods ---
+
+    /**
+     * Calculates the chunk size with the smallest compressed size, fields of (chunk size + 1) bits
+     * plus one word per overflow value. The chunk size must be able to hold the largest overflow index.
+     * @param array The array of longs.
+     * @return The chunk size (1 to 63).
+     */
+    public static int get_ideal_chunksize(long[] array) {
+        // value_distribution[b] counts the values of b bits (0 counts as 1 bit)
+        long[] value_distribution = new long[65];
+        for (long value : array) {
+            value_distribution[Math.max(1, 64 - Long.numberOfLeadingZeros(value))]++;
+        }
+        int best_chunk_size = MAX_CHUNK_SIZE;
+        long best_size = Long.MAX_VALUE;
+        long overflow_size = array.length;
+        for (int chunk_size = 1; chunk_size <= MAX_CHUNK_SIZE; chunk_size++) {
+            overflow_size -= value_distribution[chunk_size];
+            // The largest index (overflow size - 1) has to fit the chunk
+            if (overflow_size > 0 && 64 - Long.numberOfLeadingZeros(overflow_size - 1) > chunk_size) {
+                continue;
+            }
+            long size = ((long) (chunk_size + 1) * array.length + 63) / 64 + overflow_size;
+            if (size < best_size) {
+                best_size = size;
+                best_chunk_size = chunk_size;
+            }
+        }
+        return best_chunk_size;
+    }
+}
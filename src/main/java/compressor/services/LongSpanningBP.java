@@ -0,0 +1,204 @@
+package compressor.services;
+
+import compressor.logger.Logger;
+import compressor.models.BitPacker;
+import compressor.models.LongBitPacker;
+import compressor.models.PackerType;
+import compressor.timetaking.PerformanceTimer;
+import compressor.logger.LogLevel;
+
+import java.io.File;
+import java.util.Objects;
+
+/**
+ * Spanning strategy on long words: every value takes the same chunk size (1 to 64 bits) and
+ * values may span two words. Value i starts at bit (i * chunk size) of the data, which follows
+ * the header word.
+ */
+public class LongSpanningBP implements LongBitPacker {
+
+    /** Number of long words used by the metadata: chunk size and number of elements. */
+    static final int HEADER_SIZE = 1;
+
+    public PerformanceTimer timer = null;
+    private Logger logger;
+
+    /**
+     * Constructor for the Long Spanning Bit Packer (BP).
+     * Initializes the logger and conditionally sets up the performance timer.
+     * @param filePath File path for performance logging (null if not needed).
+     * @param log The Logger instance (Dependency Injection).
+     */
+    public LongSpanningBP(File filePath, Logger log) {
+        this.logger = log;
+        // Initialization of timer
+        if (PerformanceTimer.isTimed(filePath)) {
+            this.timer = new PerformanceTimer(filePath, "LongSpanning");
+            this.logger.log(LogLevel.INFO, "PerformanceTimer initialized for LongSpanningBP.");
+        } else {
+            this.logger.log(LogLevel.DEBUG, "PerformanceTimer disabled (no filePath and no metrics).");
+        }
+    }
+
+    @Override
+    public PackerType getType() {
+        return PackerType.SPANNING;
+    }
+
+    // --- Core LongBitPacker Interface Methods ---
+
+    /**
+     * Compresses an array of longs with one chunk size for all values, values span word boundaries.
+     */
+    @Override
+    public long[] compress(long[] array, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, "Starting compress operation.");
+
+        if (array.length == 0) return new long[0];
+
+        int chunk_size = get_bits_needed(array);
+
+        // Take time of the bit-needed function
+        if (timer != null) timer.stop("BitNeeded");
+
+        long[] result = new long[BitPacker.checkPackedSize(HEADER_SIZE + (((long) chunk_size * array.length + 63) >>> 6))];
+        result[0] = chunk_size | (long) array.length << SIZE_SHIFT;
+
+        // Take time of the setup phase
+        if (timer != null) timer.stop("Setup");
+        this.logger.log(LogLevel.DEBUG, () -> "Setup complete. Chunk size: " + chunk_size + ", new array size: " + result.length);
+
+        pack(array, chunk_size, result, HEADER_SIZE);
+
+        // Stop of timetaking of writing on the compressed array
+        if (timer != null) {
+            timer.stop("Compressing");
+            timer.saveToJson("Compress", array.length, result.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "Compression completed. Input size: " + array.length + ", Result size: " + result.length);
+
+        return result;
+    }
+
+    /**
+     * Decompresses a spanning packed array of longs.
+     */
+    @Override
+    public long[] decompress(long[] array, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, "Starting decompress operation.");
+
+        if (array.length == 0) return new long[0];
+
+        int chunk_size = (int) (array[0] & WIDTH_MASK);
+        long[] result = new long[size(array)];
+
+        // Stop of Setup time taking
+        if (timer != null) timer.stop("Setup");
+        this.logger.log(LogLevel.DEBUG, () -> "Decompression setup complete. Expected result size: " + result.length);
+
+        unpack(array, HEADER_SIZE, chunk_size, result, result.length);
+
+        // Stop of timetaking of writing on the decompressed array
+        if (timer != null) {
+            timer.stop("Decompressing");
+            timer.saveToJson("Decompress", result.length, array.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "Decompression finished. Result size: " + result.length);
+
+        return result;
+    }
+
+    /**
+     * Retrieves a single long directly from the packed array, with at most two word reads.
+     */
+    @Override
+    public long get(int index, long[] array, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, () -> "Starting get operation for index: " + index);
+
+        Objects.checkIndex(index, size(array));
+        int chunk_size = (int) (array[0] & WIDTH_MASK);
+        long result = readChunk(array, HEADER_SIZE, (long) chunk_size * index, chunk_size);
+
+        // Stop timetaking
+        if (timer != null) {
+            timer.stop("get");
+            timer.saveToJson("get", size(array), array.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "Get operation successful. Retrieved value: " + result);
+
+        return result;
+    }
+
+    // --- Helper Methods ---
+
+    /**
+     * Packs the values one after the other into the words, a 64 bit accumulator is flushed whenever it is full.
+     * The values must fit the chunk size.
+     */
+    static void pack(long[] values, int chunkSize, long[] words, int start) {
+        int out = start;
+        long acc = 0;
+        int fill = 0;
+        for (long value : values) {
+            acc |= value << fill;
+            fill += chunkSize;
+            if (fill >= 64) {
+                words[out++] = acc;
+                fill -= 64;
+                // The bits that did not fit the full word start the next one
+                acc = fill == 0 ? 0 : value >>> (chunkSize - fill);
+            }
+        }
+        if (fill > 0) {
+            words[out] = acc;
+        }
+    }
+
+    /**
+     * Unpacks count values written by {@link #pack}, each word is read once.
+     */
+    static void unpack(long[] words, int start, int chunkSize, long[] out, int count) {
+        long mask = LongBitPacker.mask(chunkSize);
+        int in = start;
+        long current = words[in];
+        int used = 0;
+        for (int i = 0; i < count; i++) {
+            long value = current >>> used;
+            used += chunkSize;
+            if (used >= 64) {
+                used -= 64;
+                in++;
+                if (in < words.length) {
+                    current = words[in];
+                }
+                // The upper bits of a spanning value are the lowest bits of the next word
+                if (used > 0) {
+                    value |= current << (chunkSize - used);
+                }
+            }
+            out[i] = value & mask;
+        }
+    }
+
+    /**
+     * Reads the chunk starting at a bit position of the data.
+     */
+    static long readChunk(long[] words, int start, long bit, int chunkSize) {
+        int word = start + (int) (bit >>> 6);
+        int shift = (int) bit & 63;
+        long value = words[word] >>> shift;
+        if (shift + chunkSize > 64) {
+            value |= words[word + 1] << (64 - shift);
+        }
+        return value & LongBitPacker.mask(chunkSize);
+    }
+}
@@ -2,10 +2,13 @@ package compressor.services;
 
 import compressor.logger.Logger;
 import compressor.models.BitPacker;
+import compressor.models.PackedReader;
+import compressor.models.PackerType;
 import compressor.timetaking.PerformanceTimer;
 import compressor.logger.LogLevel;
 
 import java.io.File;
+import java.nio.IntBuffer;
 
 public class NonSpanningBP implements BitPacker {
     public PerformanceTimer timer=null;
@@ -13,14 +16,20 @@ public class NonSpanningBP implements BitPacker {
     public NonSpanningBP(File filePath,Logger log) {
         logger = log;
         //Initialisation of timer
-        if(filePath!=null) {
+        if (PerformanceTimer.isTimed(filePath)) {
             this.timer = new PerformanceTimer(filePath,"NonSpanning");
             this.logger.log(LogLevel.INFO, "PerformanceTimer initialized for NonSpanningBP."); // NEU: Logger-Aufruf
         } else {
-            this.logger.log(LogLevel.DEBUG, "PerformanceTimer disabled (filePath is null)."); // NEU: Logger-Aufruf
+            this.logger.log(LogLevel.DEBUG, "PerformanceTimer disabled (no filePath and no metrics)."); // NEU: Logger-Aufruf
         }
     }
 
+    //GETTYPE function: Output: The strategy stored in binary containers and streams
+    @Override
+    public PackerType getType() {
+        return PackerType.NONSPANNING;
+    }
+
     //COMPRESS  function: Input: An Array of Integers Output: An Array of Integers
     //It compresses an array of integers to a smaller Array of Integers using bit manipulation
     public int[] compress(int[] array, String sizeLabel,String valueLabel) {
@@ -30,28 +39,27 @@ public class NonSpanningBP implements BitPacker {
 
         if(array.length == 0) return new int[0];
         //The sum of all bits needed to represent all Integers of the Array
-        int bits_needed = get_number_of_bits_needed(array);
+        long bits_needed = get_number_of_bits_needed(array);
 
         //Take time of the bit-needed function
         if(timer!=null)timer.stop("BitNeeded");
         this.logger.log(LogLevel.DEBUG, "BitNeeded calculation finished.");
 
         //The size of a chunk of data needed
-        int chunk_size = bits_needed / array.length;
-        if (chunk_size==0){chunk_size=1;}
+        int chunk_size = Math.max(1, (int) (bits_needed / array.length));
         //Number of how many chunks get in one Integer
         int chunks_per_integer = 32 / chunk_size;
         //Number of chunks needed for metadata
         int chunks_for_metadata=(int) Math.ceil((10.0/chunk_size));
         //SIze of the new array
-        int new_array_size = ((array.length+ chunks_for_metadata) % (chunks_per_integer) == 0) ? ((array.length + chunks_for_metadata) / (chunks_per_integer) ): ((array.length + chunks_for_metadata) / (chunks_per_integer) + 1);
+        int new_array_size = (int) (((long) array.length + chunks_for_metadata + chunks_per_integer - 1) / chunks_per_integer);
         int[] result = new int[new_array_size];
         //Number of chunks that will stay empty
-        int unused_chunks=(new_array_size*chunks_per_integer)-((int)(Math.ceil(10.0/chunk_size)))-array.length;
+        int unused_chunks=(int) (((long) new_array_size*chunks_per_integer)-((int)(Math.ceil(10.0/chunk_size)))-array.length);
 
         //Take time of the bit-needed function
         if(timer!=null)timer.stop("Setup");
-        this.logger.log(LogLevel.DEBUG, "Compression setup complete. Chunk size: " + chunk_size);
+        this.logger.log(LogLevel.DEBUG, () -> "Compression setup complete. Chunk size: " + chunk_size);
 
         //Part that writes the bits onto the new array
         int array_cursor = 0; //points to the current treated Integer of the array
@@ -63,8 +71,9 @@ public class NonSpanningBP implements BitPacker {
                     result[i] =insert_bits_in_result(0,bit_cursor,chunk_size,0,4);
                     result[i] =insert_bits_in_result(result[i],5,unused_chunks,0,4);
                     if(chunk_size<10){
-                        bit_cursor =(10%chunk_size==0)?chunk_size*(10/chunk_size)-1 : chunk_size*(10/chunk_size);
-                        j=(bit_cursor/chunk_size);
+                        //Jump to the last metadata chunk, the first value is written into the chunk after it
+                        bit_cursor =chunk_size*(chunks_for_metadata-1);
+                        j=chunks_for_metadata-1;
                     }
 
                 }
@@ -86,7 +95,7 @@ public class NonSpanningBP implements BitPacker {
             timer.stop("Compressing");
             timer.saveToJson("Compress",array.length,result.length, sizeLabel,valueLabel);
         }
-        this.logger.log(LogLevel.INFO, "Compression completed. Result size: " + result.length); // NEU: Logger-Aufruf
+        this.logger.log(LogLevel.INFO, () -> "Compression completed. Result size: " + result.length); // NEU: Logger-Aufruf
         return result;
     }
 
@@ -104,12 +113,12 @@ public class NonSpanningBP implements BitPacker {
         //Extraction of the number of chunks that will stay empty
         int unused_chunks =extractBits(array[0],5,9);
         //Array size of the Array which will be returned
-        int decompressed_array_size = ((array.length)*(32/chunk_size))-((int)Math.ceil(10.0/chunk_size))-unused_chunks;
+        int decompressed_array_size = (int) (((long) array.length*(32/chunk_size))-((int)Math.ceil(10.0/chunk_size))-unused_chunks);
         int[] result = new int[decompressed_array_size];
 
         //Stop of Setup time taking
-        timer.stop("Setup");
-        this.logger.log(LogLevel.DEBUG, "Decompression setup complete. Expected result size: " + decompressed_array_size);
+        if(timer!=null)timer.stop("Setup");
+        this.logger.log(LogLevel.DEBUG, () -> "Decompression setup complete. Expected result size: " + decompressed_array_size);
 
         int cursor_result=0;
         for (int i = 0; i < array.length; i++) {
@@ -138,7 +147,7 @@ public class NonSpanningBP implements BitPacker {
             timer.stop("Decompressing");
             timer.saveToJson("Decompress",result.length,array.length,  sizeLabel, valueLabel);
         }
-        this.logger.log(LogLevel.INFO, "Decompression finished. Result size: " + result.length);
+        this.logger.log(LogLevel.INFO, () -> "Decompression finished. Result size: " + result.length);
         return result;
     }
 
@@ -147,27 +156,28 @@ public class NonSpanningBP implements BitPacker {
     public int get(int index, int[] array, String sizeLabel,String valueLabel) {
         //Start of timetaking
         if(timer!=null)timer.start();
-        this.logger.log(LogLevel.DEBUG, "Starting get operation for index: " + index);
+        this.logger.log(LogLevel.DEBUG, () -> "Starting get operation for index: " + index);
 
         //Extraction of the size of a chunk of data needed
         int chunk_size =extractBits(array[0],0,4);
         //Extraction of the number of chunks that will stay empty
         int unused_chunks =extractBits(array[0],5,9);
         //Array size to be able to check if the index is out of bounds
-        int decompressed_array_size = ((array.length*32)/chunk_size)-((int)Math.ceil(10.0/chunk_size))-unused_chunks;
+        int decompressed_array_size = (int) (((long) array.length*(32/chunk_size))-((int)Math.ceil(10.0/chunk_size))-unused_chunks);
 
         //Test if the index is out of bounds
         if(index<0||index>=decompressed_array_size){
-            this.logger.log(LogLevel.WARNING, "Index " + index + " is out of bounds (Max: " + (decompressed_array_size - 1) + ")");
+            this.logger.log(LogLevel.WARNING, () -> "Index " + index + " is out of bounds (Max: " + (decompressed_array_size - 1) + ")");
             System.err.println("index out of bounds");
             return -1;
         }
-        index+=((int)Math.ceil(10.0/chunk_size));
+        //Position of the chunk, after the chunks of the metadata
+        int position=index+((int)Math.ceil(10.0/chunk_size));
         int chunks_per_integer = 32 / chunk_size;
         //Cursor on the Integer in the compressed Array
-        int array_idex=(index/(chunks_per_integer));
+        int array_idex=(position/(chunks_per_integer));
         //Cursor on the bit in the Integer
-        int cursor=(index%(chunks_per_integer))*chunk_size;
+        int cursor=(position%(chunks_per_integer))*chunk_size;
         if(32-cursor<chunk_size){cursor=0;}
         //Extraction of the value
         int result=extractBits (array[array_idex],cursor,cursor+chunk_size-1) ;
@@ -177,10 +187,62 @@ public class NonSpanningBP implements BitPacker {
             timer.stop("get");
             timer.saveToJson("get",decompressed_array_size,array.length, sizeLabel,valueLabel);
         }
-        this.logger.log(LogLevel.INFO, "Get operation successful. Retrieved value: " + result);
+        this.logger.log(LogLevel.INFO, () -> "Get operation successful. Retrieved value: " + result);
         return result;
 
     }
 
+    //OPEN function: Input: A compressed Array of Integers Output: A reusable reader
+    //Decodes the metadata once so that repeated lookups only do the bit extraction
+    public PackedReader open(IntBuffer array) {
+        PackedReader reader = new NonSpanningReader(array);
+        this.logger.log(LogLevel.DEBUG, () -> "Opened packed array with " + reader.size() + " elements.");
+        return reader;
+    }
+
+    //GETALL function: Input: An Array of indices, a compressed Array and an output Array
+    //Decodes the metadata once and extracts all requested values into the output Array
+    public void getAll(int[] indices, int[] array, int[] out, String sizeLabel, String valueLabel) {
+        //Start of timetaking
+        if(timer!=null)timer.start();
+        this.logger.log(LogLevel.DEBUG, () -> "Starting getAll operation for " + indices.length + " indices.");
+
+        PackedReader reader = new NonSpanningReader(IntBuffer.wrap(array));
+
+        //Stop of Setup time taking
+        if(timer!=null)timer.stop("Setup");
+
+        reader.getAll(indices, out);
+
+        //Stop timetaking
+        if(timer!=null){
+            timer.stop("getAll");
+            timer.saveToJson("getAll",reader.size(),array.length, sizeLabel,valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "GetAll operation successful. Retrieved values: " + indices.length);
+    }
+
+    //DECOMPRESSRANGE function: Input: A compressed Array, a range [from, to) and an output Array
+    //Decompresses only the requested range into the output Array, starting at outOffset
+    public void decompressRange(int[] array, int from, int to, int[] out, int outOffset, String sizeLabel, String valueLabel) {
+        //Start of timetaking
+        if(timer!=null)timer.start();
+        this.logger.log(LogLevel.DEBUG, () -> "Starting decompressRange operation for [" + from + ", " + to + ").");
+
+        PackedReader reader = new NonSpanningReader(IntBuffer.wrap(array));
+
+        //Stop of Setup time taking
+        if(timer!=null)timer.stop("Setup");
+
+        reader.decompressRange(from, to, out, outOffset);
+
+        //Stop timetaking
+        if(timer!=null){
+            timer.stop("DecompressingRange");
+            timer.saveToJson("DecompressRange",to-from,array.length, sizeLabel,valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "DecompressRange finished. Result size: " + (to - from));
+    }
+
 
 }
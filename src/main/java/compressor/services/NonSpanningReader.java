@@ -0,0 +1,91 @@
+package compressor.services;
+
+import compressor.models.PackedReader;
+
+import java.nio.IntBuffer;
+import java.util.Objects;
+
+/**
+ * Reader on a non-spanning-packed array. The header is decoded once in the constructor and
+ * the division by the number of chunks per integer is replaced by a precomputed reciprocal,
+ * so a lookup only needs a multiplication, shifts and a mask.
+ */
+final class NonSpanningReader implements PackedReader {
+
+    private final IntBuffer words;
+    private final int chunkSize;
+    private final int mask;
+    private final int chunksPerInteger;
+    private final int chunksForMetadata;
+    private final long reciprocal;
+    private final int reciprocalShift;
+    private final int size;
+
+    NonSpanningReader(IntBuffer packed) {
+        // Absolute indices of the reader start at the current position of the buffer
+        this.words = packed.slice();
+        if (words.limit() == 0) {
+            this.chunkSize = 1;
+            this.mask = 1;
+            this.chunksPerInteger = 32;
+            this.chunksForMetadata = 10;
+            this.reciprocal = 1;
+            this.reciprocalShift = 0;
+            this.size = 0;
+            return;
+        }
+        // Metadata: chunk size (bits 0-4) and number of unused chunks (bits 5-9)
+        this.chunkSize = words.get(0) & 0x1F;
+        int unusedChunks = (words.get(0) >>> 5) & 0x1F;
+        if (chunkSize == 0) {
+            throw new IllegalArgumentException("Invalid chunk size in packed array: 0");
+        }
+        this.mask = (int) ((1L << chunkSize) - 1);
+        this.chunksPerInteger = 32 / chunkSize;
+        this.chunksForMetadata = (10 + chunkSize - 1) / chunkSize;
+        this.size = (int) ((long) words.limit() * chunksPerInteger - chunksForMetadata - unusedChunks);
+
+        // slot / chunksPerInteger == (slot * reciprocal) >>> reciprocalShift for every non-negative int slot
+        int log2 = 32 - Integer.numberOfLeadingZeros(chunksPerInteger - 1);
+        this.reciprocalShift = 31 + log2;
+        this.reciprocal = ((1L << reciprocalShift) + chunksPerInteger - 1) / chunksPerInteger;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int get(int index) {
+        Objects.checkIndex(index, size);
+        // The first chunks of the first integer hold the metadata
+        int slot = index + chunksForMetadata;
+        int word = (int) ((slot * reciprocal) >>> reciprocalShift);
+        int shift = (slot - word * chunksPerInteger) * chunkSize;
+        return (words.get(word) >>> shift) & mask;
+    }
+
+    @Override
+    public void decompressRange(int from, int to, int[] out, int outOffset) {
+        Objects.checkFromToIndex(from, to, size);
+        Objects.checkFromIndexSize(outOffset, to - from, out.length);
+        if (from == to) return;
+
+        // Seek to the integer and chunk of the first element
+        int slot = from + chunksForMetadata;
+        int word = (int) ((slot * reciprocal) >>> reciprocalShift);
+        int chunk = slot - word * chunksPerInteger;
+        int current = words.get(word) >>> (chunk * chunkSize);
+
+        for (int i = outOffset, end = outOffset + (to - from); i < end; i++) {
+            if (chunk == chunksPerInteger) {
+                current = words.get(++word);
+                chunk = 0;
+            }
+            out[i] = current & mask;
+            current >>>= chunkSize;
+            chunk++;
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package compressor.services;
+
+import compressor.logger.LogLevel;
+import compressor.logger.Logger;
+import compressor.models.BitPacker;
+import compressor.models.BitPackerFactory;
+import compressor.models.IntSource;
+import compressor.models.PackedReader;
+import compressor.models.PackerType;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Packed integers held outside of the Java heap, with long indices.
+ * <p>
+ * Values are packed in blocks like by {@link StreamingCompressor} and the frames (element count,
+ * word count, packed words) are stored in direct buffers, or in read-only memory mapped regions of
+ * a stream file. Only the block being filled lives on the heap. Lookups open a reader per frame on
+ * the off-heap words, so nothing is copied back, and the total size is not limited by the
+ * 2^31 elements of a Java array.
+ * <p>
+ * Every block holds blockSize values except the last one, so the frame of an index is found by a division.
+ */
+public final class OffHeapPackedArray {
+
+    // Direct regions grow from 64 KB to 64 MB, a frame larger than that gets a region of its own
+    private static final int MIN_REGION_BYTES = 1 << 16;
+    private static final int MAX_REGION_BYTES = 1 << 26;
+
+    private final BitPacker bitPacker;
+    private final int blockSize;
+    private final Logger logger;
+
+    // Regions in stream order, the position of each region is the number of bytes used
+    private final List<ByteBuffer> regions = new ArrayList<>();
+    private final List<PackedReader> frames = new ArrayList<>();
+    private ByteBuffer current; // Direct region receiving the next frames
+    private long packedCount; // Number of values in the frames
+    private boolean partialFrame; // The last frame holds less than blockSize values
+
+    // Values of the block being filled, packed once the block is full
+    private final int[] pending;
+    private int pendingCount;
+
+    /**
+     * Creates an empty off-heap array.
+     * @param bitPacker The packer of each block.
+     * @param blockSize The number of elements per block.
+     * @param logger The logger.
+     */
+    public OffHeapPackedArray(BitPacker bitPacker, int blockSize, Logger logger) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+        }
+        this.bitPacker = bitPacker;
+        this.blockSize = blockSize;
+        this.logger = logger;
+        this.pending = new int[blockSize];
+    }
+
+    /**
+     * Maps a stream file written by {@link StreamingCompressor} or {@link #writeTo} read-only.
+     * The frames are read in place from the mapped regions, the file can be larger than the heap.
+     * @param file The stream file.
+     * @param logger The logger.
+     * @return The off-heap array on the mapped file.
+     * @throws IOException If the file cannot be read or is not a valid stream.
+     */
+    public static OffHeapPackedArray map(File file, Logger logger) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < StreamingCompressor.HEADER_BYTES) {
+                throw new IOException("Input too small for a compressed stream");
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, StreamingCompressor.HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getInt(0) != StreamingCompressor.MAGIC) {
+                throw new IOException("Not a compressed stream (wrong magic number)");
+            }
+            if (header.getInt(4) != StreamingCompressor.VERSION) {
+                throw new IOException("Unsupported compressed stream version " + header.getInt(4));
+            }
+            PackerType type = PackerType.fromId(header.getInt(8));
+            BitPacker packer = BitPackerFactory.createBitPacker(type.getName(), null, logger);
+            OffHeapPackedArray array = new OffHeapPackedArray(packer, header.getInt(12), logger);
+
+            // Regions of at most 2 GB, each ends after the last frame that fits completely
+            long position = StreamingCompressor.HEADER_BYTES;
+            while (position < fileSize) {
+                int length = (int) Math.min(fileSize - position, Integer.MAX_VALUE);
+                ByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position, length).order(ByteOrder.LITTLE_ENDIAN);
+                int used = 0;
+                while (length - used >= StreamingCompressor.FRAME_HEADER_BYTES) {
+                    int count = region.getInt(used);
+                    int wordCount = region.getInt(used + 4);
+                    if (count <= 0 || count > array.blockSize || wordCount <= 0 || array.partialFrame) {
+                        throw new IOException("Corrupted frame header in compressed stream");
+                    }
+                    long end = used + StreamingCompressor.FRAME_HEADER_BYTES + 4L * wordCount;
+                    if (end > length) {
+                        break;
+                    }
+                    try {
+                        array.addFrame(region, used, count, wordCount);
+                    } catch (IllegalStateException e) {
+                        throw new IOException("Corrupted frame in compressed stream: " + e.getMessage());
+                    }
+                    used = (int) end;
+                }
+                if (used == 0 || (used < length && position + length == fileSize)) {
+                    throw new IOException("Compressed stream is truncated");
+                }
+                array.regions.add(region.position(used));
+                position += used;
+            }
+            logger.log(LogLevel.DEBUG, () -> "Mapped " + array.size() + " integers in " + array.frames.size() + " blocks of " + type.getName() + ".");
+            return array;
+        }
+    }
+
+    /**
+     * Appends values, every full block is packed into off-heap memory.
+     * @param values The values to append.
+     * @param offset The position of the first value to append.
+     * @param length The number of values to append.
+     * @throws IllegalStateException If the array ends with a partial block (mapped from a file).
+     */
+    public void append(int[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        checkAppendable();
+        while (length > 0) {
+            int n = Math.min(length, blockSize - pendingCount);
+            System.arraycopy(values, offset, pending, pendingCount, n);
+            pendingCount += n;
+            offset += n;
+            length -= n;
+            if (pendingCount == blockSize) {
+                packPending();
+            }
+        }
+    }
+
+    /**
+     * Appends all values of a source, only one block is held on the heap.
+     * @param source The integers to append.
+     * @return The number of integers appended.
+     * @throws IOException If the source cannot be read.
+     * @throws IllegalStateException If the array ends with a partial block (mapped from a file).
+     */
+    public long append(IntSource source) throws IOException {
+        checkAppendable();
+        long total = 0;
+        int read;
+        while ((read = source.read(pending, pendingCount, blockSize - pendingCount)) >= 0) {
+            pendingCount += read;
+            total += read;
+            if (pendingCount == blockSize) {
+                packPending();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of values, packed or pending.
+     * @return The number of values.
+     */
+    public long size() {
+        return packedCount + pendingCount;
+    }
+
+    /**
+     * Gets the number of elements per block.
+     * @return The block size.
+     */
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Gets the off-heap memory taken by the frames (frame headers included).
+     * @return The number of bytes used in the regions.
+     */
+    public long packedBytes() {
+        long bytes = 0;
+        for (ByteBuffer region : regions) {
+            bytes += region.position();
+        }
+        return bytes;
+    }
+
+    /**
+     * Extracts the value at an index.
+     * @param index The index of the value (0 to size() - 1).
+     * @return The value at the index.
+     * @throws IndexOutOfBoundsException If the index is negative or not smaller than {@link #size()}.
+     */
+    public int get(long index) {
+        Objects.checkIndex(index, size());
+        if (index >= packedCount) {
+            return pending[(int) (index - packedCount)];
+        }
+        return frames.get((int) (index / blockSize)).get((int) (index % blockSize));
+    }
+
+    /**
+     * Decompresses the values [from, to) into a caller supplied buffer, frame by frame.
+     * @param from The first index to decompress (inclusive).
+     * @param to The last index to decompress (exclusive).
+     * @param out The buffer receiving the values.
+     * @param outOffset The position in the buffer where the value at index from is written.
+     * @throws IndexOutOfBoundsException If the range is not within [0, size()] or does not fit into the buffer.
+     */
+    public void decompressRange(long from, long to, int[] out, int outOffset) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromIndexSize(outOffset, to - from, out.length);
+        while (from < to && from < packedCount) {
+            int frame = (int) (from / blockSize);
+            long frameStart = (long) frame * blockSize;
+            int end = (int) (Math.min(to, frameStart + frames.get(frame).size()) - frameStart);
+            int start = (int) (from - frameStart);
+            frames.get(frame).decompressRange(start, end, out, outOffset);
+            outOffset += end - start;
+            from = frameStart + end;
+        }
+        if (from < to) {
+            System.arraycopy(pending, (int) (from - packedCount), out, outOffset, (int) (to - from));
+        }
+    }
+
+    /**
+     * Writes all values in the stream format of {@link StreamingCompressor}, pending values as the last frame.
+     * The frames are written straight from the off-heap regions.
+     * @param out The channel receiving the stream.
+     * @throws IOException If the output cannot be written.
+     */
+    public void writeTo(WritableByteChannel out) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(StreamingCompressor.HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(StreamingCompressor.MAGIC).putInt(StreamingCompressor.VERSION)
+                .putInt(bitPacker.getType().getId()).putInt(blockSize).flip();
+        writeFully(out, header);
+        for (ByteBuffer region : regions) {
+            writeFully(out, region.duplicate().flip());
+        }
+        if (pendingCount > 0) {
+            int[] packed = bitPacker.compress(Arrays.copyOf(pending, pendingCount), "offheap", "offheap");
+            ByteBuffer frame = ByteBuffer.allocate(StreamingCompressor.FRAME_HEADER_BYTES + 4 * packed.length).order(ByteOrder.LITTLE_ENDIAN);
+            frame.putInt(pendingCount).putInt(packed.length);
+            frame.asIntBuffer().put(packed);
+            writeFully(out, frame.clear());
+        }
+    }
+
+    private void checkAppendable() {
+        if (partialFrame) {
+            throw new IllegalStateException("Cannot append after a partial block");
+        }
+    }
+
+    /** Packs the full pending block into the current direct region, a new region is started if it does not fit. */
+    private void packPending() {
+        int[] packed = bitPacker.compress(pending, "offheap", "offheap");
+        int bytes = StreamingCompressor.FRAME_HEADER_BYTES + 4 * packed.length;
+        if (current == null || current.remaining() < bytes) {
+            int capacity = Math.max(bytes, current == null ? MIN_REGION_BYTES : Math.min(MAX_REGION_BYTES, 2 * current.capacity()));
+            current = ByteBuffer.allocateDirect(capacity).order(ByteOrder.LITTLE_ENDIAN);
+            regions.add(current);
+            this.logger.log(LogLevel.DEBUG, () -> "Allocated off-heap region of " + capacity + " bytes.");
+        }
+        int start = current.position();
+        current.putInt(blockSize).putInt(packed.length);
+        current.asIntBuffer().put(packed);
+        current.position(start + bytes);
+        addFrame(current, start, blockSize, packed.length);
+        pendingCount = 0;
+    }
+
+    /** Opens a reader on the words of a frame in place. */
+    private void addFrame(ByteBuffer region, int frameStart, int count, int wordCount) {
+        IntBuffer words = region.slice(frameStart + StreamingCompressor.FRAME_HEADER_BYTES, 4 * wordCount)
+                .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        PackedReader reader = bitPacker.open(words);
+        if (reader.size() != count) {
+            throw new IllegalStateException("Frame holds " + reader.size() + " values instead of " + count);
+        }
+        frames.add(reader);
+        packedCount += count;
+        partialFrame = count < blockSize;
+    }
+
+    private static void writeFully(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
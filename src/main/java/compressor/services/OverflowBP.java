@@ -2,11 +2,14 @@ package compressor.services;
 
 import compressor.logger.Logger;
 import compressor.models.BitPacker;
+import compressor.models.PackedReader;
+import compressor.models.PackerType;
 import compressor.timetaking.PerformanceTimer;
 import compressor.logger.LogLevel; // Assuming LogLevel is available
 import org.javatuples.Triplet; // Assuming you are using the javatuples library
 
 import java.io.File;
+import java.nio.IntBuffer;
 
 public class OverflowBP implements BitPacker {
 
@@ -22,19 +25,25 @@ public class OverflowBP implements BitPacker {
     public OverflowBP(File filePath, Logger log) {
         this.logger = log;
         // Initialization of timer
-        if (filePath != null) {
+        if (PerformanceTimer.isTimed(filePath)) {
             this.timer = new PerformanceTimer(filePath, "Overflow");
             this.logger.log(LogLevel.INFO, "PerformanceTimer initialized for OverflowBP.");
         } else {
-            this.logger.log(LogLevel.DEBUG, "PerformanceTimer disabled (filePath is null).");
+            this.logger.log(LogLevel.DEBUG, "PerformanceTimer disabled (no filePath and no metrics).");
         }
     }
 
+    @Override
+    public PackerType getType() {
+        return PackerType.OVERFLOW;
+    }
+
     // --- Core BitPacker Interface Methods ---
 
     /**
      * Compresses an array of integers using the Overflow strategy.
      * This strategy reserves a separate area for large 'overflow' values.
+     * The input array is only read, overflow indices are computed while writing.
      */
     @Override
     public int[] compress(int[] array, String sizeLabel, String valueLabel) {
@@ -48,66 +57,55 @@ public class OverflowBP implements BitPacker {
         if (array.length == 0) return new int[0];
 
         // Determine the optimal chunk size and associated metadata
-        Triplet<Integer, Integer, Integer> triplet = get_ideal_chunksize(array);
+        Triplet<Integer, Long, Integer> triplet = get_ideal_chunksize(array);
 
         // Take time of the bit-needed function (IdealChunkSize calculation)
         if (timer != null) {
             timer.stop("IdealChunkSize");
         }
-        this.logger.log(LogLevel.DEBUG, "Ideal chunk size determined: " + triplet.getValue0());
+        this.logger.log(LogLevel.DEBUG, () -> "Ideal chunk size determined: " + triplet.getValue0());
 
         // The size of a chunk of data needed
         int chunk_size = triplet.getValue0();
         // Size of the Overflow space (number of overflowed items)
         int overflow_size = triplet.getValue2();
 
-        // Encode overflow size for metadata storage (Elias Gamma)
-        String encoded_overflow_size = encodeEliasGamma(overflow_size + 1);
+        // Length of the overflow size in the metadata (Elias Gamma)
+        int encoded_overflow_length = EliasCodec.gammaLength(overflow_size + 1);
 
         // Calculate the size of the new compressed array (in bits, then converted to array size)
-        int new_array_size = (triplet.getValue1()) / 32 ;
+        int new_array_size = BitPacker.checkPackedSize(triplet.getValue1() / 32);
 
         // Number of unused bits at the end of the compressed array (before the overflow area)
-        int unused_bits = 32 - ((((chunk_size + 1) * array.length) + 10 + encoded_overflow_size.length()) % 32);
+        int unused_bits = 32 - (int) ((((long) (chunk_size + 1) * array.length) + 10 + encoded_overflow_length) % 32);
         int[] result = new int[new_array_size];
 
         // Take time of the setup phase
         if (timer != null) {
             timer.stop("Setup");
         }
-        this.logger.log(LogLevel.DEBUG, "Setup complete. New array size: " + new_array_size);
+        this.logger.log(LogLevel.DEBUG, () -> "Setup complete. New array size: " + new_array_size);
+
+        // Write chunk_size (bits 0-4) and unused_bits (bits 5-9)
+        result[0] = insert_bits_in_result(0, 0, chunk_size, 0, 4);
+        result[0] = insert_bits_in_result(result[0], 5, unused_bits, 0, 4);
+
+        // Write the encoded overflow size (Elias Gamma), it may span several integers
+        long data_start = EliasCodec.writeGamma(result, 10, overflow_size + 1);
 
-        int result_cursor = 0; // Points to the current integer in the result array
-        int bit_cursor = 0; // Points to the current bit in the result integer
+        int result_cursor = (int) (data_start >>> 5); // Points to the current integer in the result array
+        int bit_cursor = (int) (data_start & 31); // Points to the current bit in the result integer
         int overflow_counter = 0;
 
 
         // Loop that writes the bits onto the new array
         for (int i = 0; i < array.length; i++) {
 
-            // Writing the metadata (chunk size, unused_bits, and encoded overflow size) into the first integer
-            if (i == 0) {
-                // Write chunk_size (bits 0-4) and unused_bits (bits 5-9)
-                result[result_cursor] = insert_bits_in_result(0, 0, chunk_size, 0, 4);
-                result[result_cursor] = insert_bits_in_result(result[result_cursor], 5, unused_bits, 0, 4);
-
-                // Write the encoded overflow size (Elias Gamma)
-                int overflow_value = Integer.parseInt(encoded_overflow_size, 2);
-                int numBitsToInsert = encoded_overflow_size.length();
-
-                if (numBitsToInsert > 22) { // Logic for writing overflow size that spans two integers
-                    result[result_cursor] = insert_bits_in_result(result[result_cursor], 10, overflow_value, 0, 21);
-                    result_cursor++;
-                    result[result_cursor] = insert_bits_in_result(0, 0, overflow_value, 22, numBitsToInsert);
-                    bit_cursor = numBitsToInsert - 22;
-                } else { // Logic for writing overflow size within the first integer
-                    result[result_cursor] = insert_bits_in_result(result[result_cursor], 10, overflow_value, 0, numBitsToInsert);
-                    bit_cursor = 10 + numBitsToInsert;
-                }
-            }
+            // The value written into the main data stream, the input array itself is never modified
+            int value = array[i];
 
             // Check if the current value is an overflow value
-            if (chunk_size < (32 - Integer.numberOfLeadingZeros(array[i]))) {
+            if (chunk_size < (32 - Integer.numberOfLeadingZeros(value))) {
                 // Case: Overflow value -> Write '1' marker bit, store value in overflow area
                 result[result_cursor] |= 1 << bit_cursor; // Set marker bit to 1
                 bit_cursor++;
@@ -117,10 +115,10 @@ public class OverflowBP implements BitPacker {
                 }
 
                 // Store original value in the overflow section (from the end of the result array)
-                result[result.length - overflow_counter - 1] = array[i];
+                result[result.length - overflow_counter - 1] = value;
 
                 // Store the index of the overflowed value in the main data stream
-                array[i] = overflow_counter;
+                value = overflow_counter;
                 overflow_counter++;
             } else {
                 // Case: Normal value -> Write '0' marker bit
@@ -135,20 +133,20 @@ public class OverflowBP implements BitPacker {
             // Write the current integer (either the original value or the overflow index), handling spanning
             if (bit_cursor + chunk_size > 32) {
                 // Spanning across two integers
-                result[result_cursor] = insert_bits_in_result(result[result_cursor], bit_cursor, array[i], 0, 31 - bit_cursor);
+                result[result_cursor] = insert_bits_in_result(result[result_cursor], bit_cursor, value, 0, 31 - bit_cursor);
                 result_cursor++;
-                result[result_cursor] = insert_bits_in_result(0, 0, array[i], 32 - bit_cursor, chunk_size);
+                result[result_cursor] = insert_bits_in_result(0, 0, value, 32 - bit_cursor, chunk_size);
                 bit_cursor = chunk_size - (32 - bit_cursor);
 
             } else if (32 - bit_cursor == chunk_size) {
                 // Fills the rest of the current integer exactly
-                result[result_cursor] |= array[i] << bit_cursor;
+                result[result_cursor] |= value << bit_cursor;
                 bit_cursor = 0;
                 result_cursor++;
 
             } else {
                 // Fits entirely within the current integer
-                result[result_cursor] |= array[i] << bit_cursor;
+                result[result_cursor] |= value << bit_cursor;
                 bit_cursor += chunk_size;
             }
 
@@ -159,7 +157,7 @@ public class OverflowBP implements BitPacker {
             timer.stop("Compressing");
             timer.saveToJson("Compress", array.length, result.length, sizeLabel, valueLabel);
         }
-        this.logger.log(LogLevel.INFO, "Compression completed. Input size: " + array.length + ", Result size: " + result.length);
+        this.logger.log(LogLevel.INFO, () -> "Compression completed. Input size: " + array.length + ", Result size: " + result.length);
 
         return result;
     }
@@ -184,28 +182,22 @@ public class OverflowBP implements BitPacker {
         int unused_bits = extractBits(array[0], 5, 9);
 
         // Decode Elias Gamma to get overflow size
-        String overflow_string = decodeEliasGamma(array);
-        int overflow_size = Integer.parseInt(overflow_string, 2) - 1;
-        int overflow_encoded_length = (overflow_string.length() - 1) * 2 + 1;
+        int overflow_size = EliasCodec.readGamma(array, 10) - 1;
+        int overflow_encoded_length = EliasCodec.gammaLength(overflow_size + 1);
 
         // Calculate the original array length
-        int array_length = ((((array.length - overflow_size) * 32) - (10 + unused_bits + overflow_encoded_length)) / (chunk_size + 1));
+        int array_length = (int) ((((long) (array.length - overflow_size) * 32) - (10 + unused_bits + overflow_encoded_length)) / (chunk_size + 1));
         int[] result = new int[array_length];
 
         // Stop of Setup time taking
         if (timer != null) { // CRITICAL FIX: Ensure timer is checked before stopping
             timer.stop("Setup");
         }
-        this.logger.log(LogLevel.DEBUG, "Decompression setup complete. Expected result size: " + array_length);
-
-        int cursor_array = 0;
+        this.logger.log(LogLevel.DEBUG, () -> "Decompression setup complete. Expected result size: " + array_length);
 
         // Calculate starting bit position after metadata
-        int bit_cursor = 10 + ((32 - Integer.numberOfLeadingZeros(overflow_size + 1)) - 1) * 2 + 1;
-        if (bit_cursor >= 32) {
-            bit_cursor = bit_cursor % 32;
-            cursor_array++;
-        }
+        int cursor_array = (10 + overflow_encoded_length) / 32;
+        int bit_cursor = (10 + overflow_encoded_length) % 32;
 
         for (int i = 0; i < array_length; i++) {
 
@@ -277,7 +269,7 @@ public class OverflowBP implements BitPacker {
             timer.stop("Decompressing");
             timer.saveToJson("Decompress", result.length, array.length, sizeLabel, valueLabel);
         }
-        this.logger.log(LogLevel.INFO, "Decompression finished. Result size: " + result.length);
+        this.logger.log(LogLevel.INFO, () -> "Decompression finished. Result size: " + result.length);
 
         return result;
     }
@@ -292,7 +284,7 @@ public class OverflowBP implements BitPacker {
         if (timer != null) {
             timer.start();
         }
-        this.logger.log(LogLevel.DEBUG, "Starting get operation for index: " + index);
+        this.logger.log(LogLevel.DEBUG, () -> "Starting get operation for index: " + index);
 
         if (array.length == 0) return 0;
 
@@ -301,23 +293,22 @@ public class OverflowBP implements BitPacker {
         int unused_bits = extractBits(array[0], 5, 9);
 
         // Decode Elias Gamma to get overflow size
-        String overflow_string = decodeEliasGamma(array);
-        int overflow_size = Integer.parseInt(overflow_string, 2) - 1;
+        int overflow_size = EliasCodec.readGamma(array, 10) - 1;
 
         // Calculate the original array length for bounds check
-        int array_length = ((((array.length - overflow_size) * 32) - 10 - unused_bits) / chunk_size);
+        int array_length = (int) ((((long) (array.length - overflow_size) * 32) - (10 + unused_bits + EliasCodec.gammaLength(overflow_size + 1))) / (chunk_size + 1));
 
         // Test if the index is out of bounds
         if (index < 0 || index >= array_length) {
-            this.logger.log(LogLevel.WARNING, "Index " + index + " is out of bounds (Max: " + (array_length - 1) + ")");
+            this.logger.log(LogLevel.WARNING, () -> "Index " + index + " is out of bounds (Max: " + (array_length - 1) + ")");
             System.err.println("index out of bounds");
             return -1;
         }
 
         // Calculate bit position of the required chunk
-        int bit_cursor = (10 + (31 - Integer.numberOfLeadingZeros(overflow_size + 1)) * 2 + 1) + (chunk_size + 1) * index;
-        int cursor_array = bit_cursor / 32;
-        bit_cursor = bit_cursor % 32;
+        long bit_position = 10 + EliasCodec.gammaLength(overflow_size + 1) + (long) (chunk_size + 1) * index;
+        int cursor_array = (int) (bit_position >>> 5);
+        int bit_cursor = (int) (bit_position & 31);
         int result;
 
         // Read marker bit
@@ -326,9 +317,9 @@ public class OverflowBP implements BitPacker {
             bit_cursor++;
             // Extraction of the Integer value, handling spanning
             if (32 - bit_cursor < chunk_size) {
-                result = insert_bits_in_result(0, 0, array[cursor_array], bit_cursor, bit_cursor + 32 - bit_cursor);
+                int low = insert_bits_in_result(0, 0, array[cursor_array], bit_cursor, bit_cursor + 32 - bit_cursor);
                 cursor_array++;
-                result = insert_bits_in_result(result, 32 - bit_cursor, array[cursor_array], 0, chunk_size - (33 - bit_cursor));
+                result = insert_bits_in_result(low, 32 - bit_cursor, array[cursor_array], 0, chunk_size - (33 - bit_cursor));
             } else if (32 - bit_cursor == 0) {
                 bit_cursor = 0;
                 cursor_array++;
@@ -362,17 +353,80 @@ public class OverflowBP implements BitPacker {
             timer.stop("get");
             timer.saveToJson("get", array_length, array.length, sizeLabel, valueLabel);
         }
-        this.logger.log(LogLevel.INFO, "Get operation successful. Retrieved value: " + result);
+        this.logger.log(LogLevel.INFO, () -> "Get operation successful. Retrieved value: " + result);
 
         return result;
     }
 
+    /**
+     * Decodes the metadata of the compressed array once and returns a reader
+     * that can be reused for any number of lookups.
+     */
+    @Override
+    public PackedReader open(IntBuffer array) {
+        PackedReader reader = new OverflowReader(array);
+        this.logger.log(LogLevel.DEBUG, () -> "Opened packed array with " + reader.size() + " elements.");
+        return reader;
+    }
+
+    /**
+     * Retrieves the values at several logical indices in one call.
+     * The metadata is decoded once, the values are written into the caller supplied output array.
+     */
+    @Override
+    public void getAll(int[] indices, int[] array, int[] out, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, () -> "Starting getAll operation for " + indices.length + " indices.");
+
+        PackedReader reader = new OverflowReader(IntBuffer.wrap(array));
+
+        // Stop of Setup time taking
+        if (timer != null) timer.stop("Setup");
+
+        reader.getAll(indices, out);
+
+        // Stop timetaking
+        if (timer != null) {
+            timer.stop("getAll");
+            timer.saveToJson("getAll", reader.size(), array.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "GetAll operation successful. Retrieved values: " + indices.length);
+    }
+
+    /**
+     * Decompresses only the logical indices [from, to) of the compressed array
+     * into the caller supplied output array, starting at outOffset.
+     */
+    @Override
+    public void decompressRange(int[] array, int from, int to, int[] out, int outOffset, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, () -> "Starting decompressRange operation for [" + from + ", " + to + ").");
+
+        PackedReader reader = new OverflowReader(IntBuffer.wrap(array));
+
+        // Stop of Setup time taking
+        if (timer != null) timer.stop("Setup");
+
+        reader.decompressRange(from, to, out, outOffset);
+
+        // Stop of timetaking
+        if (timer != null) {
+            timer.stop("DecompressingRange");
+            timer.saveToJson("DecompressRange", to - from, array.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "DecompressRange finished. Result size: " + (to - from));
+    }
+
     // --- Utility Methods (Provided by User) ---
 
     /**
      * Calculates the ideal chunk size for the Overflow strategy based on the distribution of values.
      */
-    public Triplet<Integer,Integer,Integer> get_ideal_chunksize(int[] array) {
+    public Triplet<Integer,Long,Integer> get_ideal_chunksize(int[] array) {
         int[] value_distribution = new int[32];
         for (int j : array) {
             int minimal_bits_needed = 32 - Integer.numberOfLeadingZeros(j);
@@ -381,25 +435,34 @@ public class OverflowBP implements BitPacker {
             }
             value_distribution[minimal_bits_needed - 1]++;
         }
+        return get_ideal_chunksize(value_distribution, array.length);
+    }
 
+    /**
+     * Calculates the ideal chunk size for the Overflow strategy from an already computed distribution.
+     * @param value_distribution Number of values per bits needed, value_distribution[i] counts the values of i + 1 bits (0 counts as 1 bit).
+     * @param length The number of values.
+     * @return The chunk size, the size of the compressed array in bits (a long, it exceeds 2^31 bits from about 67M values on) and the number of overflow values.
+     */
+    public static Triplet<Integer,Long,Integer> get_ideal_chunksize(int[] value_distribution, int length) {
         int values_included = 0;
         int current_smallest_chunk = 0;
         int overflow_size = 0;
-        int size_for_smallest_chunk = array.length * 32 + 33;
+        long size_for_smallest_chunk = (long) length * 32 + 33;
         for (int i = 0; i < 32; i++) {
 
             if (value_distribution[i] != 0) {
                 values_included += value_distribution[i];
-                int temp_overflow_size = array.length - values_included;
+                int temp_overflow_size = length - values_included;
                 temp_overflow_size++;
                 int elias_gamma_overhead = (31 - Integer.numberOfLeadingZeros(temp_overflow_size)) * 2 + 1;
-                int packed_data_bits = array.length * (i + 2);
-                int overflow_data_bits = (temp_overflow_size - 1) * 32;
+                long packed_data_bits = (long) length * (i + 2);
+                long overflow_data_bits = (long) (temp_overflow_size - 1) * 32;
                 int metadata_bits = 10;
 
-                int temp_regular_size=(int) Math.ceil(packed_data_bits+metadata_bits+elias_gamma_overhead);
-                int temp_size_bits = temp_regular_size+overflow_data_bits;
-                int temp_size = (int) Math.ceil(temp_size_bits / 32.0) * 32;
+                long temp_regular_size = packed_data_bits+metadata_bits+elias_gamma_overhead;
+                long temp_size_bits = temp_regular_size+overflow_data_bits;
+                long temp_size = (temp_size_bits + 31) / 32 * 32;
                 if (temp_size <= size_for_smallest_chunk || current_smallest_chunk == 0) {
                     if (32 - Integer.numberOfLeadingZeros(temp_overflow_size) <= i + 1) {
                         size_for_smallest_chunk = temp_size;
@@ -412,60 +475,6 @@ public class OverflowBP implements BitPacker {
         return new Triplet<>(current_smallest_chunk, size_for_smallest_chunk, overflow_size);
     }
 
-    /**
-     * Encodes an integer value using the Elias Gamma encoding scheme.
-     */
-    public static String encodeEliasGamma(int value) {
-        if (value <= 0) {
-            throw new IllegalArgumentException("Elias-Gamma is for positive integers.");
-        }
-
-        String binaryValue = Integer.toBinaryString(value);
-        int length = binaryValue.length() - 1;
-
-        StringBuilder prefix = new StringBuilder();
-        for (int i = 0; i < length; i++) {
-            prefix.append('0');
-        }
-
-        return prefix.append(binaryValue).reverse().toString();
-    }
-
-    /**
-     * Decodes the Elias Gamma encoded overflow size metadata from the compressed array.
-     */
-    public static String decodeEliasGamma(int[] array) {
-        int k = 0;
-        int bit_cursor = 10;
-        int array_index = 0;
-
-        // Find the length of the prefix (number of leading zeros, 'k')
-        while (readBit(array, bit_cursor, array_index) == 0) {
-            k++;
-            bit_cursor++;
-            if (bit_cursor >= 32) {
-                bit_cursor = 0;
-                array_index++;
-            }
-        }
-
-        StringBuilder sb = new StringBuilder();
-
-        // Read the k+1 bits that represent the value
-        for (int i = 0; i <= k; i++) {
-            int bit = readBit(array, bit_cursor, array_index);
-            sb.append(bit);
-
-            bit_cursor++;
-            if (bit_cursor >= 32) {
-                bit_cursor = 0;
-                array_index++;
-            }
-        }
-
-        return sb.toString();
-    }
-
     /**
      * Reads a single bit from the array at a specific bit position.
      */
@@ -0,0 +1,98 @@
+package compressor.services;
+
+import compressor.models.PackedReader;
+
+import java.nio.IntBuffer;
+import java.util.Objects;
+
+/**
+ * Reader on an overflow-packed array. The Elias Gamma encoded overflow size is decoded once
+ * in the constructor. Each element is read as one (chunk size + 1) bit field whose lowest bit
+ * is the overflow marker.
+ */
+final class OverflowReader implements PackedReader {
+
+    private final IntBuffer words;
+    private final int chunkSize;
+    private final int fieldSize;
+    private final int fieldMask;
+    private final int dataStart;
+    private final int size;
+
+    OverflowReader(IntBuffer packed) {
+        // Absolute indices of the reader start at the current position of the buffer
+        this.words = packed.slice();
+        if (words.limit() == 0) {
+            this.chunkSize = 1;
+            this.fieldSize = 2;
+            this.fieldMask = 3;
+            this.dataStart = 0;
+            this.size = 0;
+            return;
+        }
+        // Metadata: chunk size (bits 0-4), unused bits (bits 5-9), Elias Gamma coded overflow size
+        this.chunkSize = words.get(0) & 0x1F;
+        int unusedBits = (words.get(0) >>> 5) & 0x1F;
+
+        // Elias Gamma code of (overflow size + 1) at bit 10, the data follows it
+        int overflowSize = EliasCodec.readGamma(words, 10) - 1;
+        int bit = 10 + EliasCodec.gammaLength(overflowSize + 1);
+
+        this.fieldSize = chunkSize + 1;
+        this.fieldMask = (int) ((1L << fieldSize) - 1);
+        this.dataStart = bit;
+        this.size = (int) (((words.limit() - overflowSize) * 32L - (dataStart + unusedBits)) / fieldSize);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int get(int index) {
+        Objects.checkIndex(index, size);
+        long bit = dataStart + (long) fieldSize * index;
+        int word = (int) (bit >>> 5);
+        int shift = (int) bit & 31;
+
+        long field = (words.get(word) & 0xFFFFFFFFL) >>> shift;
+        if (shift + fieldSize > 32) {
+            field |= (words.get(word + 1) & 0xFFFFFFFFL) << (32 - shift);
+        }
+        int value = ((int) field & fieldMask) >>> 1;
+        // Marker bit set: the value is an index into the overflow area at the end of the array
+        if ((field & 1) != 0) {
+            return words.get(words.limit() - value - 1);
+        }
+        return value;
+    }
+
+    @Override
+    public void decompressRange(int from, int to, int[] out, int outOffset) {
+        Objects.checkFromToIndex(from, to, size);
+        Objects.checkFromIndexSize(outOffset, to - from, out.length);
+        if (from == to) return;
+
+        // Seek to the marker bit of the first element and keep the not yet consumed bits in a 64 bit buffer
+        long bit = dataStart + (long) fieldSize * from;
+        int word = (int) (bit >>> 5);
+        int shift = (int) bit & 31;
+        long buffer = (words.get(word++) & 0xFFFFFFFFL) >>> shift;
+        int available = 32 - shift;
+        int overflowEnd = words.limit() - 1;
+
+        for (int i = outOffset, end = outOffset + (to - from); i < end; i++) {
+            if (available < fieldSize) {
+                buffer |= (words.get(word++) & 0xFFFFFFFFL) << available;
+                available += 32;
+            }
+            int field = (int) buffer & fieldMask;
+            buffer >>>= fieldSize;
+            available -= fieldSize;
+
+            int value = field >>> 1;
+            out[i] = (field & 1) != 0 ? words.get(overflowEnd - value) : value;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package compressor.services;
+
+import compressor.models.PackerType;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Binary container for a packed array.
+ * <p>
+ * Layout (little endian): magic "BPCK" (4 bytes), version (4), strategy id (4), reserved (4),
+ * element count (8), word count (8), followed by the packed words (4 bytes each).
+ * The container is read with {@link FileChannel#map}, so readers work on the mapped words
+ * without copying the file onto the heap. A mapping holds at most 2 GB, so a container is limited
+ * to {@link #MAX_WORDS} packed words, larger arrays are written with stream-compress.
+ */
+public final class PackedContainer {
+
+    /** "BPCK" read as a little endian integer. */
+    public static final int MAGIC = 0x4B435042;
+    public static final int VERSION = 1;
+    public static final int HEADER_BYTES = 32;
+    /** The largest number of packed words whose container can still be mapped at once. */
+    public static final int MAX_WORDS = (Integer.MAX_VALUE - HEADER_BYTES) / 4;
+
+    // Number of bytes written to the channel per write call
+    private static final int WRITE_BUFFER_BYTES = 1 << 16;
+
+    private final PackerType type;
+    private final long elementCount;
+    private final IntBuffer words;
+
+    private PackedContainer(PackerType type, long elementCount, IntBuffer words) {
+        this.type = type;
+        this.elementCount = elementCount;
+        this.words = words;
+    }
+
+    /**
+     * Writes a packed array as a binary container.
+     * @param file The destination file (overwritten).
+     * @param type The strategy that packed the words.
+     * @param elementCount The number of decompressed elements.
+     * @param words The packed words.
+     * @throws IOException If the file cannot be written.
+     * @throws IllegalArgumentException If there are more than {@link #MAX_WORDS} words, the container could not be mapped.
+     */
+    public static void write(File file, PackerType type, long elementCount, int[] words) throws IOException {
+        if (words.length > MAX_WORDS) {
+            throw new IllegalArgumentException("Packed array of " + words.length + " integers exceeds the " + MAX_WORDS
+                    + " integers of a binary container, use stream-compress.");
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(type.getId()).putInt(0)
+                    .putLong(elementCount).putLong(words.length);
+
+            int cursor = 0;
+            while (cursor < words.length) {
+                IntBuffer view = buffer.asIntBuffer();
+                int count = Math.min(view.remaining(), words.length - cursor);
+                view.put(words, cursor, count);
+                buffer.position(buffer.position() + count * 4);
+                cursor += count;
+                writeFully(channel, buffer);
+            }
+            writeFully(channel, buffer);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Maps a binary container read-only into memory.
+     * @param file The container file.
+     * @return The container, its words are backed by the mapped file.
+     * @throws IOException If the file cannot be read or is not a valid container.
+     */
+    public static PackedContainer map(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_BYTES) {
+                throw new IOException("File too small for a packed container: " + file.getAbsolutePath());
+            }
+            if (fileSize > Integer.MAX_VALUE) {
+                throw new IOException("Packed container larger than 2 GB cannot be mapped: " + file.getAbsolutePath());
+            }
+            // The mapping stays valid after the channel is closed
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+
+            if (mapped.getInt(0) != MAGIC) {
+                throw new IOException("Not a packed container (wrong magic number): " + file.getAbsolutePath());
+            }
+            int version = mapped.getInt(4);
+            if (version != VERSION) {
+                throw new IOException("Unsupported packed container version " + version + ": " + file.getAbsolutePath());
+            }
+            PackerType type = PackerType.fromId(mapped.getInt(8));
+            long elementCount = mapped.getLong(16);
+            long wordCount = mapped.getLong(24);
+            if (HEADER_BYTES + wordCount * 4 != fileSize) {
+                throw new IOException("Packed container is truncated: " + file.getAbsolutePath());
+            }
+
+            IntBuffer words = mapped.position(HEADER_BYTES).slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+            return new PackedContainer(type, elementCount, words);
+        }
+    }
+
+    /**
+     * Checks if a file starts with the magic number of a packed container.
+     * @param file The file to check.
+     * @return true if the file is a binary container.
+     * @throws IOException If the file cannot be read.
+     */
+    public static boolean isContainer(File file) throws IOException {
+        if (file.length() < HEADER_BYTES) {
+            return false;
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            return Integer.reverseBytes(raf.readInt()) == MAGIC;
+        }
+    }
+
+    /**
+     * Copies the packed words onto the heap.
+     * @return The packed words as an int array.
+     */
+    public int[] toIntArray() {
+        int[] result = new int[words.limit()];
+        words.get(0, result);
+        return result;
+    }
+
+    public PackerType getType() {
+        return type;
+    }
+
+    public long getElementCount() {
+        return elementCount;
+    }
+
+    /**
+     * Gets the packed words, backed by the mapped file.
+     * @return A read-only buffer of the packed words starting at position 0.
+     */
+    public IntBuffer getWords() {
+        return words.duplicate();
+    }
+}
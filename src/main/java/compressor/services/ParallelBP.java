@@ -0,0 +1,355 @@
+package compressor.services;
+
+import compressor.logger.Logger;
+import compressor.models.BitPacker;
+import compressor.models.BitPackerFactory;
+import compressor.models.PackedReader;
+import compressor.models.PackerType;
+import compressor.timetaking.PerformanceTimer;
+import compressor.logger.LogLevel;
+
+import java.io.File;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Parallel strategy for large arrays: the array is split into segments that are packed
+ * independently by another packer, on several threads of an executor.
+ * <p>
+ * Layout: number of elements, segment size, inner strategy id, a table of segment offsets
+ * (number of segments + 1 integers, relative to the end of the table), followed by the arrays of
+ * the inner packer, one per segment. Arrays up to one segment are packed on the calling thread.
+ */
+public class ParallelBP implements BitPacker {
+
+    /** Default number of values per segment. */
+    public static final int DEFAULT_SEGMENT_SIZE = 1 << 20;
+
+    /** Number of integers used by the metadata: number of elements, segment size and inner strategy. */
+    static final int HEADER_SIZE = 3;
+
+    public PerformanceTimer timer = null;
+    private Logger logger;
+    private final BitPacker inner;
+    private final int segmentSize;
+    private final ExecutorService executor;
+
+    /**
+     * Constructor for the Parallel Bit Packer (BP) on the common fork-join pool.
+     * @param filePath File path for performance logging (null if not needed).
+     * @param log The Logger instance (Dependency Injection).
+     * @param inner The packer of every segment.
+     */
+    public ParallelBP(File filePath, Logger log, BitPacker inner) {
+        this(filePath, log, inner, DEFAULT_SEGMENT_SIZE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor for the Parallel Bit Packer (BP).
+     * Initializes the logger and conditionally sets up the performance timer.
+     * @param filePath File path for performance logging (null if not needed).
+     * @param log The Logger instance (Dependency Injection).
+     * @param inner The packer of every segment.
+     * @param segmentSize The number of values per segment.
+     * @param executor The executor running the segments (e.g. a ForkJoinPool with the wanted parallelism).
+     */
+    public ParallelBP(File filePath, Logger log, BitPacker inner, int segmentSize, ExecutorService executor) {
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("Segment size must be positive: " + segmentSize);
+        }
+        this.logger = log;
+        this.inner = inner;
+        this.segmentSize = segmentSize;
+        this.executor = executor;
+        // Initialization of timer
+        if (PerformanceTimer.isTimed(filePath)) {
+            this.timer = new PerformanceTimer(filePath, "Parallel");
+            this.logger.log(LogLevel.INFO, "PerformanceTimer initialized for ParallelBP.");
+        } else {
+            this.logger.log(LogLevel.DEBUG, "PerformanceTimer disabled (no filePath and no metrics).");
+        }
+    }
+
+    @Override
+    public PackerType getType() {
+        return PackerType.PARALLEL;
+    }
+
+    /**
+     * Runs tasks on the executor and waits for all of them.
+     * @param tasks The tasks, a single task runs on the calling thread.
+     * @return The results in the order of the tasks.
+     */
+    private <T> List<T> invokeAll(List<Callable<T>> tasks) {
+        List<T> results = new ArrayList<>(tasks.size());
+        try {
+            if (tasks.size() == 1) {
+                results.add(tasks.get(0).call());
+                return results;
+            }
+            for (Future<T> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Segment task failed: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the segment tasks.", e);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Segment task failed: " + e.getMessage(), e);
+        }
+    }
+
+    /** Decodes [from, to) segment by segment, the segments in parallel. */
+    private void decompressSegments(ParallelReader reader, int from, int to, int[] out, int outOffset) {
+        List<Callable<Void>> tasks = new ArrayList<>();
+        int size = reader.getSegmentSize();
+        for (int start = from - from % size; start < to; start += size) {
+            int segment_from = Math.max(from, start);
+            int segment_to = Math.min(to, start + size);
+            tasks.add(() -> {
+                reader.decompressRange(segment_from, segment_to, out, outOffset + segment_from - from);
+                return null;
+            });
+        }
+        if (!tasks.isEmpty()) {
+            invokeAll(tasks);
+        }
+    }
+
+    // --- Core BitPacker Interface Methods ---
+
+    /**
+     * Compresses an array of integers segment by segment, the segments in parallel.
+     */
+    @Override
+    public int[] compress(int[] array, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, "Starting compress operation.");
+
+        if (array.length == 0) return new int[0];
+
+        int segments = (int) (((long) array.length + segmentSize - 1) / segmentSize);
+        List<Callable<int[]>> tasks = new ArrayList<>(segments);
+        if (segments == 1) {
+            tasks.add(() -> inner.compress(array, sizeLabel, valueLabel));
+        } else {
+            for (int s = 0; s < segments; s++) {
+                int start = s * segmentSize;
+                int end = (int) Math.min(array.length, (long) start + segmentSize);
+                tasks.add(() -> inner.compress(Arrays.copyOfRange(array, start, end), sizeLabel, valueLabel));
+            }
+        }
+
+        // Take time of the setup phase
+        if (timer != null) timer.stop("Setup");
+        this.logger.log(LogLevel.DEBUG, () -> "Compression setup complete. Segments: " + segments);
+
+        List<int[]> packed = invokeAll(tasks);
+
+        // Take time of the parallel compression
+        if (timer != null) timer.stop("CompressingSegments");
+
+        // Offsets of the segments after the table
+        int data_start = HEADER_SIZE + segments + 1;
+        long offset = 0;
+        int[] offsets = new int[segments + 1];
+        for (int s = 0; s < segments; s++) {
+            offsets[s] = (int) offset;
+            offset += packed.get(s).length;
+        }
+        if (data_start + offset > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Array too large for the parallel layout: " + array.length + " elements.");
+        }
+        offsets[segments] = (int) offset;
+
+        int[] result = new int[data_start + (int) offset];
+        result[0] = array.length;
+        result[1] = segmentSize;
+        result[2] = inner.getType().getId();
+        System.arraycopy(offsets, 0, result, HEADER_SIZE, offsets.length);
+        for (int s = 0; s < segments; s++) {
+            System.arraycopy(packed.get(s), 0, result, data_start + offsets[s], packed.get(s).length);
+        }
+
+        // Stop of timetaking of writing on the compressed array
+        if (timer != null) {
+            timer.stop("Compressing");
+            timer.saveToJson("Compress", array.length, result.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "Compression completed. Input size: " + array.length + ", Result size: " + result.length);
+
+        return result;
+    }
+
+    /**
+     * Decompresses the segments in parallel back into the original integer array.
+     */
+    @Override
+    public int[] decompress(int[] array, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, "Starting decompress operation.");
+
+        if (array.length == 0) return new int[0];
+
+        ParallelReader reader = openSegments(IntBuffer.wrap(array));
+        int[] result = new int[reader.size()];
+
+        // Stop of Setup time taking
+        if (timer != null) timer.stop("Setup");
+        this.logger.log(LogLevel.DEBUG, () -> "Decompression setup complete. Expected result size: " + result.length);
+
+        decompressSegments(reader, 0, result.length, result, 0);
+
+        // Stop of timetaking of writing on the decompressed array
+        if (timer != null) {
+            timer.stop("Decompressing");
+            timer.saveToJson("Decompress", result.length, array.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "Decompression finished. Result size: " + result.length);
+
+        return result;
+    }
+
+    /**
+     * Retrieves a single integer value at a specific logical index from the compressed array.
+     * Only the segment holding the index is read.
+     */
+    @Override
+    public int get(int index, int[] array, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, () -> "Starting get operation for index: " + index);
+
+        PackedReader reader = openSegments(IntBuffer.wrap(array));
+
+        // Test if the index is out of bounds
+        if (index < 0 || index >= reader.size()) {
+            this.logger.log(LogLevel.WARNING, () -> "Index " + index + " is out of bounds.");
+            System.err.println("index out of bounds");
+            return -1;
+        }
+        int result = reader.get(index);
+
+        // Stop timetaking
+        if (timer != null) {
+            timer.stop("get");
+            timer.saveToJson("get", reader.size(), array.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "Get operation successful. Retrieved value: " + result);
+
+        return result;
+    }
+
+    /**
+     * Decodes the metadata and the offset table once and returns a reader
+     * that can be reused for any number of lookups. The segments are read in place.
+     */
+    @Override
+    public PackedReader open(IntBuffer array) {
+        PackedReader reader = openSegments(array);
+        this.logger.log(LogLevel.DEBUG, () -> "Opened packed array with " + reader.size() + " elements.");
+        return reader;
+    }
+
+    private ParallelReader openSegments(IntBuffer array) {
+        IntBuffer words = array.slice();
+        if (words.limit() == 0) {
+            return new ParallelReader(0, segmentSize, new PackedReader[0]);
+        }
+        int size = words.get(0);
+        int packed_segment_size = words.get(1);
+        PackerType inner_type = PackerType.fromId(words.get(2));
+
+        // The strategy stored in the header decides how the segments are read
+        BitPacker inner_packer = inner_type == inner.getType() ? inner : BitPackerFactory.createBitPacker(inner_type.getName(), null, this.logger);
+        if (packed_segment_size <= 0) {
+            throw new IllegalArgumentException("Invalid segment size in packed array: " + packed_segment_size);
+        }
+        // The offsets of the segments have to fit before a reader is allocated per segment
+        long segment_count = ((long) size + packed_segment_size - 1) / packed_segment_size;
+        BitPacker.checkPackedLength(words.limit(), size, HEADER_SIZE + segment_count + 1);
+        int segments = (int) segment_count;
+        int data_start = HEADER_SIZE + segments + 1;
+        PackedReader[] readers = new PackedReader[segments];
+        for (int s = 0; s < segments; s++) {
+            int start = data_start + words.get(HEADER_SIZE + s);
+            int end = data_start + words.get(HEADER_SIZE + s + 1);
+            readers[s] = inner_packer.open(words.slice(start, end - start));
+        }
+        return new ParallelReader(size, packed_segment_size, readers);
+    }
+
+    /**
+     * Retrieves the values at several logical indices in one call.
+     * The metadata is decoded once, the values are written into the caller supplied output array.
+     */
+    @Override
+    public void getAll(int[] indices, int[] array, int[] out, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, () -> "Starting getAll operation for " + indices.length + " indices.");
+
+        PackedReader reader = openSegments(IntBuffer.wrap(array));
+
+        // Stop of Setup time taking
+        if (timer != null) timer.stop("Setup");
+
+        reader.getAll(indices, out);
+
+        // Stop timetaking
+        if (timer != null) {
+            timer.stop("getAll");
+            timer.saveToJson("getAll", reader.size(), array.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "GetAll operation successful. Retrieved values: " + indices.length);
+    }
+
+    /**
+     * Decompresses only the logical indices [from, to) of the compressed array
+     * into the caller supplied output array, starting at outOffset. The segments are decoded in parallel.
+     */
+    @Override
+    public void decompressRange(int[] array, int from, int to, int[] out, int outOffset, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, () -> "Starting decompressRange operation for [" + from + ", " + to + ").");
+
+        ParallelReader reader = openSegments(IntBuffer.wrap(array));
+        Objects.checkFromToIndex(from, to, reader.size());
+        Objects.checkFromIndexSize(outOffset, to - from, out.length);
+
+        // Stop of Setup time taking
+        if (timer != null) timer.stop("Setup");
+
+        decompressSegments(reader, from, to, out, outOffset);
+
+        // Stop of timetaking
+        if (timer != null) {
+            timer.stop("DecompressingRange");
+            timer.saveToJson("DecompressRange", to - from, array.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "DecompressRange finished. Result size: " + (to - from));
+    }
+}
@@ -0,0 +1,48 @@
+package compressor.services;
+
+import compressor.models.PackedReader;
+
+import java.util.Objects;
+
+/**
+ * Reader on an array packed by {@link ParallelBP}. Every segment has its own reader of the inner
+ * strategy, a lookup is passed on to the reader of its segment.
+ */
+final class ParallelReader implements PackedReader {
+
+    private final int size;
+    private final int segmentSize;
+    private final PackedReader[] segments;
+
+    ParallelReader(int size, int segmentSize, PackedReader[] segments) {
+        this.size = size;
+        this.segmentSize = segmentSize;
+        this.segments = segments;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    int getSegmentSize() {
+        return segmentSize;
+    }
+
+    @Override
+    public int get(int index) {
+        Objects.checkIndex(index, size);
+        return segments[index / segmentSize].get(index % segmentSize);
+    }
+
+    @Override
+    public void decompressRange(int from, int to, int[] out, int outOffset) {
+        Objects.checkFromToIndex(from, to, size);
+        Objects.checkFromIndexSize(outOffset, to - from, out.length);
+        for (int start = from - from % segmentSize; start < to; start += segmentSize) {
+            int segmentFrom = Math.max(from, start);
+            int segmentTo = Math.min(to, start + segmentSize);
+            segments[start / segmentSize].decompressRange(segmentFrom - start, segmentTo - start, out, outOffset + segmentFrom - from);
+        }
+    }
+}
@@ -0,0 +1,359 @@
+package compressor.services;
+
+import compressor.logger.Logger;
+import compressor.models.BitPacker;
+import compressor.models.PackedReader;
+import compressor.models.PackerType;
+import compressor.timetaking.PerformanceTimer;
+import compressor.logger.LogLevel;
+
+import java.io.File;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * Patched frame of reference strategy: like {@link FrameOfReferenceBP}, but the bit width of a
+ * block is chosen for most of its values. The few values that do not fit (exceptions) keep their
+ * low bits in the block and store their high bits in a separate list of the block, so the block
+ * is a plain run of fixed width that is unpacked without branches and patched afterwards.
+ * <p>
+ * Layout: number of elements, start of the exception area, a directory of 3 integers per block
+ * (minimum, descriptor as in {@link FrameOfReferenceBP}, exception offset and count), the data
+ * as one spanning bit stream starting at bit 10, followed by the exception area. The exceptions
+ * of a block are their positions in the block (one byte each, 4 per integer, ascending)
+ * followed by their high bits (one integer each).
+ */
+public class PatchedFrameOfReferenceBP implements BitPacker {
+
+    /** Number of integers used by the metadata: number of elements and start of the exception area. */
+    static final int HEADER_SIZE = 2;
+    /** Number of integers per block in the directory: minimum, descriptor and exceptions. */
+    static final int DIRECTORY_ENTRY_SIZE = 3;
+
+    // Exceptions: number of exceptions (bits 0-7), offset in the exception area (bits 8-31)
+    static final int COUNT_MASK = 0xFF;
+    static final int EXCEPTION_OFFSET_SHIFT = 8;
+    private static final long MAX_EXCEPTION_OFFSET = 1L << (32 - EXCEPTION_OFFSET_SHIFT);
+    private static final long MAX_OFFSET = 1L << (32 - FrameOfReferenceBP.OFFSET_SHIFT);
+
+    // Bits spent on an exception: its position and its high bits
+    private static final int EXCEPTION_BITS = 8 + 32;
+
+    public PerformanceTimer timer = null;
+    private Logger logger;
+
+    /**
+     * Constructor for the Patched Frame of Reference Bit Packer (BP).
+     * Initializes the logger and conditionally sets up the performance timer.
+     * @param filePath File path for performance logging (null if not needed).
+     * @param log The Logger instance (Dependency Injection).
+     */
+    public PatchedFrameOfReferenceBP(File filePath, Logger log) {
+        this.logger = log;
+        // Initialization of timer
+        if (PerformanceTimer.isTimed(filePath)) {
+            this.timer = new PerformanceTimer(filePath, "PatchedFrameOfReference");
+            this.logger.log(LogLevel.INFO, "PerformanceTimer initialized for PatchedFrameOfReferenceBP.");
+        } else {
+            this.logger.log(LogLevel.DEBUG, "PerformanceTimer disabled (no filePath and no metrics).");
+        }
+    }
+
+    /**
+     * Gets the number of integers holding the exceptions of a block.
+     * @param count The number of exceptions of the block.
+     * @return The integers of the positions and of the high bits.
+     */
+    static int exceptionWords(int count) {
+        return (count + 3) / 4 + count;
+    }
+
+    /**
+     * Chooses the width of a block with the smallest size of the block plus its exceptions.
+     * @param value_distribution Number of values of the block per bits needed above the minimum (0 to 32).
+     * @param count The number of values of the block.
+     * @return The bit width of the block.
+     */
+    static int bestWidth(int[] value_distribution, int count) {
+        int exceptions = 0;
+        int best_width = 32;
+        long best_size = 32L * count;
+        for (int width = 31; width >= 0; width--) {
+            exceptions += value_distribution[width + 1];
+            long size = (long) width * count + (long) exceptions * EXCEPTION_BITS;
+            if (size < best_size) {
+                best_size = size;
+                best_width = width;
+            }
+        }
+        return best_width;
+    }
+
+    /**
+     * Counts the exceptions of a block for a width.
+     * @param value_distribution Number of values of the block per bits needed above the minimum (0 to 32).
+     * @param width The bit width of the block.
+     * @return The number of values needing more bits than the width.
+     */
+    static int exceptionCount(int[] value_distribution, int width) {
+        int exceptions = 0;
+        for (int bits = width + 1; bits <= 32; bits++) {
+            exceptions += value_distribution[bits];
+        }
+        return exceptions;
+    }
+
+    @Override
+    public PackerType getType() {
+        return PackerType.PATCHED_FRAME_OF_REFERENCE;
+    }
+
+    // --- Core BitPacker Interface Methods ---
+
+    /**
+     * Compresses an array of integers block by block. The width of a block is the one with the
+     * smallest size of the block plus its exceptions, found from a histogram of the bits needed.
+     */
+    @Override
+    public int[] compress(int[] array, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, "Starting compress operation.");
+
+        if (array.length == 0) return new int[0];
+
+        // Minimum, bit width and number of exceptions of every block
+        int blocks = FrameOfReferenceBP.blockCount(array.length);
+        int[] mins = new int[blocks];
+        int[] widths = new int[blocks];
+        int[] counts = new int[blocks];
+        int[] value_distribution = new int[33];
+        long data_bits = 10;
+        long width_sum = 0;
+        long exception_words = 0;
+        for (int b = 0; b < blocks; b++) {
+            int start = b << FrameOfReferenceBP.BLOCK_SHIFT;
+            int end = Math.min(array.length, start + FrameOfReferenceBP.BLOCK_SIZE);
+            int min = array[start];
+            for (int i = start + 1; i < end; i++) {
+                min = Math.min(min, array[i]);
+            }
+
+            // Number of values per bits needed, then the width with the smallest size
+            Arrays.fill(value_distribution, 0);
+            for (int i = start; i < end; i++) {
+                value_distribution[32 - Integer.numberOfLeadingZeros(array[i] - min)]++;
+            }
+            int best_width = bestWidth(value_distribution, end - start);
+            int best_count = exceptionCount(value_distribution, best_width);
+
+            mins[b] = min;
+            widths[b] = best_width;
+            counts[b] = best_count;
+            data_bits += (long) best_width * (end - start);
+            width_sum += best_width;
+            exception_words += exceptionWords(best_count);
+        }
+
+        // Take time of the bit-needed function
+        if (timer != null) timer.stop("BitNeeded");
+
+        int data_start = HEADER_SIZE + DIRECTORY_ENTRY_SIZE * blocks;
+        long exception_start = data_start + (data_bits + 31) / 32;
+        long new_array_size = exception_start + exception_words;
+        if (width_sum >= MAX_OFFSET || exception_words >= MAX_EXCEPTION_OFFSET || new_array_size > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Array too large for the patched frame of reference layout: " + array.length + " elements.");
+        }
+        int[] result = new int[(int) new_array_size];
+        result[0] = array.length;
+        result[1] = (int) exception_start;
+
+        // Take time of the setup phase
+        if (timer != null) timer.stop("Setup");
+        this.logger.log(LogLevel.DEBUG, () -> "Compression setup complete. Blocks: " + blocks + ", New size: " + new_array_size);
+
+        int[] deltas = new int[FrameOfReferenceBP.BLOCK_SIZE];
+        int offset = 0;
+        int exception_cursor = 0;
+        for (int b = 0; b < blocks; b++) {
+            int start = b << FrameOfReferenceBP.BLOCK_SHIFT;
+            int count = Math.min(array.length - start, FrameOfReferenceBP.BLOCK_SIZE);
+            int width = widths[b];
+            int mask = (int) ((1L << width) - 1);
+
+            int entry = HEADER_SIZE + DIRECTORY_ENTRY_SIZE * b;
+            result[entry] = mins[b];
+            result[entry + 1] = offset << FrameOfReferenceBP.OFFSET_SHIFT | width;
+            result[entry + 2] = exception_cursor << EXCEPTION_OFFSET_SHIFT | counts[b];
+
+            // Exceptions keep their low bits in the block, their positions and high bits go to the list
+            int positions = (int) exception_start + exception_cursor;
+            int highs = positions + (counts[b] + 3) / 4;
+            int k = 0;
+            for (int i = 0; i < count; i++) {
+                int delta = array[start + i] - mins[b];
+                if (Integer.compareUnsigned(delta, mask) > 0) {
+                    result[positions + (k >>> 2)] |= i << ((k & 3) << 3);
+                    result[highs + k] = delta >>> width;
+                    k++;
+                }
+                deltas[i] = delta & mask;
+            }
+            exception_cursor += exceptionWords(counts[b]);
+
+            if (width > 0) {
+                if (count == FrameOfReferenceBP.BLOCK_SIZE) {
+                    // Full blocks are written by the unrolled routine of the width
+                    SpanningKernels.pack(width, deltas, 0, result, data_start + (offset << 2),
+                            FrameOfReferenceBP.BLOCK_SIZE / SpanningKernels.BLOCK_SIZE);
+                } else {
+                    // The last partial block is written value by value
+                    long bit = 10 + ((long) offset << 7);
+                    for (int i = 0; i < count; i++, bit += width) {
+                        int word = data_start + (int) (bit >>> 5);
+                        int shift = (int) bit & 31;
+                        result[word] |= deltas[i] << shift;
+                        if (shift + width > 32) {
+                            result[word + 1] |= deltas[i] >>> (32 - shift);
+                        }
+                    }
+                }
+            }
+            offset += width;
+        }
+
+        // Stop of timetaking of writing on the compressed array
+        if (timer != null) {
+            timer.stop("Compressing");
+            timer.saveToJson("Compress", array.length, result.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "Compression completed. Input size: " + array.length + ", Result size: " + result.length);
+
+        return result;
+    }
+
+    /**
+     * Decompresses the blocks and patches the exceptions back into the original integer array.
+     */
+    @Override
+    public int[] decompress(int[] array, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, "Starting decompress operation.");
+
+        if (array.length == 0) return new int[0];
+
+        PatchedFrameOfReferenceReader reader = new PatchedFrameOfReferenceReader(IntBuffer.wrap(array));
+        int[] result = new int[reader.size()];
+
+        // Stop of Setup time taking
+        if (timer != null) timer.stop("Setup");
+        this.logger.log(LogLevel.DEBUG, () -> "Decompression setup complete. Expected result size: " + result.length);
+
+        reader.decompressRange(0, result.length, result, 0);
+
+        // Stop of timetaking of writing on the decompressed array
+        if (timer != null) {
+            timer.stop("Decompressing");
+            timer.saveToJson("Decompress", result.length, array.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "Decompression finished. Result size: " + result.length);
+
+        return result;
+    }
+
+    /**
+     * Retrieves a single integer value at a specific logical index from the compressed array.
+     */
+    @Override
+    public int get(int index, int[] array, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, () -> "Starting get operation for index: " + index);
+
+        PatchedFrameOfReferenceReader reader = new PatchedFrameOfReferenceReader(IntBuffer.wrap(array));
+
+        // Test if the index is out of bounds
+        if (index < 0 || index >= reader.size()) {
+            this.logger.log(LogLevel.WARNING, () -> "Index " + index + " is out of bounds.");
+            System.err.println("index out of bounds");
+            return -1;
+        }
+        int result = reader.get(index);
+
+        // Stop timetaking
+        if (timer != null) {
+            timer.stop("get");
+            timer.saveToJson("get", reader.size(), array.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "Get operation successful. Retrieved value: " + result);
+
+        return result;
+    }
+
+    /**
+     * Decodes the metadata of the compressed array once and returns a reader
+     * that can be reused for any number of lookups.
+     */
+    @Override
+    public PackedReader open(IntBuffer array) {
+        PackedReader reader = new PatchedFrameOfReferenceReader(array);
+        this.logger.log(LogLevel.DEBUG, () -> "Opened packed array with " + reader.size() + " elements.");
+        return reader;
+    }
+
+    /**
+     * Retrieves the values at several logical indices in one call.
+     * The metadata is decoded once, the values are written into the caller supplied output array.
+     */
+    @Override
+    public void getAll(int[] indices, int[] array, int[] out, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, () -> "Starting getAll operation for " + indices.length + " indices.");
+
+        PackedReader reader = new PatchedFrameOfReferenceReader(IntBuffer.wrap(array));
+
+        // Stop of Setup time taking
+        if (timer != null) timer.stop("Setup");
+
+        reader.getAll(indices, out);
+
+        // Stop timetaking
+        if (timer != null) {
+            timer.stop("getAll");
+            timer.saveToJson("getAll", reader.size(), array.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "GetAll operation successful. Retrieved values: " + indices.length);
+    }
+
+    /**
+     * Decompresses only the logical indices [from, to) of the compressed array
+     * into the caller supplied output array, starting at outOffset.
+     */
+    @Override
+    public void decompressRange(int[] array, int from, int to, int[] out, int outOffset, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, () -> "Starting decompressRange operation for [" + from + ", " + to + ").");
+
+        PackedReader reader = new PatchedFrameOfReferenceReader(IntBuffer.wrap(array));
+
+        // Stop of Setup time taking
+        if (timer != null) timer.stop("Setup");
+
+        reader.decompressRange(from, to, out, outOffset);
+
+        // Stop of timetaking
+        if (timer != null) {
+            timer.stop("DecompressingRange");
+            timer.saveToJson("DecompressRange", to - from, array.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "DecompressRange finished. Result size: " + (to - from));
+    }
+}
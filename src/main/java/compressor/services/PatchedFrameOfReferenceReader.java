@@ -0,0 +1,136 @@
+package compressor.services;
+
+import compressor.models.BitPacker;
+import compressor.models.PackedReader;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Reader on an array packed by {@link PatchedFrameOfReferenceBP}. A lookup reads the low bits in
+ * the block and searches the exception positions of the block, full blocks of a range are
+ * unpacked by the spanning kernels and then patched.
+ */
+final class PatchedFrameOfReferenceReader implements PackedReader {
+
+    private final IntBuffer words;
+    private final int size;
+    private final int dataStart;
+    private final int exceptionStart;
+
+    PatchedFrameOfReferenceReader(IntBuffer packed) {
+        this.words = packed.slice();
+        this.size = words.limit() == 0 ? 0 : words.get(0);
+        this.exceptionStart = words.limit() == 0 ? 0 : words.get(1);
+        // The directory and the exceptions have to fit before their offsets are used
+        long directoryEnd = PatchedFrameOfReferenceBP.HEADER_SIZE
+                + (long) PatchedFrameOfReferenceBP.DIRECTORY_ENTRY_SIZE * FrameOfReferenceBP.blockCount(size);
+        if (size > 0 && (exceptionStart < directoryEnd || exceptionStart > words.limit())) {
+            throw new IllegalArgumentException("Packed array of " + words.limit() + " integers has an invalid exception offset: " + exceptionStart);
+        }
+        BitPacker.checkPackedLength(words.limit(), size, size == 0 ? 0 : directoryEnd);
+        this.dataStart = PatchedFrameOfReferenceBP.HEADER_SIZE
+                + PatchedFrameOfReferenceBP.DIRECTORY_ENTRY_SIZE * FrameOfReferenceBP.blockCount(size);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int get(int index) {
+        Objects.checkIndex(index, size);
+        int entry = PatchedFrameOfReferenceBP.HEADER_SIZE + PatchedFrameOfReferenceBP.DIRECTORY_ENTRY_SIZE * (index >>> FrameOfReferenceBP.BLOCK_SHIFT);
+        int min = words.get(entry);
+        int descriptor = words.get(entry + 1);
+        int exceptions = words.get(entry + 2);
+        int width = descriptor & FrameOfReferenceBP.WIDTH_MASK;
+        int position = index & (FrameOfReferenceBP.BLOCK_SIZE - 1);
+
+        int value = 0;
+        if (width > 0) {
+            // Bit position of the value in the stream starting at bit 10 of the first data integer
+            long bit = 10 + ((long) (descriptor >>> FrameOfReferenceBP.OFFSET_SHIFT) << 7) + (long) position * width;
+            int word = dataStart + (int) (bit >>> 5);
+            int shift = (int) bit & 31;
+            long low = (words.get(word) & 0xFFFFFFFFL) >>> shift;
+            if (shift + width > 32) {
+                low |= (words.get(word + 1) & 0xFFFFFFFFL) << (32 - shift);
+            }
+            value = (int) (low & ((1L << width) - 1));
+        }
+
+        // The positions are ascending, the search stops at the first larger one
+        int count = exceptions & PatchedFrameOfReferenceBP.COUNT_MASK;
+        int positions = exceptionStart + (exceptions >>> PatchedFrameOfReferenceBP.EXCEPTION_OFFSET_SHIFT);
+        for (int k = 0; k < count; k++) {
+            int exception = words.get(positions + (k >>> 2)) >>> ((k & 3) << 3) & 0xFF;
+            if (exception >= position) {
+                if (exception == position) {
+                    value |= words.get(positions + (count + 3) / 4 + k) << width;
+                }
+                break;
+            }
+        }
+        return min + value;
+    }
+
+    @Override
+    public void decompressRange(int from, int to, int[] out, int outOffset) {
+        Objects.checkFromToIndex(from, to, size);
+        Objects.checkFromIndexSize(outOffset, to - from, out.length);
+
+        // Full blocks inside an array backed range are unpacked by the spanning kernels
+        int firstBlock = (from + FrameOfReferenceBP.BLOCK_SIZE - 1) >>> FrameOfReferenceBP.BLOCK_SHIFT;
+        int lastBlock = to >>> FrameOfReferenceBP.BLOCK_SHIFT;
+        if (firstBlock >= lastBlock || !words.hasArray()) {
+            for (int i = from; i < to; i++) {
+                out[outOffset + i - from] = get(i);
+            }
+            return;
+        }
+        int blockStart = firstBlock << FrameOfReferenceBP.BLOCK_SHIFT;
+        int blockEnd = lastBlock << FrameOfReferenceBP.BLOCK_SHIFT;
+        for (int i = from; i < blockStart; i++) {
+            out[outOffset + i - from] = get(i);
+        }
+        for (int block = firstBlock; block < lastBlock; block++) {
+            unpackBlock(block, out, outOffset + (block << FrameOfReferenceBP.BLOCK_SHIFT) - from);
+        }
+        for (int i = blockEnd; i < to; i++) {
+            out[outOffset + i - from] = get(i);
+        }
+    }
+
+    /** Unpacks a full block of the array backed buffer, patches its exceptions and adds its minimum. */
+    private void unpackBlock(int block, int[] out, int outPos) {
+        int entry = PatchedFrameOfReferenceBP.HEADER_SIZE + PatchedFrameOfReferenceBP.DIRECTORY_ENTRY_SIZE * block;
+        int min = words.get(entry);
+        int descriptor = words.get(entry + 1);
+        int exceptions = words.get(entry + 2);
+        int width = descriptor & FrameOfReferenceBP.WIDTH_MASK;
+        if (width == 0) {
+            Arrays.fill(out, outPos, outPos + FrameOfReferenceBP.BLOCK_SIZE, 0);
+        } else {
+            SpanningKernels.unpack(width, words.array(),
+                    words.arrayOffset() + dataStart + ((descriptor >>> FrameOfReferenceBP.OFFSET_SHIFT) << 2),
+                    out, outPos, FrameOfReferenceBP.BLOCK_SIZE / SpanningKernels.BLOCK_SIZE);
+        }
+
+        int count = exceptions & PatchedFrameOfReferenceBP.COUNT_MASK;
+        int positions = exceptionStart + (exceptions >>> PatchedFrameOfReferenceBP.EXCEPTION_OFFSET_SHIFT);
+        int highs = positions + (count + 3) / 4;
+        for (int k = 0; k < count; k++) {
+            int position = words.get(positions + (k >>> 2)) >>> ((k & 3) << 3) & 0xFF;
+            out[outPos + position] |= words.get(highs + k) << width;
+        }
+
+        if (min != 0) {
+            for (int i = outPos; i < outPos + FrameOfReferenceBP.BLOCK_SIZE; i++) {
+                out[i] += min;
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package compressor.services;
+
+/**
+ * Scalar implementation of the vertical layout, processing one lane after the other.
+ * Used when the jdk.incubator.vector module is not available.
+ */
+final class ScalarVerticalCodec implements VerticalCodec {
+
+    @Override
+    public void pack(int chunkSize, int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += BLOCK_SIZE, outPos += LANES * chunkSize) {
+            for (int lane = 0; lane < LANES; lane++) {
+                int word = outPos + lane;
+                int current = 0;
+                for (int slot = 0; slot < 32; slot++) {
+                    int value = in[inPos + slot * LANES + lane];
+                    int shift = (slot * chunkSize) & 31;
+                    current |= value << shift;
+                    if (shift + chunkSize >= 32) {
+                        // The integer of the lane is full: store it and keep the bits that did not fit
+                        out[word] = current;
+                        word += LANES;
+                        current = shift + chunkSize > 32 ? value >>> (32 - shift) : 0;
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void unpack(int chunkSize, int[] in, int inPos, int[] out, int outPos, int blocks) {
+        int mask = (int) ((1L << chunkSize) - 1);
+        for (int b = 0; b < blocks; b++, inPos += LANES * chunkSize, outPos += BLOCK_SIZE) {
+            for (int lane = 0; lane < LANES; lane++) {
+                int word = inPos + lane;
+                for (int slot = 0; slot < 32; slot++) {
+                    int shift = (slot * chunkSize) & 31;
+                    int value = in[word] >>> shift;
+                    if (shift + chunkSize >= 32) {
+                        word += LANES;
+                        if (shift + chunkSize > 32) {
+                            value |= in[word] << (32 - shift);
+                        }
+                    }
+                    out[outPos + slot * LANES + lane] = value & mask;
+                }
+            }
+        }
+    }
+}
@@ -2,10 +2,13 @@ package compressor.services;
 
 import compressor.logger.Logger;
 import compressor.models.BitPacker;
+import compressor.models.PackedReader;
+import compressor.models.PackerType;
 import compressor.timetaking.PerformanceTimer;
 import compressor.logger.LogLevel; // Assuming LogLevel is available
 
 import java.io.File;
+import java.nio.IntBuffer;
 
 public class SpanningBP implements BitPacker {
 
@@ -21,14 +24,19 @@ public class SpanningBP implements BitPacker {
     public SpanningBP(File filePath, Logger log) {
         this.logger = log;
         // Initialization of timer
-        if (filePath != null) {
+        if (PerformanceTimer.isTimed(filePath)) {
             this.timer = new PerformanceTimer(filePath, "Spanning");
             this.logger.log(LogLevel.INFO, "PerformanceTimer initialized for SpanningBP.");
         } else {
-            this.logger.log(LogLevel.DEBUG, "PerformanceTimer disabled (filePath is null).");
+            this.logger.log(LogLevel.DEBUG, "PerformanceTimer disabled (no filePath and no metrics).");
         }
     }
 
+    @Override
+    public PackerType getType() {
+        return PackerType.SPANNING;
+    }
+
     // --- Core BitPacker Interface Methods ---
 
     /**
@@ -44,42 +52,41 @@ public class SpanningBP implements BitPacker {
         if (array.length == 0) return new int[0];
 
         // Calculate the total bits needed to represent all integers in the array
-        int bits_needed = get_number_of_bits_needed(array);
+        long bits_needed = get_number_of_bits_needed(array);
 
         // Take time of the bit-needed function
         if (timer != null) timer.stop("BitNeeded");
 
-        // The size of a chunk of data needed (assuming fixed size across the array)
-        int chunk_size = bits_needed / array.length;
-        if (chunk_size == 0) {
-            chunk_size = 1;
+        // The size of a chunk of data needed (assuming fixed size across the array), at least 1 bit
+        int chunk_size = Math.max(1, (int) (bits_needed / array.length));
+        if (bits_needed < array.length) {
             bits_needed = array.length;
         }
 
         // Calculate the required size of the new array, including space for metadata
-        int new_array_size = (int) Math.ceil((10 + bits_needed) / 32.0);
+        int new_array_size = BitPacker.checkPackedSize((10 + bits_needed + 31) / 32);
         int[] result = new int[new_array_size];
 
         // Number of unused bits (padding at the end of the packed data)
-        int nbr_unused_bit = (new_array_size * 32) - (10 + bits_needed);
+        int nbr_unused_bit = (int) (new_array_size * 32L - (10 + bits_needed));
 
         // Take time of the setup phase
         if (timer != null) timer.stop("Setup");
-        this.logger.log(LogLevel.DEBUG, "Compression setup complete. Chunk size: " + chunk_size + ", New size: " + new_array_size);
+        this.logger.log(LogLevel.DEBUG, () -> "Compression setup complete. Chunk size: " + chunk_size + ", New size: " + new_array_size);
 
-        int result_cursor = 0; // Index of the current integer in the result array
-        int bit_cursor = 0; // Index of the current bit within result[result_cursor]
+        // Writing the chunk size (bits 0-4) and nbr_unused_bit (bits 5-9) at the beginning of the first Integer
+        result[0] = insert_bits_in_result(0, 0, chunk_size, 0, 4);
+        result[0] = insert_bits_in_result(result[0], 5, nbr_unused_bit, 0, 4);
 
-        // Loop that writes the bits onto the new array
-        for (int i = 0; i < array.length; i++) {
+        // Full blocks of 32 values are written by the unrolled routine of the chunk size
+        int blocks = array.length / SpanningKernels.BLOCK_SIZE;
+        SpanningKernels.pack(chunk_size, array, 0, result, 0, blocks);
 
-            // Writing the chunk size and unused_bits at the beginning of the first Integer
-            if (i == 0) {
-                // Write chunk_size (bits 0-4) and nbr_unused_bit (bits 5-9)
-                result[result_cursor] = insert_bits_in_result(0, bit_cursor, chunk_size, 0, 4);
-                result[result_cursor] = insert_bits_in_result(result[result_cursor], 5, nbr_unused_bit, 0, 4);
-                bit_cursor = 10; // Metadata is 10 bits long
-            }
+        int result_cursor = blocks * chunk_size; // Index of the current integer in the result array
+        int bit_cursor = 10; // Index of the current bit within result[result_cursor], after the metadata or the last block
+
+        // Loop that writes the remaining bits onto the new array
+        for (int i = blocks * SpanningKernels.BLOCK_SIZE; i < array.length; i++) {
 
             // Core packing logic: Spanning across integer boundaries
             if (bit_cursor + chunk_size > 32) {
@@ -113,7 +120,7 @@ public class SpanningBP implements BitPacker {
             timer.stop("Compressing");
             timer.saveToJson("Compress", array.length, result.length, sizeLabel, valueLabel);
         }
-        this.logger.log(LogLevel.INFO, "Compression completed. Input size: " + array.length + ", Result size: " + result.length);
+        this.logger.log(LogLevel.INFO, () -> "Compression completed. Input size: " + array.length + ", Result size: " + result.length);
 
         return result;
     }
@@ -135,17 +142,21 @@ public class SpanningBP implements BitPacker {
         int unused_bits = extractBits(array[0], 5, 9);
 
         // Calculate the expected size of the decompressed array
-        int decompressed_array_size = ((array.length * 32) - 10 - unused_bits) / chunk_size;
+        int decompressed_array_size = (int) ((array.length * 32L - 10 - unused_bits) / chunk_size);
         int[] result = new int[decompressed_array_size];
 
         // Stop of Setup time taking
         if (timer != null) timer.stop("Setup");
-        this.logger.log(LogLevel.DEBUG, "Decompression setup complete. Expected result size: " + decompressed_array_size);
+        this.logger.log(LogLevel.DEBUG, () -> "Decompression setup complete. Expected result size: " + decompressed_array_size);
+
+        // Full blocks of 32 values are read by the unrolled routine of the chunk size
+        int blocks = decompressed_array_size / SpanningKernels.BLOCK_SIZE;
+        SpanningKernels.unpack(chunk_size, array, 0, result, 0, blocks);
 
-        int cursor_array = 0; // Current integer index in the compressed array
-        int bit_cursor = 10; // Start reading data after the 10 bits of metadata
+        int cursor_array = blocks * chunk_size; // Current integer index in the compressed array
+        int bit_cursor = 10; // Start reading data after the 10 bits of metadata or the last block
 
-        for (int i = 0; i < decompressed_array_size; i++) {
+        for (int i = blocks * SpanningKernels.BLOCK_SIZE; i < decompressed_array_size; i++) {
 
             // Core unpacking logic: Spanning across integer boundaries
             if (32 - bit_cursor < chunk_size && 32 - bit_cursor != 0) {
@@ -177,7 +188,7 @@ public class SpanningBP implements BitPacker {
             timer.stop("Decompressing");
             timer.saveToJson("Decompress", result.length, array.length, sizeLabel, valueLabel);
         }
-        this.logger.log(LogLevel.INFO, "Decompression finished. Result size: " + result.length);
+        this.logger.log(LogLevel.INFO, () -> "Decompression finished. Result size: " + result.length);
 
         return result;
     }
@@ -191,28 +202,28 @@ public class SpanningBP implements BitPacker {
 
         // Start of timetaking
         if (timer != null) timer.start();
-        this.logger.log(LogLevel.DEBUG, "Starting get operation for index: " + index);
+        this.logger.log(LogLevel.DEBUG, () -> "Starting get operation for index: " + index);
 
         // 1. Extract metadata
         int chunk_size = extractBits(array[0], 0, 4);
         int unused_bits = extractBits(array[0], 5, 9);
 
         // Calculate total logical array size for bounds check
-        int decompressed_array_size = ((array.length * 32)) - 10 - unused_bits;
+        int decompressed_array_size = (int) ((array.length * 32L - 10 - unused_bits) / chunk_size);
 
         // 2. Test if the index is out of bounds
         if (index < 0 || index >= decompressed_array_size) {
-            this.logger.log(LogLevel.WARNING, "Index " + index + " is out of bounds.");
+            this.logger.log(LogLevel.WARNING, () -> "Index " + index + " is out of bounds.");
             System.err.println("index out of bounds");
             return -1;
         }
 
         // 3. Calculate position of the chunk
-        int bit_cursor = 10 + chunk_size * index; // Total bit offset from the start of the data
+        long bit_cursor = 10 + (long) chunk_size * index; // Total bit offset from the start of the data
 
         // Calculate array index and bit position
-        int array_index = bit_cursor / 32;
-        int cursor = (bit_cursor % 32);
+        int array_index = (int) (bit_cursor >>> 5);
+        int cursor = (int) (bit_cursor & 31);
         int result;
 
         // 4. Core extraction logic (handling spanning across integers)
@@ -220,11 +231,11 @@ public class SpanningBP implements BitPacker {
             // Case 1: Spanning across two integers
 
             // Extract the first part from the current integer
-            result = insert_bits_in_result(0, 0, array[array_index], cursor, 31);
+            int low = insert_bits_in_result(0, 0, array[array_index], cursor, 31);
             array_index++;
 
             // Extract the second part from the next integer and combine
-            result = insert_bits_in_result(result, 32 - cursor, array[array_index], 0, chunk_size - (33 - cursor));
+            result = insert_bits_in_result(low, 32 - cursor, array[array_index], 0, chunk_size - (33 - cursor));
         } else {
             // Case 2: Fits entirely within the current integer
             result = extractBits(array[array_index], cursor, cursor + chunk_size - 1);
@@ -235,8 +246,71 @@ public class SpanningBP implements BitPacker {
             timer.stop("get");
             timer.saveToJson("get", decompressed_array_size, array.length, sizeLabel, valueLabel);
         }
-        this.logger.log(LogLevel.INFO, "Get operation successful. Retrieved value: " + result);
+        this.logger.log(LogLevel.INFO, () -> "Get operation successful. Retrieved value: " + result);
 
         return result;
     }
+
+    /**
+     * Decodes the metadata of the compressed array once and returns a reader
+     * that can be reused for any number of lookups.
+     */
+    @Override
+    public PackedReader open(IntBuffer array) {
+        PackedReader reader = new SpanningReader(array);
+        this.logger.log(LogLevel.DEBUG, () -> "Opened packed array with " + reader.size() + " elements.");
+        return reader;
+    }
+
+    /**
+     * Retrieves the values at several logical indices in one call.
+     * The metadata is decoded once, the values are written into the caller supplied output array.
+     */
+    @Override
+    public void getAll(int[] indices, int[] array, int[] out, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, () -> "Starting getAll operation for " + indices.length + " indices.");
+
+        PackedReader reader = new SpanningReader(IntBuffer.wrap(array));
+
+        // Stop of Setup time taking
+        if (timer != null) timer.stop("Setup");
+
+        reader.getAll(indices, out);
+
+        // Stop timetaking
+        if (timer != null) {
+            timer.stop("getAll");
+            timer.saveToJson("getAll", reader.size(), array.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "GetAll operation successful. Retrieved values: " + indices.length);
+    }
+
+    /**
+     * Decompresses only the logical indices [from, to) of the compressed array
+     * into the caller supplied output array, starting at outOffset.
+     */
+    @Override
+    public void decompressRange(int[] array, int from, int to, int[] out, int outOffset, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, () -> "Starting decompressRange operation for [" + from + ", " + to + ").");
+
+        PackedReader reader = new SpanningReader(IntBuffer.wrap(array));
+
+        // Stop of Setup time taking
+        if (timer != null) timer.stop("Setup");
+
+        reader.decompressRange(from, to, out, outOffset);
+
+        // Stop of timetaking
+        if (timer != null) {
+            timer.stop("DecompressingRange");
+            timer.saveToJson("DecompressRange", to - from, array.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "DecompressRange finished. Result size: " + (to - from));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,3247 @@
+package compressor.services;
+
+/**
+ * Unrolled pack and unpack routines of the spanning layout, one per chunk size from 1 to 32.
+ * <p>
+ * The spanning layout starts the data after the 10 bits of metadata. A block of 32 values with
+ * chunk size w therefore always starts at bit 10 of integer (block * w) and ends in bits 0-9 of
+ * integer (block * w + w), so every shift inside a block is a constant of the chunk size.
+ * The routine of a chunk size is selected once per call and then loops over all blocks.
+ * <p>
+ * Generated by tools/GenerateSpanningKernels.java, do not edit by hand. After a change of the
+ * generator, run "java tools/GenerateSpanningKernels.java" in the project directory.
+ */
+final class SpanningKernels {
+
+    /** Number of values packed or unpacked by one iteration of a routine. */
+    static final int BLOCK_SIZE = 32;
+
+    private SpanningKernels() {
+    }
+
+    /**
+     * Unpacks full blocks of 32 values.
+     * @param chunkSize The chunk size of the packed values (1 to 32).
+     * @param in The packed array.
+     * @param inPos The integer holding the first value of the first block (at bit 10).
+     * @param out The array receiving the values.
+     * @param outPos The position of the first value in out.
+     * @param blocks The number of blocks to unpack.
+     */
+    static void unpack(int chunkSize, int[] in, int inPos, int[] out, int outPos, int blocks) {
+        switch (chunkSize) {
+            case 1 -> unpack1(in, inPos, out, outPos, blocks);
+            case 2 -> unpack2(in, inPos, out, outPos, blocks);
+            case 3 -> unpack3(in, inPos, out, outPos, blocks);
+            case 4 -> unpack4(in, inPos, out, outPos, blocks);
+            case 5 -> unpack5(in, inPos, out, outPos, blocks);
+            case 6 -> unpack6(in, inPos, out, outPos, blocks);
+            case 7 -> unpack7(in, inPos, out, outPos, blocks);
+            case 8 -> unpack8(in, inPos, out, outPos, blocks);
+            case 9 -> unpack9(in, inPos, out, outPos, blocks);
+            case 10 -> unpack10(in, inPos, out, outPos, blocks);
+            case 11 -> unpack11(in, inPos, out, outPos, blocks);
+            case 12 -> unpack12(in, inPos, out, outPos, blocks);
+            case 13 -> unpack13(in, inPos, out, outPos, blocks);
+            case 14 -> unpack14(in, inPos, out, outPos, blocks);
+            case 15 -> unpack15(in, inPos, out, outPos, blocks);
+            case 16 -> unpack16(in, inPos, out, outPos, blocks);
+            case 17 -> unpack17(in, inPos, out, outPos, blocks);
+            case 18 -> unpack18(in, inPos, out, outPos, blocks);
+            case 19 -> unpack19(in, inPos, out, outPos, blocks);
+            case 20 -> unpack20(in, inPos, out, outPos, blocks);
+            case 21 -> unpack21(in, inPos, out, outPos, blocks);
+            case 22 -> unpack22(in, inPos, out, outPos, blocks);
+            case 23 -> unpack23(in, inPos, out, outPos, blocks);
+            case 24 -> unpack24(in, inPos, out, outPos, blocks);
+            case 25 -> unpack25(in, inPos, out, outPos, blocks);
+            case 26 -> unpack26(in, inPos, out, outPos, blocks);
+            case 27 -> unpack27(in, inPos, out, outPos, blocks);
+            case 28 -> unpack28(in, inPos, out, outPos, blocks);
+            case 29 -> unpack29(in, inPos, out, outPos, blocks);
+            case 30 -> unpack30(in, inPos, out, outPos, blocks);
+            case 31 -> unpack31(in, inPos, out, outPos, blocks);
+            case 32 -> unpack32(in, inPos, out, outPos, blocks);
+            default -> throw new IllegalArgumentException("Illegal chunk size: " + chunkSize);
+        }
+    }
+
+    /**
+     * Packs full blocks of 32 values. Every value must fit into chunkSize bits. Bits 0-9 of the first
+     * integer are kept (metadata or the end of the previous block), the other integers are overwritten.
+     * @param chunkSize The chunk size of the packed values (1 to 32).
+     * @param in The values to pack.
+     * @param inPos The position of the first value in in.
+     * @param out The packed array.
+     * @param outPos The integer receiving the first value of the first block (at bit 10).
+     * @param blocks The number of blocks to pack.
+     */
+    static void pack(int chunkSize, int[] in, int inPos, int[] out, int outPos, int blocks) {
+        switch (chunkSize) {
+            case 1 -> pack1(in, inPos, out, outPos, blocks);
+            case 2 -> pack2(in, inPos, out, outPos, blocks);
+            case 3 -> pack3(in, inPos, out, outPos, blocks);
+            case 4 -> pack4(in, inPos, out, outPos, blocks);
+            case 5 -> pack5(in, inPos, out, outPos, blocks);
+            case 6 -> pack6(in, inPos, out, outPos, blocks);
+            case 7 -> pack7(in, inPos, out, outPos, blocks);
+            case 8 -> pack8(in, inPos, out, outPos, blocks);
+            case 9 -> pack9(in, inPos, out, outPos, blocks);
+            case 10 -> pack10(in, inPos, out, outPos, blocks);
+            case 11 -> pack11(in, inPos, out, outPos, blocks);
+            case 12 -> pack12(in, inPos, out, outPos, blocks);
+            case 13 -> pack13(in, inPos, out, outPos, blocks);
+            case 14 -> pack14(in, inPos, out, outPos, blocks);
+            case 15 -> pack15(in, inPos, out, outPos, blocks);
+            case 16 -> pack16(in, inPos, out, outPos, blocks);
+            case 17 -> pack17(in, inPos, out, outPos, blocks);
+            case 18 -> pack18(in, inPos, out, outPos, blocks);
+            case 19 -> pack19(in, inPos, out, outPos, blocks);
+            case 20 -> pack20(in, inPos, out, outPos, blocks);
+            case 21 -> pack21(in, inPos, out, outPos, blocks);
+            case 22 -> pack22(in, inPos, out, outPos, blocks);
+            case 23 -> pack23(in, inPos, out, outPos, blocks);
+            case 24 -> pack24(in, inPos, out, outPos, blocks);
+            case 25 -> pack25(in, inPos, out, outPos, blocks);
+            case 26 -> pack26(in, inPos, out, outPos, blocks);
+            case 27 -> pack27(in, inPos, out, outPos, blocks);
+            case 28 -> pack28(in, inPos, out, outPos, blocks);
+            case 29 -> pack29(in, inPos, out, outPos, blocks);
+            case 30 -> pack30(in, inPos, out, outPos, blocks);
+            case 31 -> pack31(in, inPos, out, outPos, blocks);
+            case 32 -> pack32(in, inPos, out, outPos, blocks);
+            default -> throw new IllegalArgumentException("Illegal chunk size: " + chunkSize);
+        }
+    }
+
+    private static void unpack1(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 1, outPos += 32) {
+            final int w0 = in[inPos];
+            final int w1 = in[inPos + 1];
+            out[outPos] = (w0 >>> 10) & 0x1;
+            out[outPos + 1] = (w0 >>> 11) & 0x1;
+            out[outPos + 2] = (w0 >>> 12) & 0x1;
+            out[outPos + 3] = (w0 >>> 13) & 0x1;
+            out[outPos + 4] = (w0 >>> 14) & 0x1;
+            out[outPos + 5] = (w0 >>> 15) & 0x1;
+            out[outPos + 6] = (w0 >>> 16) & 0x1;
+            out[outPos + 7] = (w0 >>> 17) & 0x1;
+            out[outPos + 8] = (w0 >>> 18) & 0x1;
+            out[outPos + 9] = (w0 >>> 19) & 0x1;
+            out[outPos + 10] = (w0 >>> 20) & 0x1;
+            out[outPos + 11] = (w0 >>> 21) & 0x1;
+            out[outPos + 12] = (w0 >>> 22) & 0x1;
+            out[outPos + 13] = (w0 >>> 23) & 0x1;
+            out[outPos + 14] = (w0 >>> 24) & 0x1;
+            out[outPos + 15] = (w0 >>> 25) & 0x1;
+            out[outPos + 16] = (w0 >>> 26) & 0x1;
+            out[outPos + 17] = (w0 >>> 27) & 0x1;
+            out[outPos + 18] = (w0 >>> 28) & 0x1;
+            out[outPos + 19] = (w0 >>> 29) & 0x1;
+            out[outPos + 20] = (w0 >>> 30) & 0x1;
+            out[outPos + 21] = w0 >>> 31;
+            out[outPos + 22] = w1 & 0x1;
+            out[outPos + 23] = (w1 >>> 1) & 0x1;
+            out[outPos + 24] = (w1 >>> 2) & 0x1;
+            out[outPos + 25] = (w1 >>> 3) & 0x1;
+            out[outPos + 26] = (w1 >>> 4) & 0x1;
+            out[outPos + 27] = (w1 >>> 5) & 0x1;
+            out[outPos + 28] = (w1 >>> 6) & 0x1;
+            out[outPos + 29] = (w1 >>> 7) & 0x1;
+            out[outPos + 30] = (w1 >>> 8) & 0x1;
+            out[outPos + 31] = (w1 >>> 9) & 0x1;
+        }
+    }
+
+    private static void unpack2(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 2, outPos += 32) {
+            final int w0 = in[inPos];
+            final int w1 = in[inPos + 1];
+            final int w2 = in[inPos + 2];
+            out[outPos] = (w0 >>> 10) & 0x3;
+            out[outPos + 1] = (w0 >>> 12) & 0x3;
+            out[outPos + 2] = (w0 >>> 14) & 0x3;
+            out[outPos + 3] = (w0 >>> 16) & 0x3;
+            out[outPos + 4] = (w0 >>> 18) & 0x3;
+            out[outPos + 5] = (w0 >>> 20) & 0x3;
+            out[outPos + 6] = (w0 >>> 22) & 0x3;
+            out[outPos + 7] = (w0 >>> 24) & 0x3;
+            out[outPos + 8] = (w0 >>> 26) & 0x3;
+            out[outPos + 9] = (w0 >>> 28) & 0x3;
+            out[outPos + 10] = w0 >>> 30;
+            out[outPos + 11] = w1 & 0x3;
+            out[outPos + 12] = (w1 >>> 2) & 0x3;
+            out[outPos + 13] = (w1 >>> 4) & 0x3;
+            out[outPos + 14] = (w1 >>> 6) & 0x3;
+            out[outPos + 15] = (w1 >>> 8) & 0x3;
+            out[outPos + 16] = (w1 >>> 10) & 0x3;
+            out[outPos + 17] = (w1 >>> 12) & 0x3;
+            out[outPos + 18] = (w1 >>> 14) & 0x3;
+            out[outPos + 19] = (w1 >>> 16) & 0x3;
+            out[outPos + 20] = (w1 >>> 18) & 0x3;
+            out[outPos + 21] = (w1 >>> 20) & 0x3;
+            out[outPos + 22] = (w1 >>> 22) & 0x3;
+            out[outPos + 23] = (w1 >>> 24) & 0x3;
+            out[outPos + 24] = (w1 >>> 26) & 0x3;
+            out[outPos + 25] = (w1 >>> 28) & 0x3;
+            out[outPos + 26] = w1 >>> 30;
+            out[outPos + 27] = w2 & 0x3;
+            out[outPos + 28] = (w2 >>> 2) & 0x3;
+            out[outPos + 29] = (w2 >>> 4) & 0x3;
+            out[outPos + 30] = (w2 >>> 6) & 0x3;
+            out[outPos + 31] = (w2 >>> 8) & 0x3;
+        }
+    }
+
+    private static void unpack3(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 3, outPos += 32) {
+            final int w0 = in[inPos];
+            final int w1 = in[inPos + 1];
+            final int w2 = in[inPos + 2];
+            final int w3 = in[inPos + 3];
+            out[outPos] = (w0 >>> 10) & 0x7;
+            out[outPos + 1] = (w0 >>> 13) & 0x7;
+            out[outPos + 2] = (w0 >>> 16) & 0x7;
+            out[outPos + 3] = (w0 >>> 19) & 0x7;
+            out[outPos + 4] = (w0 >>> 22) & 0x7;
+            out[outPos + 5] = (w0 >>> 25) & 0x7;
+            out[outPos + 6] = (w0 >>> 28) & 0x7;
+            out[outPos + 7] = ((w0 >>> 31) | (w1 << 1)) & 0x7;
+            out[outPos + 8] = (w1 >>> 2) & 0x7;
+            out[outPos + 9] = (w1 >>> 5) & 0x7;
+            out[outPos + 10] = (w1 >>> 8) & 0x7;
+            out[outPos + 11] = (w1 >>> 11) & 0x7;
+            out[outPos + 12] = (w1 >>> 14) & 0x7;
+            out[outPos + 13] = (w1 >>> 17) & 0x7;
+            out[outPos + 14] = (w1 >>> 20) & 0x7;
+            out[outPos + 15] = (w1 >>> 23) & 0x7;
+            out[outPos + 16] = (w1 >>> 26) & 0x7;
+            out[outPos + 17] = w1 >>> 29;
+            out[outPos + 18] = w2 & 0x7;
+            out[outPos + 19] = (w2 >>> 3) & 0x7;
+            out[outPos + 20] = (w2 >>> 6) & 0x7;
+            out[outPos + 21] = (w2 >>> 9) & 0x7;
+            out[outPos + 22] = (w2 >>> 12) & 0x7;
+            out[outPos + 23] = (w2 >>> 15) & 0x7;
+            out[outPos + 24] = (w2 >>> 18) & 0x7;
+            out[outPos + 25] = (w2 >>> 21) & 0x7;
+            out[outPos + 26] = (w2 >>> 24) & 0x7;
+            out[outPos + 27] = (w2 >>> 27) & 0x7;
+            out[outPos + 28] = ((w2 >>> 30) | (w3 << 2)) & 0x7;
+            out[outPos + 29] = (w3 >>> 1) & 0x7;
+            out[outPos + 30] = (w3 >>> 4) & 0x7;
+            out[outPos + 31] = (w3 >>> 7) & 0x7;
+        }
+    }
+
+    private static void unpack4(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 4, outPos += 32) {
+            final int w0 = in[inPos];
+            final int w1 = in[inPos + 1];
+            final int w2 = in[inPos + 2];
+            final int w3 = in[inPos + 3];
+            final int w4 = in[inPos + 4];
+            out[outPos] = (w0 >>> 10) & 0xF;
+            out[outPos + 1] = (w0 >>> 14) & 0xF;
+            out[outPos + 2] = (w0 >>> 18) & 0xF;
+            out[outPos + 3] = (w0 >>> 22) & 0xF;
+            out[outPos + 4] = (w0 >>> 26) & 0xF;
+            out[outPos + 5] = ((w0 >>> 30) | (w1 << 2)) & 0xF;
+            out[outPos + 6] = (w1 >>> 2) & 0xF;
+            out[outPos + 7] = (w1 >>> 6) & 0xF;
+            out[outPos + 8] = (w1 >>> 10) & 0xF;
+            out[outPos + 9] = (w1 >>> 14) & 0xF;
+            out[outPos + 10] = (w1 >>> 18) & 0xF;
+            out[outPos + 11] = (w1 >>> 22) & 0xF;
+            out[outPos + 12] = (w1 >>> 26) & 0xF;
+            out[outPos + 13] = ((w1 >>> 30) | (w2 << 2)) & 0xF;
+            out[outPos + 14] = (w2 >>> 2) & 0xF;
+            out[outPos + 15] = (w2 >>> 6) & 0xF;
+            out[outPos + 16] = (w2 >>> 10) & 0xF;
+            out[outPos + 17] = (w2 >>> 14) & 0xF;
+            out[outPos + 18] = (w2 >>> 18) & 0xF;
+            out[outPos + 19] = (w2 >>> 22) & 0xF;
+            out[outPos + 20] = (w2 >>> 26) & 0xF;
+            out[outPos + 21] = ((w2 >>> 30) | (w3 << 2)) & 0xF;
+            out[outPos + 22] = (w3 >>> 2) & 0xF;
+            out[outPos + 23] = (w3 >>> 6) & 0xF;
+            out[outPos + 24] = (w3 >>> 10) & 0xF;
+            out[outPos + 25] = (w3 >>> 14) & 0xF;
+            out[outPos + 26] = (w3 >>> 18) & 0xF;
+            out[outPos + 27] = (w3 >>> 22) & 0xF;
+            out[outPos + 28] = (w3 >>> 26) & 0xF;
+            out[outPos + 29] = ((w3 >>> 30) | (w4 << 2)) & 0xF;
+            out[outPos + 30] = (w4 >>> 2) & 0xF;
+            out[outPos + 31] = (w4 >>> 6) & 0xF;
+        }
+    }
+
+    private static void unpack5(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 5, outPos += 32) {
+            final int w0 = in[inPos];
+            final int w1 = in[inPos + 1];
+            final int w2 = in[inPos + 2];
+            final int w3 = in[inPos + 3];
+            final int w4 = in[inPos + 4];
+            final int w5 = in[inPos + 5];
+            out[outPos] = (w0 >>> 10) & 0x1F;
+            out[outPos + 1] = (w0 >>> 15) & 0x1F;
+            out[outPos + 2] = (w0 >>> 20) & 0x1F;
+            out[outPos + 3] = (w0 >>> 25) & 0x1F;
+            out[outPos + 4] = ((w0 >>> 30) | (w1 << 2)) & 0x1F;
+            out[outPos + 5] = (w1 >>> 3) & 0x1F;
+            out[outPos + 6] = (w1 >>> 8) & 0x1F;
+            out[outPos + 7] = (w1 >>> 13) & 0x1F;
+            out[outPos + 8] = (w1 >>> 18) & 0x1F;
+            out[outPos + 9] = (w1 >>> 23) & 0x1F;
+            out[outPos + 10] = ((w1 >>> 28) | (w2 << 4)) & 0x1F;
+            out[outPos + 11] = (w2 >>> 1) & 0x1F;
+            out[outPos + 12] = (w2 >>> 6) & 0x1F;
+            out[outPos + 13] = (w2 >>> 11) & 0x1F;
+            out[outPos + 14] = (w2 >>> 16) & 0x1F;
+            out[outPos + 15] = (w2 >>> 21) & 0x1F;
+            out[outPos + 16] = (w2 >>> 26) & 0x1F;
+            out[outPos + 17] = ((w2 >>> 31) | (w3 << 1)) & 0x1F;
+            out[outPos + 18] = (w3 >>> 4) & 0x1F;
+            out[outPos + 19] = (w3 >>> 9) & 0x1F;
+            out[outPos + 20] = (w3 >>> 14) & 0x1F;
+            out[outPos + 21] = (w3 >>> 19) & 0x1F;
+            out[outPos + 22] = (w3 >>> 24) & 0x1F;
+            out[outPos + 23] = ((w3 >>> 29) | (w4 << 3)) & 0x1F;
+            out[outPos + 24] = (w4 >>> 2) & 0x1F;
+            out[outPos + 25] = (w4 >>> 7) & 0x1F;
+            out[outPos + 26] = (w4 >>> 12) & 0x1F;
+            out[outPos + 27] = (w4 >>> 17) & 0x1F;
+            out[outPos + 28] = (w4 >>> 22) & 0x1F;
+            out[outPos + 29] = w4 >>> 27;
+            out[outPos + 30] = w5 & 0x1F;
+            out[outPos + 31] = (w5 >>> 5) & 0x1F;
+        }
+    }
+
+    private static void unpack6(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 6, outPos += 32) {
+            final int w0 = in[inPos];
+            final int w1 = in[inPos + 1];
+            final int w2 = in[inPos + 2];
+            final int w3 = in[inPos + 3];
+            final int w4 = in[inPos + 4];
+            final int w5 = in[inPos + 5];
+            final int w6 = in[inPos + 6];
+            out[outPos] = (w0 >>> 10) & 0x3F;
+            out[outPos + 1] = (w0 >>> 16) & 0x3F;
+            out[outPos + 2] = (w0 >>> 22) & 0x3F;
+            out[outPos + 3] = ((w0 >>> 28) | (w1 << 4)) & 0x3F;
+            out[outPos + 4] = (w1 >>> 2) & 0x3F;
+            out[outPos + 5] = (w1 >>> 8) & 0x3F;
+            out[outPos + 6] = (w1 >>> 14) & 0x3F;
+            out[outPos + 7] = (w1 >>> 20) & 0x3F;
+            out[outPos + 8] = w1 >>> 26;
+            out[outPos + 9] = w2 & 0x3F;
+            out[outPos + 10] = (w2 >>> 6) & 0x3F;
+            out[outPos + 11] = (w2 >>> 12) & 0x3F;
+            out[outPos + 12] = (w2 >>> 18) & 0x3F;
+            out[outPos + 13] = (w2 >>> 24) & 0x3F;
+            out[outPos + 14] = ((w2 >>> 30) | (w3 << 2)) & 0x3F;
+            out[outPos + 15] = (w3 >>> 4) & 0x3F;
+            out[outPos + 16] = (w3 >>> 10) & 0x3F;
+            out[outPos + 17] = (w3 >>> 16) & 0x3F;
+            out[outPos + 18] = (w3 >>> 22) & 0x3F;
+            out[outPos + 19] = ((w3 >>> 28) | (w4 << 4)) & 0x3F;
+            out[outPos + 20] = (w4 >>> 2) & 0x3F;
+            out[outPos + 21] = (w4 >>> 8) & 0x3F;
+            out[outPos + 22] = (w4 >>> 14) & 0x3F;
+            out[outPos + 23] = (w4 >>> 20) & 0x3F;
+            out[outPos + 24] = w4 >>> 26;
+            out[outPos + 25] = w5 & 0x3F;
+            out[outPos + 26] = (w5 >>> 6) & 0x3F;
+            out[outPos + 27] = (w5 >>> 12) & 0x3F;
+            out[outPos + 28] = (w5 >>> 18) & 0x3F;
+            out[outPos + 29] = (w5 >>> 24) & 0x3F;
+            out[outPos + 30] = ((w5 >>> 30) | (w6 << 2)) & 0x3F;
+            out[outPos + 31] = (w6 >>> 4) & 0x3F;
+        }
+    }
+
+    private static void unpack7(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 7, outPos += 32) {
+            final int w0 = in[inPos];
+            final int w1 = in[inPos + 1];
+            final int w2 = in[inPos + 2];
+            final int w3 = in[inPos + 3];
+            final int w4 = in[inPos + 4];
+            final int w5 = in[inPos + 5];
+            final int w6 = in[inPos + 6];
+            final int w7 = in[inPos + 7];
+            out[outPos] = (w0 >>> 10) & 0x7F;
+            out[outPos + 1] = (w0 >>> 17) & 0x7F;
+            out[outPos + 2] = (w0 >>> 24) & 0x7F;
+            out[outPos + 3] = ((w0 >>> 31) | (w1 << 1)) & 0x7F;
+            out[outPos + 4] = (w1 >>> 6) & 0x7F;
+            out[outPos + 5] = (w1 >>> 13) & 0x7F;
+            out[outPos + 6] = (w1 >>> 20) & 0x7F;
+            out[outPos + 7] = ((w1 >>> 27) | (w2 << 5)) & 0x7F;
+            out[outPos + 8] = (w2 >>> 2) & 0x7F;
+            out[outPos + 9] = (w2 >>> 9) & 0x7F;
+            out[outPos + 10] = (w2 >>> 16) & 0x7F;
+            out[outPos + 11] = (w2 >>> 23) & 0x7F;
+            out[outPos + 12] = ((w2 >>> 30) | (w3 << 2)) & 0x7F;
+            out[outPos + 13] = (w3 >>> 5) & 0x7F;
+            out[outPos + 14] = (w3 >>> 12) & 0x7F;
+            out[outPos + 15] = (w3 >>> 19) & 0x7F;
+            out[outPos + 16] = ((w3 >>> 26) | (w4 << 6)) & 0x7F;
+            out[outPos + 17] = (w4 >>> 1) & 0x7F;
+            out[outPos + 18] = (w4 >>> 8) & 0x7F;
+            out[outPos + 19] = (w4 >>> 15) & 0x7F;
+            out[outPos + 20] = (w4 >>> 22) & 0x7F;
+            out[outPos + 21] = ((w4 >>> 29) | (w5 << 3)) & 0x7F;
+            out[outPos + 22] = (w5 >>> 4) & 0x7F;
+            out[outPos + 23] = (w5 >>> 11) & 0x7F;
+            out[outPos + 24] = (w5 >>> 18) & 0x7F;
+            out[outPos + 25] = w5 >>> 25;
+            out[outPos + 26] = w6 & 0x7F;
+            out[outPos + 27] = (w6 >>> 7) & 0x7F;
+            out[outPos + 28] = (w6 >>> 14) & 0x7F;
+            out[outPos + 29] = (w6 >>> 21) & 0x7F;
+            out[outPos + 30] = ((w6 >>> 28) | (w7 << 4)) & 0x7F;
+            out[outPos + 31] = (w7 >>> 3) & 0x7F;
+        }
+    }
+
+    private static void unpack8(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 8, outPos += 32) {
+            final int w0 = in[inPos];
+            final int w1 = in[inPos + 1];
+            final int w2 = in[inPos + 2];
+            final int w3 = in[inPos + 3];
+            final int w4 = in[inPos + 4];
+            final int w5 = in[inPos + 5];
+            final int w6 = in[inPos + 6];
+            final int w7 = in[inPos + 7];
+            final int w8 = in[inPos + 8];
+            out[outPos] = (w0 >>> 10) & 0xFF;
+            out[outPos + 1] = (w0 >>> 18) & 0xFF;
+            out[outPos + 2] = ((w0 >>> 26) | (w1 << 6)) & 0xFF;
+            out[outPos + 3] = (w1 >>> 2) & 0xFF;
+            out[outPos + 4] = (w1 >>> 10) & 0xFF;
+            out[outPos + 5] = (w1 >>> 18) & 0xFF;
+            out[outPos + 6] = ((w1 >>> 26) | (w2 << 6)) & 0xFF;
+            out[outPos + 7] = (w2 >>> 2) & 0xFF;
+            out[outPos + 8] = (w2 >>> 10) & 0xFF;
+            out[outPos + 9] = (w2 >>> 18) & 0xFF;
+            out[outPos + 10] = ((w2 >>> 26) | (w3 << 6)) & 0xFF;
+            out[outPos + 11] = (w3 >>> 2) & 0xFF;
+            out[outPos + 12] = (w3 >>> 10) & 0xFF;
+            out[outPos + 13] = (w3 >>> 18) & 0xFF;
+            out[outPos + 14] = ((w3 >>> 26) | (w4 << 6)) & 0xFF;
+            out[outPos + 15] = (w4 >>> 2) & 0xFF;
+            out[outPos + 16] = (w4 >>> 10) & 0xFF;
+            out[outPos + 17] = (w4 >>> 18) & 0xFF;
+            out[outPos + 18] = ((w4 >>> 26) | (w5 << 6)) & 0xFF;
+            out[outPos + 19] = (w5 >>> 2) & 0xFF;
+            out[outPos + 20] = (w5 >>> 10) & 0xFF;
+            out[outPos + 21] = (w5 >>> 18) & 0xFF;
+            out[outPos + 22] = ((w5 >>> 26) | (w6 << 6)) & 0xFF;
+            out[outPos + 23] = (w6 >>> 2) & 0xFF;
+            out[outPos + 24] = (w6 >>> 10) & 0xFF;
+            out[outPos + 25] = (w6 >>> 18) & 0xFF;
+            out[outPos + 26] = ((w6 >>> 26) | (w7 << 6)) & 0xFF;
+            out[outPos + 27] = (w7 >>> 2) & 0xFF;
+            out[outPos + 28] = (w7 >>> 10) & 0xFF;
+            out[outPos + 29] = (w7 >>> 18) & 0xFF;
+            out[outPos + 30] = ((w7 >>> 26) | (w8 << 6)) & 0xFF;
+            out[outPos + 31] = (w8 >>> 2) & 0xFF;
+        }
+    }
+
+    private static void unpack9(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 9, outPos += 32) {
+            final int w0 = in[inPos];
+            final int w1 = in[inPos + 1];
+            final int w2 = in[inPos + 2];
+            final int w3 = in[inPos + 3];
+            final int w4 = in[inPos + 4];
+            final int w5 = in[inPos + 5];
+            final int w6 = in[inPos + 6];
+            final int w7 = in[inPos + 7];
+            final int w8 = in[inPos + 8];
+            final int w9 = in[inPos + 9];
+            out[outPos] = (w0 >>> 10) & 0x1FF;
+            out[outPos + 1] = (w0 >>> 19) & 0x1FF;
+            out[outPos + 2] = ((w0 >>> 28) | (w1 << 4)) & 0x1FF;
+            out[outPos + 3] = (w1 >>> 5) & 0x1FF;
+            out[outPos + 4] = (w1 >>> 14) & 0x1FF;
+            out[outPos + 5] = w1 >>> 23;
+            out[outPos + 6] = w2 & 0x1FF;
+            out[outPos + 7] = (w2 >>> 9) & 0x1FF;
+            out[outPos + 8] = (w2 >>> 18) & 0x1FF;
+            out[outPos + 9] = ((w2 >>> 27) | (w3 << 5)) & 0x1FF;
+            out[outPos + 10] = (w3 >>> 4) & 0x1FF;
+            out[outPos + 11] = (w3 >>> 13) & 0x1FF;
+            out[outPos + 12] = (w3 >>> 22) & 0x1FF;
+            out[outPos + 13] = ((w3 >>> 31) | (w4 << 1)) & 0x1FF;
+            out[outPos + 14] = (w4 >>> 8) & 0x1FF;
+            out[outPos + 15] = (w4 >>> 17) & 0x1FF;
+            out[outPos + 16] = ((w4 >>> 26) | (w5 << 6)) & 0x1FF;
+            out[outPos + 17] = (w5 >>> 3) & 0x1FF;
+            out[outPos + 18] = (w5 >>> 12) & 0x1FF;
+            out[outPos + 19] = (w5 >>> 21) & 0x1FF;
+            out[outPos + 20] = ((w5 >>> 30) | (w6 << 2)) & 0x1FF;
+            out[outPos + 21] = (w6 >>> 7) & 0x1FF;
+            out[outPos + 22] = (w6 >>> 16) & 0x1FF;
+            out[outPos + 23] = ((w6 >>> 25) | (w7 << 7)) & 0x1FF;
+            out[outPos + 24] = (w7 >>> 2) & 0x1FF;
+            out[outPos + 25] = (w7 >>> 11) & 0x1FF;
+            out[outPos + 26] = (w7 >>> 20) & 0x1FF;
+            out[outPos + 27] = ((w7 >>> 29) | (w8 << 3)) & 0x1FF;
+            out[outPos + 28] = (w8 >>> 6) & 0x1FF;
+            out[outPos + 29] = (w8 >>> 15) & 0x1FF;
+            out[outPos + 30] = ((w8 >>> 24) | (w9 << 8)) & 0x1FF;
+            out[outPos + 31] = (w9 >>> 1) & 0x1FF;
+        }
+    }
+
+    private static void unpack10(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 10, outPos += 32) {
+            final int w0 = in[inPos];
+            final int w1 = in[inPos + 1];
+            final int w2 = in[inPos + 2];
+            final int w3 = in[inPos + 3];
+            final int w4 = in[inPos + 4];
+            final int w5 = in[inPos + 5];
+            final int w6 = in[inPos + 6];
+            final int w7 = in[inPos + 7];
+            final int w8 = in[inPos + 8];
+            final int w9 = in[inPos + 9];
+            final int w10 = in[inPos + 10];
+            out[outPos] = (w0 >>> 10) & 0x3FF;
+            out[outPos + 1] = (w0 >>> 20) & 0x3FF;
+            out[outPos + 2] = ((w0 >>> 30) | (w1 << 2)) & 0x3FF;
+            out[outPos + 3] = (w1 >>> 8) & 0x3FF;
+            out[outPos + 4] = (w1 >>> 18) & 0x3FF;
+            out[outPos + 5] = ((w1 >>> 28) | (w2 << 4)) & 0x3FF;
+            out[outPos + 6] = (w2 >>> 6) & 0x3FF;
+            out[outPos + 7] = (w2 >>> 16) & 0x3FF;
+            out[outPos + 8] = ((w2 >>> 26) | (w3 << 6)) & 0x3FF;
+            out[outPos + 9] = (w3 >>> 4) & 0x3FF;
+            out[outPos + 10] = (w3 >>> 14) & 0x3FF;
+            out[outPos + 11] = ((w3 >>> 24) | (w4 << 8)) & 0x3FF;
+            out[outPos + 12] = (w4 >>> 2) & 0x3FF;
+            out[outPos + 13] = (w4 >>> 12) & 0x3FF;
+            out[outPos + 14] = w4 >>> 22;
+            out[outPos + 15] = w5 & 0x3FF;
+            out[outPos + 16] = (w5 >>> 10) & 0x3FF;
+            out[outPos + 17] = (w5 >>> 20) & 0x3FF;
+            out[outPos + 18] = ((w5 >>> 30) | (w6 << 2)) & 0x3FF;
+            out[outPos + 19] = (w6 >>> 8) & 0x3FF;
+            out[outPos + 20] = (w6 >>> 18) & 0x3FF;
+            out[outPos + 21] = ((w6 >>> 28) | (w7 << 4)) & 0x3FF;
+            out[outPos + 22] = (w7 >>> 6) & 0x3FF;
+            out[outPos + 23] = (w7 >>> 16) & 0x3FF;
+            out[outPos + 24] = ((w7 >>> 26) | (w8 << 6)) & 0x3FF;
+            out[outPos + 25] = (w8 >>> 4) & 0x3FF;
+            out[outPos + 26] = (w8 >>> 14) & 0x3FF;
+            out[outPos + 27] = ((w8 >>> 24) | (w9 << 8)) & 0x3FF;
+            out[outPos + 28] = (w9 >>> 2) & 0x3FF;
+            out[outPos + 29] = (w9 >>> 12) & 0x3FF;
+            out[outPos + 30] = w9 >>> 22;
+            out[outPos + 31] = w10 & 0x3FF;
+        }
+    }
+
+    private static void unpack11(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 11, outPos += 32) {
+            final int w0 = in[inPos];
+            final int w1 = in[inPos + 1];
+            final int w2 = in[inPos + 2];
+            final int w3 = in[inPos + 3];
+            final int w4 = in[inPos + 4];
+            final int w5 = in[inPos + 5];
+            final int w6 = in[inPos + 6];
+            final int w7 = in[inPos + 7];
+            final int w8 = in[inPos + 8];
+            final int w9 = in[inPos + 9];
+            final int w10 = in[inPos + 10];
+            final int w11 = in[inPos + 11];
+            out[outPos] = (w0 >>> 10) & 0x7FF;
+            out[outPos + 1] = w0 >>> 21;
+            out[outPos + 2] = w1 & 0x7FF;
+            out[outPos + 3] = (w1 >>> 11) & 0x7FF;
+            out[outPos + 4] = ((w1 >>> 22) | (w2 << 10)) & 0x7FF;
+            out[outPos + 5] = (w2 >>> 1) & 0x7FF;
+            out[outPos + 6] = (w2 >>> 12) & 0x7FF;
+            out[outPos + 7] = ((w2 >>> 23) | (w3 << 9)) & 0x7FF;
+            out[outPos + 8] = (w3 >>> 2) & 0x7FF;
+            out[outPos + 9] = (w3 >>> 13) & 0x7FF;
+            out[outPos + 10] = ((w3 >>> 24) | (w4 << 8)) & 0x7FF;
+            out[outPos + 11] = (w4 >>> 3) & 0x7FF;
+            out[outPos + 12] = (w4 >>> 14) & 0x7FF;
+            out[outPos + 13] = ((w4 >>> 25) | (w5 << 7)) & 0x7FF;
+            out[outPos + 14] = (w5 >>> 4) & 0x7FF;
+            out[outPos + 15] = (w5 >>> 15) & 0x7FF;
+            out[outPos + 16] = ((w5 >>> 26) | (w6 << 6)) & 0x7FF;
+            out[outPos + 17] = (w6 >>> 5) & 0x7FF;
+            out[outPos + 18] = (w6 >>> 16) & 0x7FF;
+            out[outPos + 19] = ((w6 >>> 27) | (w7 << 5)) & 0x7FF;
+            out[outPos + 20] = (w7 >>> 6) & 0x7FF;
+            out[outPos + 21] = (w7 >>> 17) & 0x7FF;
+            out[outPos + 22] = ((w7 >>> 28) | (w8 << 4)) & 0x7FF;
+            out[outPos + 23] = (w8 >>> 7) & 0x7FF;
+            out[outPos + 24] = (w8 >>> 18) & 0x7FF;
+            out[outPos + 25] = ((w8 >>> 29) | (w9 << 3)) & 0x7FF;
+            out[outPos + 26] = (w9 >>> 8) & 0x7FF;
+            out[outPos + 27] = (w9 >>> 19) & 0x7FF;
+            out[outPos + 28] = ((w9 >>> 30) | (w10 << 2)) & 0x7FF;
+            out[outPos + 29] = (w10 >>> 9) & 0x7FF;
+            out[outPos + 30] = (w10 >>> 20) & 0x7FF;
+            out[outPos + 31] = ((w10 >>> 31) | (w11 << 1)) & 0x7FF;
+        }
+    }
+
+    private static void unpack12(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 12, outPos += 32) {
+            final int w0 = in[inPos];
+            final int w1 = in[inPos + 1];
+            final int w2 = in[inPos + 2];
+            final int w3 = in[inPos + 3];
+            final int w4 = in[inPos + 4];
+            final int w5 = in[inPos + 5];
+            final int w6 = in[inPos + 6];
+            final int w7 = in[inPos + 7];
+            final int w8 = in[inPos + 8];
+            final int w9 = in[inPos + 9];
+            final int w10 = in[inPos + 10];
+            final int w11 = in[inPos + 11];
+            final int w12 = in[inPos + 12];
+            out[outPos] = (w0 >>> 10) & 0xFFF;
+            out[outPos + 1] = ((w0 >>> 22) | (w1 << 10)) & 0xFFF;
+            out[outPos + 2] = (w1 >>> 2) & 0xFFF;
+            out[outPos + 3] = (w1 >>> 14) & 0xFFF;
+            out[outPos + 4] = ((w1 >>> 26) | (w2 << 6)) & 0xFFF;
+            out[outPos + 5] = (w2 >>> 6) & 0xFFF;
+            out[outPos + 6] = (w2 >>> 18) & 0xFFF;
+            out[outPos + 7] = ((w2 >>> 30) | (w3 << 2)) & 0xFFF;
+            out[outPos + 8] = (w3 >>> 10) & 0xFFF;
+            out[outPos + 9] = ((w3 >>> 22) | (w4 << 10)) & 0xFFF;
+            out[outPos + 10] = (w4 >>> 2) & 0xFFF;
+            out[outPos + 11] = (w4 >>> 14) & 0xFFF;
+            out[outPos + 12] = ((w4 >>> 26) | (w5 << 6)) & 0xFFF;
+            out[outPos + 13] = (w5 >>> 6) & 0xFFF;
+            out[outPos + 14] = (w5 >>> 18) & 0xFFF;
+            out[outPos + 15] = ((w5 >>> 30) | (w6 << 2)) & 0xFFF;
+            out[outPos + 16] = (w6 >>> 10) & 0xFFF;
+            out[outPos + 17] = ((w6 >>> 22) | (w7 << 10)) & 0xFFF;
+            out[outPos + 18] = (w7 >>> 2) & 0xFFF;
+            out[outPos + 19] = (w7 >>> 14) & 0xFFF;
+            out[outPos + 20] = ((w7 >>> 26) | (w8 << 6)) & 0xFFF;
+            out[outPos + 21] = (w8 >>> 6) & 0xFFF;
+            out[outPos + 22] = (w8 >>> 18) & 0xFFF;
+            out[outPos + 23] = ((w8 >>> 30) | (w9 << 2)) & 0xFFF;
+            out[outPos + 24] = (w9 >>> 10) & 0xFFF;
+            out[outPos + 25] = ((w9 >>> 22) | (w10 << 10)) & 0xFFF;
+            out[outPos + 26] = (w10 >>> 2) & 0xFFF;
+            out[outPos + 27] = (w10 >>> 14) & 0xFFF;
+            out[outPos + 28] = ((w10 >>> 26) | (w11 << 6)) & 0xFFF;
+            out[outPos + 29] = (w11 >>> 6) & 0xFFF;
+            out[outPos + 30] = (w11 >>> 18) & 0xFFF;
+            out[outPos + 31] = ((w11 >>> 30) | (w12 << 2)) & 0xFFF;
+        }
+    }
+
+    private static void unpack13(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 13, outPos += 32) {
+            final int w0 = in[inPos];
+            final int w1 = in[inPos + 1];
+            final int w2 = in[inPos + 2];
+            final int w3 = in[inPos + 3];
+            final int w4 = in[inPos + 4];
+            final int w5 = in[inPos + 5];
+            final int w6 = in[inPos + 6];
+            final int w7 = in[inPos + 7];
+            final int w8 = in[inPos + 8];
+            final int w9 = in[inPos + 9];
+            final int w10 = in[inPos + 10];
+            final int w11 = in[inPos + 11];
+            final int w12 = in[inPos + 12];
+            final int w13 = in[inPos + 13];
+            out[outPos] = (w0 >>> 10) & 0x1FFF;
+            out[outPos + 1] = ((w0 >>> 23) | (w1 << 9)) & 0x1FFF;
+            out[outPos + 2] = (w1 >>> 4) & 0x1FFF;
+            out[outPos + 3] = (w1 >>> 17) & 0x1FFF;
+            out[outPos + 4] = ((w1 >>> 30) | (w2 << 2)) & 0x1FFF;
+            out[outPos + 5] = (w2 >>> 11) & 0x1FFF;
+            out[outPos + 6] = ((w2 >>> 24) | (w3 << 8)) & 0x1FFF;
+            out[outPos + 7] = (w3 >>> 5) & 0x1FFF;
+            out[outPos + 8] = (w3 >>> 18) & 0x1FFF;
+            out[outPos + 9] = ((w3 >>> 31) | (w4 << 1)) & 0x1FFF;
+            out[outPos + 10] = (w4 >>> 12) & 0x1FFF;
+            out[outPos + 11] = ((w4 >>> 25) | (w5 << 7)) & 0x1FFF;
+            out[outPos + 12] = (w5 >>> 6) & 0x1FFF;
+            out[outPos + 13] = w5 >>> 19;
+            out[outPos + 14] = w6 & 0x1FFF;
+            out[outPos + 15] = (w6 >>> 13) & 0x1FFF;
+            out[outPos + 16] = ((w6 >>> 26) | (w7 << 6)) & 0x1FFF;
+            out[outPos + 17] = (w7 >>> 7) & 0x1FFF;
+            out[outPos + 18] = ((w7 >>> 20) | (w8 << 12)) & 0x1FFF;
+            out[outPos + 19] = (w8 >>> 1) & 0x1FFF;
+            out[outPos + 20] = (w8 >>> 14) & 0x1FFF;
+            out[outPos + 21] = ((w8 >>> 27) | (w9 << 5)) & 0x1FFF;
+            out[outPos + 22] = (w9 >>> 8) & 0x1FFF;
+            out[outPos + 23] = ((w9 >>> 21) | (w10 << 11)) & 0x1FFF;
+            out[outPos + 24] = (w10 >>> 2) & 0x1FFF;
+            out[outPos + 25] = (w10 >>> 15) & 0x1FFF;
+            out[outPos + 26] = ((w10 >>> 28) | (w11 << 4)) & 0x1FFF;
+            out[outPos + 27] = (w11 >>> 9) & 0x1FFF;
+            out[outPos + 28] = ((w11 >>> 22) | (w12 << 10)) & 0x1FFF;
+            out[outPos + 29] = (w12 >>> 3) & 0x1FFF;
+            out[outPos + 30] = (w12 >>> 16) & 0x1FFF;
+            out[outPos + 31] = ((w12 >>> 29) | (w13 << 3)) & 0x1FFF;
+        }
+    }
+
+    private static void unpack14(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 14, outPos += 32) {
+            final int w0 = in[inPos];
+            final int w1 = in[inPos + 1];
+            final int w2 = in[inPos + 2];
+            final int w3 = in[inPos + 3];
+            final int w4 = in[inPos + 4];
+            final int w5 = in[inPos + 5];
+            final int w6 = in[inPos + 6];
+            final int w7 = in[inPos + 7];
+            final int w8 = in[inPos + 8];
+            final int w9 = in[inPos + 9];
+            final int w10 = in[inPos + 10];
+            final int w11 = in[inPos + 11];
+            final int w12 = in[inPos + 12];
+            final int w13 = in[inPos + 13];
+            final int w14 = in[inPos + 14];
+            out[outPos] = (w0 >>> 10) & 0x3FFF;
+            out[outPos + 1] = ((w0 >>> 24) | (w1 << 8)) & 0x3FFF;
+            out[outPos + 2] = (w1 >>> 6) & 0x3FFF;
+            out[outPos + 3] = ((w1 >>> 20) | (w2 << 12)) & 0x3FFF;
+            out[outPos + 4] = (w2 >>> 2) & 0x3FFF;
+            out[outPos + 5] = (w2 >>> 16) & 0x3FFF;
+            out[outPos + 6] = ((w2 >>> 30) | (w3 << 2)) & 0x3FFF;
+            out[outPos + 7] = (w3 >>> 12) & 0x3FFF;
+            out[outPos + 8] = ((w3 >>> 26) | (w4 << 6)) & 0x3FFF;
+            out[outPos + 9] = (w4 >>> 8) & 0x3FFF;
+            out[outPos + 10] = ((w4 >>> 22) | (w5 << 10)) & 0x3FFF;
+            out[outPos + 11] = (w5 >>> 4) & 0x3FFF;
+            out[outPos + 12] = w5 >>> 18;
+            out[outPos + 13] = w6 & 0x3FFF;
+            out[outPos + 14] = (w6 >>> 14) & 0x3FFF;
+            out[outPos + 15] = ((w6 >>> 28) | (w7 << 4)) & 0x3FFF;
+            out[outPos + 16] = (w7 >>> 10) & 0x3FFF;
+            out[outPos + 17] = ((w7 >>> 24) | (w8 << 8)) & 0x3FFF;
+            out[outPos + 18] = (w8 >>> 6) & 0x3FFF;
+            out[outPos + 19] = ((w8 >>> 20) | (w9 << 12)) & 0x3FFF;
+            out[outPos + 20] = (w9 >>> 2) & 0x3FFF;
+            out[outPos + 21] = (w9 >>> 16) & 0x3FFF;
+            out[outPos + 22] = ((w9 >>> 30) | (w10 << 2)) & 0x3FFF;
+            out[outPos + 23] = (w10 >>> 12) & 0x3FFF;
+            out[outPos + 24] = ((w10 >>> 26) | (w11 << 6)) & 0x3FFF;
+            out[outPos + 25] = (w11 >>> 8) & 0x3FFF;
+            out[outPos + 26] = ((w11 >>> 22) | (w12 << 10)) & 0x3FFF;
+            out[outPos + 27] = (w12 >>> 4) & 0x3FFF;
+            out[outPos + 28] = w12 >>> 18;
+            out[outPos + 29] = w13 & 0x3FFF;
+            out[outPos + 30] = (w13 >>> 14) & 0x3FFF;
+            out[outPos + 31] = ((w13 >>> 28) | (w14 << 4)) & 0x3FFF;
+        }
+    }
+
+    private static void unpack15(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 15, outPos += 32) {
+            final int w0 = in[inPos];
+            final int w1 = in[inPos + 1];
+            final int w2 = in[inPos + 2];
+            final int w3 = in[inPos + 3];
+            final int w4 = in[inPos + 4];
+            final int w5 = in[inPos + 5];
+            final int w6 = in[inPos + 6];
+            final int w7 = in[inPos + 7];
+            final int w8 = in[inPos + 8];
+            final int w9 = in[inPos + 9];
+            final int w10 = in[inPos + 10];
+            final int w11 = in[inPos + 11];
+            final int w12 = in[inPos + 12];
+            final int w13 = in[inPos + 13];
+            final int w14 = in[inPos + 14];
+            final int w15 = in[inPos + 15];
+            out[outPos] = (w0 >>> 10) & 0x7FFF;
+            out[outPos + 1] = ((w0 >>> 25) | (w1 << 7)) & 0x7FFF;
+            out[outPos + 2] = (w1 >>> 8) & 0x7FFF;
+            out[outPos + 3] = ((w1 >>> 23) | (w2 << 9)) & 0x7FFF;
+            out[outPos + 4] = (w2 >>> 6) & 0x7FFF;
+            out[outPos + 5] = ((w2 >>> 21) | (w3 << 11)) & 0x7FFF;
+            out[outPos + 6] = (w3 >>> 4) & 0x7FFF;
+            out[outPos + 7] = ((w3 >>> 19) | (w4 << 13)) & 0x7FFF;
+            out[outPos + 8] = (w4 >>> 2) & 0x7FFF;
+            out[outPos + 9] = w4 >>> 17;
+            out[outPos + 10] = w5 & 0x7FFF;
+            out[outPos + 11] = (w5 >>> 15) & 0x7FFF;
+            out[outPos + 12] = ((w5 >>> 30) | (w6 << 2)) & 0x7FFF;
+            out[outPos + 13] = (w6 >>> 13) & 0x7FFF;
+            out[outPos + 14] = ((w6 >>> 28) | (w7 << 4)) & 0x7FFF;
+            out[outPos + 15] = (w7 >>> 11) & 0x7FFF;
+            out[outPos + 16] = ((w7 >>> 26) | (w8 << 6)) & 0x7FFF;
+            out[outPos + 17] = (w8 >>> 9) & 0x7FFF;
+            out[outPos + 18] = ((w8 >>> 24) | (w9 << 8)) & 0x7FFF;
+            out[outPos + 19] = (w9 >>> 7) & 0x7FFF;
+            out[outPos + 20] = ((w9 >>> 22) | (w10 << 10)) & 0x7FFF;
+            out[outPos + 21] = (w10 >>> 5) & 0x7FFF;
+            out[outPos + 22] = ((w10 >>> 20) | (w11 << 12)) & 0x7FFF;
+            out[outPos + 23] = (w11 >>> 3) & 0x7FFF;
+            out[outPos + 24] = ((w11 >>> 18) | (w12 << 14)) & 0x7FFF;
+            out[outPos + 25] = (w12 >>> 1) & 0x7FFF;
+            out[outPos + 26] = (w12 >>> 16) & 0x7FFF;
+            out[outPos + 27] = ((w12 >>> 31) | (w13 << 1)) & 0x7FFF;
+            out[outPos + 28] = (w13 >>> 14) & 0x7FFF;
+            out[outPos + 29] = ((w13 >>> 29) | (w14 << 3)) & 0x7FFF;
+            out[outPos + 30] = (w14 >>> 12) & 0x7FFF;
+            out[outPos + 31] = ((w14 >>> 27) | (w15 << 5)) & 0x7FFF;
+        }
+    }
+
+    private static void unpack16(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 16, outPos += 32) {
+            final int w0 = in[inPos];
+            final int w1 = in[inPos + 1];
+            final int w2 = in[inPos + 2];
+            final int w3 = in[inPos + 3];
+            final int w4 = in[inPos + 4];
+            final int w5 = in[inPos + 5];
+            final int w6 = in[inPos + 6];
+            final int w7 = in[inPos + 7];
+            final int w8 = in[inPos + 8];
+            final int w9 = in[inPos + 9];
+            final int w10 = in[inPos + 10];
+            final int w11 = in[inPos + 11];
+            final int w12 = in[inPos + 12];
+            final int w13 = in[inPos + 13];
+            final int w14 = in[inPos + 14];
+            final int w15 = in[inPos + 15];
+            final int w16 = in[inPos + 16];
+            out[outPos] = (w0 >>> 10) & 0xFFFF;
+            out[outPos + 1] = ((w0 >>> 26) | (w1 << 6)) & 0xFFFF;
+            out[outPos + 2] = (w1 >>> 10) & 0xFFFF;
+            out[outPos + 3] = ((w1 >>> 26) | (w2 << 6)) & 0xFFFF;
+            out[outPos + 4] = (w2 >>> 10) & 0xFFFF;
+            out[outPos + 5] = ((w2 >>> 26) | (w3 << 6)) & 0xFFFF;
+            out[outPos + 6] = (w3 >>> 10) & 0xFFFF;
+            out[outPos + 7] = ((w3 >>> 26) | (w4 << 6)) & 0xFFFF;
+            out[outPos + 8] = (w4 >>> 10) & 0xFFFF;
+            out[outPos + 9] = ((w4 >>> 26) | (w5 << 6)) & 0xFFFF;
+            out[outPos + 10] = (w5 >>> 10) & 0xFFFF;
+            out[outPos + 11] = ((w5 >>> 26) | (w6 << 6)) & 0xFFFF;
+            out[outPos + 12] = (w6 >>> 10) & 0xFFFF;
+            out[outPos + 13] = ((w6 >>> 26) | (w7 << 6)) & 0xFFFF;
+            out[outPos + 14] = (w7 >>> 10) & 0xFFFF;
+            out[outPos + 15] = ((w7 >>> 26) | (w8 << 6)) & 0xFFFF;
+            out[outPos + 16] = (w8 >>> 10) & 0xFFFF;
+            out[outPos + 17] = ((w8 >>> 26) | (w9 << 6)) & 0xFFFF;
+            out[outPos + 18] = (w9 >>> 10) & 0xFFFF;
+            out[outPos + 19] = ((w9 >>> 26) | (w10 << 6)) & 0xFFFF;
+            out[outPos + 20] = (w10 >>> 10) & 0xFFFF;
+            out[outPos + 21] = ((w10 >>> 26) | (w11 << 6)) & 0xFFFF;
+            out[outPos + 22] = (w11 >>> 10) & 0xFFFF;
+            out[outPos + 23] = ((w11 >>> 26) | (w12 << 6)) & 0xFFFF;
+            out[outPos + 24] = (w12 >>> 10) & 0xFFFF;
+            out[outPos + 25] = ((w12 >>> 26) | (w13 << 6)) & 0xFFFF;
+            out[outPos + 26] = (w13 >>> 10) & 0xFFFF;
+            out[outPos + 27] = ((w13 >>> 26) | (w14 << 6)) & 0xFFFF;
+            out[outPos + 28] = (w14 >>> 10) & 0xFFFF;
+            out[outPos + 29] = ((w14 >>> 26) | (w15 << 6)) & 0xFFFF;
+            out[outPos + 30] = (w15 >>> 10) & 0xFFFF;
+            out[outPos + 31] = ((w15 >>> 26) | (w16 << 6)) & 0xFFFF;
+        }
+    }
+
+    private static void unpack17(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 17, outPos += 32) {
+            final int w0 = in[inPos];
+            final int w1 = in[inPos + 1];
+            final int w2 = in[inPos + 2];
+            final int w3 = in[inPos + 3];
+            final int w4 = in[inPos + 4];
+            final int w5 = in[inPos + 5];
+            final int w6 = in[inPos + 6];
+            final int w7 = in[inPos + 7];
+            final int w8 = in[inPos + 8];
+            final int w9 = in[inPos + 9];
+            final int w10 = in[inPos + 10];
+            final int w11 = in[inPos + 11];
+            final int w12 = in[inPos + 12];
+            final int w13 = in[inPos + 13];
+            final int w14 = in[inPos + 14];
+            final int w15 = in[inPos + 15];
+            final int w16 = in[inPos + 16];
+            final int w17 = in[inPos + 17];
+            out[outPos] = (w0 >>> 10) & 0x1FFFF;
+            out[outPos + 1] = ((w0 >>> 27) | (w1 << 5)) & 0x1FFFF;
+            out[outPos + 2] = (w1 >>> 12) & 0x1FFFF;
+            out[outPos + 3] = ((w1 >>> 29) | (w2 << 3)) & 0x1FFFF;
+            out[outPos + 4] = (w2 >>> 14) & 0x1FFFF;
+            out[outPos + 5] = ((w2 >>> 31) | (w3 << 1)) & 0x1FFFF;
+            out[outPos + 6] = ((w3 >>> 16) | (w4 << 16)) & 0x1FFFF;
+            out[outPos + 7] = (w4 >>> 1) & 0x1FFFF;
+            out[outPos + 8] = ((w4 >>> 18) | (w5 << 14)) & 0x1FFFF;
+            out[outPos + 9] = (w5 >>> 3) & 0x1FFFF;
+            out[outPos + 10] = ((w5 >>> 20) | (w6 << 12)) & 0x1FFFF;
+            out[outPos + 11] = (w6 >>> 5) & 0x1FFFF;
+            out[outPos + 12] = ((w6 >>> 22) | (w7 << 10)) & 0x1FFFF;
+            out[outPos + 13] = (w7 >>> 7) & 0x1FFFF;
+            out[outPos + 14] = ((w7 >>> 24) | (w8 << 8)) & 0x1FFFF;
+            out[outPos + 15] = (w8 >>> 9) & 0x1FFFF;
+            out[outPos + 16] = ((w8 >>> 26) | (w9 << 6)) & 0x1FFFF;
+            out[outPos + 17] = (w9 >>> 11) & 0x1FFFF;
+            out[outPos + 18] = ((w9 >>> 28) | (w10 << 4)) & 0x1FFFF;
+            out[outPos + 19] = (w10 >>> 13) & 0x1FFFF;
+            out[outPos + 20] = ((w10 >>> 30) | (w11 << 2)) & 0x1FFFF;
+            out[outPos + 21] = w11 >>> 15;
+            out[outPos + 22] = w12 & 0x1FFFF;
+            out[outPos + 23] = ((w12 >>> 17) | (w13 << 15)) & 0x1FFFF;
+            out[outPos + 24] = (w13 >>> 2) & 0x1FFFF;
+            out[outPos + 25] = ((w13 >>> 19) | (w14 << 13)) & 0x1FFFF;
+            out[outPos + 26] = (w14 >>> 4) & 0x1FFFF;
+            out[outPos + 27] = ((w14 >>> 21) | (w15 << 11)) & 0x1FFFF;
+            out[outPos + 28] = (w15 >>> 6) & 0x1FFFF;
+            out[outPos + 29] = ((w15 >>> 23) | (w16 << 9)) & 0x1FFFF;
+            out[outPos + 30] = (w16 >>> 8) & 0x1FFFF;
+            out[outPos + 31] = ((w16 >>> 25) | (w17 << 7)) & 0x1FFFF;
+        }
+    }
+
+    private static void unpack18(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 18, outPos += 32) {
+            final int w0 = in[inPos];
+            final int w1 = in[inPos + 1];
+            final int w2 = in[inPos + 2];
+            final int w3 = in[inPos + 3];
+            final int w4 = in[inPos + 4];
+            final int w5 = in[inPos + 5];
+            final int w6 = in[inPos + 6];
+            final int w7 = in[inPos + 7];
+            final int w8 = in[inPos + 8];
+            final int w9 = in[inPos + 9];
+            final int w10 = in[inPos + 10];
+            final int w11 = in[inPos + 11];
+            final int w12 = in[inPos + 12];
+            final int w13 = in[inPos + 13];
+            final int w14 = in[inPos + 14];
+            final int w15 = in[inPos + 15];
+            final int w16 = in[inPos + 16];
+            final int w17 = in[inPos + 17];
+            final int w18 = in[inPos + 18];
+            out[outPos] = (w0 >>> 10) & 0x3FFFF;
+            out[outPos + 1] = ((w0 >>> 28) | (w1 << 4)) & 0x3FFFF;
+            out[outPos + 2] = w1 >>> 14;
+            out[outPos + 3] = w2 & 0x3FFFF;
+            out[outPos + 4] = ((w2 >>> 18) | (w3 << 14)) & 0x3FFFF;
+            out[outPos + 5] = (w3 >>> 4) & 0x3FFFF;
+            out[outPos + 6] = ((w3 >>> 22) | (w4 << 10)) & 0x3FFFF;
+            out[outPos + 7] = (w4 >>> 8) & 0x3FFFF;
+            out[outPos + 8] = ((w4 >>> 26) | (w5 << 6)) & 0x3FFFF;
+            out[outPos + 9] = (w5 >>> 12) & 0x3FFFF;
+            out[outPos + 10] = ((w5 >>> 30) | (w6 << 2)) & 0x3FFFF;
+            out[outPos + 11] = ((w6 >>> 16) | (w7 << 16)) & 0x3FFFF;
+            out[outPos + 12] = (w7 >>> 2) & 0x3FFFF;
+            out[outPos + 13] = ((w7 >>> 20) | (w8 << 12)) & 0x3FFFF;
+            out[outPos + 14] = (w8 >>> 6) & 0x3FFFF;
+            out[outPos + 15] = ((w8 >>> 24) | (w9 << 8)) & 0x3FFFF;
+            out[outPos + 16] = (w9 >>> 10) & 0x3FFFF;
+            out[outPos + 17] = ((w9 >>> 28) | (w10 << 4)) & 0x3FFFF;
+            out[outPos + 18] = w10 >>> 14;
+            out[outPos + 19] = w11 & 0x3FFFF;
+            out[outPos + 20] = ((w11 >>> 18) | (w12 << 14)) & 0x3FFFF;
+            out[outPos + 21] = (w12 >>> 4) & 0x3FFFF;
+            out[outPos + 22] = ((w12 >>> 22) | (w13 << 10)) & 0x3FFFF;
+            out[outPos + 23] = (w13 >>> 8) & 0x3FFFF;
+            out[outPos + 24] = ((w13 >>> 26) | (w14 << 6)) & 0x3FFFF;
+            out[outPos + 25] = (w14 >>> 12) & 0x3FFFF;
+            out[outPos + 26] = ((w14 >>> 30) | (w15 << 2)) & 0x3FFFF;
+            out[outPos + 27] = ((w15 >>> 16) | (w16 << 16)) & 0x3FFFF;
+            out[outPos + 28] = (w16 >>> 2) & 0x3FFFF;
+            out[outPos + 29] = ((w16 >>> 20) | (w17 << 12)) & 0x3FFFF;
+            out[outPos + 30] = (w17 >>> 6) & 0x3FFFF;
+            out[outPos + 31] = ((w17 >>> 24) | (w18 << 8)) & 0x3FFFF;
+        }
+    }
+
+    private static void unpack19(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 19, outPos += 32) {
+            final int w0 = in[inPos];
+            final int w1 = in[inPos + 1];
+            final int w2 = in[inPos + 2];
+            final int w3 = in[inPos + 3];
+            final int w4 = in[inPos + 4];
+            final int w5 = in[inPos + 5];
+            final int w6 = in[inPos + 6];
+            final int w7 = in[inPos + 7];
+            final int w8 = in[inPos + 8];
+            final int w9 = in[inPos + 9];
+            final int w10 = in[inPos + 10];
+            final int w11 = in[inPos + 11];
+            final int w12 = in[inPos + 12];
+            final int w13 = in[inPos + 13];
+            final int w14 = in[inPos + 14];
+            final int w15 = in[inPos + 15];
+            final int w16 = in[inPos + 16];
+            final int w17 = in[inPos + 17];
+            final int w18 = in[inPos + 18];
+            final int w19 = in[inPos + 19];
+            out[outPos] = (w0 >>> 10) & 0x7FFFF;
+            out[outPos + 1] = ((w0 >>> 29) | (w1 << 3)) & 0x7FFFF;
+            out[outPos + 2] = ((w1 >>> 16) | (w2 << 16)) & 0x7FFFF;
+            out[outPos + 3] = (w2 >>> 3) & 0x7FFFF;
+            out[outPos + 4] = ((w2 >>> 22) | (w3 << 10)) & 0x7FFFF;
+            out[outPos + 5] = (w3 >>> 9) & 0x7FFFF;
+            out[outPos + 6] = ((w3 >>> 28) | (w4 << 4)) & 0x7FFFF;
+            out[outPos + 7] = ((w4 >>> 15) | (w5 << 17)) & 0x7FFFF;
+            out[outPos + 8] = (w5 >>> 2) & 0x7FFFF;
+            out[outPos + 9] = ((w5 >>> 21) | (w6 << 11)) & 0x7FFFF;
+            out[outPos + 10] = (w6 >>> 8) & 0x7FFFF;
+            out[outPos + 11] = ((w6 >>> 27) | (w7 << 5)) & 0x7FFFF;
+            out[outPos + 12] = ((w7 >>> 14) | (w8 << 18)) & 0x7FFFF;
+            out[outPos + 13] = (w8 >>> 1) & 0x7FFFF;
+            out[outPos + 14] = ((w8 >>> 20) | (w9 << 12)) & 0x7FFFF;
+            out[outPos + 15] = (w9 >>> 7) & 0x7FFFF;
+            out[outPos + 16] = ((w9 >>> 26) | (w10 << 6)) & 0x7FFFF;
+            out[outPos + 17] = w10 >>> 13;
+            out[outPos + 18] = w11 & 0x7FFFF;
+            out[outPos + 19] = ((w11 >>> 19) | (w12 << 13)) & 0x7FFFF;
+            out[outPos + 20] = (w12 >>> 6) & 0x7FFFF;
+            out[outPos + 21] = ((w12 >>> 25) | (w13 << 7)) & 0x7FFFF;
+            out[outPos + 22] = (w13 >>> 12) & 0x7FFFF;
+            out[outPos + 23] = ((w13 >>> 31) | (w14 << 1)) & 0x7FFFF;
+            out[outPos + 24] = ((w14 >>> 18) | (w15 << 14)) & 0x7FFFF;
+            out[outPos + 25] = (w15 >>> 5) & 0x7FFFF;
+            out[outPos + 26] = ((w15 >>> 24) | (w16 << 8)) & 0x7FFFF;
+            out[outPos + 27] = (w16 >>> 11) & 0x7FFFF;
+            out[outPos + 28] = ((w16 >>> 30) | (w17 << 2)) & 0x7FFFF;
+            out[outPos + 29] = ((w17 >>> 17) | (w18 << 15)) & 0x7FFFF;
+            out[outPos + 30] = (w18 >>> 4) & 0x7FFFF;
+            out[outPos + 31] = ((w18 >>> 23) | (w19 << 9)) & 0x7FFFF;
+        }
+    }
+
+    private static void unpack20(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 20, outPos += 32) {
+            final int w0 = in[inPos];
+            final int w1 = in[inPos + 1];
+            final int w2 = in[inPos + 2];
+            final int w3 = in[inPos + 3];
+            final int w4 = in[inPos + 4];
+            final int w5 = in[inPos + 5];
+            final int w6 = in[inPos + 6];
+            final int w7 = in[inPos + 7];
+            final int w8 = in[inPos + 8];
+            final int w9 = in[inPos + 9];
+            final int w10 = in[inPos + 10];
+            final int w11 = in[inPos + 11];
+            final int w12 = in[inPos + 12];
+            final int w13 = in[inPos + 13];
+            final int w14 = in[inPos + 14];
+            final int w15 = in[inPos + 15];
+            final int w16 = in[inPos + 16];
+            final int w17 = in[inPos + 17];
+            final int w18 = in[inPos + 18];
+            final int w19 = in[inPos + 19];
+            final int w20 = in[inPos + 20];
+            out[outPos] = (w0 >>> 10) & 0xFFFFF;
+            out[outPos + 1] = ((w0 >>> 30) | (w1 << 2)) & 0xFFFFF;
+            out[outPos + 2] = ((w1 >>> 18) | (w2 << 14)) & 0xFFFFF;
+            out[outPos + 3] = (w2 >>> 6) & 0xFFFFF;
+            out[outPos + 4] = ((w2 >>> 26) | (w3 << 6)) & 0xFFFFF;
+            out[outPos + 5] = ((w3 >>> 14) | (w4 << 18)) & 0xFFFFF;
+            out[outPos + 6] = (w4 >>> 2) & 0xFFFFF;
+            out[outPos + 7] = ((w4 >>> 22) | (w5 << 10)) & 0xFFFFF;
+            out[outPos + 8] = (w5 >>> 10) & 0xFFFFF;
+            out[outPos + 9] = ((w5 >>> 30) | (w6 << 2)) & 0xFFFFF;
+            out[outPos + 10] = ((w6 >>> 18) | (w7 << 14)) & 0xFFFFF;
+            out[outPos + 11] = (w7 >>> 6) & 0xFFFFF;
+            out[outPos + 12] = ((w7 >>> 26) | (w8 << 6)) & 0xFFFFF;
+            out[outPos + 13] = ((w8 >>> 14) | (w9 << 18)) & 0xFFFFF;
+            out[outPos + 14] = (w9 >>> 2) & 0xFFFFF;
+            out[outPos + 15] = ((w9 >>> 22) | (w10 << 10)) & 0xFFFFF;
+            out[outPos + 16] = (w10 >>> 10) & 0xFFFFF;
+            out[outPos + 17] = ((w10 >>> 30) | (w11 << 2)) & 0xFFFFF;
+            out[outPos + 18] = ((w11 >>> 18) | (w12 << 14)) & 0xFFFFF;
+            out[outPos + 19] = (w12 >>> 6) & 0xFFFFF;
+            out[outPos + 20] = ((w12 >>> 26) | (w13 << 6)) & 0xFFFFF;
+            out[outPos + 21] = ((w13 >>> 14) | (w14 << 18)) & 0xFFFFF;
+            out[outPos + 22] = (w14 >>> 2) & 0xFFFFF;
+            out[outPos + 23] = ((w14 >>> 22) | (w15 << 10)) & 0xFFFFF;
+            out[outPos + 24] = (w15 >>> 10) & 0xFFFFF;
+            out[outPos + 25] = ((w15 >>> 30) | (w16 << 2)) & 0xFFFFF;
+            out[outPos + 26] = ((w16 >>> 18) | (w17 << 14)) & 0xFFFFF;
+            out[outPos + 27] = (w17 >>> 6) & 0xFFFFF;
+            out[outPos + 28] = ((w17 >>> 26) | (w18 << 6)) & 0xFFFFF;
+            out[outPos + 29] = ((w18 >>> 14) | (w19 << 18)) & 0xFFFFF;
+            out[outPos + 30] = (w19 >>> 2) & 0xFFFFF;
+            out[outPos + 31] = ((w19 >>> 22) | (w20 << 10)) & 0xFFFFF;
+        }
+    }
+
+    private static void unpack21(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 21, outPos += 32) {
+            final int w0 = in[inPos];
+            final int w1 = in[inPos + 1];
+            final int w2 = in[inPos + 2];
+            final int w3 = in[inPos + 3];
+            final int w4 = in[inPos + 4];
+            final int w5 = in[inPos + 5];
+            final int w6 = in[inPos + 6];
+            final int w7 = in[inPos + 7];
+            final int w8 = in[inPos + 8];
+            final int w9 = in[inPos + 9];
+            final int w10 = in[inPos + 10];
+            final int w11 = in[inPos + 11];
+            final int w12 = in[inPos + 12];
+            final int w13 = in[inPos + 13];
+            final int w14 = in[inPos + 14];
+            final int w15 = in[inPos + 15];
+            final int w16 = in[inPos + 16];
+            final int w17 = in[inPos + 17];
+            final int w18 = in[inPos + 18];
+            final int w19 = in[inPos + 19];
+            final int w20 = in[inPos + 20];
+            final int w21 = in[inPos + 21];
+            out[outPos] = (w0 >>> 10) & 0x1FFFFF;
+            out[outPos + 1] = ((w0 >>> 31) | (w1 << 1)) & 0x1FFFFF;
+            out[outPos + 2] = ((w1 >>> 20) | (w2 << 12)) & 0x1FFFFF;
+            out[outPos + 3] = (w2 >>> 9) & 0x1FFFFF;
+            out[outPos + 4] = ((w2 >>> 30) | (w3 << 2)) & 0x1FFFFF;
+            out[outPos + 5] = ((w3 >>> 19) | (w4 << 13)) & 0x1FFFFF;
+            out[outPos + 6] = (w4 >>> 8) & 0x1FFFFF;
+            out[outPos + 7] = ((w4 >>> 29) | (w5 << 3)) & 0x1FFFFF;
+            out[outPos + 8] = ((w5 >>> 18) | (w6 << 14)) & 0x1FFFFF;
+            out[outPos + 9] = (w6 >>> 7) & 0x1FFFFF;
+            out[outPos + 10] = ((w6 >>> 28) | (w7 << 4)) & 0x1FFFFF;
+            out[outPos + 11] = ((w7 >>> 17) | (w8 << 15)) & 0x1FFFFF;
+            out[outPos + 12] = (w8 >>> 6) & 0x1FFFFF;
+            out[outPos + 13] = ((w8 >>> 27) | (w9 << 5)) & 0x1FFFFF;
+            out[outPos + 14] = ((w9 >>> 16) | (w10 << 16)) & 0x1FFFFF;
+            out[outPos + 15] = (w10 >>> 5) & 0x1FFFFF;
+            out[outPos + 16] = ((w10 >>> 26) | (w11 << 6)) & 0x1FFFFF;
+            out[outPos + 17] = ((w11 >>> 15) | (w12 << 17)) & 0x1FFFFF;
+            out[outPos + 18] = (w12 >>> 4) & 0x1FFFFF;
+            out[outPos + 19] = ((w12 >>> 25) | (w13 << 7)) & 0x1FFFFF;
+            out[outPos + 20] = ((w13 >>> 14) | (w14 << 18)) & 0x1FFFFF;
+            out[outPos + 21] = (w14 >>> 3) & 0x1FFFFF;
+            out[outPos + 22] = ((w14 >>> 24) | (w15 << 8)) & 0x1FFFFF;
+            out[outPos + 23] = ((w15 >>> 13) | (w16 << 19)) & 0x1FFFFF;
+            out[outPos + 24] = (w16 >>> 2) & 0x1FFFFF;
+            out[outPos + 25] = ((w16 >>> 23) | (w17 << 9)) & 0x1FFFFF;
+            out[outPos + 26] = ((w17 >>> 12) | (w18 << 20)) & 0x1FFFFF;
+            out[outPos + 27] = (w18 >>> 1) & 0x1FFFFF;
+            out[outPos + 28] = ((w18 >>> 22) | (w19 << 10)) & 0x1FFFFF;
+            out[outPos + 29] = w19 >>> 11;
+            out[outPos + 30] = w20 & 0x1FFFFF;
+            out[outPos + 31] = ((w20 >>> 21) | (w21 << 11)) & 0x1FFFFF;
+        }
+    }
+
+    private static void unpack22(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 22, outPos += 32) {
+            final int w0 = in[inPos];
+            final int w1 = in[inPos + 1];
+            final int w2 = in[inPos + 2];
+            final int w3 = in[inPos + 3];
+            final int w4 = in[inPos + 4];
+            final int w5 = in[inPos + 5];
+            final int w6 = in[inPos + 6];
+            final int w7 = in[inPos + 7];
+            final int w8 = in[inPos + 8];
+            final int w9 = in[inPos + 9];
+            final int w10 = in[inPos + 10];
+            final int w11 = in[inPos + 11];
+            final int w12 = in[inPos + 12];
+            final int w13 = in[inPos + 13];
+            final int w14 = in[inPos + 14];
+            final int w15 = in[inPos + 15];
+            final int w16 = in[inPos + 16];
+            final int w17 = in[inPos + 17];
+            final int w18 = in[inPos + 18];
+            final int w19 = in[inPos + 19];
+            final int w20 = in[inPos + 20];
+            final int w21 = in[inPos + 21];
+            final int w22 = in[inPos + 22];
+            out[outPos] = w0 >>> 10;
+            out[outPos + 1] = w1 & 0x3FFFFF;
+            out[outPos + 2] = ((w1 >>> 22) | (w2 << 10)) & 0x3FFFFF;
+            out[outPos + 3] = ((w2 >>> 12) | (w3 << 20)) & 0x3FFFFF;
+            out[outPos + 4] = (w3 >>> 2) & 0x3FFFFF;
+            out[outPos + 5] = ((w3 >>> 24) | (w4 << 8)) & 0x3FFFFF;
+            out[outPos + 6] = ((w4 >>> 14) | (w5 << 18)) & 0x3FFFFF;
+            out[outPos + 7] = (w5 >>> 4) & 0x3FFFFF;
+            out[outPos + 8] = ((w5 >>> 26) | (w6 << 6)) & 0x3FFFFF;
+            out[outPos + 9] = ((w6 >>> 16) | (w7 << 16)) & 0x3FFFFF;
+            out[outPos + 10] = (w7 >>> 6) & 0x3FFFFF;
+            out[outPos + 11] = ((w7 >>> 28) | (w8 << 4)) & 0x3FFFFF;
+            out[outPos + 12] = ((w8 >>> 18) | (w9 << 14)) & 0x3FFFFF;
+            out[outPos + 13] = (w9 >>> 8) & 0x3FFFFF;
+            out[outPos + 14] = ((w9 >>> 30) | (w10 << 2)) & 0x3FFFFF;
+            out[outPos + 15] = ((w10 >>> 20) | (w11 << 12)) & 0x3FFFFF;
+            out[outPos + 16] = w11 >>> 10;
+            out[outPos + 17] = w12 & 0x3FFFFF;
+            out[outPos + 18] = ((w12 >>> 22) | (w13 << 10)) & 0x3FFFFF;
+            out[outPos + 19] = ((w13 >>> 12) | (w14 << 20)) & 0x3FFFFF;
+            out[outPos + 20] = (w14 >>> 2) & 0x3FFFFF;
+            out[outPos + 21] = ((w14 >>> 24) | (w15 << 8)) & 0x3FFFFF;
+            out[outPos + 22] = ((w15 >>> 14) | (w16 << 18)) & 0x3FFFFF;
+            out[outPos + 23] = (w16 >>> 4) & 0x3FFFFF;
+            out[outPos + 24] = ((w16 >>> 26) | (w17 << 6)) & 0x3FFFFF;
+            out[outPos + 25] = ((w17 >>> 16) | (w18 << 16)) & 0x3FFFFF;
+            out[outPos + 26] = (w18 >>> 6) & 0x3FFFFF;
+            out[outPos + 27] = ((w18 >>> 28) | (w19 << 4)) & 0x3FFFFF;
+            out[outPos + 28] = ((w19 >>> 18) | (w20 << 14)) & 0x3FFFFF;
+            out[outPos + 29] = (w20 >>> 8) & 0x3FFFFF;
+            out[outPos + 30] = ((w20 >>> 30) | (w21 << 2)) & 0x3FFFFF;
+            out[outPos + 31] = ((w21 >>> 20) | (w22 << 12)) & 0x3FFFFF;
+        }
+    }
+
+    private static void unpack23(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 23, outPos += 32) {
+            final int w0 = in[inPos];
+            final int w1 = in[inPos + 1];
+            final int w2 = in[inPos + 2];
+            final int w3 = in[inPos + 3];
+            final int w4 = in[inPos + 4];
+            final int w5 = in[inPos + 5];
+            final int w6 = in[inPos + 6];
+            final int w7 = in[inPos + 7];
+            final int w8 = in[inPos + 8];
+            final int w9 = in[inPos + 9];
+            final int w10 = in[inPos + 10];
+            final int w11 = in[inPos + 11];
+            final int w12 = in[inPos + 12];
+            final int w13 = in[inPos + 13];
+            final int w14 = in[inPos + 14];
+            final int w15 = in[inPos + 15];
+            final int w16 = in[inPos + 16];
+            final int w17 = in[inPos + 17];
+            final int w18 = in[inPos + 18];
+            final int w19 = in[inPos + 19];
+            final int w20 = in[inPos + 20];
+            final int w21 = in[inPos + 21];
+            final int w22 = in[inPos + 22];
+            final int w23 = in[inPos + 23];
+            out[outPos] = ((w0 >>> 10) | (w1 << 22)) & 0x7FFFFF;
+            out[outPos + 1] = (w1 >>> 1) & 0x7FFFFF;
+            out[outPos + 2] = ((w1 >>> 24) | (w2 << 8)) & 0x7FFFFF;
+            out[outPos + 3] = ((w2 >>> 15) | (w3 << 17)) & 0x7FFFFF;
+            out[outPos + 4] = (w3 >>> 6) & 0x7FFFFF;
+            out[outPos + 5] = ((w3 >>> 29) | (w4 << 3)) & 0x7FFFFF;
+            out[outPos + 6] = ((w4 >>> 20) | (w5 << 12)) & 0x7FFFFF;
+            out[outPos + 7] = ((w5 >>> 11) | (w6 << 21)) & 0x7FFFFF;
+            out[outPos + 8] = (w6 >>> 2) & 0x7FFFFF;
+            out[outPos + 9] = ((w6 >>> 25) | (w7 << 7)) & 0x7FFFFF;
+            out[outPos + 10] = ((w7 >>> 16) | (w8 << 16)) & 0x7FFFFF;
+            out[outPos + 11] = (w8 >>> 7) & 0x7FFFFF;
+            out[outPos + 12] = ((w8 >>> 30) | (w9 << 2)) & 0x7FFFFF;
+            out[outPos + 13] = ((w9 >>> 21) | (w10 << 11)) & 0x7FFFFF;
+            out[outPos + 14] = ((w10 >>> 12) | (w11 << 20)) & 0x7FFFFF;
+            out[outPos + 15] = (w11 >>> 3) & 0x7FFFFF;
+            out[outPos + 16] = ((w11 >>> 26) | (w12 << 6)) & 0x7FFFFF;
+            out[outPos + 17] = ((w12 >>> 17) | (w13 << 15)) & 0x7FFFFF;
+            out[outPos + 18] = (w13 >>> 8) & 0x7FFFFF;
+            out[outPos + 19] = ((w13 >>> 31) | (w14 << 1)) & 0x7FFFFF;
+            out[outPos + 20] = ((w14 >>> 22) | (w15 << 10)) & 0x7FFFFF;
+            out[outPos + 21] = ((w15 >>> 13) | (w16 << 19)) & 0x7FFFFF;
+            out[outPos + 22] = (w16 >>> 4) & 0x7FFFFF;
+            out[outPos + 23] = ((w16 >>> 27) | (w17 << 5)) & 0x7FFFFF;
+            out[outPos + 24] = ((w17 >>> 18) | (w18 << 14)) & 0x7FFFFF;
+            out[outPos + 25] = w18 >>> 9;
+            out[outPos + 26] = w19 & 0x7FFFFF;
+            out[outPos + 27] = ((w19 >>> 23) | (w20 << 9)) & 0x7FFFFF;
+            out[outPos + 28] = ((w20 >>> 14) | (w21 << 18)) & 0x7FFFFF;
+            out[outPos + 29] = (w21 >>> 5) & 0x7FFFFF;
+            out[outPos + 30] = ((w21 >>> 28) | (w22 << 4)) & 0x7FFFFF;
+            out[outPos + 31] = ((w22 >>> 19) | (w23 << 13)) & 0x7FFFFF;
+        }
+    }
+
+    private static void unpack24(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 24, outPos += 32) {
+            final int w0 = in[inPos];
+            final int w1 = in[inPos + 1];
+            final int w2 = in[inPos + 2];
+            final int w3 = in[inPos + 3];
+            final int w4 = in[inPos + 4];
+            final int w5 = in[inPos + 5];
+            final int w6 = in[inPos + 6];
+            final int w7 = in[inPos + 7];
+            final int w8 = in[inPos + 8];
+            final int w9 = in[inPos + 9];
+            final int w10 = in[inPos + 10];
+            final int w11 = in[inPos + 11];
+            final int w12 = in[inPos + 12];
+            final int w13 = in[inPos + 13];
+            final int w14 = in[inPos + 14];
+            final int w15 = in[inPos + 15];
+            final int w16 = in[inPos + 16];
+            final int w17 = in[inPos + 17];
+            final int w18 = in[inPos + 18];
+            final int w19 = in[inPos + 19];
+            final int w20 = in[inPos + 20];
+            final int w21 = in[inPos + 21];
+            final int w22 = in[inPos + 22];
+            final int w23 = in[inPos + 23];
+            final int w24 = in[inPos + 24];
+            out[outPos] = ((w0 >>> 10) | (w1 << 22)) & 0xFFFFFF;
+            out[outPos + 1] = (w1 >>> 2) & 0xFFFFFF;
+            out[outPos + 2] = ((w1 >>> 26) | (w2 << 6)) & 0xFFFFFF;
+            out[outPos + 3] = ((w2 >>> 18) | (w3 << 14)) & 0xFFFFFF;
+            out[outPos + 4] = ((w3 >>> 10) | (w4 << 22)) & 0xFFFFFF;
+            out[outPos + 5] = (w4 >>> 2) & 0xFFFFFF;
+            out[outPos + 6] = ((w4 >>> 26) | (w5 << 6)) & 0xFFFFFF;
+            out[outPos + 7] = ((w5 >>> 18) | (w6 << 14)) & 0xFFFFFF;
+            out[outPos + 8] = ((w6 >>> 10) | (w7 << 22)) & 0xFFFFFF;
+            out[outPos + 9] = (w7 >>> 2) & 0xFFFFFF;
+            out[outPos + 10] = ((w7 >>> 26) | (w8 << 6)) & 0xFFFFFF;
+            out[outPos + 11] = ((w8 >>> 18) | (w9 << 14)) & 0xFFFFFF;
+            out[outPos + 12] = ((w9 >>> 10) | (w10 << 22)) & 0xFFFFFF;
+            out[outPos + 13] = (w10 >>> 2) & 0xFFFFFF;
+            out[outPos + 14] = ((w10 >>> 26) | (w11 << 6)) & 0xFFFFFF;
+            out[outPos + 15] = ((w11 >>> 18) | (w12 << 14)) & 0xFFFFFF;
+            out[outPos + 16] = ((w12 >>> 10) | (w13 << 22)) & 0xFFFFFF;
+            out[outPos + 17] = (w13 >>> 2) & 0xFFFFFF;
+            out[outPos + 18] = ((w13 >>> 26) | (w14 << 6)) & 0xFFFFFF;
+            out[outPos + 19] = ((w14 >>> 18) | (w15 << 14)) & 0xFFFFFF;
+            out[outPos + 20] = ((w15 >>> 10) | (w16 << 22)) & 0xFFFFFF;
+            out[outPos + 21] = (w16 >>> 2) & 0xFFFFFF;
+            out[outPos + 22] = ((w16 >>> 26) | (w17 << 6)) & 0xFFFFFF;
+            out[outPos + 23] = ((w17 >>> 18) | (w18 << 14)) & 0xFFFFFF;
+            out[outPos + 24] = ((w18 >>> 10) | (w19 << 22)) & 0xFFFFFF;
+            out[outPos + 25] = (w19 >>> 2) & 0xFFFFFF;
+            out[outPos + 26] = ((w19 >>> 26) | (w20 << 6)) & 0xFFFFFF;
+            out[outPos + 27] = ((w20 >>> 18) | (w21 << 14)) & 0xFFFFFF;
+            out[outPos + 28] = ((w21 >>> 10) | (w22 << 22)) & 0xFFFFFF;
+            out[outPos + 29] = (w22 >>> 2) & 0xFFFFFF;
+            out[outPos + 30] = ((w22 >>> 26) | (w23 << 6)) & 0xFFFFFF;
+            out[outPos + 31] = ((w23 >>> 18) | (w24 << 14)) & 0xFFFFFF;
+        }
+    }
+
+    private static void unpack25(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 25, outPos += 32) {
+            final int w0 = in[inPos];
+            final int w1 = in[inPos + 1];
+            final int w2 = in[inPos + 2];
+            final int w3 = in[inPos + 3];
+            final int w4 = in[inPos + 4];
+            final int w5 = in[inPos + 5];
+            final int w6 = in[inPos + 6];
+            final int w7 = in[inPos + 7];
+            final int w8 = in[inPos + 8];
+            final int w9 = in[inPos + 9];
+            final int w10 = in[inPos + 10];
+            final int w11 = in[inPos + 11];
+            final int w12 = in[inPos + 12];
+            final int w13 = in[inPos + 13];
+            final int w14 = in[inPos + 14];
+            final int w15 = in[inPos + 15];
+            final int w16 = in[inPos + 16];
+            final int w17 = in[inPos + 17];
+            final int w18 = in[inPos + 18];
+            final int w19 = in[inPos + 19];
+            final int w20 = in[inPos + 20];
+            final int w21 = in[inPos + 21];
+            final int w22 = in[inPos + 22];
+            final int w23 = in[inPos + 23];
+            final int w24 = in[inPos + 24];
+            final int w25 = in[inPos + 25];
+            out[outPos] = ((w0 >>> 10) | (w1 << 22)) & 0x1FFFFFF;
+            out[outPos + 1] = (w1 >>> 3) & 0x1FFFFFF;
+            out[outPos + 2] = ((w1 >>> 28) | (w2 << 4)) & 0x1FFFFFF;
+            out[outPos + 3] = ((w2 >>> 21) | (w3 << 11)) & 0x1FFFFFF;
+            out[outPos + 4] = ((w3 >>> 14) | (w4 << 18)) & 0x1FFFFFF;
+            out[outPos + 5] = w4 >>> 7;
+            out[outPos + 6] = w5 & 0x1FFFFFF;
+            out[outPos + 7] = ((w5 >>> 25) | (w6 << 7)) & 0x1FFFFFF;
+            out[outPos + 8] = ((w6 >>> 18) | (w7 << 14)) & 0x1FFFFFF;
+            out[outPos + 9] = ((w7 >>> 11) | (w8 << 21)) & 0x1FFFFFF;
+            out[outPos + 10] = (w8 >>> 4) & 0x1FFFFFF;
+            out[outPos + 11] = ((w8 >>> 29) | (w9 << 3)) & 0x1FFFFFF;
+            out[outPos + 12] = ((w9 >>> 22) | (w10 << 10)) & 0x1FFFFFF;
+            out[outPos + 13] = ((w10 >>> 15) | (w11 << 17)) & 0x1FFFFFF;
+            out[outPos + 14] = ((w11 >>> 8) | (w12 << 24)) & 0x1FFFFFF;
+            out[outPos + 15] = (w12 >>> 1) & 0x1FFFFFF;
+            out[outPos + 16] = ((w12 >>> 26) | (w13 << 6)) & 0x1FFFFFF;
+            out[outPos + 17] = ((w13 >>> 19) | (w14 << 13)) & 0x1FFFFFF;
+            out[outPos + 18] = ((w14 >>> 12) | (w15 << 20)) & 0x1FFFFFF;
+            out[outPos + 19] = (w15 >>> 5) & 0x1FFFFFF;
+            out[outPos + 20] = ((w15 >>> 30) | (w16 << 2)) & 0x1FFFFFF;
+            out[outPos + 21] = ((w16 >>> 23) | (w17 << 9)) & 0x1FFFFFF;
+            out[outPos + 22] = ((w17 >>> 16) | (w18 << 16)) & 0x1FFFFFF;
+            out[outPos + 23] = ((w18 >>> 9) | (w19 << 23)) & 0x1FFFFFF;
+            out[outPos + 24] = (w19 >>> 2) & 0x1FFFFFF;
+            out[outPos + 25] = ((w19 >>> 27) | (w20 << 5)) & 0x1FFFFFF;
+            out[outPos + 26] = ((w20 >>> 20) | (w21 << 12)) & 0x1FFFFFF;
+            out[outPos + 27] = ((w21 >>> 13) | (w22 << 19)) & 0x1FFFFFF;
+            out[outPos + 28] = (w22 >>> 6) & 0x1FFFFFF;
+            out[outPos + 29] = ((w22 >>> 31) | (w23 << 1)) & 0x1FFFFFF;
+            out[outPos + 30] = ((w23 >>> 24) | (w24 << 8)) & 0x1FFFFFF;
+            out[outPos + 31] = ((w24 >>> 17) | (w25 << 15)) & 0x1FFFFFF;
+        }
+    }
+
+    private static void unpack26(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 26, outPos += 32) {
+            final int w0 = in[inPos];
+            final int w1 = in[inPos + 1];
+            final int w2 = in[inPos + 2];
+            final int w3 = in[inPos + 3];
+            final int w4 = in[inPos + 4];
+            final int w5 = in[inPos + 5];
+            final int w6 = in[inPos + 6];
+            final int w7 = in[inPos + 7];
+            final int w8 = in[inPos + 8];
+            final int w9 = in[inPos + 9];
+            final int w10 = in[inPos + 10];
+            final int w11 = in[inPos + 11];
+            final int w12 = in[inPos + 12];
+            final int w13 = in[inPos + 13];
+            final int w14 = in[inPos + 14];
+            final int w15 = in[inPos + 15];
+            final int w16 = in[inPos + 16];
+            final int w17 = in[inPos + 17];
+            final int w18 = in[inPos + 18];
+            final int w19 = in[inPos + 19];
+            final int w20 = in[inPos + 20];
+            final int w21 = in[inPos + 21];
+            final int w22 = in[inPos + 22];
+            final int w23 = in[inPos + 23];
+            final int w24 = in[inPos + 24];
+            final int w25 = in[inPos + 25];
+            final int w26 = in[inPos + 26];
+            out[outPos] = ((w0 >>> 10) | (w1 << 22)) & 0x3FFFFFF;
+            out[outPos + 1] = (w1 >>> 4) & 0x3FFFFFF;
+            out[outPos + 2] = ((w1 >>> 30) | (w2 << 2)) & 0x3FFFFFF;
+            out[outPos + 3] = ((w2 >>> 24) | (w3 << 8)) & 0x3FFFFFF;
+            out[outPos + 4] = ((w3 >>> 18) | (w4 << 14)) & 0x3FFFFFF;
+            out[outPos + 5] = ((w4 >>> 12) | (w5 << 20)) & 0x3FFFFFF;
+            out[outPos + 6] = w5 >>> 6;
+            out[outPos + 7] = w6 & 0x3FFFFFF;
+            out[outPos + 8] = ((w6 >>> 26) | (w7 << 6)) & 0x3FFFFFF;
+            out[outPos + 9] = ((w7 >>> 20) | (w8 << 12)) & 0x3FFFFFF;
+            out[outPos + 10] = ((w8 >>> 14) | (w9 << 18)) & 0x3FFFFFF;
+            out[outPos + 11] = ((w9 >>> 8) | (w10 << 24)) & 0x3FFFFFF;
+            out[outPos + 12] = (w10 >>> 2) & 0x3FFFFFF;
+            out[outPos + 13] = ((w10 >>> 28) | (w11 << 4)) & 0x3FFFFFF;
+            out[outPos + 14] = ((w11 >>> 22) | (w12 << 10)) & 0x3FFFFFF;
+            out[outPos + 15] = ((w12 >>> 16) | (w13 << 16)) & 0x3FFFFFF;
+            out[outPos + 16] = ((w13 >>> 10) | (w14 << 22)) & 0x3FFFFFF;
+            out[outPos + 17] = (w14 >>> 4) & 0x3FFFFFF;
+            out[outPos + 18] = ((w14 >>> 30) | (w15 << 2)) & 0x3FFFFFF;
+            out[outPos + 19] = ((w15 >>> 24) | (w16 << 8)) & 0x3FFFFFF;
+            out[outPos + 20] = ((w16 >>> 18) | (w17 << 14)) & 0x3FFFFFF;
+            out[outPos + 21] = ((w17 >>> 12) | (w18 << 20)) & 0x3FFFFFF;
+            out[outPos + 22] = w18 >>> 6;
+            out[outPos + 23] = w19 & 0x3FFFFFF;
+            out[outPos + 24] = ((w19 >>> 26) | (w20 << 6)) & 0x3FFFFFF;
+            out[outPos + 25] = ((w20 >>> 20) | (w21 << 12)) & 0x3FFFFFF;
+            out[outPos + 26] = ((w21 >>> 14) | (w22 << 18)) & 0x3FFFFFF;
+            out[outPos + 27] = ((w22 >>> 8) | (w23 << 24)) & 0x3FFFFFF;
+            out[outPos + 28] = (w23 >>> 2) & 0x3FFFFFF;
+            out[outPos + 29] = ((w23 >>> 28) | (w24 << 4)) & 0x3FFFFFF;
+            out[outPos + 30] = ((w24 >>> 22) | (w25 << 10)) & 0x3FFFFFF;
+            out[outPos + 31] = ((w25 >>> 16) | (w26 << 16)) & 0x3FFFFFF;
+        }
+    }
+
+    private static void unpack27(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 27, outPos += 32) {
+            final int w0 = in[inPos];
+            final int w1 = in[inPos + 1];
+            final int w2 = in[inPos + 2];
+            final int w3 = in[inPos + 3];
+            final int w4 = in[inPos + 4];
+            final int w5 = in[inPos + 5];
+            final int w6 = in[inPos + 6];
+            final int w7 = in[inPos + 7];
+            final int w8 = in[inPos + 8];
+            final int w9 = in[inPos + 9];
+            final int w10 = in[inPos + 10];
+            final int w11 = in[inPos + 11];
+            final int w12 = in[inPos + 12];
+            final int w13 = in[inPos + 13];
+            final int w14 = in[inPos + 14];
+            final int w15 = in[inPos + 15];
+            final int w16 = in[inPos + 16];
+            final int w17 = in[inPos + 17];
+            final int w18 = in[inPos + 18];
+            final int w19 = in[inPos + 19];
+            final int w20 = in[inPos + 20];
+            final int w21 = in[inPos + 21];
+            final int w22 = in[inPos + 22];
+            final int w23 = in[inPos + 23];
+            final int w24 = in[inPos + 24];
+            final int w25 = in[inPos + 25];
+            final int w26 = in[inPos + 26];
+            final int w27 = in[inPos + 27];
+            out[outPos] = ((w0 >>> 10) | (w1 << 22)) & 0x7FFFFFF;
+            out[outPos + 1] = w1 >>> 5;
+            out[outPos + 2] = w2 & 0x7FFFFFF;
+            out[outPos + 3] = ((w2 >>> 27) | (w3 << 5)) & 0x7FFFFFF;
+            out[outPos + 4] = ((w3 >>> 22) | (w4 << 10)) & 0x7FFFFFF;
+            out[outPos + 5] = ((w4 >>> 17) | (w5 << 15)) & 0x7FFFFFF;
+            out[outPos + 6] = ((w5 >>> 12) | (w6 << 20)) & 0x7FFFFFF;
+            out[outPos + 7] = ((w6 >>> 7) | (w7 << 25)) & 0x7FFFFFF;
+            out[outPos + 8] = (w7 >>> 2) & 0x7FFFFFF;
+            out[outPos + 9] = ((w7 >>> 29) | (w8 << 3)) & 0x7FFFFFF;
+            out[outPos + 10] = ((w8 >>> 24) | (w9 << 8)) & 0x7FFFFFF;
+            out[outPos + 11] = ((w9 >>> 19) | (w10 << 13)) & 0x7FFFFFF;
+            out[outPos + 12] = ((w10 >>> 14) | (w11 << 18)) & 0x7FFFFFF;
+            out[outPos + 13] = ((w11 >>> 9) | (w12 << 23)) & 0x7FFFFFF;
+            out[outPos + 14] = (w12 >>> 4) & 0x7FFFFFF;
+            out[outPos + 15] = ((w12 >>> 31) | (w13 << 1)) & 0x7FFFFFF;
+            out[outPos + 16] = ((w13 >>> 26) | (w14 << 6)) & 0x7FFFFFF;
+            out[outPos + 17] = ((w14 >>> 21) | (w15 << 11)) & 0x7FFFFFF;
+            out[outPos + 18] = ((w15 >>> 16) | (w16 << 16)) & 0x7FFFFFF;
+            out[outPos + 19] = ((w16 >>> 11) | (w17 << 21)) & 0x7FFFFFF;
+            out[outPos + 20] = ((w17 >>> 6) | (w18 << 26)) & 0x7FFFFFF;
+            out[outPos + 21] = (w18 >>> 1) & 0x7FFFFFF;
+            out[outPos + 22] = ((w18 >>> 28) | (w19 << 4)) & 0x7FFFFFF;
+            out[outPos + 23] = ((w19 >>> 23) | (w20 << 9)) & 0x7FFFFFF;
+            out[outPos + 24] = ((w20 >>> 18) | (w21 << 14)) & 0x7FFFFFF;
+            out[outPos + 25] = ((w21 >>> 13) | (w22 << 19)) & 0x7FFFFFF;
+            out[outPos + 26] = ((w22 >>> 8) | (w23 << 24)) & 0x7FFFFFF;
+            out[outPos + 27] = (w23 >>> 3) & 0x7FFFFFF;
+            out[outPos + 28] = ((w23 >>> 30) | (w24 << 2)) & 0x7FFFFFF;
+            out[outPos + 29] = ((w24 >>> 25) | (w25 << 7)) & 0x7FFFFFF;
+            out[outPos + 30] = ((w25 >>> 20) | (w26 << 12)) & 0x7FFFFFF;
+            out[outPos + 31] = ((w26 >>> 15) | (w27 << 17)) & 0x7FFFFFF;
+        }
+    }
+
+    private static void unpack28(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 28, outPos += 32) {
+            final int w0 = in[inPos];
+            final int w1 = in[inPos + 1];
+            final int w2 = in[inPos + 2];
+            final int w3 = in[inPos + 3];
+            final int w4 = in[inPos + 4];
+            final int w5 = in[inPos + 5];
+            final int w6 = in[inPos + 6];
+            final int w7 = in[inPos + 7];
+            final int w8 = in[inPos + 8];
+            final int w9 = in[inPos + 9];
+            final int w10 = in[inPos + 10];
+            final int w11 = in[inPos + 11];
+            final int w12 = in[inPos + 12];
+            final int w13 = in[inPos + 13];
+            final int w14 = in[inPos + 14];
+            final int w15 = in[inPos + 15];
+            final int w16 = in[inPos + 16];
+            final int w17 = in[inPos + 17];
+            final int w18 = in[inPos + 18];
+            final int w19 = in[inPos + 19];
+            final int w20 = in[inPos + 20];
+            final int w21 = in[inPos + 21];
+            final int w22 = in[inPos + 22];
+            final int w23 = in[inPos + 23];
+            final int w24 = in[inPos + 24];
+            final int w25 = in[inPos + 25];
+            final int w26 = in[inPos + 26];
+            final int w27 = in[inPos + 27];
+            final int w28 = in[inPos + 28];
+            out[outPos] = ((w0 >>> 10) | (w1 << 22)) & 0xFFFFFFF;
+            out[outPos + 1] = ((w1 >>> 6) | (w2 << 26)) & 0xFFFFFFF;
+            out[outPos + 2] = (w2 >>> 2) & 0xFFFFFFF;
+            out[outPos + 3] = ((w2 >>> 30) | (w3 << 2)) & 0xFFFFFFF;
+            out[outPos + 4] = ((w3 >>> 26) | (w4 << 6)) & 0xFFFFFFF;
+            out[outPos + 5] = ((w4 >>> 22) | (w5 << 10)) & 0xFFFFFFF;
+            out[outPos + 6] = ((w5 >>> 18) | (w6 << 14)) & 0xFFFFFFF;
+            out[outPos + 7] = ((w6 >>> 14) | (w7 << 18)) & 0xFFFFFFF;
+            out[outPos + 8] = ((w7 >>> 10) | (w8 << 22)) & 0xFFFFFFF;
+            out[outPos + 9] = ((w8 >>> 6) | (w9 << 26)) & 0xFFFFFFF;
+            out[outPos + 10] = (w9 >>> 2) & 0xFFFFFFF;
+            out[outPos + 11] = ((w9 >>> 30) | (w10 << 2)) & 0xFFFFFFF;
+            out[outPos + 12] = ((w10 >>> 26) | (w11 << 6)) & 0xFFFFFFF;
+            out[outPos + 13] = ((w11 >>> 22) | (w12 << 10)) & 0xFFFFFFF;
+            out[outPos + 14] = ((w12 >>> 18) | (w13 << 14)) & 0xFFFFFFF;
+            out[outPos + 15] = ((w13 >>> 14) | (w14 << 18)) & 0xFFFFFFF;
+            out[outPos + 16] = ((w14 >>> 10) | (w15 << 22)) & 0xFFFFFFF;
+            out[outPos + 17] = ((w15 >>> 6) | (w16 << 26)) & 0xFFFFFFF;
+            out[outPos + 18] = (w16 >>> 2) & 0xFFFFFFF;
+            out[outPos + 19] = ((w16 >>> 30) | (w17 << 2)) & 0xFFFFFFF;
+            out[outPos + 20] = ((w17 >>> 26) | (w18 << 6)) & 0xFFFFFFF;
+            out[outPos + 21] = ((w18 >>> 22) | (w19 << 10)) & 0xFFFFFFF;
+            out[outPos + 22] = ((w19 >>> 18) | (w20 << 14)) & 0xFFFFFFF;
+            out[outPos + 23] = ((w20 >>> 14) | (w21 << 18)) & 0xFFFFFFF;
+            out[outPos + 24] = ((w21 >>> 10) | (w22 << 22)) & 0xFFFFFFF;
+            out[outPos + 25] = ((w22 >>> 6) | (w23 << 26)) & 0xFFFFFFF;
+            out[outPos + 26] = (w23 >>> 2) & 0xFFFFFFF;
+            out[outPos + 27] = ((w23 >>> 30) | (w24 << 2)) & 0xFFFFFFF;
+            out[outPos + 28] = ((w24 >>> 26) | (w25 << 6)) & 0xFFFFFFF;
+            out[outPos + 29] = ((w25 >>> 22) | (w26 << 10)) & 0xFFFFFFF;
+            out[outPos + 30] = ((w26 >>> 18) | (w27 << 14)) & 0xFFFFFFF;
+            out[outPos + 31] = ((w27 >>> 14) | (w28 << 18)) & 0xFFFFFFF;
+        }
+    }
+
+    private static void unpack29(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 29, outPos += 32) {
+            final int w0 = in[inPos];
+            final int w1 = in[inPos + 1];
+            final int w2 = in[inPos + 2];
+            final int w3 = in[inPos + 3];
+            final int w4 = in[inPos + 4];
+            final int w5 = in[inPos + 5];
+            final int w6 = in[inPos + 6];
+            final int w7 = in[inPos + 7];
+            final int w8 = in[inPos + 8];
+            final int w9 = in[inPos + 9];
+            final int w10 = in[inPos + 10];
+            final int w11 = in[inPos + 11];
+            final int w12 = in[inPos + 12];
+            final int w13 = in[inPos + 13];
+            final int w14 = in[inPos + 14];
+            final int w15 = in[inPos + 15];
+            final int w16 = in[inPos + 16];
+            final int w17 = in[inPos + 17];
+            final int w18 = in[inPos + 18];
+            final int w19 = in[inPos + 19];
+            final int w20 = in[inPos + 20];
+            final int w21 = in[inPos + 21];
+            final int w22 = in[inPos + 22];
+            final int w23 = in[inPos + 23];
+            final int w24 = in[inPos + 24];
+            final int w25 = in[inPos + 25];
+            final int w26 = in[inPos + 26];
+            final int w27 = in[inPos + 27];
+            final int w28 = in[inPos + 28];
+            final int w29 = in[inPos + 29];
+            out[outPos] = ((w0 >>> 10) | (w1 << 22)) & 0x1FFFFFFF;
+            out[outPos + 1] = ((w1 >>> 7) | (w2 << 25)) & 0x1FFFFFFF;
+            out[outPos + 2] = ((w2 >>> 4) | (w3 << 28)) & 0x1FFFFFFF;
+            out[outPos + 3] = (w3 >>> 1) & 0x1FFFFFFF;
+            out[outPos + 4] = ((w3 >>> 30) | (w4 << 2)) & 0x1FFFFFFF;
+            out[outPos + 5] = ((w4 >>> 27) | (w5 << 5)) & 0x1FFFFFFF;
+            out[outPos + 6] = ((w5 >>> 24) | (w6 << 8)) & 0x1FFFFFFF;
+            out[outPos + 7] = ((w6 >>> 21) | (w7 << 11)) & 0x1FFFFFFF;
+            out[outPos + 8] = ((w7 >>> 18) | (w8 << 14)) & 0x1FFFFFFF;
+            out[outPos + 9] = ((w8 >>> 15) | (w9 << 17)) & 0x1FFFFFFF;
+            out[outPos + 10] = ((w9 >>> 12) | (w10 << 20)) & 0x1FFFFFFF;
+            out[outPos + 11] = ((w10 >>> 9) | (w11 << 23)) & 0x1FFFFFFF;
+            out[outPos + 12] = ((w11 >>> 6) | (w12 << 26)) & 0x1FFFFFFF;
+            out[outPos + 13] = w12 >>> 3;
+            out[outPos + 14] = w13 & 0x1FFFFFFF;
+            out[outPos + 15] = ((w13 >>> 29) | (w14 << 3)) & 0x1FFFFFFF;
+            out[outPos + 16] = ((w14 >>> 26) | (w15 << 6)) & 0x1FFFFFFF;
+            out[outPos + 17] = ((w15 >>> 23) | (w16 << 9)) & 0x1FFFFFFF;
+            out[outPos + 18] = ((w16 >>> 20) | (w17 << 12)) & 0x1FFFFFFF;
+            out[outPos + 19] = ((w17 >>> 17) | (w18 << 15)) & 0x1FFFFFFF;
+            out[outPos + 20] = ((w18 >>> 14) | (w19 << 18)) & 0x1FFFFFFF;
+            out[outPos + 21] = ((w19 >>> 11) | (w20 << 21)) & 0x1FFFFFFF;
+            out[outPos + 22] = ((w20 >>> 8) | (w21 << 24)) & 0x1FFFFFFF;
+            out[outPos + 23] = ((w21 >>> 5) | (w22 << 27)) & 0x1FFFFFFF;
+            out[outPos + 24] = (w22 >>> 2) & 0x1FFFFFFF;
+            out[outPos + 25] = ((w22 >>> 31) | (w23 << 1)) & 0x1FFFFFFF;
+            out[outPos + 26] = ((w23 >>> 28) | (w24 << 4)) & 0x1FFFFFFF;
+            out[outPos + 27] = ((w24 >>> 25) | (w25 << 7)) & 0x1FFFFFFF;
+            out[outPos + 28] = ((w25 >>> 22) | (w26 << 10)) & 0x1FFFFFFF;
+            out[outPos + 29] = ((w26 >>> 19) | (w27 << 13)) & 0x1FFFFFFF;
+            out[outPos + 30] = ((w27 >>> 16) | (w28 << 16)) & 0x1FFFFFFF;
+            out[outPos + 31] = ((w28 >>> 13) | (w29 << 19)) & 0x1FFFFFFF;
+        }
+    }
+
+    private static void unpack30(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 30, outPos += 32) {
+            final int w0 = in[inPos];
+            final int w1 = in[inPos + 1];
+            final int w2 = in[inPos + 2];
+            final int w3 = in[inPos + 3];
+            final int w4 = in[inPos + 4];
+            final int w5 = in[inPos + 5];
+            final int w6 = in[inPos + 6];
+            final int w7 = in[inPos + 7];
+            final int w8 = in[inPos + 8];
+            final int w9 = in[inPos + 9];
+            final int w10 = in[inPos + 10];
+            final int w11 = in[inPos + 11];
+            final int w12 = in[inPos + 12];
+            final int w13 = in[inPos + 13];
+            final int w14 = in[inPos + 14];
+            final int w15 = in[inPos + 15];
+            final int w16 = in[inPos + 16];
+            final int w17 = in[inPos + 17];
+            final int w18 = in[inPos + 18];
+            final int w19 = in[inPos + 19];
+            final int w20 = in[inPos + 20];
+            final int w21 = in[inPos + 21];
+            final int w22 = in[inPos + 22];
+            final int w23 = in[inPos + 23];
+            final int w24 = in[inPos + 24];
+            final int w25 = in[inPos + 25];
+            final int w26 = in[inPos + 26];
+            final int w27 = in[inPos + 27];
+            final int w28 = in[inPos + 28];
+            final int w29 = in[inPos + 29];
+            final int w30 = in[inPos + 30];
+            out[outPos] = ((w0 >>> 10) | (w1 << 22)) & 0x3FFFFFFF;
+            out[outPos + 1] = ((w1 >>> 8) | (w2 << 24)) & 0x3FFFFFFF;
+            out[outPos + 2] = ((w2 >>> 6) | (w3 << 26)) & 0x3FFFFFFF;
+            out[outPos + 3] = ((w3 >>> 4) | (w4 << 28)) & 0x3FFFFFFF;
+            out[outPos + 4] = w4 >>> 2;
+            out[outPos + 5] = w5 & 0x3FFFFFFF;
+            out[outPos + 6] = ((w5 >>> 30) | (w6 << 2)) & 0x3FFFFFFF;
+            out[outPos + 7] = ((w6 >>> 28) | (w7 << 4)) & 0x3FFFFFFF;
+            out[outPos + 8] = ((w7 >>> 26) | (w8 << 6)) & 0x3FFFFFFF;
+            out[outPos + 9] = ((w8 >>> 24) | (w9 << 8)) & 0x3FFFFFFF;
+            out[outPos + 10] = ((w9 >>> 22) | (w10 << 10)) & 0x3FFFFFFF;
+            out[outPos + 11] = ((w10 >>> 20) | (w11 << 12)) & 0x3FFFFFFF;
+            out[outPos + 12] = ((w11 >>> 18) | (w12 << 14)) & 0x3FFFFFFF;
+            out[outPos + 13] = ((w12 >>> 16) | (w13 << 16)) & 0x3FFFFFFF;
+            out[outPos + 14] = ((w13 >>> 14) | (w14 << 18)) & 0x3FFFFFFF;
+            out[outPos + 15] = ((w14 >>> 12) | (w15 << 20)) & 0x3FFFFFFF;
+            out[outPos + 16] = ((w15 >>> 10) | (w16 << 22)) & 0x3FFFFFFF;
+            out[outPos + 17] = ((w16 >>> 8) | (w17 << 24)) & 0x3FFFFFFF;
+            out[outPos + 18] = ((w17 >>> 6) | (w18 << 26)) & 0x3FFFFFFF;
+            out[outPos + 19] = ((w18 >>> 4) | (w19 << 28)) & 0x3FFFFFFF;
+            out[outPos + 20] = w19 >>> 2;
+            out[outPos + 21] = w20 & 0x3FFFFFFF;
+            out[outPos + 22] = ((w20 >>> 30) | (w21 << 2)) & 0x3FFFFFFF;
+            out[outPos + 23] = ((w21 >>> 28) | (w22 << 4)) & 0x3FFFFFFF;
+            out[outPos + 24] = ((w22 >>> 26) | (w23 << 6)) & 0x3FFFFFFF;
+            out[outPos + 25] = ((w23 >>> 24) | (w24 << 8)) & 0x3FFFFFFF;
+            out[outPos + 26] = ((w24 >>> 22) | (w25 << 10)) & 0x3FFFFFFF;
+            out[outPos + 27] = ((w25 >>> 20) | (w26 << 12)) & 0x3FFFFFFF;
+            out[outPos + 28] = ((w26 >>> 18) | (w27 << 14)) & 0x3FFFFFFF;
+            out[outPos + 29] = ((w27 >>> 16) | (w28 << 16)) & 0x3FFFFFFF;
+            out[outPos + 30] = ((w28 >>> 14) | (w29 << 18)) & 0x3FFFFFFF;
+            out[outPos + 31] = ((w29 >>> 12) | (w30 << 20)) & 0x3FFFFFFF;
+        }
+    }
+
+    private static void unpack31(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 31, outPos += 32) {
+            final int w0 = in[inPos];
+            final int w1 = in[inPos + 1];
+            final int w2 = in[inPos + 2];
+            final int w3 = in[inPos + 3];
+            final int w4 = in[inPos + 4];
+            final int w5 = in[inPos + 5];
+            final int w6 = in[inPos + 6];
+            final int w7 = in[inPos + 7];
+            final int w8 = in[inPos + 8];
+            final int w9 = in[inPos + 9];
+            final int w10 = in[inPos + 10];
+            final int w11 = in[inPos + 11];
+            final int w12 = in[inPos + 12];
+            final int w13 = in[inPos + 13];
+            final int w14 = in[inPos + 14];
+            final int w15 = in[inPos + 15];
+            final int w16 = in[inPos + 16];
+            final int w17 = in[inPos + 17];
+            final int w18 = in[inPos + 18];
+            final int w19 = in[inPos + 19];
+            final int w20 = in[inPos + 20];
+            final int w21 = in[inPos + 21];
+            final int w22 = in[inPos + 22];
+            final int w23 = in[inPos + 23];
+            final int w24 = in[inPos + 24];
+            final int w25 = in[inPos + 25];
+            final int w26 = in[inPos + 26];
+            final int w27 = in[inPos + 27];
+            final int w28 = in[inPos + 28];
+            final int w29 = in[inPos + 29];
+            final int w30 = in[inPos + 30];
+            final int w31 = in[inPos + 31];
+            out[outPos] = ((w0 >>> 10) | (w1 << 22)) & 0x7FFFFFFF;
+            out[outPos + 1] = ((w1 >>> 9) | (w2 << 23)) & 0x7FFFFFFF;
+            out[outPos + 2] = ((w2 >>> 8) | (w3 << 24)) & 0x7FFFFFFF;
+            out[outPos + 3] = ((w3 >>> 7) | (w4 << 25)) & 0x7FFFFFFF;
+            out[outPos + 4] = ((w4 >>> 6) | (w5 << 26)) & 0x7FFFFFFF;
+            out[outPos + 5] = ((w5 >>> 5) | (w6 << 27)) & 0x7FFFFFFF;
+            out[outPos + 6] = ((w6 >>> 4) | (w7 << 28)) & 0x7FFFFFFF;
+            out[outPos + 7] = ((w7 >>> 3) | (w8 << 29)) & 0x7FFFFFFF;
+            out[outPos + 8] = ((w8 >>> 2) | (w9 << 30)) & 0x7FFFFFFF;
+            out[outPos + 9] = w9 >>> 1;
+            out[outPos + 10] = w10 & 0x7FFFFFFF;
+            out[outPos + 11] = ((w10 >>> 31) | (w11 << 1)) & 0x7FFFFFFF;
+            out[outPos + 12] = ((w11 >>> 30) | (w12 << 2)) & 0x7FFFFFFF;
+            out[outPos + 13] = ((w12 >>> 29) | (w13 << 3)) & 0x7FFFFFFF;
+            out[outPos + 14] = ((w13 >>> 28) | (w14 << 4)) & 0x7FFFFFFF;
+            out[outPos + 15] = ((w14 >>> 27) | (w15 << 5)) & 0x7FFFFFFF;
+            out[outPos + 16] = ((w15 >>> 26) | (w16 << 6)) & 0x7FFFFFFF;
+            out[outPos + 17] = ((w16 >>> 25) | (w17 << 7)) & 0x7FFFFFFF;
+            out[outPos + 18] = ((w17 >>> 24) | (w18 << 8)) & 0x7FFFFFFF;
+            out[outPos + 19] = ((w18 >>> 23) | (w19 << 9)) & 0x7FFFFFFF;
+            out[outPos + 20] = ((w19 >>> 22) | (w20 << 10)) & 0x7FFFFFFF;
+            out[outPos + 21] = ((w20 >>> 21) | (w21 << 11)) & 0x7FFFFFFF;
+            out[outPos + 22] = ((w21 >>> 20) | (w22 << 12)) & 0x7FFFFFFF;
+            out[outPos + 23] = ((w22 >>> 19) | (w23 << 13)) & 0x7FFFFFFF;
+            out[outPos + 24] = ((w23 >>> 18) | (w24 << 14)) & 0x7FFFFFFF;
+            out[outPos + 25] = ((w24 >>> 17) | (w25 << 15)) & 0x7FFFFFFF;
+            out[outPos + 26] = ((w25 >>> 16) | (w26 << 16)) & 0x7FFFFFFF;
+            out[outPos + 27] = ((w26 >>> 15) | (w27 << 17)) & 0x7FFFFFFF;
+            out[outPos + 28] = ((w27 >>> 14) | (w28 << 18)) & 0x7FFFFFFF;
+            out[outPos + 29] = ((w28 >>> 13) | (w29 << 19)) & 0x7FFFFFFF;
+            out[outPos + 30] = ((w29 >>> 12) | (w30 << 20)) & 0x7FFFFFFF;
+            out[outPos + 31] = ((w30 >>> 11) | (w31 << 21)) & 0x7FFFFFFF;
+        }
+    }
+
+    private static void unpack32(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 32, outPos += 32) {
+            final int w0 = in[inPos];
+            final int w1 = in[inPos + 1];
+            final int w2 = in[inPos + 2];
+            final int w3 = in[inPos + 3];
+            final int w4 = in[inPos + 4];
+            final int w5 = in[inPos + 5];
+            final int w6 = in[inPos + 6];
+            final int w7 = in[inPos + 7];
+            final int w8 = in[inPos + 8];
+            final int w9 = in[inPos + 9];
+            final int w10 = in[inPos + 10];
+            final int w11 = in[inPos + 11];
+            final int w12 = in[inPos + 12];
+            final int w13 = in[inPos + 13];
+            final int w14 = in[inPos + 14];
+            final int w15 = in[inPos + 15];
+            final int w16 = in[inPos + 16];
+            final int w17 = in[inPos + 17];
+            final int w18 = in[inPos + 18];
+            final int w19 = in[inPos + 19];
+            final int w20 = in[inPos + 20];
+            final int w21 = in[inPos + 21];
+            final int w22 = in[inPos + 22];
+            final int w23 = in[inPos + 23];
+            final int w24 = in[inPos + 24];
+            final int w25 = in[inPos + 25];
+            final int w26 = in[inPos + 26];
+            final int w27 = in[inPos + 27];
+            final int w28 = in[inPos + 28];
+            final int w29 = in[inPos + 29];
+            final int w30 = in[inPos + 30];
+            final int w31 = in[inPos + 31];
+            final int w32 = in[inPos + 32];
+            out[outPos] = (w0 >>> 10) | (w1 << 22);
+            out[outPos + 1] = (w1 >>> 10) | (w2 << 22);
+            out[outPos + 2] = (w2 >>> 10) | (w3 << 22);
+            out[outPos + 3] = (w3 >>> 10) | (w4 << 22);
+            out[outPos + 4] = (w4 >>> 10) | (w5 << 22);
+            out[outPos + 5] = (w5 >>> 10) | (w6 << 22);
+            out[outPos + 6] = (w6 >>> 10) | (w7 << 22);
+            out[outPos + 7] = (w7 >>> 10) | (w8 << 22);
+            out[outPos + 8] = (w8 >>> 10) | (w9 << 22);
+            out[outPos + 9] = (w9 >>> 10) | (w10 << 22);
+            out[outPos + 10] = (w10 >>> 10) | (w11 << 22);
+            out[outPos + 11] = (w11 >>> 10) | (w12 << 22);
+            out[outPos + 12] = (w12 >>> 10) | (w13 << 22);
+            out[outPos + 13] = (w13 >>> 10) | (w14 << 22);
+            out[outPos + 14] = (w14 >>> 10) | (w15 << 22);
+            out[outPos + 15] = (w15 >>> 10) | (w16 << 22);
+            out[outPos + 16] = (w16 >>> 10) | (w17 << 22);
+            out[outPos + 17] = (w17 >>> 10) | (w18 << 22);
+            out[outPos + 18] = (w18 >>> 10) | (w19 << 22);
+            out[outPos + 19] = (w19 >>> 10) | (w20 << 22);
+            out[outPos + 20] = (w20 >>> 10) | (w21 << 22);
+            out[outPos + 21] = (w21 >>> 10) | (w22 << 22);
+            out[outPos + 22] = (w22 >>> 10) | (w23 << 22);
+            out[outPos + 23] = (w23 >>> 10) | (w24 << 22);
+            out[outPos + 24] = (w24 >>> 10) | (w25 << 22);
+            out[outPos + 25] = (w25 >>> 10) | (w26 << 22);
+            out[outPos + 26] = (w26 >>> 10) | (w27 << 22);
+            out[outPos + 27] = (w27 >>> 10) | (w28 << 22);
+            out[outPos + 28] = (w28 >>> 10) | (w29 << 22);
+            out[outPos + 29] = (w29 >>> 10) | (w30 << 22);
+            out[outPos + 30] = (w30 >>> 10) | (w31 << 22);
+            out[outPos + 31] = (w31 >>> 10) | (w32 << 22);
+        }
+    }
+
+    private static void pack1(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 32, outPos += 1) {
+            out[outPos] |= in[inPos] << 10
+                    | in[inPos + 1] << 11
+                    | in[inPos + 2] << 12
+                    | in[inPos + 3] << 13
+                    | in[inPos + 4] << 14
+                    | in[inPos + 5] << 15
+                    | in[inPos + 6] << 16
+                    | in[inPos + 7] << 17
+                    | in[inPos + 8] << 18
+                    | in[inPos + 9] << 19
+                    | in[inPos + 10] << 20
+                    | in[inPos + 11] << 21
+                    | in[inPos + 12] << 22
+                    | in[inPos + 13] << 23
+                    | in[inPos + 14] << 24
+                    | in[inPos + 15] << 25
+                    | in[inPos + 16] << 26
+                    | in[inPos + 17] << 27
+                    | in[inPos + 18] << 28
+                    | in[inPos + 19] << 29
+                    | in[inPos + 20] << 30
+                    | in[inPos + 21] << 31;
+            out[outPos + 1] = in[inPos + 22]
+                    | in[inPos + 23] << 1
+                    | in[inPos + 24] << 2
+                    | in[inPos + 25] << 3
+                    | in[inPos + 26] << 4
+                    | in[inPos + 27] << 5
+                    | in[inPos + 28] << 6
+                    | in[inPos + 29] << 7
+                    | in[inPos + 30] << 8
+                    | in[inPos + 31] << 9;
+        }
+    }
+
+    private static void pack2(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 32, outPos += 2) {
+            out[outPos] |= in[inPos] << 10
+                    | in[inPos + 1] << 12
+                    | in[inPos + 2] << 14
+                    | in[inPos + 3] << 16
+                    | in[inPos + 4] << 18
+                    | in[inPos + 5] << 20
+                    | in[inPos + 6] << 22
+                    | in[inPos + 7] << 24
+                    | in[inPos + 8] << 26
+                    | in[inPos + 9] << 28
+                    | in[inPos + 10] << 30;
+            out[outPos + 1] = in[inPos + 11]
+                    | in[inPos + 12] << 2
+                    | in[inPos + 13] << 4
+                    | in[inPos + 14] << 6
+                    | in[inPos + 15] << 8
+                    | in[inPos + 16] << 10
+                    | in[inPos + 17] << 12
+                    | in[inPos + 18] << 14
+                    | in[inPos + 19] << 16
+                    | in[inPos + 20] << 18
+                    | in[inPos + 21] << 20
+                    | in[inPos + 22] << 22
+                    | in[inPos + 23] << 24
+                    | in[inPos + 24] << 26
+                    | in[inPos + 25] << 28
+                    | in[inPos + 26] << 30;
+            out[outPos + 2] = in[inPos + 27]
+                    | in[inPos + 28] << 2
+                    | in[inPos + 29] << 4
+                    | in[inPos + 30] << 6
+                    | in[inPos + 31] << 8;
+        }
+    }
+
+    private static void pack3(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 32, outPos += 3) {
+            out[outPos] |= in[inPos] << 10
+                    | in[inPos + 1] << 13
+                    | in[inPos + 2] << 16
+                    | in[inPos + 3] << 19
+                    | in[inPos + 4] << 22
+                    | in[inPos + 5] << 25
+                    | in[inPos + 6] << 28
+                    | in[inPos + 7] << 31;
+            out[outPos + 1] = in[inPos + 7] >>> 1
+                    | in[inPos + 8] << 2
+                    | in[inPos + 9] << 5
+                    | in[inPos + 10] << 8
+                    | in[inPos + 11] << 11
+                    | in[inPos + 12] << 14
+                    | in[inPos + 13] << 17
+                    | in[inPos + 14] << 20
+                    | in[inPos + 15] << 23
+                    | in[inPos + 16] << 26
+                    | in[inPos + 17] << 29;
+            out[outPos + 2] = in[inPos + 18]
+                    | in[inPos + 19] << 3
+                    | in[inPos + 20] << 6
+                    | in[inPos + 21] << 9
+                    | in[inPos + 22] << 12
+                    | in[inPos + 23] << 15
+                    | in[inPos + 24] << 18
+                    | in[inPos + 25] << 21
+                    | in[inPos + 26] << 24
+                    | in[inPos + 27] << 27
+                    | in[inPos + 28] << 30;
+            out[outPos + 3] = in[inPos + 28] >>> 2
+                    | in[inPos + 29] << 1
+                    | in[inPos + 30] << 4
+                    | in[inPos + 31] << 7;
+        }
+    }
+
+    private static void pack4(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 32, outPos += 4) {
+            out[outPos] |= in[inPos] << 10
+                    | in[inPos + 1] << 14
+                    | in[inPos + 2] << 18
+                    | in[inPos + 3] << 22
+                    | in[inPos + 4] << 26
+                    | in[inPos + 5] << 30;
+            out[outPos + 1] = in[inPos + 5] >>> 2
+                    | in[inPos + 6] << 2
+                    | in[inPos + 7] << 6
+                    | in[inPos + 8] << 10
+                    | in[inPos + 9] << 14
+                    | in[inPos + 10] << 18
+                    | in[inPos + 11] << 22
+                    | in[inPos + 12] << 26
+                    | in[inPos + 13] << 30;
+            out[outPos + 2] = in[inPos + 13] >>> 2
+                    | in[inPos + 14] << 2
+                    | in[inPos + 15] << 6
+                    | in[inPos + 16] << 10
+                    | in[inPos + 17] << 14
+                    | in[inPos + 18] << 18
+                    | in[inPos + 19] << 22
+                    | in[inPos + 20] << 26
+                    | in[inPos + 21] << 30;
+            out[outPos + 3] = in[inPos + 21] >>> 2
+                    | in[inPos + 22] << 2
+                    | in[inPos + 23] << 6
+                    | in[inPos + 24] << 10
+                    | in[inPos + 25] << 14
+                    | in[inPos + 26] << 18
+                    | in[inPos + 27] << 22
+                    | in[inPos + 28] << 26
+                    | in[inPos + 29] << 30;
+            out[outPos + 4] = in[inPos + 29] >>> 2
+                    | in[inPos + 30] << 2
+                    | in[inPos + 31] << 6;
+        }
+    }
+
+    private static void pack5(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 32, outPos += 5) {
+            out[outPos] |= in[inPos] << 10
+                    | in[inPos + 1] << 15
+                    | in[inPos + 2] << 20
+                    | in[inPos + 3] << 25
+                    | in[inPos + 4] << 30;
+            out[outPos + 1] = in[inPos + 4] >>> 2
+                    | in[inPos + 5] << 3
+                    | in[inPos + 6] << 8
+                    | in[inPos + 7] << 13
+                    | in[inPos + 8] << 18
+                    | in[inPos + 9] << 23
+                    | in[inPos + 10] << 28;
+            out[outPos + 2] = in[inPos + 10] >>> 4
+                    | in[inPos + 11] << 1
+                    | in[inPos + 12] << 6
+                    | in[inPos + 13] << 11
+                    | in[inPos + 14] << 16
+                    | in[inPos + 15] << 21
+                    | in[inPos + 16] << 26
+                    | in[inPos + 17] << 31;
+            out[outPos + 3] = in[inPos + 17] >>> 1
+                    | in[inPos + 18] << 4
+                    | in[inPos + 19] << 9
+                    | in[inPos + 20] << 14
+                    | in[inPos + 21] << 19
+                    | in[inPos + 22] << 24
+                    | in[inPos + 23] << 29;
+            out[outPos + 4] = in[inPos + 23] >>> 3
+                    | in[inPos + 24] << 2
+                    | in[inPos + 25] << 7
+                    | in[inPos + 26] << 12
+                    | in[inPos + 27] << 17
+                    | in[inPos + 28] << 22
+                    | in[inPos + 29] << 27;
+            out[outPos + 5] = in[inPos + 30] | in[inPos + 31] << 5;
+        }
+    }
+
+    private static void pack6(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 32, outPos += 6) {
+            out[outPos] |= in[inPos] << 10
+                    | in[inPos + 1] << 16
+                    | in[inPos + 2] << 22
+                    | in[inPos + 3] << 28;
+            out[outPos + 1] = in[inPos + 3] >>> 4
+                    | in[inPos + 4] << 2
+                    | in[inPos + 5] << 8
+                    | in[inPos + 6] << 14
+                    | in[inPos + 7] << 20
+                    | in[inPos + 8] << 26;
+            out[outPos + 2] = in[inPos + 9]
+                    | in[inPos + 10] << 6
+                    | in[inPos + 11] << 12
+                    | in[inPos + 12] << 18
+                    | in[inPos + 13] << 24
+                    | in[inPos + 14] << 30;
+            out[outPos + 3] = in[inPos + 14] >>> 2
+                    | in[inPos + 15] << 4
+                    | in[inPos + 16] << 10
+                    | in[inPos + 17] << 16
+                    | in[inPos + 18] << 22
+                    | in[inPos + 19] << 28;
+            out[outPos + 4] = in[inPos + 19] >>> 4
+                    | in[inPos + 20] << 2
+                    | in[inPos + 21] << 8
+                    | in[inPos + 22] << 14
+                    | in[inPos + 23] << 20
+                    | in[inPos + 24] << 26;
+            out[outPos + 5] = in[inPos + 25]
+                    | in[inPos + 26] << 6
+                    | in[inPos + 27] << 12
+                    | in[inPos + 28] << 18
+                    | in[inPos + 29] << 24
+                    | in[inPos + 30] << 30;
+            out[outPos + 6] = in[inPos + 30] >>> 2 | in[inPos + 31] << 4;
+        }
+    }
+
+    private static void pack7(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 32, outPos += 7) {
+            out[outPos] |= in[inPos] << 10
+                    | in[inPos + 1] << 17
+                    | in[inPos + 2] << 24
+                    | in[inPos + 3] << 31;
+            out[outPos + 1] = in[inPos + 3] >>> 1
+                    | in[inPos + 4] << 6
+                    | in[inPos + 5] << 13
+                    | in[inPos + 6] << 20
+                    | in[inPos + 7] << 27;
+            out[outPos + 2] = in[inPos + 7] >>> 5
+                    | in[inPos + 8] << 2
+                    | in[inPos + 9] << 9
+                    | in[inPos + 10] << 16
+                    | in[inPos + 11] << 23
+                    | in[inPos + 12] << 30;
+            out[outPos + 3] = in[inPos + 12] >>> 2
+                    | in[inPos + 13] << 5
+                    | in[inPos + 14] << 12
+                    | in[inPos + 15] << 19
+                    | in[inPos + 16] << 26;
+            out[outPos + 4] = in[inPos + 16] >>> 6
+                    | in[inPos + 17] << 1
+                    | in[inPos + 18] << 8
+                    | in[inPos + 19] << 15
+                    | in[inPos + 20] << 22
+                    | in[inPos + 21] << 29;
+            out[outPos + 5] = in[inPos + 21] >>> 3
+                    | in[inPos + 22] << 4
+                    | in[inPos + 23] << 11
+                    | in[inPos + 24] << 18
+                    | in[inPos + 25] << 25;
+            out[outPos + 6] = in[inPos + 26]
+                    | in[inPos + 27] << 7
+                    | in[inPos + 28] << 14
+                    | in[inPos + 29] << 21
+                    | in[inPos + 30] << 28;
+            out[outPos + 7] = in[inPos + 30] >>> 4 | in[inPos + 31] << 3;
+        }
+    }
+
+    private static void pack8(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 32, outPos += 8) {
+            out[outPos] |= in[inPos] << 10
+                    | in[inPos + 1] << 18
+                    | in[inPos + 2] << 26;
+            out[outPos + 1] = in[inPos + 2] >>> 6
+                    | in[inPos + 3] << 2
+                    | in[inPos + 4] << 10
+                    | in[inPos + 5] << 18
+                    | in[inPos + 6] << 26;
+            out[outPos + 2] = in[inPos + 6] >>> 6
+                    | in[inPos + 7] << 2
+                    | in[inPos + 8] << 10
+                    | in[inPos + 9] << 18
+                    | in[inPos + 10] << 26;
+            out[outPos + 3] = in[inPos + 10] >>> 6
+                    | in[inPos + 11] << 2
+                    | in[inPos + 12] << 10
+                    | in[inPos + 13] << 18
+                    | in[inPos + 14] << 26;
+            out[outPos + 4] = in[inPos + 14] >>> 6
+                    | in[inPos + 15] << 2
+                    | in[inPos + 16] << 10
+                    | in[inPos + 17] << 18
+                    | in[inPos + 18] << 26;
+            out[outPos + 5] = in[inPos + 18] >>> 6
+                    | in[inPos + 19] << 2
+                    | in[inPos + 20] << 10
+                    | in[inPos + 21] << 18
+                    | in[inPos + 22] << 26;
+            out[outPos + 6] = in[inPos + 22] >>> 6
+                    | in[inPos + 23] << 2
+                    | in[inPos + 24] << 10
+                    | in[inPos + 25] << 18
+                    | in[inPos + 26] << 26;
+            out[outPos + 7] = in[inPos + 26] >>> 6
+                    | in[inPos + 27] << 2
+                    | in[inPos + 28] << 10
+                    | in[inPos + 29] << 18
+                    | in[inPos + 30] << 26;
+            out[outPos + 8] = in[inPos + 30] >>> 6 | in[inPos + 31] << 2;
+        }
+    }
+
+    private static void pack9(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 32, outPos += 9) {
+            out[outPos] |= in[inPos] << 10
+                    | in[inPos + 1] << 19
+                    | in[inPos + 2] << 28;
+            out[outPos + 1] = in[inPos + 2] >>> 4
+                    | in[inPos + 3] << 5
+                    | in[inPos + 4] << 14
+                    | in[inPos + 5] << 23;
+            out[outPos + 2] = in[inPos + 6]
+                    | in[inPos + 7] << 9
+                    | in[inPos + 8] << 18
+                    | in[inPos + 9] << 27;
+            out[outPos + 3] = in[inPos + 9] >>> 5
+                    | in[inPos + 10] << 4
+                    | in[inPos + 11] << 13
+                    | in[inPos + 12] << 22
+                    | in[inPos + 13] << 31;
+            out[outPos + 4] = in[inPos + 13] >>> 1
+                    | in[inPos + 14] << 8
+                    | in[inPos + 15] << 17
+                    | in[inPos + 16] << 26;
+            out[outPos + 5] = in[inPos + 16] >>> 6
+                    | in[inPos + 17] << 3
+                    | in[inPos + 18] << 12
+                    | in[inPos + 19] << 21
+                    | in[inPos + 20] << 30;
+            out[outPos + 6] = in[inPos + 20] >>> 2
+                    | in[inPos + 21] << 7
+                    | in[inPos + 22] << 16
+                    | in[inPos + 23] << 25;
+            out[outPos + 7] = in[inPos + 23] >>> 7
+                    | in[inPos + 24] << 2
+                    | in[inPos + 25] << 11
+                    | in[inPos + 26] << 20
+                    | in[inPos + 27] << 29;
+            out[outPos + 8] = in[inPos + 27] >>> 3
+                    | in[inPos + 28] << 6
+                    | in[inPos + 29] << 15
+                    | in[inPos + 30] << 24;
+            out[outPos + 9] = in[inPos + 30] >>> 8 | in[inPos + 31] << 1;
+        }
+    }
+
+    private static void pack10(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 32, outPos += 10) {
+            out[outPos] |= in[inPos] << 10
+                    | in[inPos + 1] << 20
+                    | in[inPos + 2] << 30;
+            out[outPos + 1] = in[inPos + 2] >>> 2
+                    | in[inPos + 3] << 8
+                    | in[inPos + 4] << 18
+                    | in[inPos + 5] << 28;
+            out[outPos + 2] = in[inPos + 5] >>> 4
+                    | in[inPos + 6] << 6
+                    | in[inPos + 7] << 16
+                    | in[inPos + 8] << 26;
+            out[outPos + 3] = in[inPos + 8] >>> 6
+                    | in[inPos + 9] << 4
+                    | in[inPos + 10] << 14
+                    | in[inPos + 11] << 24;
+            out[outPos + 4] = in[inPos + 11] >>> 8
+                    | in[inPos + 12] << 2
+                    | in[inPos + 13] << 12
+                    | in[inPos + 14] << 22;
+            out[outPos + 5] = in[inPos + 15]
+                    | in[inPos + 16] << 10
+                    | in[inPos + 17] << 20
+                    | in[inPos + 18] << 30;
+            out[outPos + 6] = in[inPos + 18] >>> 2
+                    | in[inPos + 19] << 8
+                    | in[inPos + 20] << 18
+                    | in[inPos + 21] << 28;
+            out[outPos + 7] = in[inPos + 21] >>> 4
+                    | in[inPos + 22] << 6
+                    | in[inPos + 23] << 16
+                    | in[inPos + 24] << 26;
+            out[outPos + 8] = in[inPos + 24] >>> 6
+                    | in[inPos + 25] << 4
+                    | in[inPos + 26] << 14
+                    | in[inPos + 27] << 24;
+            out[outPos + 9] = in[inPos + 27] >>> 8
+                    | in[inPos + 28] << 2
+                    | in[inPos + 29] << 12
+                    | in[inPos + 30] << 22;
+            out[outPos + 10] = in[inPos + 31];
+        }
+    }
+
+    private static void pack11(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 32, outPos += 11) {
+            out[outPos] |= in[inPos] << 10 | in[inPos + 1] << 21;
+            out[outPos + 1] = in[inPos + 2]
+                    | in[inPos + 3] << 11
+                    | in[inPos + 4] << 22;
+            out[outPos + 2] = in[inPos + 4] >>> 10
+                    | in[inPos + 5] << 1
+                    | in[inPos + 6] << 12
+                    | in[inPos + 7] << 23;
+            out[outPos + 3] = in[inPos + 7] >>> 9
+                    | in[inPos + 8] << 2
+                    | in[inPos + 9] << 13
+                    | in[inPos + 10] << 24;
+            out[outPos + 4] = in[inPos + 10] >>> 8
+                    | in[inPos + 11] << 3
+                    | in[inPos + 12] << 14
+                    | in[inPos + 13] << 25;
+            out[outPos + 5] = in[inPos + 13] >>> 7
+                    | in[inPos + 14] << 4
+                    | in[inPos + 15] << 15
+                    | in[inPos + 16] << 26;
+            out[outPos + 6] = in[inPos + 16] >>> 6
+                    | in[inPos + 17] << 5
+                    | in[inPos + 18] << 16
+                    | in[inPos + 19] << 27;
+            out[outPos + 7] = in[inPos + 19] >>> 5
+                    | in[inPos + 20] << 6
+                    | in[inPos + 21] << 17
+                    | in[inPos + 22] << 28;
+            out[outPos + 8] = in[inPos + 22] >>> 4
+                    | in[inPos + 23] << 7
+                    | in[inPos + 24] << 18
+                    | in[inPos + 25] << 29;
+            out[outPos + 9] = in[inPos + 25] >>> 3
+                    | in[inPos + 26] << 8
+                    | in[inPos + 27] << 19
+                    | in[inPos + 28] << 30;
+            out[outPos + 10] = in[inPos + 28] >>> 2
+                    | in[inPos + 29] << 9
+                    | in[inPos + 30] << 20
+                    | in[inPos + 31] << 31;
+            out[outPos + 11] = in[inPos + 31] >>> 1;
+        }
+    }
+
+    private static void pack12(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 32, outPos += 12) {
+            out[outPos] |= in[inPos] << 10 | in[inPos + 1] << 22;
+            out[outPos + 1] = in[inPos + 1] >>> 10
+                    | in[inPos + 2] << 2
+                    | in[inPos + 3] << 14
+                    | in[inPos + 4] << 26;
+            out[outPos + 2] = in[inPos + 4] >>> 6
+                    | in[inPos + 5] << 6
+                    | in[inPos + 6] << 18
+                    | in[inPos + 7] << 30;
+            out[outPos + 3] = in[inPos + 7] >>> 2
+                    | in[inPos + 8] << 10
+                    | in[inPos + 9] << 22;
+            out[outPos + 4] = in[inPos + 9] >>> 10
+                    | in[inPos + 10] << 2
+                    | in[inPos + 11] << 14
+                    | in[inPos + 12] << 26;
+            out[outPos + 5] = in[inPos + 12] >>> 6
+                    | in[inPos + 13] << 6
+                    | in[inPos + 14] << 18
+                    | in[inPos + 15] << 30;
+            out[outPos + 6] = in[inPos + 15] >>> 2
+                    | in[inPos + 16] << 10
+                    | in[inPos + 17] << 22;
+            out[outPos + 7] = in[inPos + 17] >>> 10
+                    | in[inPos + 18] << 2
+                    | in[inPos + 19] << 14
+                    | in[inPos + 20] << 26;
+            out[outPos + 8] = in[inPos + 20] >>> 6
+                    | in[inPos + 21] << 6
+                    | in[inPos + 22] << 18
+                    | in[inPos + 23] << 30;
+            out[outPos + 9] = in[inPos + 23] >>> 2
+                    | in[inPos + 24] << 10
+                    | in[inPos + 25] << 22;
+            out[outPos + 10] = in[inPos + 25] >>> 10
+                    | in[inPos + 26] << 2
+                    | in[inPos + 27] << 14
+                    | in[inPos + 28] << 26;
+            out[outPos + 11] = in[inPos + 28] >>> 6
+                    | in[inPos + 29] << 6
+                    | in[inPos + 30] << 18
+                    | in[inPos + 31] << 30;
+            out[outPos + 12] = in[inPos + 31] >>> 2;
+        }
+    }
+
+    private static void pack13(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 32, outPos += 13) {
+            out[outPos] |= in[inPos] << 10 | in[inPos + 1] << 23;
+            out[outPos + 1] = in[inPos + 1] >>> 9
+                    | in[inPos + 2] << 4
+                    | in[inPos + 3] << 17
+                    | in[inPos + 4] << 30;
+            out[outPos + 2] = in[inPos + 4] >>> 2
+                    | in[inPos + 5] << 11
+                    | in[inPos + 6] << 24;
+            out[outPos + 3] = in[inPos + 6] >>> 8
+                    | in[inPos + 7] << 5
+                    | in[inPos + 8] << 18
+                    | in[inPos + 9] << 31;
+            out[outPos + 4] = in[inPos + 9] >>> 1
+                    | in[inPos + 10] << 12
+                    | in[inPos + 11] << 25;
+            out[outPos + 5] = in[inPos + 11] >>> 7
+                    | in[inPos + 12] << 6
+                    | in[inPos + 13] << 19;
+            out[outPos + 6] = in[inPos + 14]
+                    | in[inPos + 15] << 13
+                    | in[inPos + 16] << 26;
+            out[outPos + 7] = in[inPos + 16] >>> 6
+                    | in[inPos + 17] << 7
+                    | in[inPos + 18] << 20;
+            out[outPos + 8] = in[inPos + 18] >>> 12
+                    | in[inPos + 19] << 1
+                    | in[inPos + 20] << 14
+                    | in[inPos + 21] << 27;
+            out[outPos + 9] = in[inPos + 21] >>> 5
+                    | in[inPos + 22] << 8
+                    | in[inPos + 23] << 21;
+            out[outPos + 10] = in[inPos + 23] >>> 11
+                    | in[inPos + 24] << 2
+                    | in[inPos + 25] << 15
+                    | in[inPos + 26] << 28;
+            out[outPos + 11] = in[inPos + 26] >>> 4
+                    | in[inPos + 27] << 9
+                    | in[inPos + 28] << 22;
+            out[outPos + 12] = in[inPos + 28] >>> 10
+                    | in[inPos + 29] << 3
+                    | in[inPos + 30] << 16
+                    | in[inPos + 31] << 29;
+            out[outPos + 13] = in[inPos + 31] >>> 3;
+        }
+    }
+
+    private static void pack14(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 32, outPos += 14) {
+            out[outPos] |= in[inPos] << 10 | in[inPos + 1] << 24;
+            out[outPos + 1] = in[inPos + 1] >>> 8
+                    | in[inPos + 2] << 6
+                    | in[inPos + 3] << 20;
+            out[outPos + 2] = in[inPos + 3] >>> 12
+                    | in[inPos + 4] << 2
+                    | in[inPos + 5] << 16
+                    | in[inPos + 6] << 30;
+            out[outPos + 3] = in[inPos + 6] >>> 2
+                    | in[inPos + 7] << 12
+                    | in[inPos + 8] << 26;
+            out[outPos + 4] = in[inPos + 8] >>> 6
+                    | in[inPos + 9] << 8
+                    | in[inPos + 10] << 22;
+            out[outPos + 5] = in[inPos + 10] >>> 10
+                    | in[inPos + 11] << 4
+                    | in[inPos + 12] << 18;
+            out[outPos + 6] = in[inPos + 13]
+                    | in[inPos + 14] << 14
+                    | in[inPos + 15] << 28;
+            out[outPos + 7] = in[inPos + 15] >>> 4
+                    | in[inPos + 16] << 10
+                    | in[inPos + 17] << 24;
+            out[outPos + 8] = in[inPos + 17] >>> 8
+                    | in[inPos + 18] << 6
+                    | in[inPos + 19] << 20;
+            out[outPos + 9] = in[inPos + 19] >>> 12
+                    | in[inPos + 20] << 2
+                    | in[inPos + 21] << 16
+                    | in[inPos + 22] << 30;
+            out[outPos + 10] = in[inPos + 22] >>> 2
+                    | in[inPos + 23] << 12
+                    | in[inPos + 24] << 26;
+            out[outPos + 11] = in[inPos + 24] >>> 6
+                    | in[inPos + 25] << 8
+                    | in[inPos + 26] << 22;
+            out[outPos + 12] = in[inPos + 26] >>> 10
+                    | in[inPos + 27] << 4
+                    | in[inPos + 28] << 18;
+            out[outPos + 13] = in[inPos + 29]
+                    | in[inPos + 30] << 14
+                    | in[inPos + 31] << 28;
+            out[outPos + 14] = in[inPos + 31] >>> 4;
+        }
+    }
+
+    private static void pack15(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 32, outPos += 15) {
+            out[outPos] |= in[inPos] << 10 | in[inPos + 1] << 25;
+            out[outPos + 1] = in[inPos + 1] >>> 7
+                    | in[inPos + 2] << 8
+                    | in[inPos + 3] << 23;
+            out[outPos + 2] = in[inPos + 3] >>> 9
+                    | in[inPos + 4] << 6
+                    | in[inPos + 5] << 21;
+            out[outPos + 3] = in[inPos + 5] >>> 11
+                    | in[inPos + 6] << 4
+                    | in[inPos + 7] << 19;
+            out[outPos + 4] = in[inPos + 7] >>> 13
+                    | in[inPos + 8] << 2
+                    | in[inPos + 9] << 17;
+            out[outPos + 5] = in[inPos + 10]
+                    | in[inPos + 11] << 15
+                    | in[inPos + 12] << 30;
+            out[outPos + 6] = in[inPos + 12] >>> 2
+                    | in[inPos + 13] << 13
+                    | in[inPos + 14] << 28;
+            out[outPos + 7] = in[inPos + 14] >>> 4
+                    | in[inPos + 15] << 11
+                    | in[inPos + 16] << 26;
+            out[outPos + 8] = in[inPos + 16] >>> 6
+                    | in[inPos + 17] << 9
+                    | in[inPos + 18] << 24;
+            out[outPos + 9] = in[inPos + 18] >>> 8
+                    | in[inPos + 19] << 7
+                    | in[inPos + 20] << 22;
+            out[outPos + 10] = in[inPos + 20] >>> 10
+                    | in[inPos + 21] << 5
+                    | in[inPos + 22] << 20;
+            out[outPos + 11] = in[inPos + 22] >>> 12
+                    | in[inPos + 23] << 3
+                    | in[inPos + 24] << 18;
+            out[outPos + 12] = in[inPos + 24] >>> 14
+                    | in[inPos + 25] << 1
+                    | in[inPos + 26] << 16
+                    | in[inPos + 27] << 31;
+            out[outPos + 13] = in[inPos + 27] >>> 1
+                    | in[inPos + 28] << 14
+                    | in[inPos + 29] << 29;
+            out[outPos + 14] = in[inPos + 29] >>> 3
+                    | in[inPos + 30] << 12
+                    | in[inPos + 31] << 27;
+            out[outPos + 15] = in[inPos + 31] >>> 5;
+        }
+    }
+
+    private static void pack16(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 32, outPos += 16) {
+            out[outPos] |= in[inPos] << 10 | in[inPos + 1] << 26;
+            out[outPos + 1] = in[inPos + 1] >>> 6
+                    | in[inPos + 2] << 10
+                    | in[inPos + 3] << 26;
+            out[outPos + 2] = in[inPos + 3] >>> 6
+                    | in[inPos + 4] << 10
+                    | in[inPos + 5] << 26;
+            out[outPos + 3] = in[inPos + 5] >>> 6
+                    | in[inPos + 6] << 10
+                    | in[inPos + 7] << 26;
+            out[outPos + 4] = in[inPos + 7] >>> 6
+                    | in[inPos + 8] << 10
+                    | in[inPos + 9] << 26;
+            out[outPos + 5] = in[inPos + 9] >>> 6
+                    | in[inPos + 10] << 10
+                    | in[inPos + 11] << 26;
+            out[outPos + 6] = in[inPos + 11] >>> 6
+                    | in[inPos + 12] << 10
+                    | in[inPos + 13] << 26;
+            out[outPos + 7] = in[inPos + 13] >>> 6
+                    | in[inPos + 14] << 10
+                    | in[inPos + 15] << 26;
+            out[outPos + 8] = in[inPos + 15] >>> 6
+                    | in[inPos + 16] << 10
+                    | in[inPos + 17] << 26;
+            out[outPos + 9] = in[inPos + 17] >>> 6
+                    | in[inPos + 18] << 10
+                    | in[inPos + 19] << 26;
+            out[outPos + 10] = in[inPos + 19] >>> 6
+                    | in[inPos + 20] << 10
+                    | in[inPos + 21] << 26;
+            out[outPos + 11] = in[inPos + 21] >>> 6
+                    | in[inPos + 22] << 10
+                    | in[inPos + 23] << 26;
+            out[outPos + 12] = in[inPos + 23] >>> 6
+                    | in[inPos + 24] << 10
+                    | in[inPos + 25] << 26;
+            out[outPos + 13] = in[inPos + 25] >>> 6
+                    | in[inPos + 26] << 10
+                    | in[inPos + 27] << 26;
+            out[outPos + 14] = in[inPos + 27] >>> 6
+                    | in[inPos + 28] << 10
+                    | in[inPos + 29] << 26;
+            out[outPos + 15] = in[inPos + 29] >>> 6
+                    | in[inPos + 30] << 10
+                    | in[inPos + 31] << 26;
+            out[outPos + 16] = in[inPos + 31] >>> 6;
+        }
+    }
+
+    private static void pack17(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 32, outPos += 17) {
+            out[outPos] |= in[inPos] << 10 | in[inPos + 1] << 27;
+            out[outPos + 1] = in[inPos + 1] >>> 5
+                    | in[inPos + 2] << 12
+                    | in[inPos + 3] << 29;
+            out[outPos + 2] = in[inPos + 3] >>> 3
+                    | in[inPos + 4] << 14
+                    | in[inPos + 5] << 31;
+            out[outPos + 3] = in[inPos + 5] >>> 1 | in[inPos + 6] << 16;
+            out[outPos + 4] = in[inPos + 6] >>> 16
+                    | in[inPos + 7] << 1
+                    | in[inPos + 8] << 18;
+            out[outPos + 5] = in[inPos + 8] >>> 14
+                    | in[inPos + 9] << 3
+                    | in[inPos + 10] << 20;
+            out[outPos + 6] = in[inPos + 10] >>> 12
+                    | in[inPos + 11] << 5
+                    | in[inPos + 12] << 22;
+            out[outPos + 7] = in[inPos + 12] >>> 10
+                    | in[inPos + 13] << 7
+                    | in[inPos + 14] << 24;
+            out[outPos + 8] = in[inPos + 14] >>> 8
+                    | in[inPos + 15] << 9
+                    | in[inPos + 16] << 26;
+            out[outPos + 9] = in[inPos + 16] >>> 6
+                    | in[inPos + 17] << 11
+                    | in[inPos + 18] << 28;
+            out[outPos + 10] = in[inPos + 18] >>> 4
+                    | in[inPos + 19] << 13
+                    | in[inPos + 20] << 30;
+            out[outPos + 11] = in[inPos + 20] >>> 2 | in[inPos + 21] << 15;
+            out[outPos + 12] = in[inPos + 22] | in[inPos + 23] << 17;
+            out[outPos + 13] = in[inPos + 23] >>> 15
+                    | in[inPos + 24] << 2
+                    | in[inPos + 25] << 19;
+            out[outPos + 14] = in[inPos + 25] >>> 13
+                    | in[inPos + 26] << 4
+                    | in[inPos + 27] << 21;
+            out[outPos + 15] = in[inPos + 27] >>> 11
+                    | in[inPos + 28] << 6
+                    | in[inPos + 29] << 23;
+            out[outPos + 16] = in[inPos + 29] >>> 9
+                    | in[inPos + 30] << 8
+                    | in[inPos + 31] << 25;
+            out[outPos + 17] = in[inPos + 31] >>> 7;
+        }
+    }
+
+    private static void pack18(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 32, outPos += 18) {
+            out[outPos] |= in[inPos] << 10 | in[inPos + 1] << 28;
+            out[outPos + 1] = in[inPos + 1] >>> 4 | in[inPos + 2] << 14;
+            out[outPos + 2] = in[inPos + 3] | in[inPos + 4] << 18;
+            out[outPos + 3] = in[inPos + 4] >>> 14
+                    | in[inPos + 5] << 4
+                    | in[inPos + 6] << 22;
+            out[outPos + 4] = in[inPos + 6] >>> 10
+                    | in[inPos + 7] << 8
+                    | in[inPos + 8] << 26;
+            out[outPos + 5] = in[inPos + 8] >>> 6
+                    | in[inPos + 9] << 12
+                    | in[inPos + 10] << 30;
+            out[outPos + 6] = in[inPos + 10] >>> 2 | in[inPos + 11] << 16;
+            out[outPos + 7] = in[inPos + 11] >>> 16
+                    | in[inPos + 12] << 2
+                    | in[inPos + 13] << 20;
+            out[outPos + 8] = in[inPos + 13] >>> 12
+                    | in[inPos + 14] << 6
+                    | in[inPos + 15] << 24;
+            out[outPos + 9] = in[inPos + 15] >>> 8
+                    | in[inPos + 16] << 10
+                    | in[inPos + 17] << 28;
+            out[outPos + 10] = in[inPos + 17] >>> 4 | in[inPos + 18] << 14;
+            out[outPos + 11] = in[inPos + 19] | in[inPos + 20] << 18;
+            out[outPos + 12] = in[inPos + 20] >>> 14
+                    | in[inPos + 21] << 4
+                    | in[inPos + 22] << 22;
+            out[outPos + 13] = in[inPos + 22] >>> 10
+                    | in[inPos + 23] << 8
+                    | in[inPos + 24] << 26;
+            out[outPos + 14] = in[inPos + 24] >>> 6
+                    | in[inPos + 25] << 12
+                    | in[inPos + 26] << 30;
+            out[outPos + 15] = in[inPos + 26] >>> 2 | in[inPos + 27] << 16;
+            out[outPos + 16] = in[inPos + 27] >>> 16
+                    | in[inPos + 28] << 2
+                    | in[inPos + 29] << 20;
+            out[outPos + 17] = in[inPos + 29] >>> 12
+                    | in[inPos + 30] << 6
+                    | in[inPos + 31] << 24;
+            out[outPos + 18] = in[inPos + 31] >>> 8;
+        }
+    }
+
+    private static void pack19(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 32, outPos += 19) {
+            out[outPos] |= in[inPos] << 10 | in[inPos + 1] << 29;
+            out[outPos + 1] = in[inPos + 1] >>> 3 | in[inPos + 2] << 16;
+            out[outPos + 2] = in[inPos + 2] >>> 16
+                    | in[inPos + 3] << 3
+                    | in[inPos + 4] << 22;
+            out[outPos + 3] = in[inPos + 4] >>> 10
+                    | in[inPos + 5] << 9
+                    | in[inPos + 6] << 28;
+            out[outPos + 4] = in[inPos + 6] >>> 4 | in[inPos + 7] << 15;
+            out[outPos + 5] = in[inPos + 7] >>> 17
+                    | in[inPos + 8] << 2
+                    | in[inPos + 9] << 21;
+            out[outPos + 6] = in[inPos + 9] >>> 11
+                    | in[inPos + 10] << 8
+                    | in[inPos + 11] << 27;
+            out[outPos + 7] = in[inPos + 11] >>> 5 | in[inPos + 12] << 14;
+            out[outPos + 8] = in[inPos + 12] >>> 18
+                    | in[inPos + 13] << 1
+                    | in[inPos + 14] << 20;
+            out[outPos + 9] = in[inPos + 14] >>> 12
+                    | in[inPos + 15] << 7
+                    | in[inPos + 16] << 26;
+            out[outPos + 10] = in[inPos + 16] >>> 6 | in[inPos + 17] << 13;
+            out[outPos + 11] = in[inPos + 18] | in[inPos + 19] << 19;
+            out[outPos + 12] = in[inPos + 19] >>> 13
+                    | in[inPos + 20] << 6
+                    | in[inPos + 21] << 25;
+            out[outPos + 13] = in[inPos + 21] >>> 7
+                    | in[inPos + 22] << 12
+                    | in[inPos + 23] << 31;
+            out[outPos + 14] = in[inPos + 23] >>> 1 | in[inPos + 24] << 18;
+            out[outPos + 15] = in[inPos + 24] >>> 14
+                    | in[inPos + 25] << 5
+                    | in[inPos + 26] << 24;
+            out[outPos + 16] = in[inPos + 26] >>> 8
+                    | in[inPos + 27] << 11
+                    | in[inPos + 28] << 30;
+            out[outPos + 17] = in[inPos + 28] >>> 2 | in[inPos + 29] << 17;
+            out[outPos + 18] = in[inPos + 29] >>> 15
+                    | in[inPos + 30] << 4
+                    | in[inPos + 31] << 23;
+            out[outPos + 19] = in[inPos + 31] >>> 9;
+        }
+    }
+
+    private static void pack20(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 32, outPos += 20) {
+            out[outPos] |= in[inPos] << 10 | in[inPos + 1] << 30;
+            out[outPos + 1] = in[inPos + 1] >>> 2 | in[inPos + 2] << 18;
+            out[outPos + 2] = in[inPos + 2] >>> 14
+                    | in[inPos + 3] << 6
+                    | in[inPos + 4] << 26;
+            out[outPos + 3] = in[inPos + 4] >>> 6 | in[inPos + 5] << 14;
+            out[outPos + 4] = in[inPos + 5] >>> 18
+                    | in[inPos + 6] << 2
+                    | in[inPos + 7] << 22;
+            out[outPos + 5] = in[inPos + 7] >>> 10
+                    | in[inPos + 8] << 10
+                    | in[inPos + 9] << 30;
+            out[outPos + 6] = in[inPos + 9] >>> 2 | in[inPos + 10] << 18;
+            out[outPos + 7] = in[inPos + 10] >>> 14
+                    | in[inPos + 11] << 6
+                    | in[inPos + 12] << 26;
+            out[outPos + 8] = in[inPos + 12] >>> 6 | in[inPos + 13] << 14;
+            out[outPos + 9] = in[inPos + 13] >>> 18
+                    | in[inPos + 14] << 2
+                    | in[inPos + 15] << 22;
+            out[outPos + 10] = in[inPos + 15] >>> 10
+                    | in[inPos + 16] << 10
+                    | in[inPos + 17] << 30;
+            out[outPos + 11] = in[inPos + 17] >>> 2 | in[inPos + 18] << 18;
+            out[outPos + 12] = in[inPos + 18] >>> 14
+                    | in[inPos + 19] << 6
+                    | in[inPos + 20] << 26;
+            out[outPos + 13] = in[inPos + 20] >>> 6 | in[inPos + 21] << 14;
+            out[outPos + 14] = in[inPos + 21] >>> 18
+                    | in[inPos + 22] << 2
+                    | in[inPos + 23] << 22;
+            out[outPos + 15] = in[inPos + 23] >>> 10
+                    | in[inPos + 24] << 10
+                    | in[inPos + 25] << 30;
+            out[outPos + 16] = in[inPos + 25] >>> 2 | in[inPos + 26] << 18;
+            out[outPos + 17] = in[inPos + 26] >>> 14
+                    | in[inPos + 27] << 6
+                    | in[inPos + 28] << 26;
+            out[outPos + 18] = in[inPos + 28] >>> 6 | in[inPos + 29] << 14;
+            out[outPos + 19] = in[inPos + 29] >>> 18
+                    | in[inPos + 30] << 2
+                    | in[inPos + 31] << 22;
+            out[outPos + 20] = in[inPos + 31] >>> 10;
+        }
+    }
+
+    private static void pack21(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 32, outPos += 21) {
+            out[outPos] |= in[inPos] << 10 | in[inPos + 1] << 31;
+            out[outPos + 1] = in[inPos + 1] >>> 1 | in[inPos + 2] << 20;
+            out[outPos + 2] = in[inPos + 2] >>> 12
+                    | in[inPos + 3] << 9
+                    | in[inPos + 4] << 30;
+            out[outPos + 3] = in[inPos + 4] >>> 2 | in[inPos + 5] << 19;
+            out[outPos + 4] = in[inPos + 5] >>> 13
+                    | in[inPos + 6] << 8
+                    | in[inPos + 7] << 29;
+            out[outPos + 5] = in[inPos + 7] >>> 3 | in[inPos + 8] << 18;
+            out[outPos + 6] = in[inPos + 8] >>> 14
+                    | in[inPos + 9] << 7
+                    | in[inPos + 10] << 28;
+            out[outPos + 7] = in[inPos + 10] >>> 4 | in[inPos + 11] << 17;
+            out[outPos + 8] = in[inPos + 11] >>> 15
+                    | in[inPos + 12] << 6
+                    | in[inPos + 13] << 27;
+            out[outPos + 9] = in[inPos + 13] >>> 5 | in[inPos + 14] << 16;
+            out[outPos + 10] = in[inPos + 14] >>> 16
+                    | in[inPos + 15] << 5
+                    | in[inPos + 16] << 26;
+            out[outPos + 11] = in[inPos + 16] >>> 6 | in[inPos + 17] << 15;
+            out[outPos + 12] = in[inPos + 17] >>> 17
+                    | in[inPos + 18] << 4
+                    | in[inPos + 19] << 25;
+            out[outPos + 13] = in[inPos + 19] >>> 7 | in[inPos + 20] << 14;
+            out[outPos + 14] = in[inPos + 20] >>> 18
+                    | in[inPos + 21] << 3
+                    | in[inPos + 22] << 24;
+            out[outPos + 15] = in[inPos + 22] >>> 8 | in[inPos + 23] << 13;
+            out[outPos + 16] = in[inPos + 23] >>> 19
+                    | in[inPos + 24] << 2
+                    | in[inPos + 25] << 23;
+            out[outPos + 17] = in[inPos + 25] >>> 9 | in[inPos + 26] << 12;
+            out[outPos + 18] = in[inPos + 26] >>> 20
+                    | in[inPos + 27] << 1
+                    | in[inPos + 28] << 22;
+            out[outPos + 19] = in[inPos + 28] >>> 10 | in[inPos + 29] << 11;
+            out[outPos + 20] = in[inPos + 30] | in[inPos + 31] << 21;
+            out[outPos + 21] = in[inPos + 31] >>> 11;
+        }
+    }
+
+    private static void pack22(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 32, outPos += 22) {
+            out[outPos] |= in[inPos] << 10;
+            out[outPos + 1] = in[inPos + 1] | in[inPos + 2] << 22;
+            out[outPos + 2] = in[inPos + 2] >>> 10 | in[inPos + 3] << 12;
+            out[outPos + 3] = in[inPos + 3] >>> 20
+                    | in[inPos + 4] << 2
+                    | in[inPos + 5] << 24;
+            out[outPos + 4] = in[inPos + 5] >>> 8 | in[inPos + 6] << 14;
+            out[outPos + 5] = in[inPos + 6] >>> 18
+                    | in[inPos + 7] << 4
+                    | in[inPos + 8] << 26;
+            out[outPos + 6] = in[inPos + 8] >>> 6 | in[inPos + 9] << 16;
+            out[outPos + 7] = in[inPos + 9] >>> 16
+                    | in[inPos + 10] << 6
+                    | in[inPos + 11] << 28;
+            out[outPos + 8] = in[inPos + 11] >>> 4 | in[inPos + 12] << 18;
+            out[outPos + 9] = in[inPos + 12] >>> 14
+                    | in[inPos + 13] << 8
+                    | in[inPos + 14] << 30;
+            out[outPos + 10] = in[inPos + 14] >>> 2 | in[inPos + 15] << 20;
+            out[outPos + 11] = in[inPos + 15] >>> 12 | in[inPos + 16] << 10;
+            out[outPos + 12] = in[inPos + 17] | in[inPos + 18] << 22;
+            out[outPos + 13] = in[inPos + 18] >>> 10 | in[inPos + 19] << 12;
+            out[outPos + 14] = in[inPos + 19] >>> 20
+                    | in[inPos + 20] << 2
+                    | in[inPos + 21] << 24;
+            out[outPos + 15] = in[inPos + 21] >>> 8 | in[inPos + 22] << 14;
+            out[outPos + 16] = in[inPos + 22] >>> 18
+                    | in[inPos + 23] << 4
+                    | in[inPos + 24] << 26;
+            out[outPos + 17] = in[inPos + 24] >>> 6 | in[inPos + 25] << 16;
+            out[outPos + 18] = in[inPos + 25] >>> 16
+                    | in[inPos + 26] << 6
+                    | in[inPos + 27] << 28;
+            out[outPos + 19] = in[inPos + 27] >>> 4 | in[inPos + 28] << 18;
+            out[outPos + 20] = in[inPos + 28] >>> 14
+                    | in[inPos + 29] << 8
+                    | in[inPos + 30] << 30;
+            out[outPos + 21] = in[inPos + 30] >>> 2 | in[inPos + 31] << 20;
+            out[outPos + 22] = in[inPos + 31] >>> 12;
+        }
+    }
+
+    private static void pack23(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 32, outPos += 23) {
+            out[outPos] |= in[inPos] << 10;
+            out[outPos + 1] = in[inPos] >>> 22
+                    | in[inPos + 1] << 1
+                    | in[inPos + 2] << 24;
+            out[outPos + 2] = in[inPos + 2] >>> 8 | in[inPos + 3] << 15;
+            out[outPos + 3] = in[inPos + 3] >>> 17
+                    | in[inPos + 4] << 6
+                    | in[inPos + 5] << 29;
+            out[outPos + 4] = in[inPos + 5] >>> 3 | in[inPos + 6] << 20;
+            out[outPos + 5] = in[inPos + 6] >>> 12 | in[inPos + 7] << 11;
+            out[outPos + 6] = in[inPos + 7] >>> 21
+                    | in[inPos + 8] << 2
+                    | in[inPos + 9] << 25;
+            out[outPos + 7] = in[inPos + 9] >>> 7 | in[inPos + 10] << 16;
+            out[outPos + 8] = in[inPos + 10] >>> 16
+                    | in[inPos + 11] << 7
+                    | in[inPos + 12] << 30;
+            out[outPos + 9] = in[inPos + 12] >>> 2 | in[inPos + 13] << 21;
+            out[outPos + 10] = in[inPos + 13] >>> 11 | in[inPos + 14] << 12;
+            out[outPos + 11] = in[inPos + 14] >>> 20
+                    | in[inPos + 15] << 3
+                    | in[inPos + 16] << 26;
+            out[outPos + 12] = in[inPos + 16] >>> 6 | in[inPos + 17] << 17;
+            out[outPos + 13] = in[inPos + 17] >>> 15
+                    | in[inPos + 18] << 8
+                    | in[inPos + 19] << 31;
+            out[outPos + 14] = in[inPos + 19] >>> 1 | in[inPos + 20] << 22;
+            out[outPos + 15] = in[inPos + 20] >>> 10 | in[inPos + 21] << 13;
+            out[outPos + 16] = in[inPos + 21] >>> 19
+                    | in[inPos + 22] << 4
+                    | in[inPos + 23] << 27;
+            out[outPos + 17] = in[inPos + 23] >>> 5 | in[inPos + 24] << 18;
+            out[outPos + 18] = in[inPos + 24] >>> 14 | in[inPos + 25] << 9;
+            out[outPos + 19] = in[inPos + 26] | in[inPos + 27] << 23;
+            out[outPos + 20] = in[inPos + 27] >>> 9 | in[inPos + 28] << 14;
+            out[outPos + 21] = in[inPos + 28] >>> 18
+                    | in[inPos + 29] << 5
+                    | in[inPos + 30] << 28;
+            out[outPos + 22] = in[inPos + 30] >>> 4 | in[inPos + 31] << 19;
+            out[outPos + 23] = in[inPos + 31] >>> 13;
+        }
+    }
+
+    private static void pack24(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 32, outPos += 24) {
+            out[outPos] |= in[inPos] << 10;
+            out[outPos + 1] = in[inPos] >>> 22
+                    | in[inPos + 1] << 2
+                    | in[inPos + 2] << 26;
+            out[outPos + 2] = in[inPos + 2] >>> 6 | in[inPos + 3] << 18;
+            out[outPos + 3] = in[inPos + 3] >>> 14 | in[inPos + 4] << 10;
+            out[outPos + 4] = in[inPos + 4] >>> 22
+                    | in[inPos + 5] << 2
+                    | in[inPos + 6] << 26;
+            out[outPos + 5] = in[inPos + 6] >>> 6 | in[inPos + 7] << 18;
+            out[outPos + 6] = in[inPos + 7] >>> 14 | in[inPos + 8] << 10;
+            out[outPos + 7] = in[inPos + 8] >>> 22
+                    | in[inPos + 9] << 2
+                    | in[inPos + 10] << 26;
+            out[outPos + 8] = in[inPos + 10] >>> 6 | in[inPos + 11] << 18;
+            out[outPos + 9] = in[inPos + 11] >>> 14 | in[inPos + 12] << 10;
+            out[outPos + 10] = in[inPos + 12] >>> 22
+                    | in[inPos + 13] << 2
+                    | in[inPos + 14] << 26;
+            out[outPos + 11] = in[inPos + 14] >>> 6 | in[inPos + 15] << 18;
+            out[outPos + 12] = in[inPos + 15] >>> 14 | in[inPos + 16] << 10;
+            out[outPos + 13] = in[inPos + 16] >>> 22
+                    | in[inPos + 17] << 2
+                    | in[inPos + 18] << 26;
+            out[outPos + 14] = in[inPos + 18] >>> 6 | in[inPos + 19] << 18;
+            out[outPos + 15] = in[inPos + 19] >>> 14 | in[inPos + 20] << 10;
+            out[outPos + 16] = in[inPos + 20] >>> 22
+                    | in[inPos + 21] << 2
+                    | in[inPos + 22] << 26;
+            out[outPos + 17] = in[inPos + 22] >>> 6 | in[inPos + 23] << 18;
+            out[outPos + 18] = in[inPos + 23] >>> 14 | in[inPos + 24] << 10;
+            out[outPos + 19] = in[inPos + 24] >>> 22
+                    | in[inPos + 25] << 2
+                    | in[inPos + 26] << 26;
+            out[outPos + 20] = in[inPos + 26] >>> 6 | in[inPos + 27] << 18;
+            out[outPos + 21] = in[inPos + 27] >>> 14 | in[inPos + 28] << 10;
+            out[outPos + 22] = in[inPos + 28] >>> 22
+                    | in[inPos + 29] << 2
+                    | in[inPos + 30] << 26;
+            out[outPos + 23] = in[inPos + 30] >>> 6 | in[inPos + 31] << 18;
+            out[outPos + 24] = in[inPos + 31] >>> 14;
+        }
+    }
+
+    private static void pack25(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 32, outPos += 25) {
+            out[outPos] |= in[inPos] << 10;
+            out[outPos + 1] = in[inPos] >>> 22
+                    | in[inPos + 1] << 3
+                    | in[inPos + 2] << 28;
+            out[outPos + 2] = in[inPos + 2] >>> 4 | in[inPos + 3] << 21;
+            out[outPos + 3] = in[inPos + 3] >>> 11 | in[inPos + 4] << 14;
+            out[outPos + 4] = in[inPos + 4] >>> 18 | in[inPos + 5] << 7;
+            out[outPos + 5] = in[inPos + 6] | in[inPos + 7] << 25;
+            out[outPos + 6] = in[inPos + 7] >>> 7 | in[inPos + 8] << 18;
+            out[outPos + 7] = in[inPos + 8] >>> 14 | in[inPos + 9] << 11;
+            out[outPos + 8] = in[inPos + 9] >>> 21
+                    | in[inPos + 10] << 4
+                    | in[inPos + 11] << 29;
+            out[outPos + 9] = in[inPos + 11] >>> 3 | in[inPos + 12] << 22;
+            out[outPos + 10] = in[inPos + 12] >>> 10 | in[inPos + 13] << 15;
+            out[outPos + 11] = in[inPos + 13] >>> 17 | in[inPos + 14] << 8;
+            out[outPos + 12] = in[inPos + 14] >>> 24
+                    | in[inPos + 15] << 1
+                    | in[inPos + 16] << 26;
+            out[outPos + 13] = in[inPos + 16] >>> 6 | in[inPos + 17] << 19;
+            out[outPos + 14] = in[inPos + 17] >>> 13 | in[inPos + 18] << 12;
+            out[outPos + 15] = in[inPos + 18] >>> 20
+                    | in[inPos + 19] << 5
+                    | in[inPos + 20] << 30;
+            out[outPos + 16] = in[inPos + 20] >>> 2 | in[inPos + 21] << 23;
+            out[outPos + 17] = in[inPos + 21] >>> 9 | in[inPos + 22] << 16;
+            out[outPos + 18] = in[inPos + 22] >>> 16 | in[inPos + 23] << 9;
+            out[outPos + 19] = in[inPos + 23] >>> 23
+                    | in[inPos + 24] << 2
+                    | in[inPos + 25] << 27;
+            out[outPos + 20] = in[inPos + 25] >>> 5 | in[inPos + 26] << 20;
+            out[outPos + 21] = in[inPos + 26] >>> 12 | in[inPos + 27] << 13;
+            out[outPos + 22] = in[inPos + 27] >>> 19
+                    | in[inPos + 28] << 6
+                    | in[inPos + 29] << 31;
+            out[outPos + 23] = in[inPos + 29] >>> 1 | in[inPos + 30] << 24;
+            out[outPos + 24] = in[inPos + 30] >>> 8 | in[inPos + 31] << 17;
+            out[outPos + 25] = in[inPos + 31] >>> 15;
+        }
+    }
+
+    private static void pack26(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 32, outPos += 26) {
+            out[outPos] |= in[inPos] << 10;
+            out[outPos + 1] = in[inPos] >>> 22
+                    | in[inPos + 1] << 4
+                    | in[inPos + 2] << 30;
+            out[outPos + 2] = in[inPos + 2] >>> 2 | in[inPos + 3] << 24;
+            out[outPos + 3] = in[inPos + 3] >>> 8 | in[inPos + 4] << 18;
+            out[outPos + 4] = in[inPos + 4] >>> 14 | in[inPos + 5] << 12;
+            out[outPos + 5] = in[inPos + 5] >>> 20 | in[inPos + 6] << 6;
+            out[outPos + 6] = in[inPos + 7] | in[inPos + 8] << 26;
+            out[outPos + 7] = in[inPos + 8] >>> 6 | in[inPos + 9] << 20;
+            out[outPos + 8] = in[inPos + 9] >>> 12 | in[inPos + 10] << 14;
+            out[outPos + 9] = in[inPos + 10] >>> 18 | in[inPos + 11] << 8;
+            out[outPos + 10] = in[inPos + 11] >>> 24
+                    | in[inPos + 12] << 2
+                    | in[inPos + 13] << 28;
+            out[outPos + 11] = in[inPos + 13] >>> 4 | in[inPos + 14] << 22;
+            out[outPos + 12] = in[inPos + 14] >>> 10 | in[inPos + 15] << 16;
+            out[outPos + 13] = in[inPos + 15] >>> 16 | in[inPos + 16] << 10;
+            out[outPos + 14] = in[inPos + 16] >>> 22
+                    | in[inPos + 17] << 4
+                    | in[inPos + 18] << 30;
+            out[outPos + 15] = in[inPos + 18] >>> 2 | in[inPos + 19] << 24;
+            out[outPos + 16] = in[inPos + 19] >>> 8 | in[inPos + 20] << 18;
+            out[outPos + 17] = in[inPos + 20] >>> 14 | in[inPos + 21] << 12;
+            out[outPos + 18] = in[inPos + 21] >>> 20 | in[inPos + 22] << 6;
+            out[outPos + 19] = in[inPos + 23] | in[inPos + 24] << 26;
+            out[outPos + 20] = in[inPos + 24] >>> 6 | in[inPos + 25] << 20;
+            out[outPos + 21] = in[inPos + 25] >>> 12 | in[inPos + 26] << 14;
+            out[outPos + 22] = in[inPos + 26] >>> 18 | in[inPos + 27] << 8;
+            out[outPos + 23] = in[inPos + 27] >>> 24
+                    | in[inPos + 28] << 2
+                    | in[inPos + 29] << 28;
+            out[outPos + 24] = in[inPos + 29] >>> 4 | in[inPos + 30] << 22;
+            out[outPos + 25] = in[inPos + 30] >>> 10 | in[inPos + 31] << 16;
+            out[outPos + 26] = in[inPos + 31] >>> 16;
+        }
+    }
+
+    private static void pack27(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 32, outPos += 27) {
+            out[outPos] |= in[inPos] << 10;
+            out[outPos + 1] = in[inPos] >>> 22 | in[inPos + 1] << 5;
+            out[outPos + 2] = in[inPos + 2] | in[inPos + 3] << 27;
+            out[outPos + 3] = in[inPos + 3] >>> 5 | in[inPos + 4] << 22;
+            out[outPos + 4] = in[inPos + 4] >>> 10 | in[inPos + 5] << 17;
+            out[outPos + 5] = in[inPos + 5] >>> 15 | in[inPos + 6] << 12;
+            out[outPos + 6] = in[inPos + 6] >>> 20 | in[inPos + 7] << 7;
+            out[outPos + 7] = in[inPos + 7] >>> 25
+                    | in[inPos + 8] << 2
+                    | in[inPos + 9] << 29;
+            out[outPos + 8] = in[inPos + 9] >>> 3 | in[inPos + 10] << 24;
+            out[outPos + 9] = in[inPos + 10] >>> 8 | in[inPos + 11] << 19;
+            out[outPos + 10] = in[inPos + 11] >>> 13 | in[inPos + 12] << 14;
+            out[outPos + 11] = in[inPos + 12] >>> 18 | in[inPos + 13] << 9;
+            out[outPos + 12] = in[inPos + 13] >>> 23
+                    | in[inPos + 14] << 4
+                    | in[inPos + 15] << 31;
+            out[outPos + 13] = in[inPos + 15] >>> 1 | in[inPos + 16] << 26;
+            out[outPos + 14] = in[inPos + 16] >>> 6 | in[inPos + 17] << 21;
+            out[outPos + 15] = in[inPos + 17] >>> 11 | in[inPos + 18] << 16;
+            out[outPos + 16] = in[inPos + 18] >>> 16 | in[inPos + 19] << 11;
+            out[outPos + 17] = in[inPos + 19] >>> 21 | in[inPos + 20] << 6;
+            out[outPos + 18] = in[inPos + 20] >>> 26
+                    | in[inPos + 21] << 1
+                    | in[inPos + 22] << 28;
+            out[outPos + 19] = in[inPos + 22] >>> 4 | in[inPos + 23] << 23;
+            out[outPos + 20] = in[inPos + 23] >>> 9 | in[inPos + 24] << 18;
+            out[outPos + 21] = in[inPos + 24] >>> 14 | in[inPos + 25] << 13;
+            out[outPos + 22] = in[inPos + 25] >>> 19 | in[inPos + 26] << 8;
+            out[outPos + 23] = in[inPos + 26] >>> 24
+                    | in[inPos + 27] << 3
+                    | in[inPos + 28] << 30;
+            out[outPos + 24] = in[inPos + 28] >>> 2 | in[inPos + 29] << 25;
+            out[outPos + 25] = in[inPos + 29] >>> 7 | in[inPos + 30] << 20;
+            out[outPos + 26] = in[inPos + 30] >>> 12 | in[inPos + 31] << 15;
+            out[outPos + 27] = in[inPos + 31] >>> 17;
+        }
+    }
+
+    private static void pack28(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 32, outPos += 28) {
+            out[outPos] |= in[inPos] << 10;
+            out[outPos + 1] = in[inPos] >>> 22 | in[inPos + 1] << 6;
+            out[outPos + 2] = in[inPos + 1] >>> 26
+                    | in[inPos + 2] << 2
+                    | in[inPos + 3] << 30;
+            out[outPos + 3] = in[inPos + 3] >>> 2 | in[inPos + 4] << 26;
+            out[outPos + 4] = in[inPos + 4] >>> 6 | in[inPos + 5] << 22;
+            out[outPos + 5] = in[inPos + 5] >>> 10 | in[inPos + 6] << 18;
+            out[outPos + 6] = in[inPos + 6] >>> 14 | in[inPos + 7] << 14;
+            out[outPos + 7] = in[inPos + 7] >>> 18 | in[inPos + 8] << 10;
+            out[outPos + 8] = in[inPos + 8] >>> 22 | in[inPos + 9] << 6;
+            out[outPos + 9] = in[inPos + 9] >>> 26
+                    | in[inPos + 10] << 2
+                    | in[inPos + 11] << 30;
+            out[outPos + 10] = in[inPos + 11] >>> 2 | in[inPos + 12] << 26;
+            out[outPos + 11] = in[inPos + 12] >>> 6 | in[inPos + 13] << 22;
+            out[outPos + 12] = in[inPos + 13] >>> 10 | in[inPos + 14] << 18;
+            out[outPos + 13] = in[inPos + 14] >>> 14 | in[inPos + 15] << 14;
+            out[outPos + 14] = in[inPos + 15] >>> 18 | in[inPos + 16] << 10;
+            out[outPos + 15] = in[inPos + 16] >>> 22 | in[inPos + 17] << 6;
+            out[outPos + 16] = in[inPos + 17] >>> 26
+                    | in[inPos + 18] << 2
+                    | in[inPos + 19] << 30;
+            out[outPos + 17] = in[inPos + 19] >>> 2 | in[inPos + 20] << 26;
+            out[outPos + 18] = in[inPos + 20] >>> 6 | in[inPos + 21] << 22;
+            out[outPos + 19] = in[inPos + 21] >>> 10 | in[inPos + 22] << 18;
+            out[outPos + 20] = in[inPos + 22] >>> 14 | in[inPos + 23] << 14;
+            out[outPos + 21] = in[inPos + 23] >>> 18 | in[inPos + 24] << 10;
+            out[outPos + 22] = in[inPos + 24] >>> 22 | in[inPos + 25] << 6;
+            out[outPos + 23] = in[inPos + 25] >>> 26
+                    | in[inPos + 26] << 2
+                    | in[inPos + 27] << 30;
+            out[outPos + 24] = in[inPos + 27] >>> 2 | in[inPos + 28] << 26;
+            out[outPos + 25] = in[inPos + 28] >>> 6 | in[inPos + 29] << 22;
+            out[outPos + 26] = in[inPos + 29] >>> 10 | in[inPos + 30] << 18;
+            out[outPos + 27] = in[inPos + 30] >>> 14 | in[inPos + 31] << 14;
+            out[outPos + 28] = in[inPos + 31] >>> 18;
+        }
+    }
+
+    private static void pack29(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 32, outPos += 29) {
+            out[outPos] |= in[inPos] << 10;
+            out[outPos + 1] = in[inPos] >>> 22 | in[inPos + 1] << 7;
+            out[outPos + 2] = in[inPos + 1] >>> 25 | in[inPos + 2] << 4;
+            out[outPos + 3] = in[inPos + 2] >>> 28
+                    | in[inPos + 3] << 1
+                    | in[inPos + 4] << 30;
+            out[outPos + 4] = in[inPos + 4] >>> 2 | in[inPos + 5] << 27;
+            out[outPos + 5] = in[inPos + 5] >>> 5 | in[inPos + 6] << 24;
+            out[outPos + 6] = in[inPos + 6] >>> 8 | in[inPos + 7] << 21;
+            out[outPos + 7] = in[inPos + 7] >>> 11 | in[inPos + 8] << 18;
+            out[outPos + 8] = in[inPos + 8] >>> 14 | in[inPos + 9] << 15;
+            out[outPos + 9] = in[inPos + 9] >>> 17 | in[inPos + 10] << 12;
+            out[outPos + 10] = in[inPos + 10] >>> 20 | in[inPos + 11] << 9;
+            out[outPos + 11] = in[inPos + 11] >>> 23 | in[inPos + 12] << 6;
+            out[outPos + 12] = in[inPos + 12] >>> 26 | in[inPos + 13] << 3;
+            out[outPos + 13] = in[inPos + 14] | in[inPos + 15] << 29;
+            out[outPos + 14] = in[inPos + 15] >>> 3 | in[inPos + 16] << 26;
+            out[outPos + 15] = in[inPos + 16] >>> 6 | in[inPos + 17] << 23;
+            out[outPos + 16] = in[inPos + 17] >>> 9 | in[inPos + 18] << 20;
+            out[outPos + 17] = in[inPos + 18] >>> 12 | in[inPos + 19] << 17;
+            out[outPos + 18] = in[inPos + 19] >>> 15 | in[inPos + 20] << 14;
+            out[outPos + 19] = in[inPos + 20] >>> 18 | in[inPos + 21] << 11;
+            out[outPos + 20] = in[inPos + 21] >>> 21 | in[inPos + 22] << 8;
+            out[outPos + 21] = in[inPos + 22] >>> 24 | in[inPos + 23] << 5;
+            out[outPos + 22] = in[inPos + 23] >>> 27
+                    | in[inPos + 24] << 2
+                    | in[inPos + 25] << 31;
+            out[outPos + 23] = in[inPos + 25] >>> 1 | in[inPos + 26] << 28;
+            out[outPos + 24] = in[inPos + 26] >>> 4 | in[inPos + 27] << 25;
+            out[outPos + 25] = in[inPos + 27] >>> 7 | in[inPos + 28] << 22;
+            out[outPos + 26] = in[inPos + 28] >>> 10 | in[inPos + 29] << 19;
+            out[outPos + 27] = in[inPos + 29] >>> 13 | in[inPos + 30] << 16;
+            out[outPos + 28] = in[inPos + 30] >>> 16 | in[inPos + 31] << 13;
+            out[outPos + 29] = in[inPos + 31] >>> 19;
+        }
+    }
+
+    private static void pack30(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 32, outPos += 30) {
+            out[outPos] |= in[inPos] << 10;
+            out[outPos + 1] = in[inPos] >>> 22 | in[inPos + 1] << 8;
+            out[outPos + 2] = in[inPos + 1] >>> 24 | in[inPos + 2] << 6;
+            out[outPos + 3] = in[inPos + 2] >>> 26 | in[inPos + 3] << 4;
+            out[outPos + 4] = in[inPos + 3] >>> 28 | in[inPos + 4] << 2;
+            out[outPos + 5] = in[inPos + 5] | in[inPos + 6] << 30;
+            out[outPos + 6] = in[inPos + 6] >>> 2 | in[inPos + 7] << 28;
+            out[outPos + 7] = in[inPos + 7] >>> 4 | in[inPos + 8] << 26;
+            out[outPos + 8] = in[inPos + 8] >>> 6 | in[inPos + 9] << 24;
+            out[outPos + 9] = in[inPos + 9] >>> 8 | in[inPos + 10] << 22;
+            out[outPos + 10] = in[inPos + 10] >>> 10 | in[inPos + 11] << 20;
+            out[outPos + 11] = in[inPos + 11] >>> 12 | in[inPos + 12] << 18;
+            out[outPos + 12] = in[inPos + 12] >>> 14 | in[inPos + 13] << 16;
+            out[outPos + 13] = in[inPos + 13] >>> 16 | in[inPos + 14] << 14;
+            out[outPos + 14] = in[inPos + 14] >>> 18 | in[inPos + 15] << 12;
+            out[outPos + 15] = in[inPos + 15] >>> 20 | in[inPos + 16] << 10;
+            out[outPos + 16] = in[inPos + 16] >>> 22 | in[inPos + 17] << 8;
+            out[outPos + 17] = in[inPos + 17] >>> 24 | in[inPos + 18] << 6;
+            out[outPos + 18] = in[inPos + 18] >>> 26 | in[inPos + 19] << 4;
+            out[outPos + 19] = in[inPos + 19] >>> 28 | in[inPos + 20] << 2;
+            out[outPos + 20] = in[inPos + 21] | in[inPos + 22] << 30;
+            out[outPos + 21] = in[inPos + 22] >>> 2 | in[inPos + 23] << 28;
+            out[outPos + 22] = in[inPos + 23] >>> 4 | in[inPos + 24] << 26;
+            out[outPos + 23] = in[inPos + 24] >>> 6 | in[inPos + 25] << 24;
+            out[outPos + 24] = in[inPos + 25] >>> 8 | in[inPos + 26] << 22;
+            out[outPos + 25] = in[inPos + 26] >>> 10 | in[inPos + 27] << 20;
+            out[outPos + 26] = in[inPos + 27] >>> 12 | in[inPos + 28] << 18;
+            out[outPos + 27] = in[inPos + 28] >>> 14 | in[inPos + 29] << 16;
+            out[outPos + 28] = in[inPos + 29] >>> 16 | in[inPos + 30] << 14;
+            out[outPos + 29] = in[inPos + 30] >>> 18 | in[inPos + 31] << 12;
+            out[outPos + 30] = in[inPos + 31] >>> 20;
+        }
+    }
+
+    private static void pack31(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 32, outPos += 31) {
+            out[outPos] |= in[inPos] << 10;
+            out[outPos + 1] = in[inPos] >>> 22 | in[inPos + 1] << 9;
+            out[outPos + 2] = in[inPos + 1] >>> 23 | in[inPos + 2] << 8;
+            out[outPos + 3] = in[inPos + 2] >>> 24 | in[inPos + 3] << 7;
+            out[outPos + 4] = in[inPos + 3] >>> 25 | in[inPos + 4] << 6;
+            out[outPos + 5] = in[inPos + 4] >>> 26 | in[inPos + 5] << 5;
+            out[outPos + 6] = in[inPos + 5] >>> 27 | in[inPos + 6] << 4;
+            out[outPos + 7] = in[inPos + 6] >>> 28 | in[inPos + 7] << 3;
+            out[outPos + 8] = in[inPos + 7] >>> 29 | in[inPos + 8] << 2;
+            out[outPos + 9] = in[inPos + 8] >>> 30 | in[inPos + 9] << 1;
+            out[outPos + 10] = in[inPos + 10] | in[inPos + 11] << 31;
+            out[outPos + 11] = in[inPos + 11] >>> 1 | in[inPos + 12] << 30;
+            out[outPos + 12] = in[inPos + 12] >>> 2 | in[inPos + 13] << 29;
+            out[outPos + 13] = in[inPos + 13] >>> 3 | in[inPos + 14] << 28;
+            out[outPos + 14] = in[inPos + 14] >>> 4 | in[inPos + 15] << 27;
+            out[outPos + 15] = in[inPos + 15] >>> 5 | in[inPos + 16] << 26;
+            out[outPos + 16] = in[inPos + 16] >>> 6 | in[inPos + 17] << 25;
+            out[outPos + 17] = in[inPos + 17] >>> 7 | in[inPos + 18] << 24;
+            out[outPos + 18] = in[inPos + 18] >>> 8 | in[inPos + 19] << 23;
+            out[outPos + 19] = in[inPos + 19] >>> 9 | in[inPos + 20] << 22;
+            out[outPos + 20] = in[inPos + 20] >>> 10 | in[inPos + 21] << 21;
+            out[outPos + 21] = in[inPos + 21] >>> 11 | in[inPos + 22] << 20;
+            out[outPos + 22] = in[inPos + 22] >>> 12 | in[inPos + 23] << 19;
+            out[outPos + 23] = in[inPos + 23] >>> 13 | in[inPos + 24] << 18;
+            out[outPos + 24] = in[inPos + 24] >>> 14 | in[inPos + 25] << 17;
+            out[outPos + 25] = in[inPos + 25] >>> 15 | in[inPos + 26] << 16;
+            out[outPos + 26] = in[inPos + 26] >>> 16 | in[inPos + 27] << 15;
+            out[outPos + 27] = in[inPos + 27] >>> 17 | in[inPos + 28] << 14;
+            out[outPos + 28] = in[inPos + 28] >>> 18 | in[inPos + 29] << 13;
+            out[outPos + 29] = in[inPos + 29] >>> 19 | in[inPos + 30] << 12;
+            out[outPos + 30] = in[inPos + 30] >>> 20 | in[inPos + 31] << 11;
+            out[outPos + 31] = in[inPos + 31] >>> 21;
+        }
+    }
+
+    private static void pack32(int[] in, int inPos, int[] out, int outPos, int blocks) {
+        for (int b = 0; b < blocks; b++, inPos += 32, outPos += 32) {
+            out[outPos] |= in[inPos] << 10;
+            out[outPos + 1] = in[inPos] >>> 22 | in[inPos + 1] << 10;
+            out[outPos + 2] = in[inPos + 1] >>> 22 | in[inPos + 2] << 10;
+            out[outPos + 3] = in[inPos + 2] >>> 22 | in[inPos + 3] << 10;
+            out[outPos + 4] = in[inPos + 3] >>> 22 | in[inPos + 4] << 10;
+            out[outPos + 5] = in[inPos + 4] >>> 22 | in[inPos + 5] << 10;
+            out[outPos + 6] = in[inPos + 5] >>> 22 | in[inPos + 6] << 10;
+            out[outPos + 7] = in[inPos + 6] >>> 22 | in[inPos + 7] << 10;
+            out[outPos + 8] = in[inPos + 7] >>> 22 | in[inPos + 8] << 10;
+            out[outPos + 9] = in[inPos + 8] >>> 22 | in[inPos + 9] << 10;
+            out[outPos + 10] = in[inPos + 9] >>> 22 | in[inPos + 10] << 10;
+            out[outPos + 11] = in[inPos + 10] >>> 22 | in[inPos + 11] << 10;
+            out[outPos + 12] = in[inPos + 11] >>> 22 | in[inPos + 12] << 10;
+            out[outPos + 13] = in[inPos + 12] >>> 22 | in[inPos + 13] << 10;
+            out[outPos + 14] = in[inPos + 13] >>> 22 | in[inPos + 14] << 10;
+            out[outPos + 15] = in[inPos + 14] >>> 22 | in[inPos + 15] << 10;
+            out[outPos + 16] = in[inPos + 15] >>> 22 | in[inPos + 16] << 10;
+            out[outPos + 17] = in[inPos + 16] >>> 22 | in[inPos + 17] << 10;
+            out[outPos + 18] = in[inPos + 17] >>> 22 | in[inPos + 18] << 10;
+            out[outPos + 19] = in[inPos + 18] >>> 22 | in[inPos + 19] << 10;
+            out[outPos + 20] = in[inPos + 19] >>> 22 | in[inPos + 20] << 10;
+            out[outPos + 21] = in[inPos + 20] >>> 22 | in[inPos + 21] << 10;
+            out[outPos + 22] = in[inPos + 21] >>> 22 | in[inPos + 22] << 10;
+            out[outPos + 23] = in[inPos + 22] >>> 22 | in[inPos + 23] << 10;
+            out[outPos + 24] = in[inPos + 23] >>> 22 | in[inPos + 24] << 10;
+            out[outPos + 25] = in[inPos + 24] >>> 22 | in[inPos + 25] << 10;
+            out[outPos + 26] = in[inPos + 25] >>> 22 | in[inPos + 26] << 10;
+            out[outPos + 27] = in[inPos + 26] >>> 22 | in[inPos + 27] << 10;
+            out[outPos + 28] = in[inPos + 27] >>> 22 | in[inPos + 28] << 10;
+            out[outPos + 29] = in[inPos + 28] >>> 22 | in[inPos + 29] << 10;
+            out[outPos + 30] = in[inPos + 29] >>> 22 | in[inPos + 30] << 10;
+            out[outPos + 31] = in[inPos + 30] >>> 22 | in[inPos + 31] << 10;
+            out[outPos + 32] = in[inPos + 31] >>> 22;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package compressor.services;
+
+import compressor.models.PackedReader;
+
+import java.nio.IntBuffer;
+import java.util.Objects;
+
+/**
+ * Reader on a spanning-packed array. The header (chunk size and unused bits) is decoded once
+ * in the constructor, every lookup afterwards is a pure bit offset calculation.
+ */
+final class SpanningReader implements PackedReader {
+
+    private final IntBuffer words;
+    private final int chunkSize;
+    private final int mask;
+    private final int size;
+
+    SpanningReader(IntBuffer packed) {
+        // Absolute indices of the reader start at the current position of the buffer
+        this.words = packed.slice();
+        if (words.limit() == 0) {
+            this.chunkSize = 1;
+            this.mask = 1;
+            this.size = 0;
+            return;
+        }
+        // Metadata: chunk size (bits 0-4) and number of unused bits (bits 5-9)
+        this.chunkSize = words.get(0) & 0x1F;
+        int unusedBits = (words.get(0) >>> 5) & 0x1F;
+        if (chunkSize == 0) {
+            throw new IllegalArgumentException("Invalid chunk size in packed array: 0");
+        }
+        this.mask = (int) ((1L << chunkSize) - 1);
+        this.size = (int) ((words.limit() * 32L - 10 - unusedBits) / chunkSize);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int get(int index) {
+        Objects.checkIndex(index, size);
+        // Total bit offset of the chunk, the data starts after the 10 bits of metadata
+        long bit = 10 + (long) chunkSize * index;
+        int word = (int) (bit >>> 5);
+        int shift = (int) bit & 31;
+
+        long value = (words.get(word) & 0xFFFFFFFFL) >>> shift;
+        // Chunk spans across two integers: append the low bits of the next integer
+        if (shift + chunkSize > 32) {
+            value |= (words.get(word + 1) & 0xFFFFFFFFL) << (32 - shift);
+        }
+        return (int) value & mask;
+    }
+
+    @Override
+    public void decompressRange(int from, int to, int[] out, int outOffset) {
+        Objects.checkFromToIndex(from, to, size);
+        Objects.checkFromIndexSize(outOffset, to - from, out.length);
+
+        // The aligned full blocks in the middle of an array backed range are read by the unrolled routines
+        int firstBlock = (from + SpanningKernels.BLOCK_SIZE - 1) / SpanningKernels.BLOCK_SIZE;
+        int lastBlock = to / SpanningKernels.BLOCK_SIZE;
+        if (firstBlock >= lastBlock || !words.hasArray()) {
+            stream(from, to, out, outOffset);
+            return;
+        }
+        int blockStart = firstBlock * SpanningKernels.BLOCK_SIZE;
+        int blockEnd = lastBlock * SpanningKernels.BLOCK_SIZE;
+        stream(from, blockStart, out, outOffset);
+        SpanningKernels.unpack(chunkSize, words.array(), words.arrayOffset() + firstBlock * chunkSize, out, outOffset + blockStart - from, lastBlock - firstBlock);
+        stream(blockEnd, to, out, outOffset + blockEnd - from);
+    }
+
+    /** Streams the elements [from, to) one chunk at a time. */
+    private void stream(int from, int to, int[] out, int outOffset) {
+        if (from == to) return;
+
+        // Seek to the first chunk and keep the not yet consumed bits in a 64 bit buffer
+        long bit = 10 + (long) chunkSize * from;
+        int word = (int) (bit >>> 5);
+        int shift = (int) bit & 31;
+        long buffer = (words.get(word++) & 0xFFFFFFFFL) >>> shift;
+        int available = 32 - shift;
+
+        for (int i = outOffset, end = outOffset + (to - from); i < end; i++) {
+            if (available < chunkSize) {
+                buffer |= (words.get(word++) & 0xFFFFFFFFL) << available;
+                available += 32;
+            }
+            out[i] = (int) buffer & mask;
+            buffer >>>= chunkSize;
+            available -= chunkSize;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package compressor.services;
+
+import compressor.logger.Logger;
+import compressor.models.BitPacker;
+import compressor.models.PackedReader;
+import compressor.models.PackerType;
+import compressor.timetaking.PerformanceTimer;
+import compressor.logger.LogLevel;
+
+import java.io.File;
+import java.nio.IntBuffer;
+
+public class SpanningSimdBP implements BitPacker {
+
+    /** Name of the module providing the Vector API. */
+    static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    /** Number of integers used by the metadata: chunk size and number of elements. */
+    static final int HEADER_SIZE = 2;
+
+    public PerformanceTimer timer = null;
+    private Logger logger;
+    private final VerticalCodec codec;
+
+    /**
+     * Constructor for the Spanning SIMD Bit Packer (BP).
+     * Uses the Vector API if the jdk.incubator.vector module is present (java --add-modules jdk.incubator.vector),
+     * otherwise the scalar implementation of the same layout.
+     * @param filePath File path for performance logging (null if not needed).
+     * @param log The Logger instance (Dependency Injection).
+     */
+    public SpanningSimdBP(File filePath, Logger log) {
+        this.logger = log;
+        // Initialization of timer
+        if (PerformanceTimer.isTimed(filePath)) {
+            this.timer = new PerformanceTimer(filePath, "SpanningSimd");
+            this.logger.log(LogLevel.INFO, "PerformanceTimer initialized for SpanningSimdBP.");
+        } else {
+            this.logger.log(LogLevel.DEBUG, "PerformanceTimer disabled (no filePath and no metrics).");
+        }
+
+        if (isVectorApiAvailable()) {
+            this.codec = new VectorVerticalCodec();
+            this.logger.log(LogLevel.INFO, "Vector API available, using the SIMD codec.");
+        } else {
+            this.codec = new ScalarVerticalCodec();
+            this.logger.log(LogLevel.WARNING, () -> "Module " + VECTOR_MODULE + " not present, using the scalar codec.");
+        }
+    }
+
+    /**
+     * Checks if the Vector API module was added to the boot layer.
+     * @return true if jdk.incubator.vector can be used.
+     */
+    public static boolean isVectorApiAvailable() {
+        return ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent();
+    }
+
+    @Override
+    public PackerType getType() {
+        return PackerType.SPANNING_SIMD;
+    }
+
+    // --- Core BitPacker Interface Methods ---
+
+    /**
+     * Compresses an array of integers into the vertical layout: full blocks of 256 values in 8 lanes,
+     * followed by the remaining values packed spanning. Negative values are stored with 32 bit chunks.
+     */
+    @Override
+    public int[] compress(int[] array, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, "Starting compress operation.");
+
+        if (array.length == 0) return new int[0];
+
+        // The chunk size is given by the highest set bit of any value
+        int all_bits = 0;
+        for (int value : array) {
+            all_bits |= value;
+        }
+        int chunk_size = Math.max(1, 32 - Integer.numberOfLeadingZeros(all_bits));
+
+        // Take time of the bit-needed function
+        if (timer != null) timer.stop("BitNeeded");
+
+        int blocks = array.length / VerticalCodec.BLOCK_SIZE;
+        int tail = array.length - blocks * VerticalCodec.BLOCK_SIZE;
+        int tail_start = HEADER_SIZE + blocks * VerticalCodec.LANES * chunk_size;
+        int[] result = new int[tail_start + (int) (((long) tail * chunk_size + 31) / 32)];
+
+        // Metadata: chunk size (bits 0-5) and number of elements
+        result[0] = chunk_size;
+        result[1] = array.length;
+
+        // Take time of the setup phase
+        if (timer != null) timer.stop("Setup");
+        this.logger.log(LogLevel.DEBUG, () -> "Compression setup complete. Chunk size: " + chunk_size + ", New size: " + result.length);
+
+        codec.pack(chunk_size, array, 0, result, HEADER_SIZE, blocks);
+
+        // The remaining values are packed spanning after the last block
+        long bit = 0;
+        for (int i = blocks * VerticalCodec.BLOCK_SIZE; i < array.length; i++, bit += chunk_size) {
+            int word = tail_start + (int) (bit >>> 5);
+            int shift = (int) bit & 31;
+            result[word] |= array[i] << shift;
+            if (shift + chunk_size > 32) {
+                result[word + 1] = array[i] >>> (32 - shift);
+            }
+        }
+
+        // Stop of timetaking of writing on the compressed array
+        if (timer != null) {
+            timer.stop("Compressing");
+            timer.saveToJson("Compress", array.length, result.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "Compression completed. Input size: " + array.length + ", Result size: " + result.length);
+
+        return result;
+    }
+
+    /**
+     * Decompresses the vertical layout back into the original integer array.
+     */
+    @Override
+    public int[] decompress(int[] array, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, "Starting decompress operation.");
+
+        if (array.length == 0) return new int[0];
+
+        SpanningSimdReader reader = new SpanningSimdReader(IntBuffer.wrap(array), codec);
+        int[] result = new int[reader.size()];
+
+        // Stop of Setup time taking
+        if (timer != null) timer.stop("Setup");
+        this.logger.log(LogLevel.DEBUG, () -> "Decompression setup complete. Expected result size: " + result.length);
+
+        reader.decompressRange(0, result.length, result, 0);
+
+        // Stop of timetaking of writing on the decompressed array
+        if (timer != null) {
+            timer.stop("Decompressing");
+            timer.saveToJson("Decompress", result.length, array.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "Decompression finished. Result size: " + result.length);
+
+        return result;
+    }
+
+    /**
+     * Retrieves a single integer value at a specific logical index from the compressed array.
+     */
+    @Override
+    public int get(int index, int[] array, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, () -> "Starting get operation for index: " + index);
+
+        SpanningSimdReader reader = new SpanningSimdReader(IntBuffer.wrap(array), codec);
+
+        // Test if the index is out of bounds
+        if (index < 0 || index >= reader.size()) {
+            this.logger.log(LogLevel.WARNING, () -> "Index " + index + " is out of bounds.");
+            System.err.println("index out of bounds");
+            return -1;
+        }
+        int result = reader.get(index);
+
+        // Stop timetaking
+        if (timer != null) {
+            timer.stop("get");
+            timer.saveToJson("get", reader.size(), array.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "Get operation successful. Retrieved value: " + result);
+
+        return result;
+    }
+
+    /**
+     * Decodes the metadata of the compressed array once and returns a reader
+     * that can be reused for any number of lookups.
+     */
+    @Override
+    public PackedReader open(IntBuffer array) {
+        PackedReader reader = new SpanningSimdReader(array, codec);
+        this.logger.log(LogLevel.DEBUG, () -> "Opened packed array with " + reader.size() + " elements.");
+        return reader;
+    }
+
+    /**
+     * Retrieves the values at several logical indices in one call.
+     * The metadata is decoded once, the values are written into the caller supplied output array.
+     */
+    @Override
+    public void getAll(int[] indices, int[] array, int[] out, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, () -> "Starting getAll operation for " + indices.length + " indices.");
+
+        PackedReader reader = new SpanningSimdReader(IntBuffer.wrap(array), codec);
+
+        // Stop of Setup time taking
+        if (timer != null) timer.stop("Setup");
+
+        reader.getAll(indices, out);
+
+        // Stop timetaking
+        if (timer != null) {
+            timer.stop("getAll");
+            timer.saveToJson("getAll", reader.size(), array.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "GetAll operation successful. Retrieved values: " + indices.length);
+    }
+
+    /**
+     * Decompresses only the logical indices [from, to) of the compressed array
+     * into the caller supplied output array, starting at outOffset.
+     */
+    @Override
+    public void decompressRange(int[] array, int from, int to, int[] out, int outOffset, String sizeLabel, String valueLabel) {
+
+        // Start of timetaking
+        if (timer != null) timer.start();
+        this.logger.log(LogLevel.DEBUG, () -> "Starting decompressRange operation for [" + from + ", " + to + ").");
+
+        PackedReader reader = new SpanningSimdReader(IntBuffer.wrap(array), codec);
+
+        // Stop of Setup time taking
+        if (timer != null) timer.stop("Setup");
+
+        reader.decompressRange(from, to, out, outOffset);
+
+        // Stop of timetaking
+        if (timer != null) {
+            timer.stop("DecompressingRange");
+            timer.saveToJson("DecompressRange", to - from, array.length, sizeLabel, valueLabel);
+        }
+        this.logger.log(LogLevel.INFO, () -> "DecompressRange finished. Result size: " + (to - from));
+    }
+}
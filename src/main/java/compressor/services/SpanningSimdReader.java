@@ -0,0 +1,106 @@
+package compressor.services;
+
+import compressor.models.BitPacker;
+import compressor.models.PackedReader;
+
+import java.nio.IntBuffer;
+import java.util.Objects;
+
+/**
+ * Reader on an array packed by {@link SpanningSimdBP}. Full blocks of the range are unpacked by
+ * the vertical codec, single lookups and the tail address the lane integer directly.
+ */
+final class SpanningSimdReader implements PackedReader {
+
+    private final IntBuffer words;
+    private final VerticalCodec codec;
+    private final int chunkSize;
+    private final int mask;
+    private final int size;
+    private final int blocks;
+    private final int tailStart;
+
+    SpanningSimdReader(IntBuffer packed, VerticalCodec codec) {
+        // Absolute indices of the reader start at the current position of the buffer
+        this.words = packed.slice();
+        this.codec = codec;
+        if (words.limit() == 0) {
+            this.chunkSize = 1;
+            this.mask = 1;
+            this.size = 0;
+            this.blocks = 0;
+            this.tailStart = 0;
+            return;
+        }
+        // Metadata: chunk size (bits 0-5) and number of elements
+        this.chunkSize = words.get(0) & 0x3F;
+        this.size = words.get(1);
+        if (chunkSize > 32) {
+            throw new IllegalArgumentException("Invalid chunk size in packed array: " + chunkSize);
+        }
+        this.mask = (int) ((1L << chunkSize) - 1);
+        this.blocks = size / VerticalCodec.BLOCK_SIZE;
+        // The blocks and the tail have to fit before the size is used
+        long tail = (long) size - (long) blocks * VerticalCodec.BLOCK_SIZE;
+        BitPacker.checkPackedLength(words.limit(), size, SpanningSimdBP.HEADER_SIZE
+                + (long) blocks * VerticalCodec.LANES * chunkSize + (tail * chunkSize + 31) / 32);
+        this.tailStart = SpanningSimdBP.HEADER_SIZE + blocks * VerticalCodec.LANES * chunkSize;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int get(int index) {
+        Objects.checkIndex(index, size);
+        int block = index / VerticalCodec.BLOCK_SIZE;
+        if (block == blocks) {
+            // Tail: packed spanning after the last block
+            long bit = (long) (index - block * VerticalCodec.BLOCK_SIZE) * chunkSize;
+            return extract(tailStart + (int) (bit >>> 5), (int) bit & 31, 1);
+        }
+        int position = index - block * VerticalCodec.BLOCK_SIZE;
+        int lane = position % VerticalCodec.LANES;
+        int bit = (position / VerticalCodec.LANES) * chunkSize;
+        int word = SpanningSimdBP.HEADER_SIZE + block * VerticalCodec.LANES * chunkSize
+                + (bit >>> 5) * VerticalCodec.LANES + lane;
+        return extract(word, bit & 31, VerticalCodec.LANES);
+    }
+
+    /** Extracts one chunk starting at the given bit, the following bits are stride integers further. */
+    private int extract(int word, int shift, int stride) {
+        int value = words.get(word) >>> shift;
+        if (shift + chunkSize > 32) {
+            value |= words.get(word + stride) << (32 - shift);
+        }
+        return value & mask;
+    }
+
+    @Override
+    public void decompressRange(int from, int to, int[] out, int outOffset) {
+        Objects.checkFromToIndex(from, to, size);
+        Objects.checkFromIndexSize(outOffset, to - from, out.length);
+
+        // The aligned full blocks in the middle of an array backed range are unpacked by the codec
+        int firstBlock = (from + VerticalCodec.BLOCK_SIZE - 1) / VerticalCodec.BLOCK_SIZE;
+        int lastBlock = Math.min(to / VerticalCodec.BLOCK_SIZE, blocks);
+        if (firstBlock >= lastBlock || !words.hasArray()) {
+            for (int i = from; i < to; i++) {
+                out[outOffset + i - from] = get(i);
+            }
+            return;
+        }
+        int blockStart = firstBlock * VerticalCodec.BLOCK_SIZE;
+        int blockEnd = lastBlock * VerticalCodec.BLOCK_SIZE;
+        for (int i = from; i < blockStart; i++) {
+            out[outOffset + i - from] = get(i);
+        }
+        codec.unpack(chunkSize, words.array(), words.arrayOffset() + SpanningSimdBP.HEADER_SIZE + firstBlock * VerticalCodec.LANES * chunkSize,
+                out, outOffset + blockStart - from, lastBlock - firstBlock);
+        for (int i = blockEnd; i < to; i++) {
+            out[outOffset + i - from] = get(i);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package compressor.services;
+
+import compressor.logger.LogLevel;
+import compressor.logger.Logger;
+import compressor.models.BitPacker;
+import compressor.models.BitPackerFactory;
+import compressor.models.IntSink;
+import compressor.models.IntSource;
+import compressor.models.PackerType;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Compresses an input of unbounded size in fixed-size blocks.
+ * <p>
+ * Each block is packed on its own, so it gets its own chunk size, and is written as a frame
+ * as soon as it is full. Only one block is held in memory at a time.
+ * <p>
+ * Layout (little endian): magic "BPST" (4 bytes), version (4), strategy id (4), block size (4),
+ * followed by frames of element count (4), word count (4) and the packed words (4 bytes each).
+ */
+public class StreamingCompressor {
+
+    /** "BPST" read as a little endian integer. */
+    public static final int MAGIC = 0x54535042;
+    public static final int VERSION = 1;
+    public static final int HEADER_BYTES = 16;
+    public static final int FRAME_HEADER_BYTES = 8;
+    public static final int DEFAULT_BLOCK_SIZE = 1 << 16;
+
+    // Number of bytes written to the channel per write call
+    private static final int BUFFER_BYTES = 1 << 16;
+    // Integers a packed block may take beyond 2 per element (headers, checkpoints, exception lists)
+    private static final int FRAME_SLACK_WORDS = 1024;
+
+    private final BitPacker bitPacker;
+    private final int blockSize;
+    private final Logger logger;
+
+    /**
+     * Creates a streaming compressor.
+     * @param bitPacker The packer of each block, its strategy is stored in the stream.
+     * @param blockSize The number of elements per block.
+     * @param logger The logger.
+     */
+    public StreamingCompressor(BitPacker bitPacker, int blockSize, Logger logger) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+        }
+        this.bitPacker = bitPacker;
+        this.blockSize = blockSize;
+        this.logger = logger;
+    }
+
+    /**
+     * Reads the whole source and writes it compressed, block by block.
+     * @param source The integers to compress.
+     * @param out The channel receiving the compressed stream.
+     * @return The number of integers compressed.
+     * @throws IOException If the source cannot be read or the output cannot be written.
+     */
+    public long compress(IntSource source, WritableByteChannel out) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(bitPacker.getType().getId()).putInt(blockSize);
+
+        int[] block = new int[blockSize];
+        long total = 0;
+        int frames = 0;
+        int count;
+        while ((count = fill(source, block)) > 0) {
+            // Only the last block can be partial
+            int[] values = count == blockSize ? block : Arrays.copyOf(block, count);
+            int[] packed = bitPacker.compress(values, "stream", "stream");
+
+            if (buffer.remaining() < FRAME_HEADER_BYTES) {
+                writeFully(out, buffer);
+            }
+            buffer.putInt(count).putInt(packed.length);
+            int cursor = 0;
+            while (cursor < packed.length) {
+                if (buffer.remaining() < 4) {
+                    writeFully(out, buffer);
+                }
+                IntBuffer view = buffer.asIntBuffer();
+                int n = Math.min(view.remaining(), packed.length - cursor);
+                view.put(packed, cursor, n);
+                buffer.position(buffer.position() + n * 4);
+                cursor += n;
+            }
+            total += count;
+            frames++;
+        }
+        writeFully(out, buffer);
+
+        this.logger.log(LogLevel.DEBUG, "Streamed %d integers in %d blocks of %d.", total, frames, blockSize);
+        return total;
+    }
+
+    /**
+     * Decompresses a stream written by {@link #compress}, block by block.
+     * The strategy stored in the stream is used, whatever the strategy of this compressor.
+     * @param in The channel providing the compressed stream.
+     * @param sink The sink receiving the integers (flushed at the end).
+     * @return The number of integers decompressed.
+     * @throws IOException If the stream cannot be read or is not valid.
+     */
+    public long decompress(ReadableByteChannel in, IntSink sink) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        if (!readFully(in, header)) {
+            throw new IOException("Input too small for a compressed stream");
+        }
+        if (header.getInt(0) != MAGIC) {
+            throw new IOException("Not a compressed stream (wrong magic number)");
+        }
+        int version = header.getInt(4);
+        if (version != VERSION) {
+            throw new IOException("Unsupported compressed stream version " + version);
+        }
+        PackerType streamType = PackerType.fromId(header.getInt(8));
+        int streamBlockSize = header.getInt(12);
+        if (streamBlockSize <= 0) {
+            throw new IOException("Corrupted compressed stream header (block size " + streamBlockSize + ")");
+        }
+        long maxWordCount = maxFrameWords(streamBlockSize);
+        BitPacker packer = this.bitPacker;
+        if (streamType != packer.getType()) {
+            this.logger.log(LogLevel.WARNING, "Stream was packed with " + streamType.getName()
+                    + ", ignoring type " + packer.getType().getName() + ".");
+            packer = BitPackerFactory.createBitPacker(streamType.getName(), null, this.logger);
+        }
+
+        ByteBuffer frameHeader = ByteBuffer.allocate(FRAME_HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        ByteBuffer words = ByteBuffer.allocate(0);
+        long total = 0;
+        while (readFully(in, frameHeader.clear())) {
+            int count = frameHeader.getInt(0);
+            int wordCount = frameHeader.getInt(4);
+            // Both counts are checked before anything is allocated from them
+            if (count <= 0 || count > streamBlockSize || wordCount <= 0 || wordCount > maxWordCount) {
+                throw new IOException("Corrupted frame header in compressed stream (" + count + " elements in "
+                        + wordCount + " integers)");
+            }
+            if (words.capacity() < wordCount * 4) {
+                words = ByteBuffer.allocate(wordCount * 4).order(ByteOrder.LITTLE_ENDIAN);
+            }
+            words.clear().limit(wordCount * 4);
+            if (!readFully(in, words)) {
+                throw new IOException("Compressed stream is truncated");
+            }
+            int[] packed = new int[wordCount];
+            words.flip();
+            words.asIntBuffer().get(packed);
+
+            int[] values = packer.decompress(packed, "stream", "stream");
+            sink.write(values, 0, count);
+            total += count;
+        }
+        sink.flush();
+        return total;
+    }
+
+    /**
+     * Gets the largest number of integers a frame of the block size may hold. No strategy takes more
+     * than 2 integers per element plus a fixed header, and the bound keeps the frame buffer below 2 GB.
+     * @param blockSize The number of elements per block of the stream.
+     * @return The maximum word count of a frame.
+     */
+    public static long maxFrameWords(int blockSize) {
+        return Math.min(2L * blockSize + FRAME_SLACK_WORDS, (Integer.MAX_VALUE - 8) / 4);
+    }
+
+    /**
+     * Compresses a file into a stream file.
+     * @param source The source file, raw little endian integers if it ends with ".bin", text otherwise.
+     * @param destination The destination file (overwritten).
+     * @return The number of integers compressed.
+     * @throws IOException If a file cannot be read or written.
+     */
+    public long compress(File source, File destination) throws IOException {
+        try (FileChannel in = FileChannel.open(source.toPath(), StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(destination.toPath(), StandardOpenOption.CREATE,
+                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            IntSource intSource = source.getName().endsWith(".bin") ? new BinaryIntSource(in) : new TextIntSource(in);
+            return compress(intSource, out);
+        }
+    }
+
+    /**
+     * Decompresses a stream file into a text file with one integer per line.
+     * @param source The stream file.
+     * @param destination The destination file (overwritten).
+     * @return The number of integers decompressed.
+     * @throws IOException If a file cannot be read or written.
+     */
+    public long decompress(File source, File destination) throws IOException {
+        try (FileChannel in = FileChannel.open(source.toPath(), StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(destination.toPath(), StandardOpenOption.CREATE,
+                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            return decompress(in, new TextIntSink(out));
+        }
+    }
+
+    /** Fills the block as far as possible, returns the number of integers read. */
+    private static int fill(IntSource source, int[] block) throws IOException {
+        int count = 0;
+        while (count < block.length) {
+            int read = source.read(block, count, block.length - count);
+            if (read < 0) {
+                break;
+            }
+            count += read;
+        }
+        return count;
+    }
+
+    private static void writeFully(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Reads until the buffer is full.
+     * @return false if the input ended before the first byte, true if the buffer was filled.
+     * @throws IOException If the input ends in the middle of the buffer.
+     */
+    private static boolean readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        int start = buffer.position();
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                if (buffer.position() == start) {
+                    return false;
+                }
+                throw new IOException("Compressed stream is truncated");
+            }
+        }
+        return true;
+    }
+}
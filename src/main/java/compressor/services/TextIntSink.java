@@ -0,0 +1,70 @@
+package compressor.services;
+
+import compressor.models.IntSink;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Formats integers as decimal text, one per line, directly into a reusable direct buffer
+ * that is written to a channel whenever it is full. No String is created per number.
+ */
+public class TextIntSink implements IntSink {
+
+    // Size of the direct write buffer in bytes
+    private static final int BUFFER_BYTES = 1 << 16;
+    // Longest formatted integer: "-2147483648\n"
+    private static final int MAX_NUMBER_BYTES = 12;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer;
+    private final byte[] digits = new byte[10];
+
+    /**
+     * Creates a sink writing text to a channel.
+     * @param channel The channel receiving the text (e.g. a FileChannel or stdout).
+     */
+    public TextIntSink(WritableByteChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+    }
+
+    @Override
+    public void write(int[] values, int offset, int length) throws IOException {
+        for (int i = offset; i < offset + length; i++) {
+            if (buffer.remaining() < MAX_NUMBER_BYTES) {
+                drain();
+            }
+            int value = values[i];
+            // Work on the negative value, so Integer.MIN_VALUE needs no special case
+            if (value < 0) {
+                buffer.put((byte) '-');
+            } else {
+                value = -value;
+            }
+            int count = 0;
+            do {
+                digits[count++] = (byte) ('0' - value % 10);
+                value /= 10;
+            } while (value != 0);
+            while (count > 0) {
+                buffer.put(digits[--count]);
+            }
+            buffer.put((byte) '\n');
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        drain();
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,134 @@
+package compressor.services;
+
+import compressor.models.IntSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+
+/**
+ * Parses whitespace separated decimal integers directly from bytes.
+ * The input is either a buffer holding the whole text (e.g. a mapped file) or a channel read
+ * through a reusable direct buffer, where a number may continue in the next buffer.
+ * No object is created per number.
+ */
+public class TextIntSource implements IntSource {
+
+    // Size of the direct read buffer in bytes
+    private static final int BUFFER_BYTES = 1 << 16;
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+    private boolean exhausted = false;
+
+    // State of the number currently being parsed (it may span two buffers)
+    private long value = 0;
+    private boolean negative = false;
+    private boolean inNumber = false;
+    private boolean hasDigits = false;
+
+    /**
+     * Creates a source reading text from a channel.
+     * @param channel The channel providing the text (e.g. a FileChannel or stdin).
+     */
+    public TextIntSource(ReadableByteChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+        this.buffer.flip(); // Start empty
+    }
+
+    /**
+     * Creates a source parsing text already in memory.
+     * @param content The text, parsed from its position to its limit (e.g. a mapped file).
+     */
+    public TextIntSource(ByteBuffer content) {
+        this.channel = null;
+        this.buffer = content;
+        this.exhausted = true; // Nothing to read after the buffer
+    }
+
+    /**
+     * Parses all remaining integers into an array.
+     * @param sizeHint The expected number of integers, used as initial capacity.
+     * @return The integers, the array has exactly their count as length.
+     * @throws IOException If the input cannot be read or is malformed.
+     */
+    public int[] readAll(int sizeHint) throws IOException {
+        int[] values = new int[Math.max(sizeHint, 16)];
+        int count = 0;
+        int read;
+        while ((read = read(values, count, values.length - count)) >= 0) {
+            count += read;
+            if (count == values.length) {
+                // Grow by half, as ArrayList does
+                values = Arrays.copyOf(values, values.length + (values.length >> 1));
+            }
+        }
+        return count == values.length ? values : Arrays.copyOf(values, count);
+    }
+
+    @Override
+    public int read(int[] dest, int offset, int length) throws IOException {
+        int count = 0;
+        while (count < length) {
+            if (!buffer.hasRemaining() && !refill()) {
+                // End of input: the last number may not be followed by whitespace
+                if (inNumber) {
+                    dest[offset + count++] = finishNumber();
+                }
+                break;
+            }
+            byte c = buffer.get();
+            if (c >= '0' && c <= '9') {
+                value = value * 10 + (c - '0');
+                if (value > 2147483648L) {
+                    throw new NumberFormatException("Value out of int range at byte " + buffer.position());
+                }
+                inNumber = true;
+                hasDigits = true;
+            } else if (c >= 0 && c <= ' ') {
+                // Whitespace (space, tab, line breaks) ends a number
+                if (inNumber) {
+                    dest[offset + count++] = finishNumber();
+                }
+            } else if ((c == '-' || c == '+') && !inNumber) {
+                negative = c == '-';
+                inNumber = true;
+            } else {
+                throw new NumberFormatException("Unexpected character '" + (char) (c & 0xFF) + "' in integer input");
+            }
+        }
+        return count == 0 && exhausted ? -1 : count;
+    }
+
+    private int finishNumber() {
+        if (!hasDigits || (!negative && value > Integer.MAX_VALUE)) {
+            throw new NumberFormatException("Invalid integer in input");
+        }
+        int result = (int) (negative ? -value : value);
+        value = 0;
+        negative = false;
+        inNumber = false;
+        hasDigits = false;
+        return result;
+    }
+
+    /** Reads the next bytes from the channel, returns false at the end of the input. */
+    private boolean refill() throws IOException {
+        if (exhausted) {
+            return false;
+        }
+        buffer.clear();
+        int read;
+        do {
+            read = channel.read(buffer);
+        } while (read == 0);
+        buffer.flip();
+        if (read < 0) {
+            exhausted = true;
+            return false;
+        }
+        return true;
+    }
+}
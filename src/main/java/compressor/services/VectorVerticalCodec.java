@@ -0,0 +1,57 @@
+package compressor.services;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Implementation of the vertical layout on the JDK Vector API. One 256 bit vector holds the
+ * current integer of all 8 lanes, so every shift and OR handles 8 values at once (AVX2 and newer).
+ * Only loaded if the jdk.incubator.vector module is present, see {@link SpanningSimdBP}.
+ */
+final class VectorVerticalCodec implements VerticalCodec {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_256;
+
+    @Override
+    public void pack(int chunkSize, int[] in, int inPos, int[] out, int outPos, int blocks) {
+        IntVector zero = IntVector.zero(SPECIES);
+        for (int b = 0; b < blocks; b++, inPos += BLOCK_SIZE) {
+            IntVector current = zero;
+            for (int slot = 0; slot < 32; slot++) {
+                IntVector values = IntVector.fromArray(SPECIES, in, inPos + slot * LANES);
+                int shift = (slot * chunkSize) & 31;
+                current = current.or(values.lanewise(VectorOperators.LSHL, shift));
+                if (shift + chunkSize >= 32) {
+                    // The integers of all lanes are full: store them and keep the bits that did not fit
+                    current.intoArray(out, outPos);
+                    outPos += LANES;
+                    current = shift + chunkSize > 32 ? values.lanewise(VectorOperators.LSHR, 32 - shift) : zero;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void unpack(int chunkSize, int[] in, int inPos, int[] out, int outPos, int blocks) {
+        IntVector mask = IntVector.broadcast(SPECIES, (int) ((1L << chunkSize) - 1));
+        for (int b = 0; b < blocks; b++, outPos += BLOCK_SIZE) {
+            IntVector current = IntVector.fromArray(SPECIES, in, inPos);
+            for (int slot = 0; slot < 32; slot++) {
+                int shift = (slot * chunkSize) & 31;
+                IntVector values = current.lanewise(VectorOperators.LSHR, shift);
+                if (shift + chunkSize >= 32) {
+                    inPos += LANES;
+                    // The last integers of a block are already consumed, do not read past them
+                    if (slot < 31) {
+                        current = IntVector.fromArray(SPECIES, in, inPos);
+                        if (shift + chunkSize > 32) {
+                            values = values.or(current.lanewise(VectorOperators.LSHL, 32 - shift));
+                        }
+                    }
+                }
+                values.and(mask).intoArray(out, outPos + slot * LANES);
+            }
+        }
+    }
+}
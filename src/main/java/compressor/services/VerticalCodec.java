@@ -0,0 +1,40 @@
+package compressor.services;
+
+/**
+ * Block routines of the vertical layout used by {@link SpanningSimdBP}.
+ * <p>
+ * A block holds 256 values in 8 lanes. Value p of a block belongs to lane (p % 8) and is the
+ * (p / 8)-th value of that lane. Each lane packs its 32 values spanning into chunkSize integers,
+ * and integer k of lane l is stored at position (k * 8 + l) of the block. A block therefore
+ * occupies exactly 8 * chunkSize integers and the same shift is applied to all 8 lanes at once.
+ */
+interface VerticalCodec {
+
+    /** Number of lanes of the vertical layout. */
+    int LANES = 8;
+
+    /** Number of values in one block. */
+    int BLOCK_SIZE = LANES * 32;
+
+    /**
+     * Packs full blocks of values. Every value must fit into chunkSize bits.
+     * @param chunkSize The chunk size of the packed values (1 to 32).
+     * @param in The values to pack.
+     * @param inPos The position of the first value in in.
+     * @param out The packed array, the written integers are overwritten.
+     * @param outPos The position of the first integer of the first block in out.
+     * @param blocks The number of blocks to pack.
+     */
+    void pack(int chunkSize, int[] in, int inPos, int[] out, int outPos, int blocks);
+
+    /**
+     * Unpacks full blocks of values.
+     * @param chunkSize The chunk size of the packed values (1 to 32).
+     * @param in The packed array.
+     * @param inPos The position of the first integer of the first block in in.
+     * @param out The array receiving the values.
+     * @param outPos The position of the first value in out.
+     * @param blocks The number of blocks to unpack.
+     */
+    void unpack(int chunkSize, int[] in, int inPos, int[] out, int outPos, int blocks);
+}
@@ -0,0 +1,221 @@
+package compressor.timetaking;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory timings of all operations, per compression type and operation (e.g., "Spanning", "get").
+ * <p>
+ * Recording only updates lock-free counters and a {@link LatencyHistogram}, nothing is written on the
+ * calling thread. Packers time their calls with a performance file, or without one while the global
+ * registry is recording (see {@link #enableRecording()}), then nothing is written per call.
+ * Snapshots with percentiles can be queried at any time, and a background thread can append them
+ * to a JSONL file periodically and once more when the JVM shuts down.
+ */
+public final class MetricsRegistry implements AutoCloseable {
+
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+
+    private final ObjectMapper mapper;
+    // compression type -> operation -> timings, two lookups so recording never builds a key
+    private final Map<String, Map<String, Operation>> operations = new ConcurrentHashMap<>();
+
+    // Packers created while this is set get a timer even without a performance file
+    private volatile boolean recording;
+
+    // Periodic flushing, guarded by this
+    private File flushFile;
+    private ScheduledExecutorService flusher;
+    private Thread shutdownHook;
+
+    /** The timings of one operation of one compression type. */
+    private static final class Operation {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder elements = new LongAdder();
+    }
+
+    /**
+     * Creates an empty registry, most callers use {@link #global()}.
+     */
+    public MetricsRegistry() {
+        this.mapper = new ObjectMapper();
+        this.mapper.disable(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    /**
+     * Gets the registry all PerformanceTimers record into.
+     * @return The shared registry.
+     */
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Makes the packers created from now on time their calls into this registry, even without a performance file.
+     * Only has an effect on the global registry, which the timers record into.
+     */
+    public void enableRecording() {
+        this.recording = true;
+    }
+
+    /**
+     * Stops giving timers to packers created without a performance file, existing packers keep theirs.
+     */
+    public void disableRecording() {
+        this.recording = false;
+    }
+
+    /**
+     * Checks if packers created without a performance file get a timer recording into this registry.
+     * @return True after {@link #enableRecording()} or {@link #startFlushing}, until {@link #disableRecording()}.
+     */
+    public boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * Records one call.
+     * @param compressionType The name of the compression algorithm (e.g., "Spanning").
+     * @param functionType The type of operation (e.g., "Compress", "get").
+     * @param durationNanos The duration of the call.
+     * @param elements The number of uncompressed elements of the call.
+     */
+    public void record(String compressionType, String functionType, long durationNanos, long elements) {
+        Operation operation = operations.computeIfAbsent(compressionType, type -> new ConcurrentHashMap<>())
+                .computeIfAbsent(functionType, function -> new Operation());
+        operation.latency.record(durationNanos);
+        operation.elements.add(elements);
+    }
+
+    /**
+     * Takes a snapshot of one operation.
+     * @param compressionType The name of the compression algorithm.
+     * @param functionType The type of operation.
+     * @return The snapshot, or null if the operation was never recorded.
+     */
+    public MetricsSnapshot snapshot(String compressionType, String functionType) {
+        Map<String, Operation> functions = operations.get(compressionType);
+        Operation operation = functions == null ? null : functions.get(functionType);
+        return operation == null ? null : new MetricsSnapshot(compressionType, functionType, operation.latency, operation.elements.sum());
+    }
+
+    /**
+     * Takes a snapshot of every recorded operation.
+     * @return The snapshots, one per compression type and operation.
+     */
+    public List<MetricsSnapshot> snapshot() {
+        List<MetricsSnapshot> snapshots = new ArrayList<>();
+        operations.forEach((type, functions) -> functions.forEach((function, operation) ->
+                snapshots.add(new MetricsSnapshot(type, function, operation.latency, operation.elements.sum()))));
+        return snapshots;
+    }
+
+    /**
+     * Starts appending the snapshots to a file from a background thread, and once more at shutdown.
+     * @param file The JSONL file receiving one line per operation and flush.
+     * @param periodMillis The time between two flushes.
+     * @throws IllegalStateException If the registry is already flushing.
+     */
+    public synchronized void startFlushing(File file, long periodMillis) {
+        if (flusher != null) {
+            throw new IllegalStateException("Metrics are already flushed to " + flushFile);
+        }
+        if (periodMillis <= 0) {
+            throw new IllegalArgumentException("Flush period must be positive: " + periodMillis);
+        }
+        this.flushFile = file;
+        enableRecording();
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher.scheduleAtFixedRate(this::flushQuietly, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        this.shutdownHook = new Thread(this::flushQuietly, "metrics-flusher-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * Appends the current snapshots to the flush file.
+     * @throws IOException If the file cannot be written.
+     */
+    public void flush() throws IOException {
+        File file;
+        synchronized (this) {
+            file = flushFile;
+        }
+        if (file != null) {
+            writeTo(file);
+        }
+    }
+
+    /**
+     * Appends the current snapshots to a file, one JSON line per operation.
+     * @param file The JSONL file.
+     * @throws IOException If the file cannot be written.
+     */
+    public void writeTo(File file) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (MetricsSnapshot snapshot : snapshot()) {
+            lines.append(mapper.writeValueAsString(snapshot)).append('\n');
+        }
+        if (lines.length() == 0) {
+            return;
+        }
+        synchronized (this) {
+            try (FileWriter writer = new FileWriter(file, true)) { // Use 'true' for appending
+                writer.write(lines.toString());
+            }
+        }
+    }
+
+    /**
+     * Stops the periodic flushing after a last flush.
+     */
+    @Override
+    public void close() {
+        ScheduledExecutorService stopped;
+        synchronized (this) {
+            if (flusher == null) {
+                return;
+            }
+            stopped = flusher;
+            flusher = null;
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException e) {
+                // The JVM is already shutting down, the hook flushes
+            }
+        }
+        stopped.shutdown();
+        try {
+            stopped.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushQuietly();
+        synchronized (this) {
+            flushFile = null;
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (IOException e) {
+            System.err.println("Error writing metrics to file: " + e.getMessage());
+        }
+    }
+}
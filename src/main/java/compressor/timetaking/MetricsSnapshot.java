@@ -0,0 +1,94 @@
+package compressor.timetaking;
+
+/**
+ * Aggregated timings of one operation of one compression type at a point in time,
+ * written as one JSON line by {@link MetricsRegistry#flush()}.
+ */
+public class MetricsSnapshot {
+
+    private final long timestampMillis; // Time of the snapshot (milliseconds since the epoch)
+    private final String compressionType; // E.g., "NonSpanning", "Overflow", etc.
+    private final String functionType; // E.g., "Compress", "Decompress", "get"
+    private final long count; // Number of timed calls
+    private final long elements; // Sum of the uncompressed array sizes of the calls
+    private final long totalNanos; // Sum of the durations of the calls
+    private final long maxNanos; // Longest call
+    private final long[] counts; // Bucket counts of the histogram when the snapshot was taken
+
+    /**
+     * Takes a snapshot of the timings of an operation.
+     * @param compressionType The name of the compression algorithm.
+     * @param functionType The type of operation.
+     * @param latency The histogram of the durations.
+     * @param elements The number of uncompressed elements processed.
+     */
+    MetricsSnapshot(String compressionType, String functionType, LatencyHistogram latency, long elements) {
+        this.timestampMillis = System.currentTimeMillis();
+        this.compressionType = compressionType;
+        this.functionType = functionType;
+        this.counts = latency.counts();
+        long sum = 0;
+        for (long bucket : counts) {
+            sum += bucket;
+        }
+        this.count = sum;
+        this.elements = elements;
+        this.totalNanos = latency.getTotalNanos();
+        this.maxNanos = latency.getMaxNanos();
+    }
+
+    /**
+     * Calculates any percentile of the durations in the snapshot.
+     * @param percentile The percentile (0 to 100, e.g., 99.9).
+     * @return The duration in nanoseconds, 0 if there were no calls.
+     */
+    public long valueAtPercentile(double percentile) {
+        return LatencyHistogram.valueAtPercentile(counts, percentile, maxNanos);
+    }
+
+    // --- Standard Getters ---
+
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+
+    public String getCompressionType() {
+        return compressionType;
+    }
+
+    public String getFunctionType() {
+        return functionType;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getElements() {
+        return elements;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getMeanNanos() {
+        return count == 0 ? 0 : totalNanos / count;
+    }
+
+    public long getP50Nanos() {
+        return valueAtPercentile(50);
+    }
+
+    public long getP99Nanos() {
+        return valueAtPercentile(99);
+    }
+
+    public long getP999Nanos() {
+        return valueAtPercentile(99.9);
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+}
@@ -0,0 +1,229 @@
+package compressor.timetaking;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Appends performance records to a JSONL file in batches through one open {@link FileChannel}.
+ * <p>
+ * Records are serialized straight into a direct buffer by {@link #putRecord}, the only definition of
+ * the record fields and their order, as read by analysis/analyze_data.py. The buffer
+ * is written when it is full, every second from a background thread, on {@link #flushAll()} and
+ * when the JVM shuts down. All timers appending to the same file share one sink, whose lock keeps
+ * the records of concurrent packers in whole lines.
+ */
+final class PerformanceSink {
+
+    private static final int BUFFER_BYTES = 1 << 16;
+    private static final long FLUSH_MILLIS = 1000;
+
+    // One sink per file, the flusher and the shutdown hook are started with the first sink
+    private static final Map<Path, PerformanceSink> SINKS = new ConcurrentHashMap<>();
+    private static ScheduledExecutorService flusher;
+
+    private final Path path;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+    private final byte[] digits = new byte[20]; // Scratch space of putLong
+    private FileChannel channel; // Opened with the first write
+
+    private PerformanceSink(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Gets the sink of a file, the same for every timer writing to it.
+     * @param file The JSONL file the records are appended to.
+     * @return The shared sink.
+     */
+    static PerformanceSink forFile(File file) {
+        Path path = file.toPath().toAbsolutePath().normalize();
+        PerformanceSink sink = SINKS.get(path);
+        if (sink == null) {
+            sink = SINKS.computeIfAbsent(path, PerformanceSink::new);
+            startFlusher();
+        }
+        return sink;
+    }
+
+    /**
+     * Writes the buffered records of all files.
+     */
+    static void flushAll() {
+        for (PerformanceSink sink : SINKS.values()) {
+            sink.flush();
+        }
+    }
+
+    private static synchronized void startFlusher() {
+        if (flusher != null) {
+            return;
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "performance-sink");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(PerformanceSink::flushAll, FLUSH_MILLIS, FLUSH_MILLIS, TimeUnit.MILLISECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(PerformanceSink::flushAll, "performance-sink-shutdown"));
+    }
+
+    /**
+     * Appends one record, the file is only written if the buffer is full.
+     * @param compressionType The name of the compression algorithm.
+     * @param record The finished measurements and metadata of one operation.
+     */
+    synchronized void append(String compressionType, PerformanceTimer.Recording record) {
+        int start = buffer.position();
+        try {
+            putRecord(buffer, compressionType, record);
+            return;
+        } catch (BufferOverflowException e) {
+            buffer.position(start);
+        }
+        flush();
+        try {
+            putRecord(buffer, compressionType, record);
+        } catch (BufferOverflowException e) {
+            // Longer than the whole buffer (e.g., very long labels), written on its own
+            buffer.clear();
+            ByteBuffer large = ByteBuffer.allocate(4 * BUFFER_BYTES);
+            while (true) {
+                try {
+                    putRecord(large, compressionType, record);
+                    break;
+                } catch (BufferOverflowException tooSmall) {
+                    large = ByteBuffer.allocate(2 * large.capacity());
+                }
+            }
+            write(large.flip());
+        }
+    }
+
+    /**
+     * Writes the buffered records to the file.
+     */
+    synchronized void flush() {
+        if (buffer.position() > 0) {
+            write(buffer.flip());
+            buffer.clear();
+        }
+    }
+
+    private void write(ByteBuffer bytes) {
+        try {
+            if (channel == null) {
+                channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            }
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        } catch (IOException e) {
+            System.err.println("Error writing performance data to file: " + e.getMessage());
+        }
+    }
+
+    // --- Serialization ---
+
+    /**
+     * Writes one record as a JSON line: compressionType, functionType, arraySize, valueSize,
+     * uncompressedArraySize, compressedArraySize, parts (name, timeNanos) and fullDurationNanos.
+     */
+    private void putRecord(ByteBuffer out, String compressionType, PerformanceTimer.Recording record) {
+        putAscii(out, "{\"compressionType\":");
+        putString(out, compressionType);
+        putAscii(out, ",\"functionType\":");
+        putString(out, record.functionType);
+        putAscii(out, ",\"arraySize\":");
+        putString(out, record.arraySize);
+        putAscii(out, ",\"valueSize\":");
+        putString(out, record.valueSize);
+        putAscii(out, ",\"uncompressedArraySize\":");
+        putLong(out, record.uncompressedArraySize);
+        putAscii(out, ",\"compressedArraySize\":");
+        putLong(out, record.compressedArraySize);
+        putAscii(out, ",\"parts\":[");
+        for (int i = 0; i < record.partCount; i++) {
+            putAscii(out, i == 0 ? "{\"name\":" : ",{\"name\":");
+            putString(out, record.partNames[i]);
+            putAscii(out, ",\"timeNanos\":");
+            putLong(out, record.partNanos[i]);
+            out.put((byte) '}');
+        }
+        putAscii(out, "],\"fullDurationNanos\":");
+        putLong(out, record.fullDurationNanos);
+        putAscii(out, "}\n");
+    }
+
+    private static void putAscii(ByteBuffer out, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            out.put((byte) text.charAt(i));
+        }
+    }
+
+    /** Writes a JSON string in UTF-8, escaped like Jackson does. */
+    private static void putString(ByteBuffer out, String text) {
+        if (text == null) {
+            putAscii(out, "null");
+            return;
+        }
+        out.put((byte) '"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.put((byte) '\\').put((byte) c);
+            } else if (c < 0x20) {
+                switch (c) {
+                    case '\b': putAscii(out, "\\b"); break;
+                    case '\f': putAscii(out, "\\f"); break;
+                    case '\n': putAscii(out, "\\n"); break;
+                    case '\r': putAscii(out, "\\r"); break;
+                    case '\t': putAscii(out, "\\t"); break;
+                    default:
+                        putAscii(out, "\\u00");
+                        out.put((byte) Character.forDigit(c >> 4, 16)).put((byte) Character.forDigit(c & 0xF, 16));
+                }
+            } else if (c < 0x80) {
+                out.put((byte) c);
+            } else if (c < 0x800) {
+                out.put((byte) (0xC0 | c >> 6)).put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                out.put((byte) (0xF0 | codePoint >> 18)).put((byte) (0x80 | codePoint >> 12 & 0x3F))
+                        .put((byte) (0x80 | codePoint >> 6 & 0x3F)).put((byte) (0x80 | codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                out.put((byte) '?'); // Unpaired surrogate, not representable in UTF-8
+            } else {
+                out.put((byte) (0xE0 | c >> 12)).put((byte) (0x80 | c >> 6 & 0x3F)).put((byte) (0x80 | c & 0x3F));
+            }
+        }
+        out.put((byte) '"');
+    }
+
+    /** Writes the decimal digits of a number without creating a String. */
+    private void putLong(ByteBuffer out, long value) {
+        if (value == Long.MIN_VALUE) {
+            putAscii(out, Long.toString(value));
+            return;
+        }
+        if (value < 0) {
+            out.put((byte) '-');
+            value = -value;
+        }
+        int n = digits.length;
+        do {
+            digits[--n] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        out.put(digits, n, digits.length - n);
+    }
+}
@@ -1,74 +1,116 @@
 package compressor.timetaking;
 import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
+import java.util.Arrays;
 
 public class PerformanceTimer {
 
     // --- Singleton Management ---
-    private static PerformanceTimer instance;
+    private static volatile PerformanceTimer instance;
 
     // --- Instance Fields ---
-    private long startTime; // Stores the start time of the current measured segment in nanoseconds
-    private final ObjectMapper mapper; // Jackson object mapper for JSON serialization
-    private final File file; // The target file to write performance JSON data to
-    private PerformanceData currentTimetaking; // Holds data (measurements, metadata) for the current operation
+    private final PerformanceSink sink; // Batched writer of the target file, shared by all timers of the file (null: metrics only)
+    private final String compressionType; // The name of the timed compression algorithm
+    private final ThreadLocal<Recording> recording; // The operation in progress of each calling thread
+
+    /**
+     * The measurements and metadata of one operation on one thread, the fields of one record of the {@link PerformanceSink}.
+     * Every thread timing through the same timer gets its own recording, so concurrent calls never share a start time or parts.
+     * It is reused for the next operation once written, so timing does not allocate.
+     */
+    static final class Recording {
+        long startTime; // Start time of the current measured segment in nanoseconds
+        String[] partNames = new String[4]; // Names of the timed segments (e.g., Setup, Compressing)
+        long[] partNanos = new long[4]; // Durations of the timed segments
+        int partCount;
+        String functionType;
+        String arraySize;
+        String valueSize;
+        int uncompressedArraySize;
+        int compressedArraySize;
+        long fullDurationNanos;
+
+        private void addPart(String name, long timeNanos) {
+            if (partCount == partNames.length) {
+                partNames = Arrays.copyOf(partNames, 2 * partCount);
+                partNanos = Arrays.copyOf(partNanos, 2 * partCount);
+            }
+            partNames[partCount] = name;
+            partNanos[partCount] = timeNanos;
+            partCount++;
+        }
+    }
 
     /**
      * Private constructor for the Singleton pattern. Initializes the timer instance.
-     * @param filePath The file where performance data should be saved (appended).
+     * @param filePath The file where performance data should be saved (appended), null to only record into the {@link MetricsRegistry}.
      * @param compressionType The name of the compression algorithm being timed (e.g., "Spanning").
      */
     public PerformanceTimer(File filePath, String compressionType){
-        this.file = filePath;
-        // Initialize Jackson mapper and disable pretty printing (indentation)
-        this.mapper = new ObjectMapper();
-        this.mapper.disable(SerializationFeature.INDENT_OUTPUT);
-        // Start a new PerformanceData object for the current run
-        this.currentTimetaking = new PerformanceData(compressionType);
+        this.sink = filePath == null ? null : PerformanceSink.forFile(filePath);
+        // Each thread starts its own recording on first use
+        this.compressionType = compressionType;
+        this.recording = ThreadLocal.withInitial(Recording::new);
+    }
+
+    /**
+     * Checks if a packer created with a performance file times its calls: if there is a file,
+     * or if the global {@link MetricsRegistry} is recording, then the timer only feeds the registry.
+     * @param filePath The performance file of the packer (can be null).
+     * @return true if the packer should create a timer.
+     */
+    public static boolean isTimed(File filePath) {
+        return filePath != null || MetricsRegistry.global().isRecording();
     }
 
     /**
      * Gets the Singleton instance of the PerformanceTimer.
      * Creates a new instance if one does not exist.
+     * Safe to call from several threads, all of them receive the same instance.
      * * NOTE: This pattern relies on external code managing the file and type carefully.
      * @param file The file path for the log.
      * @param compressionType The type of compression being timed.
      * @return The single instance of PerformanceTimer.
      */
     public static PerformanceTimer getInstance(File file, String compressionType){
-        if(instance == null){
-            instance = new PerformanceTimer(file, compressionType);
+        PerformanceTimer result = instance;
+        if(result == null){
+            synchronized (PerformanceTimer.class) {
+                result = instance;
+                if(result == null){
+                    result = new PerformanceTimer(file, compressionType);
+                    instance = result;
+                }
+            }
         }
-        return instance;
+        return result;
     }
 
     /**
-     * Marks the starting point of a new measurement segment.
+     * Marks the starting point of a new measurement segment of the calling thread.
      */
     public void start() {
-        this.startTime = System.nanoTime();
+        this.recording.get().startTime = System.nanoTime();
     }
 
     /**
      * Marks the end of the current measurement segment and logs the duration.
      * Sets the end time, calculates duration, adds the measurement to the list,
      * and resets the startTime for the next segment.
+     * Only the recording of the calling thread is touched.
      * @param partName The name of the segment that just finished (e.g., "Setup").
      */
     public void stop(String partName) {
         long endTime = System.nanoTime();
-        long durationNanos = endTime - this.startTime;
-        this.currentTimetaking.addMeasurement(partName, durationNanos);
+        Recording current = this.recording.get();
+        long durationNanos = endTime - current.startTime;
+        current.addPart(partName, durationNanos);
         // Reset startTime immediately for continuous measurement
-        this.startTime = System.nanoTime();
+        current.startTime = System.nanoTime();
     }
 
     /**
-     * Finalizes the current PerformanceData record, calculates the full duration,
-     * saves the data as a JSON line, and resets for the next operation.
+     * Finalizes the current record, calculates the full duration, records it in the {@link MetricsRegistry},
+     * appends the data as a JSON line to the buffer of the file (if there is one), and resets for the next operation.
      * @param functionName The type of operation (e.g., "Compress", "get").
      * @param uncompressed_array_size The size of the uncompressed data.
      * @param compressed_array_size The size of the resulting data.
@@ -76,27 +118,40 @@ public class PerformanceTimer {
      * @param valueLabel Custom label for value size (for JSON output).
      */
     public void saveToJson(String functionName, int uncompressed_array_size, int compressed_array_size, String sizeLabel, String valueLabel) {
+        Recording current = this.recording.get();
+
         // Set final metadata
-        this.currentTimetaking.setFunctionType(functionName);
-        this.currentTimetaking.setUncompressedArraySize(uncompressed_array_size);
-        this.currentTimetaking.setCompressedArraySize(compressed_array_size);
-        this.currentTimetaking.setArraySize(sizeLabel);
-        this.currentTimetaking.setValueSize(valueLabel);
+        current.functionType = functionName;
+        current.uncompressedArraySize = uncompressed_array_size;
+        current.compressedArraySize = compressed_array_size;
+        current.arraySize = sizeLabel;
+        current.valueSize = valueLabel;
 
         // Calculate the sum of all parts
-        this.currentTimetaking.calculateFullDuration();
+        long sum = 0;
+        for (int i = 0; i < current.partCount; i++) {
+            sum += current.partNanos[i];
+        }
+        current.fullDurationNanos = sum;
 
+        // Aggregate the call in memory, the registry can be queried and flushed independently of this file
+        MetricsRegistry.global().record(this.compressionType, functionName, sum, uncompressed_array_size);
 
-        // Write the finalized record to the file
-        try(FileWriter writer = new FileWriter(file, true)){ // Use 'true' for appending
-            String jsonLine = mapper.writeValueAsString(this.currentTimetaking);
-            writer.write(jsonLine + "\n");
-        } catch (IOException e) {
-            System.err.println("Error writing performance data to file: " + e.getMessage());
-            e.printStackTrace();
+        // Copy the record into the buffer of the file as one JSON line, then reset the recording for the next run
+        try {
+            if (this.sink != null) {
+                this.sink.append(this.compressionType, current);
+            }
+        } finally {
+            current.partCount = 0;
         }
+    }
 
-        // Reset currentTimetaking for the next run, preserving the compression type
-        this.currentTimetaking = new PerformanceData(this.currentTimetaking.getCompressionType());
+    /**
+     * Writes the buffered records of all timers to their files.
+     * Records are otherwise written in batches, when a buffer is full, every second and at shutdown.
+     */
+    public static void flushAll() {
+        PerformanceSink.flushAll();
     }
 }
\ No newline at end of file
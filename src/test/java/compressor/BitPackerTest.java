@@ -1,18 +1,80 @@
 package compressor;
 
+import compressor.logger.AsyncLogger;
+import compressor.logger.LogLevel;
+import compressor.logger.Logger;
 import compressor.logger.LoggerFactory;
+import compressor.models.BitPacker;
+import compressor.models.BitPackerFactory;
+import compressor.models.LongBitPacker;
+import compressor.models.PackedReader;
+import compressor.models.PackerType;
+import compressor.services.DeltaBP;
+import compressor.services.EliasCodec;
+import compressor.services.FrameOfReferenceBP;
 import compressor.services.NonSpanningBP;
+import compressor.services.OffHeapPackedArray;
 import compressor.services.OverflowBP;
+import compressor.services.ParallelBP;
+import compressor.services.PatchedFrameOfReferenceBP;
+import compressor.services.PackedContainer;
 import compressor.services.SpanningBP;
+import compressor.services.SpanningSimdBP;
+import compressor.services.StreamingCompressor;
+import compressor.services.TextIntSink;
+import compressor.services.TextIntSource;
+import compressor.services.AutoBP;
+import compressor.timetaking.LatencyHistogram;
+import compressor.timetaking.MetricsRegistry;
+import compressor.timetaking.MetricsSnapshot;
+import compressor.timetaking.PerformanceTimer;
+import compressor.services.BinaryIntSource;
+import compressor.services.CompressionServer;
+import compressor.services.BatchProcessor;
+import compressor.services.APIController;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.javatuples.Triplet;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.Random;
 import java.util.Arrays;
 
@@ -26,6 +88,14 @@ class BitPackerTest {
     private final SpanningBP spanningBP=new SpanningBP(jsonFile, LoggerFactory.createLogger("NONE"));
     private final NonSpanningBP nonSpanningBP=new NonSpanningBP(jsonFile, LoggerFactory.createLogger("NONE"));
     private final OverflowBP overflow=new OverflowBP(jsonFile, LoggerFactory.createLogger("NONE"));
+    private final SpanningSimdBP spanningSimdBP=new SpanningSimdBP(jsonFile, LoggerFactory.createLogger("NONE"));
+    private final FrameOfReferenceBP frameOfReferenceBP=new FrameOfReferenceBP(jsonFile, LoggerFactory.createLogger("NONE"));
+    private final PatchedFrameOfReferenceBP patchedFrameOfReferenceBP=new PatchedFrameOfReferenceBP(jsonFile, LoggerFactory.createLogger("NONE"));
+    private final AutoBP autoBP=new AutoBP(jsonFile, LoggerFactory.createLogger("NONE"));
+    // Small segments, so the test arrays are split into several segments
+    private final ParallelBP parallelBP=new ParallelBP(jsonFile, LoggerFactory.createLogger("NONE"), frameOfReferenceBP, 1000, ForkJoinPool.commonPool());
+    private final DeltaBP deltaBP=new DeltaBP(jsonFile, LoggerFactory.createLogger("NONE"), frameOfReferenceBP, 1);
+    private final DeltaBP delta4BP=new DeltaBP(jsonFile, LoggerFactory.createLogger("NONE"), frameOfReferenceBP, 4);
 
 
     static Stream<Arguments> provideTestArrays() {
@@ -39,6 +109,10 @@ class BitPackerTest {
                 Arguments.of("small_s","small_v", new int[]{1, 5, 12, 8, 3, 15}),
                 Arguments.of("small_s","small_v", new int[]{0, 0, 0, 0, 0}),
 
+                // --- Chunk sizes that do not divide the 10 metadata bits evenly ---
+                Arguments.of("small_s","small_v", new int[]{0, 1, 2, 3, 3, 2, 1, 0, 3, 3, 3, 1, 2, 0, 1, 2, 3}),
+                Arguments.of("small_s","small_v", new int[]{17, 31, 4, 0, 16, 25, 9, 30, 31, 1}),
+
                 // --- Bit Boundary Cases ---
                 // Requires 10 bits (up to 1023)
                 Arguments.of("small_s","small_v", new int[]{500, 1000, 750, 250}),
@@ -97,9 +171,9 @@ class BitPackerTest {
     @ParameterizedTest
     void testOverflow(String sizeLabel, String valueLabel,int[] array) {
         int[] original_for_comparison = Arrays.copyOf(array, array.length);
-        int[] mutable_array_for_compress = array.clone();
 
-        int[] compressed = overflow.compress(mutable_array_for_compress,  sizeLabel, valueLabel);
+        int[] compressed = overflow.compress(array,  sizeLabel, valueLabel);
+        assertArrayEquals(original_for_comparison, array, "Overflow: Compressing should not modify the input array.");
         int[] decompressed = overflow.decompress(compressed,  sizeLabel, valueLabel);
         assertArrayEquals(original_for_comparison, decompressed, "Overflow: The decompressed array should match the original.");
         if (array.length > 0) {
@@ -109,6 +183,62 @@ class BitPackerTest {
         }
     }
 
+    @MethodSource("generateRandomArrays")
+    @ParameterizedTest
+    void testSpanningSimd(String sizeLabel, String valueLabel,int[] array) {
+        int[] compressed = spanningSimdBP.compress(array,  sizeLabel, valueLabel);
+        int[] decompressed = spanningSimdBP.decompress(compressed,  sizeLabel, valueLabel);
+        assertArrayEquals(array, decompressed, "SpanningSimd: The decompressed array should match the original.");
+        if (array.length > 0) {
+            int i = RANDOM.nextInt(array.length);
+            int retrievedValue = spanningSimdBP.get(i, compressed,  sizeLabel, valueLabel);
+            assertEquals(retrievedValue, array[i], "SpanningSimd: Retrieved value should match original at index " + i);
+        }
+    }
+
+    @MethodSource("generateRandomArrays")
+    @ParameterizedTest
+    void testFrameOfReference(String sizeLabel, String valueLabel,int[] array) {
+        int[] compressed = frameOfReferenceBP.compress(array,  sizeLabel, valueLabel);
+        int[] decompressed = frameOfReferenceBP.decompress(compressed,  sizeLabel, valueLabel);
+        assertArrayEquals(array, decompressed, "FrameOfReference: The decompressed array should match the original.");
+        if (array.length > 0) {
+            int i = RANDOM.nextInt(array.length);
+            int retrievedValue = frameOfReferenceBP.get(i, compressed,  sizeLabel, valueLabel);
+            assertEquals(retrievedValue, array[i], "FrameOfReference: Retrieved value should match original at index " + i);
+        }
+    }
+
+    @MethodSource("generateRandomArrays")
+    @ParameterizedTest
+    void testPatchedFrameOfReference(String sizeLabel, String valueLabel,int[] array) {
+        int[] compressed = patchedFrameOfReferenceBP.compress(array,  sizeLabel, valueLabel);
+        int[] decompressed = patchedFrameOfReferenceBP.decompress(compressed,  sizeLabel, valueLabel);
+        assertArrayEquals(array, decompressed, "PatchedFrameOfReference: The decompressed array should match the original.");
+        if (array.length > 0) {
+            int i = RANDOM.nextInt(array.length);
+            int retrievedValue = patchedFrameOfReferenceBP.get(i, compressed,  sizeLabel, valueLabel);
+            assertEquals(retrievedValue, array[i], "PatchedFrameOfReference: Retrieved value should match original at index " + i);
+        }
+    }
+
+    @MethodSource("generateRandomArrays")
+    @ParameterizedTest
+    void testAutoPredictedSizes(String sizeLabel, String valueLabel,int[] array) {
+        Map<PackerType, Long> sizes = autoBP.estimateSizes(array);
+        for (Map.Entry<PackerType, Long> entry : sizes.entrySet()) {
+            BitPacker packer = BitPackerFactory.createBitPacker(entry.getKey().getName(), null, LoggerFactory.createLogger("NONE"));
+            assertEquals(entry.getValue(), packer.compress(array, sizeLabel, valueLabel).length,
+                    "Auto: The predicted size should match the compressed size of " + entry.getKey().getName());
+        }
+
+        int[] compressed = autoBP.compress(array, sizeLabel, valueLabel);
+        assertArrayEquals(array, autoBP.decompress(compressed, sizeLabel, valueLabel), "Auto: The decompressed array should match the original.");
+        if (array.length > 0) {
+            assertEquals(autoBP.select(array).getId(), compressed[0], "Auto: The header should store the selected strategy.");
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("provideTestArrays")
     void testCompressionAndDecompressionNonSpanning(String sizeLabel, String valueLabel,int[] originalArray) {
@@ -181,4 +311,979 @@ class BitPackerTest {
 
     }
 
-}
\ No newline at end of file
+    @ParameterizedTest
+    @MethodSource("provideTestArrays")
+    void testOpenedReaderNonSpanning(String sizeLabel, String valueLabel,int[] originalArray) {
+
+        int[] compressed = nonSpanningBP.compress(originalArray,  sizeLabel, valueLabel);
+        PackedReader reader = nonSpanningBP.open(compressed);
+
+        assertEquals(originalArray.length, reader.size(), "The reader should report the decompressed length.");
+        for (int i=0; i<originalArray.length; i++) {
+            assertEquals(originalArray[i], reader.get(i), "The value retrieved via the opened reader should match the original value.");
+        }
+
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTestArrays")
+    void testOpenedReaderSpanning(String sizeLabel, String valueLabel,int[] originalArray) {
+
+        int[] compressed = spanningBP.compress(originalArray,  sizeLabel, valueLabel);
+        PackedReader reader = spanningBP.open(compressed);
+
+        assertEquals(originalArray.length, reader.size(), "The reader should report the decompressed length.");
+        for (int i=0; i<originalArray.length; i++) {
+            assertEquals(originalArray[i], reader.get(i), "The value retrieved via the opened reader should match the original value.");
+        }
+
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTestArrays")
+    void testOpenedReaderOverflow(String sizeLabel, String valueLabel,int[] originalArray) {
+
+        int[] compressed = overflow.compress(originalArray,  sizeLabel, valueLabel);
+        PackedReader reader = overflow.open(compressed);
+
+        assertEquals(originalArray.length, reader.size(), "The reader should report the decompressed length.");
+        for (int i=0; i<originalArray.length; i++) {
+            assertEquals(originalArray[i], reader.get(i), "The value retrieved via the opened reader should match the original value.");
+        }
+
+    }
+
+    @ParameterizedTest(name = "Opened Reader at a Buffer Position: {0} | Range: {1}")
+    @MethodSource("provideTestArrays")
+    void testOpenedReaderPositioned(String sizeLabel, String valueLabel,int[] originalArray) {
+
+        for (PackerType type : PackerType.values()) {
+            BitPacker packer = BitPackerFactory.createBitPacker(type.getName(), null, LoggerFactory.createLogger("NONE"));
+            int[] compressed = packer.compress(originalArray, sizeLabel, valueLabel);
+
+            // The packed words follow 3 unrelated integers, the reader starts at the position of the buffer
+            int[] shifted = new int[compressed.length + 3];
+            Arrays.fill(shifted, 0, 3, -1);
+            System.arraycopy(compressed, 0, shifted, 3, compressed.length);
+            PackedReader reader = packer.open(IntBuffer.wrap(shifted).position(3));
+
+            assertEquals(originalArray.length, reader.size(), type.getName() + ": The reader should report the decompressed length.");
+            for (int i=0; i<originalArray.length; i++) {
+                assertEquals(originalArray[i], reader.get(i), type.getName() + ": The value retrieved via the opened reader should match the original value.");
+            }
+            int[] range = new int[originalArray.length];
+            reader.decompressRange(0, originalArray.length, range, 0);
+            assertArrayEquals(originalArray, range, type.getName() + ": The decompressed range should match the original array.");
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTestArrays")
+    void testGetAll(String sizeLabel, String valueLabel,int[] originalArray) {
+
+        // Reversed indices with duplicates, so the unsorted path is taken
+        int[] indices = new int[originalArray.length * 2];
+        for (int i=0; i<indices.length; i++) {
+            indices[i] = originalArray.length - 1 - (i % originalArray.length);
+        }
+
+        for (BitPacker packer : new BitPacker[]{nonSpanningBP, spanningBP, overflow, spanningSimdBP, frameOfReferenceBP, deltaBP, delta4BP, patchedFrameOfReferenceBP, autoBP, parallelBP}) {
+            int[] compressed = packer.compress(originalArray,  sizeLabel, valueLabel);
+            int[] out = new int[indices.length];
+            packer.getAll(indices, compressed, out,  sizeLabel, valueLabel);
+            for (int i=0; i<indices.length; i++) {
+                assertEquals(originalArray[indices[i]], out[i], "The value retrieved via getAll() should match the original value.");
+            }
+        }
+    }
+
+    @Test
+    void testGetAllBucketed() {
+        int[] originalArray = new int[300_000];
+        for (int i=0; i<originalArray.length; i++) {
+            originalArray[i] = RANDOM.nextDouble() < 0.99 ? RANDOM.nextInt(4096) : RANDOM.nextInt(Integer.MAX_VALUE);
+        }
+        int[] indices = new int[50_000];
+        for (int i=0; i<indices.length; i++) {
+            indices[i] = RANDOM.nextInt(originalArray.length);
+        }
+
+        for (BitPacker packer : new BitPacker[]{nonSpanningBP, spanningBP, overflow, spanningSimdBP, frameOfReferenceBP, deltaBP, delta4BP, patchedFrameOfReferenceBP, autoBP, parallelBP}) {
+            int[] compressed = packer.compress(originalArray, "large_s", "small_large_mix");
+            int[] out = new int[indices.length];
+            packer.getAll(indices, compressed, out, "large_s", "small_large_mix");
+            for (int i=0; i<indices.length; i++) {
+                assertEquals(originalArray[indices[i]], out[i], "The value retrieved via getAll() should match the original value at index " + indices[i]);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTestArrays")
+    void testDecompressRange(String sizeLabel, String valueLabel,int[] originalArray) {
+
+        for (BitPacker packer : new BitPacker[]{nonSpanningBP, spanningBP, overflow, spanningSimdBP, frameOfReferenceBP, deltaBP, delta4BP, patchedFrameOfReferenceBP, autoBP, parallelBP}) {
+            int[] compressed = packer.compress(originalArray,  sizeLabel, valueLabel);
+            for (int from=0; from<=originalArray.length; from++) {
+                for (int to=from; to<=originalArray.length; to++) {
+                    int[] out = new int[to - from + 2];
+                    packer.decompressRange(compressed, from, to, out, 1,  sizeLabel, valueLabel);
+                    assertArrayEquals(Arrays.copyOfRange(originalArray, from, to), Arrays.copyOfRange(out, 1, to - from + 1),
+                            "The decompressed range [" + from + ", " + to + ") should match the original.");
+                }
+            }
+        }
+    }
+
+    static IntStream provideChunkSizes() {
+        return IntStream.rangeClosed(1, 31);
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideChunkSizes")
+    void testAllChunkSizes(int chunkSize) {
+        // 3 full blocks of 32 values plus a tail, the first value sets the chunk size
+        int[] originalArray = new int[107];
+        originalArray[0] = (int) ((1L << chunkSize) - 1);
+        for (int i=1; i<originalArray.length; i++) {
+            originalArray[i] = (int) (RANDOM.nextLong() & ((1L << chunkSize) - 1));
+        }
+
+        for (BitPacker packer : new BitPacker[]{nonSpanningBP, spanningBP, overflow, spanningSimdBP, frameOfReferenceBP, deltaBP, delta4BP, patchedFrameOfReferenceBP, autoBP, parallelBP}) {
+            int[] compressed = packer.compress(originalArray, "small_medium_s", "mixed_v");
+            assertArrayEquals(originalArray, packer.decompress(compressed, "small_medium_s", "mixed_v"),
+                    "The decompressed array should match the original for chunk size " + chunkSize);
+
+            int[] out = new int[originalArray.length - 10];
+            packer.decompressRange(compressed, 5, originalArray.length - 5, out, 0, "small_medium_s", "mixed_v");
+            assertArrayEquals(Arrays.copyOfRange(originalArray, 5, originalArray.length - 5), out,
+                    "The decompressed range should match the original for chunk size " + chunkSize);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideChunkSizes")
+    void testSpanningSimdAllChunkSizes(int chunkSize) {
+        // 2 full blocks of 256 values plus a tail, chunk size 32 is covered by the negative values
+        for (int bits : new int[]{chunkSize, 32}) {
+            int[] originalArray = new int[600];
+            originalArray[0] = (int) ((1L << bits) - 1);
+            for (int i=1; i<originalArray.length; i++) {
+                originalArray[i] = (int) (RANDOM.nextLong() & ((1L << bits) - 1));
+            }
+
+            int[] compressed = spanningSimdBP.compress(originalArray, "medium_s", "mixed_v");
+            assertArrayEquals(originalArray, spanningSimdBP.decompress(compressed, "medium_s", "mixed_v"),
+                    "SpanningSimd: The decompressed array should match the original for chunk size " + bits);
+
+            int[] out = new int[originalArray.length - 20];
+            spanningSimdBP.decompressRange(compressed, 7, originalArray.length - 13, out, 0, "medium_s", "mixed_v");
+            assertArrayEquals(Arrays.copyOfRange(originalArray, 7, originalArray.length - 13), out,
+                    "SpanningSimd: The decompressed range should match the original for chunk size " + bits);
+
+            PackedReader reader = spanningSimdBP.open(compressed);
+            for (int i=0; i<originalArray.length; i++) {
+                assertEquals(originalArray[i], reader.get(i), "SpanningSimd: The value retrieved via the opened reader should match the original value.");
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTestArrays")
+    void testContainerRoundTrip(String sizeLabel, String valueLabel,int[] originalArray, @TempDir Path tempDir) throws IOException {
+
+        for (PackerType type : new PackerType[]{PackerType.NONSPANNING, PackerType.SPANNING, PackerType.OVERFLOW, PackerType.SPANNING_SIMD, PackerType.FRAME_OF_REFERENCE, PackerType.DELTA, PackerType.PATCHED_FRAME_OF_REFERENCE, PackerType.AUTO, PackerType.PARALLEL}) {
+            BitPacker packer = BitPackerFactory.createBitPacker(type.getName(), null, LoggerFactory.createLogger("NONE"));
+            int[] compressed = packer.compress(originalArray,  sizeLabel, valueLabel);
+            File file = tempDir.resolve(type.getName() + ".bpk").toFile();
+            PackedContainer.write(file, type, originalArray.length, compressed);
+
+            assertTrue(PackedContainer.isContainer(file), "The written file should be recognized as a container.");
+            PackedContainer container = PackedContainer.map(file);
+            assertEquals(type, container.getType(), "The container should store the strategy.");
+            assertEquals(originalArray.length, container.getElementCount(), "The container should store the element count.");
+            assertArrayEquals(compressed, container.toIntArray(), "The container should store the packed words.");
+
+            // Lookups and range decode directly on the mapped words
+            PackedReader reader = packer.open(container.getWords());
+            int[] decompressed = new int[reader.size()];
+            reader.decompressRange(0, reader.size(), decompressed, 0);
+            assertArrayEquals(originalArray, decompressed, "The range decoded from the mapped container should match the original.");
+            for (int i=0; i<originalArray.length; i++) {
+                assertEquals(originalArray[i], reader.get(i), "The value read from the mapped container should match the original value.");
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "Streaming Round Trip: {0} | Range: {1}")
+    @MethodSource("provideTestArrays")
+    void testStreamingRoundTrip(String sizeLabel, String valueLabel,int[] originalArray) throws IOException {
+
+        // Write the array as text, so the stream parses it back
+        ByteArrayOutputStream text = new ByteArrayOutputStream();
+        TextIntSink textSink = new TextIntSink(Channels.newChannel(text));
+        textSink.write(originalArray, 0, originalArray.length);
+        textSink.flush();
+
+        for (PackerType type : new PackerType[]{PackerType.NONSPANNING, PackerType.SPANNING, PackerType.OVERFLOW, PackerType.SPANNING_SIMD, PackerType.FRAME_OF_REFERENCE, PackerType.DELTA, PackerType.PATCHED_FRAME_OF_REFERENCE, PackerType.AUTO, PackerType.PARALLEL}) {
+            BitPacker packer = BitPackerFactory.createBitPacker(type.getName(), null, LoggerFactory.createLogger("NONE"));
+            // A small block size gives several frames, including a partial last one
+            StreamingCompressor streaming = new StreamingCompressor(packer, 7, LoggerFactory.createLogger("NONE"));
+
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            long count = streaming.compress(new TextIntSource(Channels.newChannel(new ByteArrayInputStream(text.toByteArray()))),
+                    Channels.newChannel(compressed));
+            assertEquals(originalArray.length, count, "All integers of the input should be compressed.");
+
+            ByteArrayOutputStream decompressed = new ByteArrayOutputStream();
+            count = streaming.decompress(Channels.newChannel(new ByteArrayInputStream(compressed.toByteArray())),
+                    new TextIntSink(Channels.newChannel(decompressed)));
+            assertEquals(originalArray.length, count, "All integers of the stream should be decompressed.");
+            assertArrayEquals(text.toByteArray(), decompressed.toByteArray(), "The decompressed stream should match the original text.");
+        }
+    }
+
+    @Test
+    void testStreamingCorruptedFrame() {
+        StreamingCompressor streaming = new StreamingCompressor(BitPackerFactory.createBitPacker("spanning", null, LoggerFactory.createLogger("NONE")),
+                7, LoggerFactory.createLogger("NONE"));
+
+        // Frame headers announcing more integers or elements than a block of the stream can hold
+        int[][] frames = {{7, Integer.MAX_VALUE}, {7, 1 << 29}, {7, (int) StreamingCompressor.maxFrameWords(7) + 1}, {8, 4}, {-1, 4}};
+        for (int[] frame : frames) {
+            ByteBuffer stream = ByteBuffer.allocate(StreamingCompressor.HEADER_BYTES + StreamingCompressor.FRAME_HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            stream.putInt(StreamingCompressor.MAGIC).putInt(StreamingCompressor.VERSION).putInt(PackerType.SPANNING.getId()).putInt(7);
+            stream.putInt(frame[0]).putInt(frame[1]);
+            IOException e = assertThrows(IOException.class, () -> streaming.decompress(Channels.newChannel(new ByteArrayInputStream(stream.array())),
+                    new TextIntSink(Channels.newChannel(new ByteArrayOutputStream()))), "A corrupted frame header should be rejected before allocating.");
+            assertTrue(e.getMessage().startsWith("Corrupted frame header"), "The error should name the corrupted frame header.");
+        }
+    }
+
+    @Test
+    void testIntSources() throws IOException {
+        String text = "  12\t-7\r\n+3 2147483647\n\n-2147483648 0";
+        int[] expected = {12, -7, 3, Integer.MAX_VALUE, Integer.MIN_VALUE, 0};
+
+        // Read one integer at a time, so the parser state is kept between calls
+        TextIntSource textSource = new TextIntSource(Channels.newChannel(new ByteArrayInputStream(text.getBytes(StandardCharsets.US_ASCII))));
+        int[] parsed = new int[expected.length];
+        for (int i=0; i<expected.length; i++) {
+            assertEquals(1, textSource.read(parsed, i, 1), "One integer should be parsed per call.");
+        }
+        assertEquals(-1, textSource.read(parsed, 0, 1), "The source should be exhausted.");
+        assertArrayEquals(expected, parsed, "The parsed text should match the expected integers.");
+
+        TextIntSource invalid = new TextIntSource(Channels.newChannel(new ByteArrayInputStream("1 2x".getBytes(StandardCharsets.US_ASCII))));
+        assertThrows(NumberFormatException.class, () -> invalid.read(new int[2], 0, 2), "Invalid characters should be rejected.");
+        TextIntSource tooLarge = new TextIntSource(Channels.newChannel(new ByteArrayInputStream("2147483648".getBytes(StandardCharsets.US_ASCII))));
+        assertThrows(NumberFormatException.class, () -> tooLarge.read(new int[1], 0, 1), "Values out of the int range should be rejected.");
+
+        ByteBuffer binary = ByteBuffer.allocate(expected.length * 4).order(ByteOrder.LITTLE_ENDIAN);
+        binary.asIntBuffer().put(expected);
+        BinaryIntSource binarySource = new BinaryIntSource(Channels.newChannel(new ByteArrayInputStream(binary.array())));
+        int[] read = new int[expected.length];
+        assertEquals(expected.length, binarySource.read(read, 0, read.length), "All binary integers should be read.");
+        assertEquals(-1, binarySource.read(read, 0, 1), "The source should be exhausted.");
+        assertArrayEquals(expected, read, "The binary integers should match the expected integers.");
+    }
+
+    @Test
+    void testTextFileRoundTrip(@TempDir Path tempDir) throws IOException {
+        File file = tempDir.resolve("values.txt").toFile();
+
+        int[] values = {0, 1, -1, 42, Integer.MAX_VALUE, Integer.MIN_VALUE, 1000000};
+        APIController.writeIntArray(values, file);
+        assertEquals("0\n1\n-1\n42\n2147483647\n-2147483648\n1000000\n", Files.readString(file.toPath()), "Each integer should be written on its own line.");
+        assertArrayEquals(values, APIController.extractIntArray(file), "The written file should be read back unchanged.");
+
+        // More numbers than the initial capacity guess, without a trailing line break
+        Files.writeString(file.toPath(), "1 2 3 4 5 6 7 8 9 10 11 12 13 14 15 16 17 18 19 20");
+        assertArrayEquals(IntStream.rangeClosed(1, 20).toArray(), APIController.extractIntArray(file), "The array should grow past its initial capacity.");
+
+        Files.writeString(file.toPath(), " \n\t ");
+        assertEquals(0, APIController.extractIntArray(file).length, "A blank file should give an empty array.");
+    }
+
+    @Test
+    void testFrameOfReferenceBlockWidths() {
+        // Block k has width k (0 to 32) around a minimum that is negative for odd blocks, plus a partial block
+        int[] originalArray = new int[33 * 128 + 77];
+        for (int i=0; i<originalArray.length; i++) {
+            int width = Math.min(i / 128, 32);
+            int min = (i / 128) % 2 == 0 ? 1000 * (i / 128) : -123456789;
+            originalArray[i] = width == 0 ? min : min + (int) (RANDOM.nextLong() & ((1L << width) - 1));
+        }
+        originalArray[5] = Integer.MIN_VALUE;
+        originalArray[6] = Integer.MAX_VALUE;
+
+        int[] compressed = frameOfReferenceBP.compress(originalArray, "medium_s", "mixed_v");
+        assertArrayEquals(originalArray, frameOfReferenceBP.decompress(compressed, "medium_s", "mixed_v"),
+                "FrameOfReference: The decompressed array should match the original.");
+
+        int[] out = new int[originalArray.length - 200];
+        frameOfReferenceBP.decompressRange(compressed, 100, originalArray.length - 100, out, 0, "medium_s", "mixed_v");
+        assertArrayEquals(Arrays.copyOfRange(originalArray, 100, originalArray.length - 100), out,
+                "FrameOfReference: The decompressed range should match the original.");
+
+        PackedReader reader = frameOfReferenceBP.open(compressed);
+        for (int i=0; i<originalArray.length; i++) {
+            assertEquals(originalArray[i], reader.get(i), "FrameOfReference: The value retrieved via the opened reader should match the original value.");
+        }
+    }
+
+    @Test
+    void testDeltaTimestamps() {
+        // Increasing timestamps with small steps crossing zero
+        int[] steady = new int[10000 + 3];
+        // The same steps with a single jump between the extremes, which needs a 32 bit difference
+        int[] withJump = new int[steady.length];
+        int timestamp = -100000;
+        for (int i=0; i<steady.length; i++) {
+            timestamp += RANDOM.nextInt(40);
+            steady[i] = timestamp;
+            withJump[i] = i < 6000 ? Integer.MAX_VALUE - 40 * (6000 - i) : Integer.MIN_VALUE + 40 * i;
+        }
+
+        for (String type : new String[]{"delta", "delta4", "delta:spanning", "delta4:nonspanning"}) {
+            assertDeltaRoundTrip(type, steady);
+        }
+        // Only the default for inner packer stores 32 bit differences
+        for (String type : new String[]{"delta", "delta4"}) {
+            assertDeltaRoundTrip(type, withJump);
+        }
+    }
+
+    private void assertDeltaRoundTrip(String type, int[] originalArray) {
+        BitPacker packer = BitPackerFactory.createBitPacker(type, null, LoggerFactory.createLogger("NONE"));
+        int[] compressed = packer.compress(originalArray, "medium_s", "mixed_v");
+        assertArrayEquals(originalArray, packer.decompress(compressed, "medium_s", "mixed_v"),
+                type + ": The decompressed array should match the original.");
+        assertTrue(compressed.length * 32L < originalArray.length * 12L,
+                type + ": Small steps should need far less than 32 bits per value, got " + compressed.length * 32.0 / originalArray.length);
+
+        int[] out = new int[originalArray.length - 301];
+        packer.decompressRange(compressed, 300, originalArray.length - 1, out, 0, "medium_s", "mixed_v");
+        assertArrayEquals(Arrays.copyOfRange(originalArray, 300, originalArray.length - 1), out,
+                type + ": The decompressed range should match the original.");
+
+        PackedReader reader = packer.open(compressed);
+        for (int i=0; i<originalArray.length; i++) {
+            assertEquals(originalArray[i], reader.get(i), type + ": The value retrieved via the opened reader should match the original value.");
+        }
+    }
+
+    @Test
+    void testPatchedFrameOfReferenceExceptions() {
+        // Small values with rare outliers of every size, including negative ones and a block of outliers only
+        int[] originalArray = new int[20 * 128 + 50];
+        for (int i=0; i<originalArray.length; i++) {
+            if (i / 128 == 7) {
+                originalArray[i] = RANDOM.nextInt();
+            } else if (RANDOM.nextInt(50) == 0) {
+                originalArray[i] = RANDOM.nextBoolean() ? RANDOM.nextInt() : 1 << RANDOM.nextInt(31);
+            } else {
+                originalArray[i] = 1000 + RANDOM.nextInt(16);
+            }
+        }
+        originalArray[128] = Integer.MIN_VALUE;
+        originalArray[255] = Integer.MAX_VALUE;
+
+        int[] compressed = patchedFrameOfReferenceBP.compress(originalArray, "medium_s", "mixed_v");
+        assertArrayEquals(originalArray, patchedFrameOfReferenceBP.decompress(compressed, "medium_s", "mixed_v"),
+                "PatchedFrameOfReference: The decompressed array should match the original.");
+        assertTrue(compressed.length < frameOfReferenceBP.compress(originalArray, "medium_s", "mixed_v").length,
+                "PatchedFrameOfReference: Rare outliers should be cheaper as exceptions than in the block width.");
+
+        int[] out = new int[originalArray.length - 200];
+        patchedFrameOfReferenceBP.decompressRange(compressed, 100, originalArray.length - 100, out, 0, "medium_s", "mixed_v");
+        assertArrayEquals(Arrays.copyOfRange(originalArray, 100, originalArray.length - 100), out,
+                "PatchedFrameOfReference: The decompressed range should match the original.");
+
+        PackedReader reader = patchedFrameOfReferenceBP.open(compressed);
+        for (int i=0; i<originalArray.length; i++) {
+            assertEquals(originalArray[i], reader.get(i), "PatchedFrameOfReference: The value retrieved via the opened reader should match the original value.");
+        }
+    }
+
+    @Test
+    void testAutoSelection() {
+        int[] small = new int[5000];
+        int[] timestamps = new int[5000];
+        int[] outliers = new int[5000];
+        int[] signed = new int[5000];
+        int timestamp = 1700000000;
+        for (int i=0; i<small.length; i++) {
+            small[i] = RANDOM.nextInt(200);
+            timestamp += RANDOM.nextInt(30);
+            timestamps[i] = timestamp;
+            outliers[i] = i % 97 == 0 ? RANDOM.nextInt(1 << 30) : RANDOM.nextInt(200);
+            signed[i] = RANDOM.nextInt(200) - 100;
+        }
+
+        assertEquals(PackerType.SPANNING, autoBP.select(small), "Auto: Uniform small values should use spanning.");
+        assertEquals(PackerType.DELTA, autoBP.select(timestamps), "Auto: Timestamps should use delta.");
+        assertEquals(PackerType.PATCHED_FRAME_OF_REFERENCE, autoBP.select(outliers), "Auto: Rare outliers should use pfor.");
+        assertEquals(PackerType.FRAME_OF_REFERENCE, autoBP.select(signed), "Auto: Small signed values should use for.");
+    }
+
+    @Test
+    void testParallelSegments() {
+        int[] originalArray = DataGenerator.generateArray(RANDOM, 25000, "mixed_v");
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            ParallelBP packer = new ParallelBP(null, LoggerFactory.createLogger("NONE"), spanningBP, 10000, pool);
+            int[] compressed = packer.compress(originalArray, "medium_s", "mixed_v");
+            assertArrayEquals(originalArray, packer.decompress(compressed, "medium_s", "mixed_v"),
+                    "Parallel: The decompressed array should match the original.");
+
+            int[] out = new int[12000];
+            packer.decompressRange(compressed, 9000, 21000, out, 0, "medium_s", "mixed_v");
+            assertArrayEquals(Arrays.copyOfRange(originalArray, 9000, 21000), out,
+                    "Parallel: The range across segment boundaries should match the original.");
+
+            PackedReader reader = packer.open(compressed);
+            for (int i=0; i<originalArray.length; i++) {
+                assertEquals(originalArray[i], reader.get(i), "Parallel: The value retrieved via the opened reader should match the original value.");
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testConcurrentTimedPacker(@TempDir Path tempDir) throws Exception {
+        File timings = tempDir.resolve("timings.jsonl").toFile();
+        int[] originalArray = DataGenerator.generateArray(RANDOM, 5000, "mixed_v");
+        int threads = 8;
+        int calls = 200;
+        for (String name : new String[]{"spanning", "nonspanning", "overflow", "for", "pfor", "auto"}) {
+            BitPacker packer = BitPackerFactory.createBitPacker(name, timings, LoggerFactory.createLogger("NONE"));
+            int[] compressed = packer.compress(originalArray, "medium_s", "mixed_v");
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                List<Future<?>> results = new ArrayList<>();
+                for (int t=0; t<threads; t++) {
+                    int seed = t;
+                    results.add(executor.submit(() -> {
+                        Random random = new Random(seed);
+                        for (int i=0; i<calls; i++) {
+                            int index = random.nextInt(originalArray.length);
+                            assertEquals(originalArray[index], packer.get(index, compressed, "medium_s", "mixed_v"),
+                                    name + ": Concurrent lookups should return the original value.");
+                        }
+                        assertArrayEquals(originalArray, packer.decompress(compressed, "medium_s", "mixed_v"),
+                                name + ": Concurrent decompression should match the original.");
+                        return null;
+                    }));
+                }
+                for (Future<?> result : results) {
+                    result.get();
+                }
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        // Every call wrote one complete record with only its own measurements
+        PerformanceTimer.flushAll();
+        ObjectMapper mapper = new ObjectMapper();
+        List<String> lines = Files.readAllLines(timings.toPath());
+        assertEquals(6 * (1 + threads * (calls + 1)), lines.size(), "Timer: Every call should write exactly one line.");
+        for (String line : lines) {
+            JsonNode data = mapper.readTree(line);
+            long sum = 0;
+            for (JsonNode part : data.get("parts")) {
+                assertTrue(part.get("timeNanos").asLong() >= 0, "Timer: No part may have a negative duration.");
+                sum += part.get("timeNanos").asLong();
+            }
+            assertEquals(sum, data.get("fullDurationNanos").asLong(), "Timer: The full duration should be the sum of the record's own parts.");
+            assertTrue(data.get("parts").size() <= 4, "Timer: A record should not contain measurements of other calls.");
+        }
+    }
+
+    @Test
+    void testPerformanceRecordFormat(@TempDir Path tempDir) throws Exception {
+        // The batched records are JSON lines with the fields in a fixed order, escaping included
+        File file = tempDir.resolve("records.jsonl").toFile();
+        PerformanceTimer timer = new PerformanceTimer(file, "Spanning");
+        String label = "quote\" back\\ \u00e9 \u2603 \uD83D\uDE00 tab\t \u0001";
+        String escapedLabel = "\"quote\\\" back\\\\ \u00e9 \u2603 \uD83D\uDE00 tab\\t \\u0001\"";
+        for (int i = 0; i < 3000; i++) {
+            timer.start();
+            timer.stop("Setup");
+            timer.stop("Compressing");
+            timer.saveToJson("Compress", i, -i, label, i % 2 == 0 ? null : "medium_v");
+        }
+        PerformanceTimer.flushAll();
+        ObjectMapper mapper = new ObjectMapper();
+        List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        assertEquals(3000, lines.size(), "Sink: Every record should be written once.");
+        for (int i = 0; i < lines.size(); i++) {
+            JsonNode parts = mapper.readTree(lines.get(i)).get("parts");
+            long setup = parts.get(0).get("timeNanos").asLong();
+            long compressing = parts.get(1).get("timeNanos").asLong();
+            String expected = "{\"compressionType\":\"Spanning\",\"functionType\":\"Compress\",\"arraySize\":" + escapedLabel
+                    + ",\"valueSize\":" + (i % 2 == 0 ? "null" : "\"medium_v\"")
+                    + ",\"uncompressedArraySize\":" + i + ",\"compressedArraySize\":" + (-i)
+                    + ",\"parts\":[{\"name\":\"Setup\",\"timeNanos\":" + setup + "},{\"name\":\"Compressing\",\"timeNanos\":" + compressing + "}]"
+                    + ",\"fullDurationNanos\":" + (setup + compressing) + "}";
+            assertEquals(expected, lines.get(i), "Sink: The record should match the expected JSON line.");
+            assertEquals(label, mapper.readTree(lines.get(i)).get("arraySize").asText(), "Sink: The label should be read back unchanged.");
+        }
+    }
+
+    @Test
+    void testMetricsRegistry(@TempDir Path tempDir) throws Exception {
+        // Every value lands in a bucket whose highest value is at most about 3% above it
+        for (long value = 0; value < 1L << 40; value = value * 5 / 4 + 1) {
+            LatencyHistogram histogram = new LatencyHistogram();
+            histogram.record(value);
+            histogram.record(1L << 41);
+            long highest = histogram.valueAtPercentile(50);
+            assertTrue(highest >= value && highest <= value + value / 32, "Histogram: The bucket of " + value + " ends at " + highest + ".");
+        }
+
+        // Recorded from several threads, the percentiles are within the bucket precision
+        MetricsRegistry registry = new MetricsRegistry();
+        int threads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int first = t;
+                results.add(executor.submit(() -> {
+                    for (int value = 1 + first; value <= 100_000; value += threads) {
+                        registry.record("Spanning", "get", value, 10);
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        MetricsSnapshot snapshot = registry.snapshot("Spanning", "get");
+        assertEquals(100_000, snapshot.getCount(), "Metrics: Every call should be counted.");
+        assertEquals(1_000_000, snapshot.getElements(), "Metrics: The elements of every call should be counted.");
+        assertEquals(100_000, snapshot.getMaxNanos(), "Metrics: The maximum should be exact.");
+        assertEquals(50_000L * 100_001, snapshot.getTotalNanos(), "Metrics: The total duration should be exact.");
+        assertTrue(snapshot.getP50Nanos() >= 50_000 && snapshot.getP50Nanos() <= 51_600, "Metrics: p50 was " + snapshot.getP50Nanos());
+        assertTrue(snapshot.getP99Nanos() >= 99_000 && snapshot.getP99Nanos() <= 100_000, "Metrics: p99 was " + snapshot.getP99Nanos());
+        assertTrue(snapshot.getP999Nanos() >= 99_900 && snapshot.getP999Nanos() <= 100_000, "Metrics: p99.9 was " + snapshot.getP999Nanos());
+        assertNull(registry.snapshot("Spanning", "Compress"), "Metrics: Unrecorded operations should have no snapshot.");
+
+        // Flushing appends one line per operation
+        File file = tempDir.resolve("metrics.jsonl").toFile();
+        registry.record("Overflow", "Compress", 1234, 1);
+        registry.writeTo(file);
+        List<String> lines = Files.readAllLines(file.toPath());
+        assertEquals(2, lines.size(), "Metrics: Every operation should be written.");
+        ObjectMapper mapper = new ObjectMapper();
+        for (String line : lines) {
+            JsonNode data = mapper.readTree(line);
+            long p50 = data.get("p50Nanos").asLong();
+            assertEquals(data.get("compressionType").asText().equals("Overflow") ? 1234 : snapshot.getP50Nanos(), p50, "Metrics: The line should hold the percentiles.");
+        }
+
+        // Timed packers record into the global registry
+        MetricsSnapshot before = MetricsRegistry.global().snapshot("Spanning", "get");
+        int[] compressed = spanningBP.compress(new int[]{1, 2, 3}, "small_s", "small_v");
+        spanningBP.get(1, compressed, "small_s", "small_v");
+        long calls = MetricsRegistry.global().snapshot("Spanning", "get").getCount() - (before == null ? 0 : before.getCount());
+        assertEquals(1, calls, "Metrics: The timed get should be recorded.");
+
+        // Without a performance file, packers are only timed while the registry records
+        assertNull(new NonSpanningBP(null, LoggerFactory.createLogger("NONE")).timer, "Metrics: Packers without a file should not be timed by default.");
+        MetricsRegistry.global().enableRecording();
+        try {
+            BitPacker metricsOnly = BitPackerFactory.createBitPacker("for", null, LoggerFactory.createLogger("NONE"));
+            before = MetricsRegistry.global().snapshot("FrameOfReference", "Compress");
+            metricsOnly.compress(new int[]{5, 6, 7, 8}, "small_s", "small_v");
+            calls = MetricsRegistry.global().snapshot("FrameOfReference", "Compress").getCount() - (before == null ? 0 : before.getCount());
+            assertEquals(1, calls, "Metrics: A packer without a performance file should record into the registry.");
+        } finally {
+            MetricsRegistry.global().disableRecording();
+        }
+    }
+
+    @Test
+    void testEliasCodes() {
+        int[] values = {1, 2, 3, 4, 7, 8, 1000, 65535, 65536, 1 << 30, Integer.MAX_VALUE};
+        for (int offset = 0; offset < 64; offset++) {
+            int[] gamma = new int[8];
+            int[] delta = new int[8];
+            for (int value : values) {
+                Arrays.fill(gamma, 0);
+                Arrays.fill(delta, 0);
+                assertEquals(offset + EliasCodec.gammaLength(value), EliasCodec.writeGamma(gamma, offset, value), "Elias: The gamma code should have its predicted length.");
+                assertEquals(value, EliasCodec.readGamma(gamma, offset), "Elias: The gamma code should decode to the value.");
+                assertEquals(value, EliasCodec.readGamma(IntBuffer.wrap(gamma), offset), "Elias: The gamma code should decode from a buffer.");
+                assertEquals(offset + EliasCodec.deltaLength(value), EliasCodec.writeDelta(delta, offset, value), "Elias: The delta code should have its predicted length.");
+                assertEquals(value, EliasCodec.readDelta(delta, offset), "Elias: The delta code should decode to the value.");
+                assertEquals(value, EliasCodec.readDelta(IntBuffer.wrap(delta), offset), "Elias: The delta code should decode from a buffer.");
+            }
+        }
+        // Known codes, the first bit is the lowest one: gamma 5 -> "00101", delta 5 -> "01101"
+        int[] words = new int[1];
+        EliasCodec.writeGamma(words, 0, 5);
+        assertEquals(0b10100, words[0], "Elias: The gamma code of 5 should be two zeros then 101.");
+        words[0] = 0;
+        EliasCodec.writeDelta(words, 0, 5);
+        assertEquals(0b10110, words[0], "Elias: The delta code of 5 should be the gamma code of 3 then 01.");
+        assertThrows(IllegalArgumentException.class, () -> EliasCodec.gammaLength(0));
+        assertThrows(IllegalArgumentException.class, () -> EliasCodec.readGamma(new int[2], 0));
+    }
+
+    @Test
+    void testOverflowLongSizeCode() {
+        // 100000 overflow values: the gamma code of the overflow size (33 bits) spans two integers after the metadata
+        int[] originalArray = new int[300000];
+        for (int i=0; i<originalArray.length; i++) {
+            originalArray[i] = i % 3 == 0 ? (1 << 30) + i : i & 0x1FFFF;
+        }
+        int[] compressed = overflow.compress(originalArray, "large_s", "small_large_mix");
+        assertEquals(17, compressed[0] & 0x1F, "Overflow: The chunk size should hold the overflow indices.");
+        assertArrayEquals(originalArray, overflow.decompress(compressed, "large_s", "small_large_mix"), "Overflow: The decompressed array should match the original.");
+        PackedReader reader = overflow.open(compressed);
+        assertEquals(originalArray.length, reader.size(), "Overflow: The reader should see all values.");
+        for (int i=0; i<originalArray.length; i += 997) {
+            assertEquals(originalArray[i], overflow.get(i, compressed, "large_s", "small_large_mix"), "Overflow: get() should match the original value.");
+            assertEquals(originalArray[i], reader.get(i), "Overflow: The reader should match the original value.");
+        }
+        assertEquals(compressed.length, autoBP.estimateSizes(originalArray).get(PackerType.OVERFLOW),
+                "Auto: The overflow size should be predicted for long overflow size codes.");
+    }
+
+    @Test
+    void testHugeSizeArithmetic() {
+        // 100M values of 31 bits take 3.2 billion bits, more than an int can count
+        int[] distribution = new int[32];
+        distribution[30] = 100_000_000;
+        Triplet<Integer,Long,Integer> ideal = OverflowBP.get_ideal_chunksize(distribution, 100_000_000);
+        assertEquals(31, ideal.getValue0(), "Overflow: Without overflow values the chunk size should be the width of the values.");
+        assertTrue(ideal.getValue1() > 32L * 100_000_000, "Overflow: The size in bits should not overflow.");
+        assertEquals(Integer.MAX_VALUE - 8, BitPacker.checkPackedSize(Integer.MAX_VALUE - 8));
+        assertThrows(IllegalArgumentException.class, () -> BitPacker.checkPackedSize(Integer.MAX_VALUE + 1L));
+    }
+
+    @Test
+    void testLazyLogging() throws Exception {
+        // Disabled levels never build the message
+        Logger off = LoggerFactory.createLogger("NONE");
+        assertFalse(off.isEnabled(LogLevel.INFO), "NONE should disable INFO messages.");
+        off.log(LogLevel.DEBUG, () -> { throw new AssertionError("The message should not be built."); });
+        off.log(LogLevel.DEBUG, "Value %s", new Object() {
+            @Override
+            public String toString() { throw new AssertionError("The message should not be formatted."); }
+        });
+
+        // The async logger writes in order on its own thread, messages of a full buffer are dropped and counted
+        List<String> written = new ArrayList<>();
+        List<Thread> writers = new ArrayList<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Logger recording = new Logger() {
+            @Override
+            public void log(LogLevel level, String message) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                synchronized (written) {
+                    written.add(level + " " + message);
+                    writers.add(Thread.currentThread());
+                }
+            }
+
+            @Override
+            public boolean isEnabled(LogLevel level) {
+                return level != LogLevel.DEBUG;
+            }
+        };
+        try (AsyncLogger async = new AsyncLogger(recording, 4)) {
+            // The writer blocks in the delegate with the first message, the next 4 fill the buffer
+            async.log(LogLevel.INFO, "first");
+            started.await();
+            for (int i = 0; i < 10; i++) {
+                async.log(LogLevel.INFO, "message %d", i);
+            }
+            async.log(LogLevel.DEBUG, () -> { throw new AssertionError("The message should not be built."); });
+            release.countDown();
+            async.flush();
+            assertEquals(List.of("INFO first", "INFO message 0", "INFO message 1", "INFO message 2", "INFO message 3",
+                    "WARNING 6 log messages were dropped, the log buffer was full."), written);
+            assertFalse(writers.contains(Thread.currentThread()), "The delegate should not run on the caller's thread.");
+        }
+    }
+
+    @Test
+    void testCompressionServer() throws Exception {
+        int[] originalArray = new int[50000];
+        Random random = new Random(11);
+        for (int i=0; i<originalArray.length; i++) {
+            originalArray[i] = random.nextInt(1 << 20);
+        }
+        try (CompressionServer server = new CompressionServer(0, 2, CompressionServer.DEFAULT_MAX_BODY, null, LoggerFactory.createLogger("NONE"))) {
+            server.start();
+            HttpClient client = HttpClient.newHttpClient();
+            String base = "http://127.0.0.1:" + server.getPort();
+
+            // Stateless compress and decompress
+            HttpResponse<byte[]> compressed = send(client, "POST", base + "/compress/spanning", toBytes(originalArray));
+            assertEquals(200, compressed.statusCode());
+            assertArrayEquals(spanningBP.compress(originalArray, "medium_s", "medium_v"), fromBytes(compressed.body()), "Server: compress should match the packer.");
+            HttpResponse<byte[]> decompressed = send(client, "POST", base + "/decompress/spanning", compressed.body());
+            assertArrayEquals(originalArray, fromBytes(decompressed.body()), "Server: decompress should restore the values.");
+
+            // Resident array: lookups, bulk lookups and ranges
+            HttpResponse<byte[]> stored = send(client, "PUT", base + "/arrays/shard?type=delta:for", toBytes(originalArray));
+            assertEquals(200, stored.statusCode());
+            assertTrue(new String(stored.body(), StandardCharsets.UTF_8).contains("\"size\":50000"), "Server: The info should hold the size.");
+            assertArrayEquals(new int[]{originalArray[12345]}, fromBytes(send(client, "GET", base + "/arrays/shard/get?index=12345", null).body()));
+            int[] indices = {49999, 0, 777, 30000, 5};
+            int[] expected = new int[indices.length];
+            for (int i=0; i<indices.length; i++) {
+                expected[i] = originalArray[indices[i]];
+            }
+            assertArrayEquals(expected, fromBytes(send(client, "POST", base + "/arrays/shard/get", toBytes(indices)).body()), "Server: Bulk get should match.");
+            assertArrayEquals(Arrays.copyOfRange(originalArray, 100, 2100), fromBytes(send(client, "GET", base + "/arrays/shard/range?from=100&to=2100", null).body()));
+
+            // Already packed words are stored as they are
+            assertEquals(200, send(client, "PUT", base + "/arrays/packed?type=spanning&packed=true", compressed.body()).statusCode());
+            assertArrayEquals(new int[]{originalArray[3]}, fromBytes(send(client, "GET", base + "/arrays/packed/get?index=3", null).body()));
+
+            // Errors
+            assertEquals(400, send(client, "GET", base + "/arrays/shard/get?index=50000", null).statusCode(), "Server: Out of bounds should be a bad request.");
+            assertEquals(400, send(client, "POST", base + "/compress/unknown", toBytes(originalArray)).statusCode(), "Server: Unknown types should be a bad request.");
+            assertEquals(400, send(client, "POST", base + "/compress/spanning", new byte[3]).statusCode(), "Server: Partial integers should be a bad request.");
+            assertEquals(405, send(client, "GET", base + "/compress/spanning", null).statusCode());
+            // Headers announcing more elements than the body holds are rejected before anything is allocated
+            for (String type : new String[]{"for", "pfor", "spanning-simd", "delta", "parallel", "auto"}) {
+                assertEquals(400, send(client, "POST", base + "/decompress/" + type, toBytes(new int[]{Integer.MAX_VALUE, 1 | 5 << 8, 5, 7})).statusCode(), "Server: A corrupt " + type + " header should be a bad request.");
+            }
+            assertEquals(400, send(client, "POST", base + "/decompress/spanning", toBytes(new int[]{0, 1, 2})).statusCode(), "Server: A chunk size of 0 should be a bad request.");
+            assertEquals(400, send(client, "PUT", base + "/arrays/corrupt?type=for&packed=true", toBytes(new int[]{1 << 30, 0})).statusCode(), "Server: Corrupt packed words should not be stored.");
+            assertEquals(404, send(client, "GET", base + "/arrays/corrupt", null).statusCode());
+            assertEquals(200, send(client, "DELETE", base + "/arrays/shard", null).statusCode());
+            assertEquals(404, send(client, "GET", base + "/arrays/shard/get?index=0", null).statusCode(), "Server: Deleted arrays should be gone.");
+        }
+    }
+
+    @Test
+    void testCompressionServerMaxBody() throws Exception {
+        try (CompressionServer server = new CompressionServer(0, 1, 4096, null, LoggerFactory.createLogger("NONE"))) {
+            server.start();
+            HttpClient client = HttpClient.newHttpClient();
+            String base = "http://127.0.0.1:" + server.getPort();
+
+            int[] bound = new int[1024];
+            Arrays.fill(bound, 5);
+            assertEquals(200, send(client, "POST", base + "/compress/spanning", toBytes(bound)).statusCode(), "Server: A body of the maximum size should be accepted.");
+            assertEquals(413, send(client, "POST", base + "/compress/spanning", toBytes(new int[1025])).statusCode(), "Server: A larger Content-Length should be rejected.");
+
+            // Without Content-Length the body is sent chunked and only buffered up to the maximum
+            for (int length : new int[]{4096, 4100}) {
+                HttpRequest request = HttpRequest.newBuilder(URI.create(base + "/compress/spanning"))
+                        .POST(HttpRequest.BodyPublishers.ofInputStream(() -> new ByteArrayInputStream(new byte[length])))
+                        .build();
+                assertEquals(length <= 4096 ? 200 : 413, client.send(request, HttpResponse.BodyHandlers.ofByteArray()).statusCode(), "Server: Chunked bodies should be bounded by the maximum size.");
+            }
+            assertEquals(404, send(client, "GET", base + "/arrays/none/get?index=0", null).statusCode(), "Server: The server should keep answering after a rejected body.");
+        }
+        assertThrows(IllegalArgumentException.class, () -> CompressionServer.fromArgs(List.of("--max-body", "0")), "A maximum body size of 0 should be rejected.");
+    }
+
+    private static HttpResponse<byte[]> send(HttpClient client, String method, String uri, byte[] body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(uri))
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static byte[] toBytes(int[] values) {
+        ByteBuffer bytes = ByteBuffer.allocate(4 * values.length).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.asIntBuffer().put(values);
+        return bytes.array();
+    }
+
+    private static int[] fromBytes(byte[] bytes) {
+        IntBuffer ints = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        int[] values = new int[ints.remaining()];
+        ints.get(values);
+        return values;
+    }
+
+    @Test
+    void testBatchProcessor(@TempDir Path tempDir) throws Exception {
+        Path shards = Files.createDirectory(tempDir.resolve("shards"));
+        int[][] arrays = new int[6][];
+        for (int i=0; i<arrays.length; i++) {
+            int bound = 1 << (i + 3);
+            arrays[i] = IntStream.range(0, 1000 * i).map(v -> (v * 37) % bound).toArray();
+            APIController.writeIntArray(arrays[i], shards.resolve("shard" + i + ".txt").toFile());
+        }
+        // Raw little endian integers are read as well
+        Files.write(shards.resolve("raw.bin"), toBytes(arrays[5]));
+        Files.writeString(shards.resolve("notes.md"), "not part of the glob");
+
+        BitPacker packer = BitPackerFactory.createBitPacker("spanning", null, LoggerFactory.createLogger("NONE"));
+        BatchProcessor batch = new BatchProcessor(packer, 2, null, LoggerFactory.createLogger("NONE"));
+
+        File packed = tempDir.resolve("packed").toFile();
+        assertTrue(packed.mkdir());
+        List<BatchProcessor.Job> jobs = BatchProcessor.listJobs(shards + File.separator + "shard*.txt", packed, true);
+        assertEquals(6, jobs.size(), "The glob should only match the text shards.");
+        BatchProcessor.Summary summary = batch.compress(jobs);
+        assertTrue(summary.getFailed().isEmpty(), "No file should fail: " + summary.getFailed());
+        assertEquals(15000, summary.getElements(), "All integers should be counted.");
+        for (int i=0; i<arrays.length; i++) {
+            PackedContainer container = PackedContainer.map(new File(packed, "shard" + i + ".bpk"));
+            assertEquals(arrays[i].length, container.getElementCount(), "The container should keep the element count.");
+            assertArrayEquals(arrays[i], packer.decompress(container.toIntArray(), "batch", "batch"), "Each shard should be packed on its own.");
+        }
+
+        // A manifest with a comment, an explicit destination, a .bin source and an invalid file
+        Files.writeString(shards.resolve("broken.txt"), "1 2 x");
+        File manifest = tempDir.resolve("manifest.txt").toFile();
+        Files.writeString(manifest.toPath(), "# nightly shards\n\n" + shards.resolve("shard3.txt") + "\tthird.bpk\n"
+                + shards.resolve("raw.bin") + "\n" + shards.resolve("broken.txt") + "\n");
+        File manifestOut = tempDir.resolve("manifest-out").toFile();
+        assertTrue(manifestOut.mkdir());
+        summary = batch.compress(BatchProcessor.listJobs(manifest.getPath(), manifestOut, true));
+        assertEquals(3, summary.getFiles(), "Comments and blank lines should be skipped.");
+        assertEquals(1, summary.getFailed().size(), "Only the invalid file should fail.");
+        assertTrue(summary.getFailed().get(0).contains("broken.txt"), "The failure should name the file.");
+        assertTrue(new File(manifestOut, "third.bpk").isFile(), "The destination of the manifest should be used.");
+        assertTrue(new File(manifestOut, "raw.bpk").isFile(), "The .bin source should be compressed.");
+
+        // Containers of a directory are decompressed with their own strategy
+        File restored = tempDir.resolve("restored").toFile();
+        assertTrue(restored.mkdir());
+        BatchProcessor other = new BatchProcessor(BitPackerFactory.createBitPacker("nonspanning", null, LoggerFactory.createLogger("NONE")), 3, null, LoggerFactory.createLogger("NONE"));
+        summary = other.decompress(BatchProcessor.listJobs(packed.getPath(), restored, false));
+        assertTrue(summary.getFailed().isEmpty(), "No container should fail: " + summary.getFailed());
+        for (int i=0; i<arrays.length; i++) {
+            assertArrayEquals(arrays[i], APIController.extractIntArray(new File(restored, "shard" + i + ".txt")), "The round trip should restore every shard.");
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> BatchProcessor.listJobs(shards + File.separator + "*.none", packed, true), "An empty batch should be rejected.");
+        Files.writeString(shards.resolve("shard1.csv"), "1");
+        assertThrows(IllegalArgumentException.class, () -> BatchProcessor.listJobs(shards + File.separator + "shard1.*", packed, true), "Two sources with the same destination should be rejected.");
+    }
+
+    static Stream<Arguments> provideLongArrays() {
+        Random random = new Random(7);
+        long start = 1_700_000_000_000_000_000L;
+        long[] timestamps = new long[5000];
+        for (int i=0; i<timestamps.length; i++) {
+            timestamps[i] = start + i * 1_000_000L + random.nextInt(1000);
+        }
+        long[] ids = new long[3000];
+        for (int i=0; i<ids.length; i++) {
+            ids[i] = random.nextInt(100) < 5 ? random.nextLong() & Long.MAX_VALUE : random.nextInt(1 << 20);
+        }
+        long[] widths = new long[65];
+        for (int i=1; i<widths.length; i++) {
+            widths[i] = 1L << (i - 1);
+        }
+        return Stream.of(
+                Arguments.of("small_s", new long[]{}),
+                Arguments.of("small_s", new long[]{0}),
+                Arguments.of("small_s", new long[]{1, 2, 3, 4, 5, 6, 7}),
+                Arguments.of("small_s", new long[]{-1, 0, Long.MIN_VALUE, Long.MAX_VALUE, 42}),
+                Arguments.of("small_s", widths),
+                Arguments.of("medium_s", timestamps),
+                Arguments.of("medium_s", ids)
+        );
+    }
+
+    @MethodSource("provideLongArrays")
+    @ParameterizedTest
+    void testLongPackers(String sizeLabel, long[] originalArray) {
+        long[] copy = originalArray.clone();
+        for (String type : new String[]{"spanning", "nonspanning", "overflow"}) {
+            LongBitPacker packer = BitPackerFactory.createLongBitPacker(type, jsonFile, LoggerFactory.createLogger("NONE"));
+            long[] compressed = packer.compress(originalArray, sizeLabel, "long_v");
+            assertArrayEquals(copy, originalArray, type + ": Compressing should not modify the input array.");
+            assertEquals(originalArray.length, packer.size(compressed), type + ": The header should hold the number of elements.");
+            assertArrayEquals(originalArray, packer.decompress(compressed, sizeLabel, "long_v"), type + ": The decompressed array should match the original.");
+            for (int i=0; i<originalArray.length; i++) {
+                assertEquals(originalArray[i], packer.get(i, compressed, sizeLabel, "long_v"), type + ": get() should match the original value at index " + i);
+            }
+            assertThrows(IndexOutOfBoundsException.class, () -> packer.get(originalArray.length, compressed, sizeLabel, "long_v"));
+        }
+    }
+
+    @Test
+    void testLongPackerSizes() {
+        // Nanosecond timestamps of one day take 47 bits instead of 64
+        long[] timestamps = new long[6400];
+        for (int i=0; i<timestamps.length; i++) {
+            timestamps[i] = 86_400_000_000_000L - i * 13_500_000_000L;
+        }
+        LongBitPacker spanning = BitPackerFactory.createLongBitPacker("spanning", null, LoggerFactory.createLogger("NONE"));
+        LongBitPacker nonSpanning = BitPackerFactory.createLongBitPacker("nonspanning", null, LoggerFactory.createLogger("NONE"));
+        assertEquals(1 + 6400 * 47 / 64, spanning.compress(timestamps, "medium_s", "long_v").length, "Long spanning: 47 bits per value.");
+        assertEquals(1 + 6400, nonSpanning.compress(timestamps, "medium_s", "long_v").length, "Long non-spanning: One value per word above 32 bits.");
+
+        // 1% of full 64 bit values overflow, the rest keeps 10 bit fields
+        long[] mixed = new long[6400];
+        for (int i=0; i<mixed.length; i++) {
+            mixed[i] = i % 100 == 0 ? -i - 1 : i & 0x1FF;
+        }
+        long[] compressed = BitPackerFactory.createLongBitPacker("overflow", null, LoggerFactory.createLogger("NONE")).compress(mixed, "medium_s", "long_v");
+        assertEquals(9, compressed[0] & LongBitPacker.WIDTH_MASK, "Long overflow: The chunk size should ignore the overflow values.");
+        assertEquals(2 + 6400 * 10 / 64 + 64, compressed.length, "Long overflow: Fields of 10 bits plus one word per overflow value.");
+    }
+
+    @Test
+    void testOffHeapPackedArray(@TempDir Path tempDir) throws IOException {
+        int[] originalArray = DataGenerator.generateArray(RANDOM, 250000, "mixed_v");
+        OffHeapPackedArray offHeap = new OffHeapPackedArray(frameOfReferenceBP, 9999, LoggerFactory.createLogger("NONE"));
+        offHeap.append(originalArray, 0, 123456);
+        offHeap.append(originalArray, 123456, originalArray.length - 123456);
+        assertEquals(originalArray.length, offHeap.size(), "Off-heap: All appended values should be counted.");
+        assertTrue(offHeap.packedBytes() > 0, "Off-heap: The full blocks should be packed off-heap.");
+
+        File file = tempDir.resolve("offheap.bpst").toFile();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            offHeap.writeTo(channel);
+        }
+        OffHeapPackedArray mapped = OffHeapPackedArray.map(file, LoggerFactory.createLogger("NONE"));
+
+        for (OffHeapPackedArray array : new OffHeapPackedArray[]{offHeap, mapped}) {
+            for (int i=0; i<originalArray.length; i += 7) {
+                assertEquals(originalArray[i], array.get(i), "Off-heap: The value should match the original value at index " + i);
+            }
+            int[] out = new int[originalArray.length];
+            array.decompressRange(0, originalArray.length, out, 0);
+            assertArrayEquals(originalArray, out, "Off-heap: The decompressed array should match the original.");
+            int[] range = new int[20001];
+            array.decompressRange(229999, 250000, range, 0);
+            assertArrayEquals(Arrays.copyOfRange(originalArray, 229999, 250000), range,
+                    "Off-heap: A range across blocks and the partial block should match the original.");
+            assertThrows(IndexOutOfBoundsException.class, () -> array.get(originalArray.length));
+        }
+        // The partial last block of a mapped file cannot be extended
+        assertThrows(IllegalStateException.class, () -> mapped.append(new int[]{1}, 0, 1));
+
+        // The stream files of the streaming compressor are mapped the same way
+        File streamFile = tempDir.resolve("stream.bpst").toFile();
+        ByteBuffer binary = ByteBuffer.allocate(originalArray.length * 4).order(ByteOrder.LITTLE_ENDIAN);
+        binary.asIntBuffer().put(originalArray);
+        try (FileChannel channel = FileChannel.open(streamFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            new StreamingCompressor(spanningBP, 4096, LoggerFactory.createLogger("NONE"))
+                    .compress(new BinaryIntSource(Channels.newChannel(new ByteArrayInputStream(binary.array()))), channel);
+        }
+        OffHeapPackedArray stream = OffHeapPackedArray.map(streamFile, LoggerFactory.createLogger("NONE"));
+        assertEquals(originalArray.length, stream.size(), "Off-heap: The mapped stream should hold all values.");
+        for (int i=0; i<originalArray.length; i += 7) {
+            assertEquals(originalArray[i], stream.get(i), "Off-heap: The mapped stream value should match the original value at index " + i);
+        }
+    }
+
+}
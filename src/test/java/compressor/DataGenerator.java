@@ -8,6 +8,17 @@ public class DataGenerator {
 
     private static final Random RANDOM = new Random();
 
+    // Defines the value ranges for the array elements
+    private static final Object[][] VALUE_RANGES = {
+            {"small_v",0, 1000},                      // Small
+            {"small_medium_v",1000, 10000},                  // Small-Medium
+            {"medium_v",10000, 100000},                // Medium
+            {"medium_large_v",100000, 10000000},             // Medium-Large
+            {"large_v",10000000, 200000000},          // Large
+            {"mixed_v",0, 0},          // Mixed (full range)
+            {"small_large_mix", 0, 0}
+    };
+
     /**
      * Generates a comprehensive stream of test arrays, covering various sizes and value ranges.
      *
@@ -24,17 +35,6 @@ public class DataGenerator {
                 {"large_s",5000, 10000}   // Large
         };
 
-        // Defines the value ranges for the array elements
-        Object[][] valueRanges = {
-                {"small_v",0, 1000},                      // Small
-                {"small_medium_v",1000, 10000},                  // Small-Medium
-                {"medium_v",10000, 100000},                // Medium
-                {"medium_large_v",100000, 10000000},             // Medium-Large
-                {"large_v",10000000, 200000000},          // Large
-                {"mixed_v",0, 0},          // Mixed (full range)
-                {"small_large_mix", 0, 0}
-        };
-
         // Generate streams for each combination of size and value ranges
         Stream<Arguments> combinedStream = Stream.empty();
         for (Object[] sizeRange : sizeRanges) {
@@ -43,7 +43,7 @@ public class DataGenerator {
             int sizeMax = (int) sizeRange[2];
             int[] sizes={sizeMin, sizeMax};
 
-            for (Object[] valueRange : valueRanges) {
+            for (Object[] valueRange : VALUE_RANGES) {
                 String valueLabel =(String) valueRange[0];
                 int valueMin = (int) valueRange[1];
                 int valueMax = (int) valueRange[2];
@@ -60,66 +60,88 @@ public class DataGenerator {
         if (count <= 0) {
             return Stream.empty();
         }
-        final boolean isMixedRandom = valueLabel.startsWith("mixed_v");
-        final boolean isSmallLargeMix=valueLabel.startsWith("small_large_mix");
         return Stream.generate(() -> {
             int arraySize = RANDOM.nextInt(sizeRange[1] - sizeRange[0] + 1) + sizeRange[0];
-            int[] randomArray = new int[arraySize];
+            return Arguments.of(sizeLabel,valueLabel, generateArray(RANDOM, arraySize, valueRange, valueLabel));
+        }).limit(count);
+    }
 
-            if (arraySize > 0) {
+    /**
+     * Generates one array of the given size with the value distribution of a value label.
+     * Used by the benchmarks to work on the same data as the tests.
+     *
+     * @param random The random generator (seeded for reproducible benchmark data).
+     * @param arraySize The number of elements.
+     * @param valueLabel One of the value labels of generateAllTestCases (e.g. "small_v", "mixed_v").
+     * @return The random int array.
+     */
+    public static int[] generateArray(Random random, int arraySize, String valueLabel) {
+        for (Object[] valueRange : VALUE_RANGES) {
+            if (valueRange[0].equals(valueLabel)) {
+                return generateArray(random, arraySize, new int[]{(int) valueRange[1], (int) valueRange[2]}, valueLabel);
+            }
+        }
+        throw new IllegalArgumentException("Unknown value label: " + valueLabel);
+    }
 
-                for (int i = 0; i < arraySize; i++) {
-                    int value;
+    private static int[] generateArray(Random random, int arraySize, int[] valueRange, String valueLabel) {
+        final boolean isMixedRandom = valueLabel.startsWith("mixed_v");
+        final boolean isSmallLargeMix=valueLabel.startsWith("small_large_mix");
+        int[] randomArray = new int[arraySize];
 
-                    if(isSmallLargeMix){
-                        if (RANDOM.nextDouble() < 0.95) {
-                            value = RANDOM.nextInt(1024);
-                        } else {
-                            value = RANDOM.nextInt();
-                            if (value < 0) value = -value;
-                            if (value < 1024) value += 1024;
-                        }
+        if (arraySize > 0) {
+
+            for (int i = 0; i < arraySize; i++) {
+                int value;
 
+                if(isSmallLargeMix){
+                    if (random.nextDouble() < 0.95) {
+                        value = random.nextInt(1024);
+                    } else {
+                        value = random.nextInt();
+                        if (value < 0) value = -value;
+                        if (value < 1024) value += 1024;
                     }
-                    else if (isMixedRandom) {
-                        int randomBits = RANDOM.nextInt(32) + 1; // 1 to 32 bits
 
-                        if (randomBits == 32) {
+                }
+                else if (isMixedRandom) {
+                    int randomBits = random.nextInt(32) + 1; // 1 to 32 bits
+
+                    if (randomBits == 32) {
 
-                            value = RANDOM.nextInt();
+                        value = random.nextInt();
 
 
-                            if (arraySize > 1 && value == 0) {
-                                value = 1;
-                            }
-                        } else {
+                        if (arraySize > 1 && value == 0) {
+                            value = 1;
+                        }
+                    } else {
 
-                            long mask = (1L << randomBits) - 1;
+                        long mask = (1L << randomBits) - 1;
 
 
-                            if (mask > 0) {
-                                value = RANDOM.nextInt((int) mask) + 1; // Range: [1, mask]
-                            } else {
-                                value = 1;
-                            }
+                        if (mask > 0) {
+                            value = random.nextInt((int) mask) + 1; // Range: [1, mask]
+                        } else {
+                            value = 1;
                         }
+                    }
 
-                    } else if (valueRange[1] > valueRange[0]) {
+                } else if (valueRange[1] > valueRange[0]) {
 
-                        int min = Math.max(1, valueRange[0]);
-                        value = RANDOM.nextInt(valueRange[1] - min + 1) + min;
+                    int min = Math.max(1, valueRange[0]);
+                    value = random.nextInt(valueRange[1] - min + 1) + min;
 
-                    } else {
+                } else {
 
-                        value = valueRange[0];
-                    }
+                    value = valueRange[0];
+                }
 
 
-                    randomArray[i] = Math.abs(value);
-                }
+                randomArray[i] = Math.abs(value);
             }
-            return Arguments.of(sizeLabel,valueLabel, randomArray);
-        }).limit(count);
+        }
+        return randomArray;
     }
 
-}
\ No newline at end of file
+}
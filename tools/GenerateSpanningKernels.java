@@ -0,0 +1,184 @@
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates src/main/java/compressor/services/SpanningKernels.java.
+ * <p>
+ * Every routine unrolls one block of 32 values of a chunk size, so the shifts and masks are constants.
+ * Change the layout here (e.g., DATA_START, the bit where the data starts after the metadata) and
+ * regenerate the file from the project directory instead of editing the 64 routines by hand:
+ * <pre>
+ * java tools/GenerateSpanningKernels.java
+ * </pre>
+ * An optional argument writes to another file.
+ */
+public class GenerateSpanningKernels {
+
+    private static final String DEFAULT_TARGET = "src/main/java/compressor/services/SpanningKernels.java";
+
+    // Bit of the first integer where the data starts, bits 0-9 hold the metadata
+    private static final int DATA_START = 10;
+    private static final int BLOCK_SIZE = 32;
+
+    private static final String HEADER = """
+            package compressor.services;
+
+            /**
+             * Unrolled pack and unpack routines of the spanning layout, one per chunk size from 1 to 32.
+             * <p>
+             * The spanning layout starts the data after the 10 bits of metadata. A block of 32 values with
+             * chunk size w therefore always starts at bit 10 of integer (block * w) and ends in bits 0-9 of
+             * integer (block * w + w), so every shift inside a block is a constant of the chunk size.
+             * The routine of a chunk size is selected once per call and then loops over all blocks.
+             * <p>
+             * Generated by tools/GenerateSpanningKernels.java, do not edit by hand. After a change of the
+             * generator, run "java tools/GenerateSpanningKernels.java" in the project directory.
+             */
+            final class SpanningKernels {
+
+                /** Number of values packed or unpacked by one iteration of a routine. */
+                static final int BLOCK_SIZE = 32;
+
+                private SpanningKernels() {
+                }
+
+                /**
+                 * Unpacks full blocks of 32 values.
+                 * @param chunkSize The chunk size of the packed values (1 to 32).
+                 * @param in The packed array.
+                 * @param inPos The integer holding the first value of the first block (at bit 10).
+                 * @param out The array receiving the values.
+                 * @param outPos The position of the first value in out.
+                 * @param blocks The number of blocks to unpack.
+                 */
+                static void unpack(int chunkSize, int[] in, int inPos, int[] out, int outPos, int blocks) {
+                    switch (chunkSize) {
+            %s
+                        default -> throw new IllegalArgumentException("Illegal chunk size: " + chunkSize);
+                    }
+                }
+
+                /**
+                 * Packs full blocks of 32 values. Every value must fit into chunkSize bits. Bits 0-9 of the first
+                 * integer are kept (metadata or the end of the previous block), the other integers are overwritten.
+                 * @param chunkSize The chunk size of the packed values (1 to 32).
+                 * @param in The values to pack.
+                 * @param inPos The position of the first value in in.
+                 * @param out The packed array.
+                 * @param outPos The integer receiving the first value of the first block (at bit 10).
+                 * @param blocks The number of blocks to pack.
+                 */
+                static void pack(int chunkSize, int[] in, int inPos, int[] out, int outPos, int blocks) {
+                    switch (chunkSize) {
+            %s
+                        default -> throw new IllegalArgumentException("Illegal chunk size: " + chunkSize);
+                    }
+                }
+            """;
+
+    public static void main(String[] args) throws IOException {
+        Path target = Path.of(args.length > 0 ? args[0] : DEFAULT_TARGET);
+        Files.writeString(target, generate(), StandardCharsets.UTF_8);
+        System.out.println("Wrote " + target);
+    }
+
+    static String generate() {
+        List<String> unpackCases = new ArrayList<>();
+        List<String> packCases = new ArrayList<>();
+        for (int w = 1; w <= 32; w++) {
+            unpackCases.add("            case " + w + " -> unpack" + w + "(in, inPos, out, outPos, blocks);");
+            packCases.add("            case " + w + " -> pack" + w + "(in, inPos, out, outPos, blocks);");
+        }
+        StringBuilder out = new StringBuilder(HEADER.formatted(String.join("\n", unpackCases), String.join("\n", packCases)));
+        for (int w = 1; w <= 32; w++) {
+            out.append('\n').append(unpack(w)).append('\n');
+        }
+        for (int w = 1; w <= 32; w++) {
+            out.append('\n').append(pack(w)).append('\n');
+        }
+        return out.append("}\n").toString();
+    }
+
+    private static String mask(int w) {
+        return "0x" + Long.toHexString((1L << w) - 1).toUpperCase();
+    }
+
+    /** Reads the value j of a block from the integers w0 to w(chunk size) loaded at the start of the block. */
+    private static String unpack(int w) {
+        List<String> lines = new ArrayList<>();
+        lines.add("    private static void unpack" + w + "(int[] in, int inPos, int[] out, int outPos, int blocks) {");
+        lines.add("        for (int b = 0; b < blocks; b++, inPos += " + w + ", outPos += " + BLOCK_SIZE + ") {");
+        for (int k = 0; k <= w; k++) {
+            lines.add("            final int w" + k + " = " + index("in", "inPos", k) + ";");
+        }
+        for (int j = 0; j < BLOCK_SIZE; j++) {
+            int bit = DATA_START + j * w;
+            int k = bit >>> 5;
+            int shift = bit & 31;
+            String expression;
+            if (shift + w <= 32) {
+                expression = shift == 0 ? "w" + k : "w" + k + " >>> " + shift;
+                if (shift + w < 32) {
+                    expression = shift == 0 ? expression + " & " + mask(w) : "(" + expression + ") & " + mask(w);
+                }
+            } else {
+                // The value spans two integers
+                expression = "(w" + k + " >>> " + shift + ") | (w" + (k + 1) + " << " + (32 - shift) + ")";
+                if (w < 32) {
+                    expression = "(" + expression + ") & " + mask(w);
+                }
+            }
+            lines.add("            " + index("out", "outPos", j) + " = " + expression + ";");
+        }
+        lines.add("        }");
+        lines.add("    }");
+        return String.join("\n", lines);
+    }
+
+    /** Writes every integer of a block once, as the OR of the values (or parts of values) it holds. */
+    private static String pack(int w) {
+        List<String> lines = new ArrayList<>();
+        lines.add("    private static void pack" + w + "(int[] in, int inPos, int[] out, int outPos, int blocks) {");
+        lines.add("        for (int b = 0; b < blocks; b++, inPos += " + BLOCK_SIZE + ", outPos += " + w + ") {");
+        List<List<String>> terms = new ArrayList<>();
+        for (int k = 0; k <= w; k++) {
+            terms.add(new ArrayList<>());
+        }
+        for (int j = 0; j < BLOCK_SIZE; j++) {
+            int bit = DATA_START + j * w;
+            int k = bit >>> 5;
+            int shift = bit & 31;
+            String value = index("in", "inPos", j);
+            terms.get(k).add(shift == 0 ? value : value + " << " + shift);
+            if (shift + w > 32) {
+                terms.get(k + 1).add(value + " >>> " + (32 - shift));
+            }
+        }
+        for (int k = 0; k <= w; k++) {
+            List<String> parts = terms.get(k);
+            String target = index("out", "outPos", k);
+            // The first integer keeps the bits before the block
+            String operator = k == 0 ? "|=" : "=";
+            if (parts.size() <= 2) {
+                lines.add("            " + target + " " + operator + " " + String.join(" | ", parts) + ";");
+            } else {
+                lines.add("            " + target + " " + operator + " " + parts.get(0));
+                for (int p = 1; p < parts.size() - 1; p++) {
+                    lines.add("                    | " + parts.get(p));
+                }
+                lines.add("                    | " + parts.get(parts.size() - 1) + ";");
+            }
+        }
+        lines.add("        }");
+        lines.add("    }");
+        return String.join("\n", lines);
+    }
+
+    private static String index(String array, String position, int offset) {
+        return offset == 0 ? array + "[" + position + "]" : array + "[" + position + " + " + offset + "]";
+    }
+}